@@ -24,8 +24,19 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import loci.common.Region;
 import loci.formats.meta.IMetadata;
@@ -46,6 +57,22 @@ public class TileStitcher extends ReaderWrapper {
 
   private Integer[][] tileMap;
 
+  /** Number of threads used to read tiles. */
+  private int threadCount = 1;
+
+  /** Thread pool used to read tiles, if more than one thread is used. */
+  private ExecutorService executor;
+
+  /** Reader belonging to each thread of the pool. */
+  private ThreadLocal<IFormatReader> tileReader;
+
+  /** All readers belonging to threads of the pool. */
+  private List<IFormatReader> tileReaders =
+    Collections.synchronizedList(new ArrayList<IFormatReader>());
+
+  /** Buffer into which each thread reads part of a tile. */
+  private ThreadLocal<byte[]> tileBuffer = new ThreadLocal<byte[]>();
+
   // -- Utility methods --
 
   /** Converts the given reader into a TileStitcher, wrapping if needed. */
@@ -62,6 +89,27 @@ public class TileStitcher extends ReaderWrapper {
   /** Constructs a TileStitcher with the given reader. */
   public TileStitcher(IFormatReader r) { super(r); }
 
+  // -- TileStitcher API methods --
+
+  /**
+   * Sets the number of threads used to read tiles.  Each additional thread
+   * opens the file with its own reader, the first time that a plane
+   * overlapping more than one tile is read.
+   */
+  public void setThreadCount(int threadCount) throws IOException {
+    if (threadCount < 1) {
+      throw new IllegalArgumentException("Invalid thread count: " +
+        threadCount);
+    }
+    closeTileReaders();
+    this.threadCount = threadCount;
+  }
+
+  /** Gets the number of threads used to read tiles. */
+  public int getThreadCount() {
+    return threadCount;
+  }
+
   // -- IFormatReader API methods --
 
   /* @see IFormatReader#getSizeX() */
@@ -114,60 +162,82 @@ public class TileStitcher extends ReaderWrapper {
       return super.openBytes(no, buf, x, y, w, h);
     }
 
-    byte[] tileBuf = new byte[buf.length / tileX * tileY];
+    openBytes(no, ByteBuffer.wrap(buf), 0, FormatTools.getRowLength(this, w),
+      x, y, w, h);
+    return buf;
+  }
+
+  /* @see IFormatReader#openBytes(int, ByteBuffer, int, int, int, int, int, int) */
+  public ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    FormatTools.assertId(getCurrentFile(), true, 2);
+
+    if (tileX == 1 && tileY == 1) {
+      return super.openBytes(no, buf, offset, stride, x, y, w, h);
+    }
+
+    FormatTools.checkPlaneParameters(this, no, buf, offset, stride, x, y, w, h);
 
     int tw = reader.getSizeX();
     int th = reader.getSizeY();
 
     Region image = new Region(x, y, w, h);
-    int pixelType = getPixelType();
-    int pixel = getRGBChannelCount() * FormatTools.getBytesPerPixel(pixelType);
-    int outputRowLen = w * pixel;
-    int outputRow = 0, outputCol = 0;
-    Region intersection = null;
+    List<Region> intersections = new ArrayList<Region>();
+    List<Integer> series = new ArrayList<Integer>();
 
     for (int ty=0; ty<tileY; ty++) {
       for (int tx=0; tx<tileX; tx++) {
         Region tile = new Region(tx * tw, ty * th, tw, th);
-
-        if (!tile.intersects(image)) {
-          continue;
-        }
-
-        intersection = tile.intersection(image);
-        int rowLen = pixel * (int) Math.min(intersection.width, tw);
-
-        if (tileMap[ty][tx] == null) {
-          outputCol += rowLen;
+        if (tileMap[ty][tx] == null || !tile.intersects(image)) {
           continue;
         }
+        intersections.add(tile.intersection(image));
+        series.add(tileMap[ty][tx]);
+      }
+    }
 
-        reader.setSeries(tileMap[ty][tx]);
-        reader.openBytes(no, tileBuf, 0, 0, tw, th);
-
-        int outputOffset = outputRowLen * outputRow + outputCol;
-
-        for (int row=0; row<intersection.height; row++) {
-          int realRow = row + intersection.y - tile.y;
-          int inputOffset = pixel * (realRow * tw + tx);
-          System.arraycopy(tileBuf, inputOffset, buf, outputOffset, rowLen);
-          outputOffset += outputRowLen;
-        }
-
-        outputCol += rowLen;
+    int currentSeries = reader.getSeries();
+    try {
+      if (intersections.size() == 1 && intersections.get(0).width == w &&
+        intersections.get(0).height == h)
+      {
+        // the region lies within one tile, so can be read directly
+        reader.setSeries(series.get(0));
+        return reader.openBytes(no, buf, offset, stride, x % tw, y % th, w, h);
       }
 
-      if (intersection != null) {
-        outputRow += intersection.height;
-        outputCol = 0;
+      if (threadCount == 1 || intersections.size() == 1) {
+        for (int i=0; i<intersections.size(); i++) {
+          readTile(reader, no, series.get(i), intersections.get(i),
+            buf, offset, stride, image);
+        }
+        return buf;
       }
     }
+    finally {
+      reader.setSeries(currentSeries);
+    }
 
+    readTiles(no, series, intersections, buf, offset, stride, image);
     return buf;
   }
 
+  /* @see IFormatReader#close(boolean) */
+  public void close(boolean fileOnly) throws IOException {
+    closeTileReaders();
+    super.close(fileOnly);
+  }
+
+  /* @see IFormatHandler#close() */
+  public void close() throws IOException {
+    closeTileReaders();
+    super.close();
+  }
+
   /* @see IFormatReader#setId(String) */
   public void setId(String id) throws FormatException, IOException {
+    closeTileReaders();
     super.setId(id);
 
     MetadataStore store = getMetadataStore();
@@ -295,6 +365,207 @@ public class TileStitcher extends ReaderWrapper {
     return byte[].class;
   }
 
+  // -- Helper methods --
+
+  /**
+   * Reads the part of a tile which overlaps the requested region into its
+   * place in the output buffer.
+   *
+   * @param r the reader from which to read the tile
+   * @param no the plane number
+   * @param series the series containing the tile
+   * @param intersection the overlap of the tile and the requested region,
+   *   in the coordinates of the stitched image
+   * @param buf the output buffer
+   * @param offset index in the output buffer of the region's first row
+   * @param stride number of bytes between rows in the output buffer
+   * @param image the requested region
+   */
+  private void readTile(IFormatReader r, int no, int series,
+    Region intersection, ByteBuffer buf, int offset, int stride,
+    Region image)
+    throws FormatException, IOException
+  {
+    int tw = r.getSizeX();
+    int th = r.getSizeY();
+    int bpp = FormatTools.getBytesPerPixel(r.getPixelType());
+    int channels = r.getRGBChannelCount();
+
+    // interleaved rows hold every channel; otherwise each channel is a
+    // separate plane, in both the tile and the output
+    int pixel = r.isInterleaved() ? channels * bpp : bpp;
+    int planes = r.isInterleaved() ? 1 : channels;
+    int outputX = intersection.x - image.x;
+    int outputY = intersection.y - image.y;
+
+    r.setSeries(series);
+    if (planes == 1) {
+      // the tile's rows can be written straight into the output
+      r.openBytes(no, buf, offset + outputY * stride + outputX * pixel,
+        stride, intersection.x % tw, intersection.y % th,
+        intersection.width, intersection.height);
+      return;
+    }
+
+    // the channel planes of the tile are shorter than those of the output,
+    // so the tile is read whole and its rows copied into place
+    int size = intersection.width * intersection.height * channels * bpp;
+    byte[] tileBuf = tileBuffer.get();
+    if (tileBuf == null || tileBuf.length < size) {
+      tileBuf = new byte[size];
+      tileBuffer.set(tileBuf);
+    }
+    tileBuf = r.openBytes(no, tileBuf, intersection.x % tw,
+      intersection.y % th, intersection.width, intersection.height);
+
+    int rowLen = intersection.width * pixel;
+    for (int c=0; c<planes; c++) {
+      int input = c * intersection.height * rowLen;
+      int output = offset + (c * image.height + outputY) * stride +
+        outputX * pixel;
+      for (int row=0; row<intersection.height; row++) {
+        FormatTools.put(tileBuf, input, buf, output, rowLen);
+        input += rowLen;
+        output += stride;
+      }
+    }
+  }
+
+  /** Reads the given tiles in parallel, with one reader per thread. */
+  private void readTiles(final int no, List<Integer> series,
+    List<Region> intersections, final ByteBuffer buf, final int offset,
+    final int stride, final Region image)
+    throws FormatException, IOException
+  {
+    if (executor == null) {
+      // daemon threads, so that a stitcher which is never closed does not
+      // keep the JVM running
+      executor = Executors.newFixedThreadPool(threadCount,
+        new ThreadFactory() {
+          private ThreadFactory factory = Executors.defaultThreadFactory();
+
+          public Thread newThread(Runnable r) {
+            Thread thread = factory.newThread(r);
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+      tileReader = new ThreadLocal<IFormatReader>();
+    }
+
+    // set once a tile fails, so that tiles not yet started are skipped
+    final AtomicBoolean failed = new AtomicBoolean();
+    List<Future<Object>> futures = new ArrayList<Future<Object>>();
+    for (int i=0; i<intersections.size(); i++) {
+      final int s = series.get(i);
+      final Region intersection = intersections.get(i);
+      futures.add(executor.submit(new Callable<Object>() {
+        public Object call() throws FormatException, IOException {
+          if (failed.get()) return null;
+          readTile(getTileReader(), no, s, intersection, buf, offset, stride,
+            image);
+          return null;
+        }
+      }));
+    }
+
+    try {
+      for (Future<Object> future : futures) {
+        future.get();
+      }
+    }
+    catch (InterruptedException e) {
+      failed.set(true);
+      waitFor(futures);
+      throw new FormatException(e);
+    }
+    catch (ExecutionException e) {
+      // no other tile may write into the buffer once this method returns
+      failed.set(true);
+      waitFor(futures);
+      Throwable cause = e.getCause();
+      if (cause instanceof FormatException) throw (FormatException) cause;
+      if (cause instanceof IOException) throw (IOException) cause;
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      throw new FormatException(cause);
+    }
+  }
+
+  /** Waits for the given tasks to finish, ignoring their results. */
+  private void waitFor(List<Future<Object>> futures) {
+    boolean interrupted = false;
+    for (Future<Object> future : futures) {
+      while (true) {
+        try {
+          future.get();
+          break;
+        }
+        catch (InterruptedException e) {
+          interrupted = true;
+        }
+        catch (ExecutionException e) {
+          break;
+        }
+      }
+    }
+    if (interrupted) Thread.currentThread().interrupt();
+  }
+
+  /** Gets the current thread's reader, opening the file if necessary. */
+  private IFormatReader getTileReader() throws FormatException, IOException {
+    IFormatReader r = tileReader.get();
+    if (r == null) {
+      if (reader instanceof ReaderWrapper) {
+        r = ((ReaderWrapper) reader).duplicate(null);
+      }
+      else {
+        try {
+          r = reader.getClass().newInstance();
+        }
+        catch (InstantiationException e) {
+          throw new FormatException(e);
+        }
+        catch (IllegalAccessException e) {
+          throw new FormatException(e);
+        }
+        r.setNormalized(reader.isNormalized());
+        r.setMetadataFiltered(reader.isMetadataFiltered());
+        r.setMetadataCollected(reader.isMetadataCollected());
+      }
+      r.setGroupFiles(reader.isGroupFiles());
+      r.setId(getCurrentFile());
+      tileReader.set(r);
+      tileReaders.add(r);
+    }
+    return r;
+  }
+
+  /**
+   * Stops the thread pool and closes the readers belonging to it, once the
+   * tiles being read have been finished.
+   */
+  private void closeTileReaders() throws IOException {
+    if (executor != null) {
+      executor.shutdown();
+      try {
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+      }
+      catch (InterruptedException e) {
+        IOException io = new IOException("Interrupted while reading tiles");
+        io.initCause(e);
+        throw io;
+      }
+      executor = null;
+      tileReader = null;
+    }
+    synchronized (tileReaders) {
+      for (IFormatReader r : tileReaders) {
+        r.close();
+      }
+      tileReaders.clear();
+    }
+  }
+
   // -- Helper classes --
 
   class TileCoordinate {
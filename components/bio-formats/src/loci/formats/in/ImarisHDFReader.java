@@ -271,6 +271,7 @@ public class ImarisHDFReader extends FormatReader {
     }
     core[0].imageCount = getSizeZ() * getSizeC() * getSizeT();
     core[0].thumbnail = false;
+    core[0].resolutionCount = core.length;
     core[0].dimensionOrder = "XYZCT";
 
     // determine pixel type - this isn't stored in the metadata, so we need
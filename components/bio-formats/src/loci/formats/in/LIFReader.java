@@ -27,6 +27,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Hashtable;
 import java.util.List;
 import java.util.Stack;
 import java.util.StringTokenizer;
@@ -107,7 +108,10 @@ public class LIFReader extends FormatReader {
   // -- Fields --
 
   /** Offsets to memory blocks, paired with their corresponding description. */
-  private Vector<Long> offsets;
+  private long[] offsets;
+
+  /** Number of padding bytes at the end of each row, for each series. */
+  private int[] rowPadding;
 
   private int[][] realChannel;
   private int lastChannel = 0;
@@ -137,6 +141,12 @@ public class LIFReader extends FormatReader {
   private String[] imageNames;
   private double[] acquiredDate;
 
+  /**
+   * Image nodes whose original metadata has not been read yet, indexed by
+   * series; null once every series has been read.
+   */
+  private Element[] pendingImages;
+
   // -- Constructor --
 
   /** Constructs a new Leica LIF reader. */
@@ -161,6 +171,22 @@ public class LIFReader extends FormatReader {
     return stream.read() == LIF_MAGIC_BYTE;
   }
 
+  /* @see loci.formats.IFormatReader#getSeriesMetadata() */
+  public Hashtable<String, Object> getSeriesMetadata() {
+    FormatTools.assertId(currentId, true, 1);
+    populateSeriesMetadata(getCoreIndex());
+    return super.getSeriesMetadata();
+  }
+
+  /* @see loci.formats.IFormatReader#getCoreMetadata() */
+  public CoreMetadata[] getCoreMetadata() {
+    FormatTools.assertId(currentId, true, 1);
+    for (int i=0; pendingImages != null && i<pendingImages.length; i++) {
+      populateSeriesMetadata(i);
+    }
+    return super.getCoreMetadata();
+  }
+
   /* @see loci.formats.IFormatReader#get8BitLookupTable() */
   public byte[][] get8BitLookupTable() {
     FormatTools.assertId(currentId, true, 1);
@@ -272,42 +298,31 @@ public class LIFReader extends FormatReader {
       lastChannel = realChannel[series][pos[1]];
     }
 
-    if (series >= offsets.size()) {
+    if (series >= offsets.length) {
       // truncated file; imitate LAS AF and return black planes
       Arrays.fill(buf, (byte) 0);
       return buf;
     }
 
-    long offset = offsets.get(series).longValue();
     int bytes = FormatTools.getBytesPerPixel(getPixelType());
     int bpp = bytes * getRGBChannelCount();
+    long rowSize = (long) getSizeX() * bpp + rowPadding[series];
+    long planeOffset = offsets[series] + rowSize * getSizeY() * no;
 
-    long planeSize = (long) getSizeX() * getSizeY() * bpp;
-
-    long nextOffset = series + 1 < offsets.size() ?
-      offsets.get(series + 1).longValue() : in.length();
-    int bytesToSkip = (int) (nextOffset - offset - planeSize * getImageCount());
-    bytesToSkip /= getSizeY();
-    if ((getSizeX() % 4) == 0) bytesToSkip = 0;
-
-    if (offset + (planeSize + bytesToSkip * getSizeY()) * no >= in.length()) {
+    if (planeOffset >= in.length()) {
       // truncated file; imitate LAS AF and return black planes
       Arrays.fill(buf, (byte) 0);
       return buf;
     }
 
-    in.seek(offset + planeSize * no);
-    in.skipBytes(bytesToSkip * getSizeY() * no);
-
-    if (bytesToSkip == 0) {
+    if (rowPadding[series] == 0) {
+      in.seek(planeOffset);
       readPlane(in, x, y, w, h, buf);
     }
     else {
-      in.skipBytes(y * (getSizeX() * bpp + bytesToSkip));
       for (int row=0; row<h; row++) {
-        in.skipBytes(x * bpp);
+        in.seek(planeOffset + (y + row) * rowSize + x * bpp);
         in.read(buf, row * w * bpp, w * bpp);
-        in.skipBytes(bpp * (getSizeX() - w - x) + bytesToSkip);
       }
     }
 
@@ -324,6 +339,7 @@ public class LIFReader extends FormatReader {
     super.close(fileOnly);
     if (!fileOnly) {
       offsets = null;
+      rowPadding = null;
       realChannel = null;
       lastChannel = 0;
       lutNames.clear();
@@ -351,16 +367,24 @@ public class LIFReader extends FormatReader {
       imageNames = null;
       acquiredDate = null;
       detectorIndexes = null;
+      pendingImages = null;
     }
   }
 
   // -- Internal FormatReader API methods --
 
+  /* @see loci.formats.FormatReader#getSeriesMeta(String) */
+  protected Object getSeriesMeta(String key) {
+    populateSeriesMetadata(getCoreIndex());
+    return super.getSeriesMeta(key);
+  }
+
   /* @see loci.formats.FormatReader#initFile(String) */
   protected void initFile(String id) throws FormatException, IOException {
     super.initFile(id);
     in = new RandomAccessInputStream(id);
-    offsets = new Vector<Long>();
+    Vector<Long> blockOffsets = new Vector<Long>();
+    Vector<Long> blockLengths = new Vector<Long>();
 
     in.order(true);
 
@@ -391,7 +415,7 @@ public class LIFReader extends FormatReader {
 
     while (in.getFilePointer() < in.length()) {
       LOGGER.debug("Looking for a block at {}; {} blocks read",
-        in.getFilePointer(), offsets.size());
+        in.getFilePointer(), blockOffsets.size());
       int check = in.readInt();
       if (check != LIF_MAGIC_BYTE) {
         throw new FormatException("Invalid Memory Block: found magic bytes " +
@@ -419,7 +443,8 @@ public class LIFReader extends FormatReader {
       int descrLength = in.readInt() * 2;
 
       if (blockLength > 0) {
-        offsets.add(new Long(in.getFilePointer() + descrLength));
+        blockOffsets.add(new Long(in.getFilePointer() + descrLength));
+        blockLengths.add(new Long(blockLength));
       }
 
       in.seek(in.getFilePointer() + descrLength + blockLength);
@@ -428,9 +453,13 @@ public class LIFReader extends FormatReader {
     xml = null;
 
     // correct offsets, if necessary
-    if (offsets.size() > getSeriesCount()) {
-      Long[] storedOffsets = offsets.toArray(new Long[offsets.size()]);
-      offsets.clear();
+    if (blockOffsets.size() > getSeriesCount()) {
+      Long[] storedOffsets =
+        blockOffsets.toArray(new Long[blockOffsets.size()]);
+      Long[] storedLengths =
+        blockLengths.toArray(new Long[blockLengths.size()]);
+      blockOffsets.clear();
+      blockLengths.clear();
       int index = 0;
       for (int i=0; i<getSeriesCount(); i++) {
         setSeries(i);
@@ -444,11 +473,29 @@ public class LIFReader extends FormatReader {
           end = index == storedOffsets.length - 1 ? in.length() :
             storedOffsets[index + 1];
         }
-        offsets.add(storedOffsets[index]);
+        blockOffsets.add(storedOffsets[index]);
+        blockLengths.add(storedLengths[index]);
         index++;
       }
       setSeries(0);
     }
+
+    // the rows of images whose width is not a multiple of 4 may be padded;
+    // the padding is whatever the memory block holds beyond the pixels
+    offsets = new long[blockOffsets.size()];
+    rowPadding = new int[offsets.length];
+    for (int i=0; i<offsets.length; i++) {
+      offsets[i] = blockOffsets.get(i).longValue();
+      if (i >= getSeriesCount()) continue;
+      setSeries(i);
+      if ((getSizeX() % 4) == 0) continue;
+      long planeSize = (long) FormatTools.getPlaneSize(this) * getImageCount();
+      long padding = blockLengths.get(i).longValue() - planeSize;
+      if (padding > 0) {
+        rowPadding[i] = (int) (padding / ((long) getSizeY() * getImageCount()));
+      }
+    }
+    setSeries(0);
   }
 
   // -- Helper methods --
@@ -521,6 +568,9 @@ public class LIFReader extends FormatReader {
     for (int i=0; i<getSeriesCount(); i++) {
       setSeries(i);
 
+      store.setImageName(imageNames[i].trim(), i);
+      if (level == MetadataLevel.MINIMUM) continue;
+
       String instrumentID = MetadataTools.createLSID("Instrument", i);
       store.setInstrumentID(instrumentID, i);
 
@@ -653,7 +703,6 @@ public class LIFReader extends FormatReader {
         store.setImageAcquiredDate(DateTools.convertDate(
           (long) (acquiredDate[i] * 1000), DateTools.COBOL), i);
       }
-      store.setImageName(imageNames[i].trim(), i);
 
       if (physicalSizeXs.get(i) > 0) {
         store.setPixelsPhysicalSizeX(
@@ -857,6 +906,11 @@ public class LIFReader extends FormatReader {
     exWaves = new Integer[imageNodes.getLength()][];
     imageROIs = new ROI[imageNodes.getLength()][];
     imageNames = new String[imageNodes.getLength()];
+    pendingImages = new Element[imageNodes.getLength()];
+
+    // only the image dimensions are needed at the minimum metadata level
+    boolean minimum =
+      getMetadataOptions().getMetadataLevel() == MetadataLevel.MINIMUM;
 
     for (int i=0; i<imageNodes.getLength(); i++) {
       Element image = (Element) imageNodes.item(i);
@@ -864,6 +918,8 @@ public class LIFReader extends FormatReader {
 
       translateImageNames(image, i);
       translateImageNodes(image, i);
+      if (minimum) continue;
+
       translateAttachmentNodes(image, i);
       translateScannerSettings(image, i);
       translateFilterSettings(image, i);
@@ -873,14 +929,35 @@ public class LIFReader extends FormatReader {
       translateSingleROIs(image, i);
       translateDetectors(image, i);
 
-      Stack<String> nameStack = new Stack<String>();
-      HashMap<String, Integer> indexes = new HashMap<String, Integer>();
-      populateOriginalMetadata(image, nameStack, indexes);
-      indexes.clear();
+      // the original metadata is only walked once the series' table is used
+      pendingImages[i] = image;
     }
     setSeries(0);
   }
 
+  /**
+   * Adds the original metadata of the given series to its metadata table,
+   * unless that has already been done.
+   */
+  private void populateSeriesMetadata(int coreIndex) {
+    if (pendingImages == null || pendingImages[coreIndex] == null) return;
+    Element image = pendingImages[coreIndex];
+    pendingImages[coreIndex] = null;
+
+    int currentIndex = getCoreIndex();
+    setCoreIndex(coreIndex);
+    Stack<String> nameStack = new Stack<String>();
+    HashMap<String, Integer> indexes = new HashMap<String, Integer>();
+    populateOriginalMetadata(image, nameStack, indexes);
+    setCoreIndex(currentIndex);
+
+    // let go of the XML once every series has been read
+    for (Element pending : pendingImages) {
+      if (pending != null) return;
+    }
+    pendingImages = null;
+  }
+
   private void populateOriginalMetadata(Element root, Stack<String> nameStack,
     HashMap<String, Integer> indexes)
   {
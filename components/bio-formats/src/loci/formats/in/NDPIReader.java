@@ -25,22 +25,31 @@ package loci.formats.in;
 
 import java.io.IOException;
 
+import loci.common.DataTools;
 import loci.common.DateTools;
 import loci.common.RandomAccessInputStream;
 import loci.formats.CoreMetadata;
 import loci.formats.FormatException;
 import loci.formats.FormatTools;
+import loci.formats.codec.CodecOptions;
+import loci.formats.codec.JPEGCodec;
 import loci.formats.codec.JPEGTileDecoder;
 import loci.formats.meta.MetadataStore;
 import loci.formats.tiff.IFD;
 import loci.formats.tiff.PhotoInterp;
-import loci.formats.tiff.TiffParser;
+import loci.formats.tiff.TiffIFDEntry;
 
 import ome.xml.model.primitives.PositiveFloat;
 
 /**
  * NDPIReader is the file format reader for Hamamatsu .ndpi files.
  *
+ * Images which are too large to be decoded at once are stored as a single
+ * JPEG stream with restart markers.  Where each restart interval covers
+ * part of one row of MCUs, the intervals are indexed (using the offsets
+ * stored by the scanner, or by scanning for the markers) and only the
+ * intervals which overlap the requested region are decoded.
+ *
  * <dl><dt><b>Source code:</b></dt>
  * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/bio-formats/src/loci/formats/in/NDPIReader.java">Trac</a>,
  * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/bio-formats/src/loci/formats/in/NDPIReader.java;hb=HEAD">Gitweb</a></dd></dl>
@@ -50,19 +59,36 @@ public class NDPIReader extends BaseTiffReader {
   // -- Constants --
 
   private static final int MAX_SIZE = 8192;
-  private static final int THUMB_TAG_1 = 65426;
   private static final int THUMB_TAG_2 = 65439;
   private static final int METADATA_TAG = 65449;
 
+  /** Offsets of the JPEG restart intervals, relative to the strip. */
+  private static final int MCU_STARTS_TAG = 65426;
+
+  /** Upper 32 bits of the restart interval offsets. */
+  private static final int MCU_STARTS_HIGH_TAG = 65432;
+
+  /** Number of bytes read at a time when scanning for restart markers. */
+  private static final int SCAN_BUFFER_SIZE = 1024 * 1024;
+
   // -- Fields --
 
   private JPEGTileDecoder decoder;
+  private RandomAccessInputStream decoderStream;
   private int initializedSeries = -1;
   private int initializedPlane = -1;
 
   private int sizeZ = 1;
   private int pyramidHeight = 1;
 
+  /** Unread restart interval offsets of each IFD. */
+  private Object[] mcuStarts;
+  private Object[] mcuStartsHigh;
+
+  /** Restart interval index of each IFD, or null if it cannot be indexed. */
+  private RestartIndex[] restartIndexes;
+  private boolean[] indexed;
+
   // -- Constructor --
 
   /** Constructs a new NDPI reader. */
@@ -91,14 +117,17 @@ public class NDPIReader extends BaseTiffReader {
       return buf;
     }
     else if (getSizeX() <= MAX_SIZE && getSizeY() <= MAX_SIZE) {
-      int ifdIndex = getIFDIndex(getSeries(), no);
-      in = new RandomAccessInputStream(currentId);
-      tiffParser = new TiffParser(in);
-      tiffParser.setUse64BitOffsets(true);
+      int ifdIndex = getIFDIndex(getCoreIndex(), no);
       return tiffParser.getSamples(ifds.get(ifdIndex), buf, x, y, w, h);
     }
 
-    if (initializedSeries != getSeries() || initializedPlane != no) {
+    RestartIndex index = getRestartIndex(getIFDIndex(getCoreIndex(), no));
+    if (index != null) {
+      readIntervals(index, buf, x, y, w, h);
+      return buf;
+    }
+
+    if (initializedSeries != getCoreIndex() || initializedPlane != no) {
       if (x == 0 && y == 0 && w == getOptimalTileWidth() &&
         h == getOptimalTileHeight())
       {
@@ -109,7 +138,7 @@ public class NDPIReader extends BaseTiffReader {
         // it looks like we'll only read one tile
         setupService(y, h, no);
       }
-      initializedSeries = getSeries();
+      initializedSeries = getCoreIndex();
       initializedPlane = no;
     }
     else if (decoder.getScanline(y) == null) {
@@ -136,7 +165,7 @@ public class NDPIReader extends BaseTiffReader {
   public byte[] openThumbBytes(int no) throws FormatException, IOException {
     FormatTools.assertId(currentId, true, 1);
 
-    int currentSeries = getSeries();
+    int currentSeries = getCoreIndex();
     if (currentSeries >= pyramidHeight) {
       return super.openThumbBytes(no);
     }
@@ -145,7 +174,7 @@ public class NDPIReader extends BaseTiffReader {
     int thumbY = getThumbSizeY();
     int rgbCount = getRGBChannelCount();
 
-    setSeries(pyramidHeight - 1);
+    setCoreIndex(pyramidHeight - 1);
 
     byte[] thumb = null;
 
@@ -153,12 +182,12 @@ public class NDPIReader extends BaseTiffReader {
       rgbCount == getRGBChannelCount())
     {
       thumb = FormatTools.openThumbBytes(this, no);
-      setSeries(currentSeries);
+      setCoreIndex(currentSeries);
     }
     else {
       // find the smallest series with the same aspect ratio
-      for (int s=getSeriesCount()-1; s>=0; s--) {
-        setSeries(s);
+      for (int s=core.length-1; s>=0; s--) {
+        setCoreIndex(s);
         if (thumbX == getThumbSizeX() && thumbY == getThumbSizeY() &&
           s != currentSeries && rgbCount == getRGBChannelCount())
         {
@@ -166,7 +195,7 @@ public class NDPIReader extends BaseTiffReader {
           break;
         }
       }
-      setSeries(currentSeries);
+      setCoreIndex(currentSeries);
       if (thumb == null) {
         thumb = FormatTools.openThumbBytes(this, no);
       }
@@ -182,6 +211,14 @@ public class NDPIReader extends BaseTiffReader {
         decoder.close();
       }
       decoder = null;
+      if (decoderStream != null) {
+        decoderStream.close();
+      }
+      decoderStream = null;
+      mcuStarts = null;
+      mcuStartsHigh = null;
+      restartIndexes = null;
+      indexed = null;
       initializedSeries = -1;
       initializedPlane = -1;
       sizeZ = 1;
@@ -189,10 +226,27 @@ public class NDPIReader extends BaseTiffReader {
     }
   }
 
+  /* @see loci.formats.IFormatReader#getOptimalTileWidth() */
+  public int getOptimalTileWidth() {
+    FormatTools.assertId(currentId, true, 1);
+    RestartIndex index = getCurrentRestartIndex();
+    if (index != null) {
+      return Math.min(index.tileWidth, getSizeX());
+    }
+    return super.getOptimalTileWidth();
+  }
+
   /* @see loci.formats.IFormatReader#getOptimalTileHeight() */
   public int getOptimalTileHeight() {
     FormatTools.assertId(currentId, true, 1);
     int bpp = FormatTools.getBytesPerPixel(getPixelType());
+    RestartIndex index = getCurrentRestartIndex();
+    if (index != null) {
+      int intervalSize =
+        index.tileWidth * index.tileHeight * getRGBChannelCount() * bpp;
+      int rows = Math.max(1, (1024 * 1024) / intervalSize);
+      return Math.min(rows * index.tileHeight, getSizeY());
+    }
     int maxHeight = (1024 * 1024) / (getSizeX() * getRGBChannelCount() * bpp);
     return (int) Math.min(maxHeight, getSizeY());
   }
@@ -253,9 +307,16 @@ public class NDPIReader extends BaseTiffReader {
 
     // repopulate core metadata
 
+    mcuStarts = new Object[ifds.size()];
+    mcuStartsHigh = new Object[ifds.size()];
+    restartIndexes = new RestartIndex[ifds.size()];
+    indexed = new boolean[ifds.size()];
+
     for (int i=0; i<ifds.size(); i++) {
       IFD ifd = ifds.get(i);
-      ifd.remove(THUMB_TAG_1);
+      // the restart interval offsets are only read if they are needed
+      mcuStarts[i] = ifd.remove(MCU_STARTS_TAG);
+      mcuStartsHigh[i] = ifd.remove(MCU_STARTS_HIGH_TAG);
       ifd.remove(THUMB_TAG_2);
       ifds.set(i, ifd);
       tiffParser.fillInIFD(ifds.get(i));
@@ -294,6 +355,7 @@ public class NDPIReader extends BaseTiffReader {
       core[s].dimensionOrder = "XYCZT";
       core[s].thumbnail = s != 0;
     }
+    core[0].resolutionCount = pyramidHeight;
 
     setSeries(0);
   }
@@ -341,18 +403,248 @@ public class NDPIReader extends BaseTiffReader {
   {
     decoder.close();
 
-    IFD ifd = ifds.get(getIFDIndex(getSeries(), z));
+    IFD ifd = ifds.get(getIFDIndex(getCoreIndex(), z));
 
     long offset = ifd.getStripOffsets()[0];
     int byteCount = (int) ifd.getStripByteCounts()[0];
-    if (in != null) {
-      in.close();
+    if (decoderStream != null) {
+      decoderStream.close();
+    }
+    decoderStream = new RandomAccessInputStream(currentId);
+    decoderStream.seek(offset);
+    decoderStream.setLength(offset + byteCount);
+
+    decoder.initialize(decoderStream, y, h, getSizeX());
+  }
+
+  /** Copies the given region from the restart intervals which cover it. */
+  private void readIntervals(RestartIndex index, byte[] buf,
+    int x, int y, int w, int h)
+    throws FormatException, IOException
+  {
+    int pixel =
+      getRGBChannelCount() * FormatTools.getBytesPerPixel(getPixelType());
+    int row = w * pixel;
+    int tileRow = index.tileWidth * pixel;
+
+    int firstRow = y / index.tileHeight;
+    int lastRow = (y + h - 1) / index.tileHeight;
+    int firstCol = x / index.tileWidth;
+    int lastCol = (x + w - 1) / index.tileWidth;
+
+    for (int tileY=firstRow; tileY<=lastRow; tileY++) {
+      for (int tileX=firstCol; tileX<=lastCol; tileX++) {
+        byte[] tile = index.decode(in, tileY * index.tilesPerRow + tileX);
+        if (tile.length < tileRow * index.tileHeight) {
+          throw new FormatException("Restart interval " +
+            (tileY * index.tilesPerRow + tileX) + " could not be decoded");
+        }
+
+        int x0 = tileX * index.tileWidth;
+        int y0 = tileY * index.tileHeight;
+        int startX = Math.max(x, x0);
+        int endX = Math.min(x + w, x0 + index.tileWidth);
+        int startY = Math.max(y, y0);
+        int endY = Math.min(y + h, y0 + index.tileHeight);
+
+        for (int yy=startY; yy<endY; yy++) {
+          System.arraycopy(tile, (yy - y0) * tileRow + (startX - x0) * pixel,
+            buf, (yy - y) * row + (startX - x) * pixel,
+            (endX - startX) * pixel);
+        }
+      }
+    }
+  }
+
+  /** Returns the restart interval index of the current series. */
+  private RestartIndex getCurrentRestartIndex() {
+    if (getSizeX() <= MAX_SIZE && getSizeY() <= MAX_SIZE) {
+      return null;
+    }
+    try {
+      return getRestartIndex(getIFDIndex(getCoreIndex(), 0));
+    }
+    catch (FormatException e) {
+      LOGGER.debug("Could not index restart intervals", e);
+    }
+    catch (IOException e) {
+      LOGGER.debug("Could not index restart intervals", e);
+    }
+    return null;
+  }
+
+  private RestartIndex getRestartIndex(int ifdIndex)
+    throws FormatException, IOException
+  {
+    if (!indexed[ifdIndex]) {
+      restartIndexes[ifdIndex] = makeRestartIndex(ifdIndex);
+      indexed[ifdIndex] = true;
+      if (restartIndexes[ifdIndex] == null) {
+        LOGGER.debug("IFD {} will be decoded from the first scanline",
+          ifdIndex);
+      }
     }
-    in = new RandomAccessInputStream(currentId);
+    return restartIndexes[ifdIndex];
+  }
+
+  /**
+   * Parses the JPEG header of the given IFD and locates its restart
+   * intervals.  Returns null if the intervals cannot be decoded as tiles.
+   */
+  private RestartIndex makeRestartIndex(int ifdIndex)
+    throws FormatException, IOException
+  {
+    IFD ifd = ifds.get(ifdIndex);
+    long offset = ifd.getStripOffsets()[0];
+    long end = offset + ifd.getStripByteCounts()[0];
+    if (end <= offset || end > in.length()) {
+      end = in.length();
+    }
+
+    RestartIndex index = new RestartIndex();
+    int interval = 0, mcuWidth = 0, mcuHeight = 0, sofPointer = -1;
+    long headerEnd = -1;
+
+    boolean littleEndian = in.isLittleEndian();
+    in.order(false);
+    try {
+      in.seek(offset);
+      if ((in.readShort() & 0xffff) != 0xffd8) return null;
+
+      while (headerEnd < 0) {
+        int marker = in.readShort() & 0xffff;
+        int length = in.readShort() & 0xffff;
+        long next = in.getFilePointer() + length - 2;
+        if (marker < 0xff00 || next > end) return null;
+
+        if (marker == 0xffc0 || marker == 0xffc1) {
+          sofPointer = (int) (in.getFilePointer() + 1 - offset);
+          in.skipBytes(5);
+          int components = in.readByte() & 0xff;
+          for (int c=0; c<components; c++) {
+            in.skipBytes(1);
+            int sampling = in.readByte() & 0xff;
+            in.skipBytes(1);
+            mcuWidth = Math.max(mcuWidth, 8 * (sampling >> 4));
+            mcuHeight = Math.max(mcuHeight, 8 * (sampling & 0xf));
+          }
+          // a scan with only one component has one block per MCU
+          if (components == 1) {
+            mcuWidth = 8;
+            mcuHeight = 8;
+          }
+        }
+        else if (marker >= 0xffc2 && marker <= 0xffcf &&
+          marker != 0xffc4 && marker != 0xffc8 && marker != 0xffcc)
+        {
+          // progressive, lossless and arithmetic coding are not indexed
+          return null;
+        }
+        else if (marker == 0xffdd) {
+          interval = in.readShort() & 0xffff;
+        }
+        else if (marker == 0xffda) {
+          headerEnd = next;
+        }
+        in.seek(next);
+      }
+    }
+    finally {
+      in.order(littleEndian);
+    }
+
+    if (sofPointer < 0 || interval == 0 || mcuWidth == 0 || mcuHeight == 0) {
+      return null;
+    }
+
+    int mcusPerRow = (int) ((ifd.getImageWidth() + mcuWidth - 1) / mcuWidth);
+    int mcuRows = (int) ((ifd.getImageLength() + mcuHeight - 1) / mcuHeight);
+    if (mcusPerRow % interval != 0) return null;
+
+    index.sofPointer = sofPointer;
+    index.tileWidth = interval * mcuWidth;
+    index.tileHeight = mcuHeight;
+    index.tilesPerRow = mcusPerRow / interval;
+    index.end = end;
+    index.header = new byte[(int) (headerEnd - offset)];
     in.seek(offset);
-    in.setLength(offset + byteCount);
+    in.readFully(index.header);
 
-    decoder.initialize(in, y, h, getSizeX());
+    int count = index.tilesPerRow * mcuRows;
+    index.starts = readMcuStarts(ifdIndex, offset, headerEnd, count);
+    if (index.starts == null) {
+      index.starts = findRestartMarkers(headerEnd, end, count);
+    }
+    return index.starts == null ? null : index;
+  }
+
+  /**
+   * Reads the restart interval offsets stored in the given IFD.  Returns
+   * null if they are missing, or do not point at restart intervals.
+   */
+  private long[] readMcuStarts(int ifdIndex, long offset, long headerEnd,
+    int count)
+    throws FormatException, IOException
+  {
+    long[] starts = getLongArray(mcuStarts[ifdIndex]);
+    if (starts == null || starts.length != count) return null;
+    long[] high = getLongArray(mcuStartsHigh[ifdIndex]);
+    for (int i=0; i<count; i++) {
+      starts[i] += offset;
+      if (high != null && i < high.length) {
+        starts[i] += high[i] << 32;
+      }
+    }
+
+    // check the ends of the table before trusting the rest of it
+    if (starts[0] != headerEnd) return null;
+    if (count > 1) {
+      in.seek(starts[count - 1] - 2);
+      int marker = 0xd0 + (count - 2) % 8;
+      if ((in.readByte() & 0xff) != 0xff || (in.readByte() & 0xff) != marker) {
+        return null;
+      }
+    }
+    return starts;
+  }
+
+  /**
+   * Scans the entropy coded data for restart markers, returning the offset
+   * of each restart interval.
+   */
+  private long[] findRestartMarkers(long start, long end, int count)
+    throws IOException
+  {
+    long[] starts = new long[count];
+    starts[0] = start;
+    int found = 1;
+
+    byte[] buf = new byte[(int) Math.min(SCAN_BUFFER_SIZE, end - start)];
+    boolean marker = false;
+    in.seek(start);
+    for (long pos=start; pos<end && found<count; pos+=buf.length) {
+      int n = (int) Math.min(buf.length, end - pos);
+      in.readFully(buf, 0, n);
+      for (int i=0; i<n && found<count; i++) {
+        if (marker && (buf[i] & 0xf8) == 0xd0) {
+          starts[found++] = pos + i + 1;
+        }
+        marker = buf[i] == (byte) 0xff;
+      }
+    }
+    return found == count ? starts : null;
+  }
+
+  private long[] getLongArray(Object value)
+    throws FormatException, IOException
+  {
+    if (value instanceof TiffIFDEntry) {
+      value = tiffParser.getIFDValue((TiffIFDEntry) value);
+    }
+    if (value == null) return null;
+    IFD ifd = new IFD();
+    ifd.put(MCU_STARTS_TAG, value);
+    return ifd.getIFDLongArray(MCU_STARTS_TAG);
   }
 
   private int getIFDIndex(int seriesIndex, int zIndex) {
@@ -363,4 +655,56 @@ public class NDPIReader extends BaseTiffReader {
     return sizeZ * pyramidHeight + (seriesIndex - pyramidHeight);
   }
 
+  // -- Helper class --
+
+  /**
+   * Location of the restart intervals of a JPEG stream.  Each interval is
+   * decoded as a tile, by giving it a copy of the stream's header whose
+   * image size is that of one interval.
+   */
+  private static class RestartIndex {
+    /** Markers from the start of image to the end of the start of scan. */
+    public byte[] header;
+
+    /** Position of the image height within the header. */
+    public int sofPointer;
+
+    public int tileWidth, tileHeight, tilesPerRow;
+
+    /** File offset of each interval's entropy coded data. */
+    public long[] starts;
+
+    /** File offset of the end of the last interval. */
+    public long end;
+
+    /** Decodes the given interval into interleaved pixels. */
+    public byte[] decode(RandomAccessInputStream in, int tile)
+      throws FormatException, IOException
+    {
+      int length = (int)
+        ((tile < starts.length - 1 ? starts[tile + 1] : end) - starts[tile]);
+      byte[] jpeg = new byte[header.length + length + 2];
+      System.arraycopy(header, 0, jpeg, 0, header.length);
+      DataTools.unpackBytes(tileHeight, jpeg, sofPointer, 2, false);
+      DataTools.unpackBytes(tileWidth, jpeg, sofPointer + 2, 2, false);
+      in.seek(starts[tile]);
+      in.readFully(jpeg, header.length, length);
+
+      // replace the restart marker (or end of image) which ends the interval
+      int eoi = header.length + length;
+      if (length >= 2 && jpeg[eoi - 2] == (byte) 0xff &&
+        ((jpeg[eoi - 1] & 0xf8) == 0xd0 || jpeg[eoi - 1] == (byte) 0xd9))
+      {
+        eoi -= 2;
+      }
+      jpeg[eoi] = (byte) 0xff;
+      jpeg[eoi + 1] = (byte) 0xd9;
+
+      CodecOptions options = new CodecOptions();
+      options.interleaved = true;
+      options.littleEndian = false;
+      return new JPEGCodec().decompress(jpeg, options);
+    }
+  }
+
 }
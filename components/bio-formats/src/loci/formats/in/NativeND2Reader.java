@@ -25,6 +25,7 @@ package loci.formats.in;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Hashtable;
 
 import loci.common.ByteArrayHandle;
@@ -69,6 +70,10 @@ public class NativeND2Reader extends FormatReader {
   public static final long ND2_MAGIC_BYTES_1 = 0xdacebe0aL;
   public static final long ND2_MAGIC_BYTES_2 = 0x6a502020L;
 
+  /** Signature which precedes the chunk map offset at the end of the file. */
+  private static final String CHUNK_MAP_SIGNATURE =
+    "ND2 CHUNK MAP SIGNATURE 0000001!";
+
   // -- Fields --
 
   /** Array of image offsets. */
@@ -306,12 +311,17 @@ public class NativeND2Reader extends FormatReader {
 
     if (in.read() == -38 && in.read() == -50) {
       // newer version of ND2 - doesn't use JPEG2000
-      LOGGER.info("Searching for blocks");
 
       isJPEG = false;
-      in.seek(0);
       in.order(true);
 
+      long[] blockOffsets = readChunkMap();
+      if (blockOffsets == null) {
+        LOGGER.info("Searching for blocks");
+      }
+      in.seek(0);
+      int nextBlock = 0;
+
       // assemble offsets to each block
 
       ArrayList<String> imageNames = new ArrayList<String>();
@@ -323,30 +333,41 @@ public class NativeND2Reader extends FormatReader {
       ByteArrayHandle xml = new ByteArrayHandle();
       StringBuffer name = new StringBuffer();
 
-      // search for blocks
+      // search for blocks, using the chunk map if there is one
       byte[] sigBytes = {-38, -50, -66, 10}; // 0xDACEBE0A
-      while (in.getFilePointer() < in.length() - 1 && in.getFilePointer() >= 0)
-      {
-        byte[] buf = new byte[1024];
-        int foundIndex = -1;
-        in.read(buf, 0, sigBytes.length);
-        while (foundIndex == -1 && in.getFilePointer() < in.length()) {
-          int n = in.read(buf, sigBytes.length, buf.length - sigBytes.length);
-          for (int i=0; i<buf.length-sigBytes.length; i++) {
-            for (int j=0; j<sigBytes.length; j++) {
-              if (buf[i + j] != sigBytes[j]) break;
-              if (j == sigBytes.length - 1) foundIndex = i;
+      while (true) {
+        if (blockOffsets != null) {
+          if (nextBlock == blockOffsets.length) break;
+          in.seek(blockOffsets[nextBlock++] + sigBytes.length);
+        }
+        else {
+          if (in.getFilePointer() >= in.length() - 1 ||
+            in.getFilePointer() < 0)
+          {
+            break;
+          }
+          byte[] buf = new byte[1024];
+          int foundIndex = -1;
+          in.read(buf, 0, sigBytes.length);
+          while (foundIndex == -1 && in.getFilePointer() < in.length()) {
+            int n =
+              in.read(buf, sigBytes.length, buf.length - sigBytes.length);
+            for (int i=0; i<buf.length-sigBytes.length; i++) {
+              for (int j=0; j<sigBytes.length; j++) {
+                if (buf[i + j] != sigBytes[j]) break;
+                if (j == sigBytes.length - 1) foundIndex = i;
+              }
+              if (foundIndex != -1) break;
+            }
+            if (foundIndex == -1) {
+              System.arraycopy(buf, buf.length - sigBytes.length - 1,
+                buf, 0, sigBytes.length);
             }
-            if (foundIndex != -1) break;
+            else in.seek(in.getFilePointer() - n + foundIndex);
           }
-          if (foundIndex == -1) {
-            System.arraycopy(buf, buf.length - sigBytes.length - 1,
-              buf, 0, sigBytes.length);
+          if (in.getFilePointer() >= in.length() || foundIndex == -1) {
+            break;
           }
-          else in.seek(in.getFilePointer() - n + foundIndex);
-        }
-        if (in.getFilePointer() >= in.length() || foundIndex == -1) {
-          break;
         }
 
         if (in.getFilePointer() > in.length() - 24) break;
@@ -1257,6 +1278,90 @@ public class NativeND2Reader extends FormatReader {
     handler.populateROIs(store);
   }
 
+  /**
+   * Reads the chunk map at the end of the file, which lists the name and
+   * position of every block.
+   * @return the positions of the blocks in file order, or null if the file
+   *   has no chunk map or it does not match the blocks
+   */
+  private long[] readChunkMap() throws IOException {
+    int trailerLength = CHUNK_MAP_SIGNATURE.length() + 8;
+    if (in.length() < trailerLength) {
+      return null;
+    }
+    in.seek(in.length() - trailerLength);
+    if (!in.readString(CHUNK_MAP_SIGNATURE.length()).equals(
+      CHUNK_MAP_SIGNATURE))
+    {
+      return null;
+    }
+    long mapOffset = in.readLong();
+    if (mapOffset <= 0 || mapOffset >= in.length() - trailerLength) {
+      return null;
+    }
+
+    if (!isBlockStart(mapOffset)) {
+      return null;
+    }
+    int nameLength = in.readInt();
+    long dataLength = in.readLong();
+    in.skipBytes(nameLength);
+    long end = in.getFilePointer() + dataLength;
+    if (nameLength < 0 || dataLength < 0 || end > in.length()) {
+      return null;
+    }
+
+    ArrayList<Long> blocks = new ArrayList<Long>();
+    StringBuffer name = new StringBuffer();
+    while (in.getFilePointer() < end) {
+      char c = (char) in.readByte();
+      name.append(c);
+      if (c != '!') {
+        continue;
+      }
+      if (name.toString().equals(CHUNK_MAP_SIGNATURE)) {
+        break;
+      }
+      name.setLength(0);
+
+      long position = in.readLong();
+      in.skipBytes(8); // block length
+      if (position < 0 || position >= in.length()) {
+        return null;
+      }
+      blocks.add(new Long(position));
+    }
+    if (blocks.size() == 0) {
+      return null;
+    }
+
+    long[] offsets = new long[blocks.size()];
+    for (int i=0; i<offsets.length; i++) {
+      offsets[i] = blocks.get(i).longValue();
+    }
+    Arrays.sort(offsets);
+
+    for (long offset : offsets) {
+      if (!isBlockStart(offset)) {
+        LOGGER.debug("Chunk map does not match block at {}", offset);
+        return null;
+      }
+    }
+    return offsets;
+  }
+
+  /** Checks that a block signature is stored at the given offset. */
+  private boolean isBlockStart(long offset) throws IOException {
+    if (offset > in.length() - 4) {
+      return false;
+    }
+    in.seek(offset);
+    byte[] signature = new byte[4];
+    in.readFully(signature);
+    return (DataTools.bytesToInt(signature, false) & 0xffffffffL) ==
+      ND2_MAGIC_BYTES_1;
+  }
+
   private Codec createCodec(boolean isJPEG) {
     return isJPEG ? new JPEG2000Codec() : new ZlibCodec();
   }
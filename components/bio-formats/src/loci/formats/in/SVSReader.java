@@ -34,6 +34,7 @@ import loci.formats.FormatException;
 import loci.formats.FormatTools;
 import loci.formats.meta.MetadataStore;
 import loci.formats.tiff.IFD;
+import loci.formats.tiff.IFDList;
 import loci.formats.tiff.PhotoInterp;
 import loci.formats.tiff.TiffParser;
 
@@ -116,7 +117,7 @@ public class SVSReader extends BaseTiffReader {
   public byte[] openBytes(int no, byte[] buf, int x, int y, int w, int h)
     throws FormatException, IOException
   {
-    if (getSeriesCount() == 1) {
+    if (core.length == 1) {
       return super.openBytes(no, buf, x, y, w, h);
     }
     FormatTools.checkPlaneParameters(this, no, buf.length, x, y, w, h);
@@ -126,16 +127,16 @@ public class SVSReader extends BaseTiffReader {
 
   /* @see loci.formats.IFormatReader#openThumbBytes(int) */
   public byte[] openThumbBytes(int no) throws FormatException, IOException {
-    if (getSeriesCount() == 1 || getSeries() >= getSeriesCount() - 2) {
+    if (core.length == 1 || getCoreIndex() >= core.length - 2) {
       return super.openThumbBytes(no);
     }
 
-    int smallestSeries = getSeriesCount() - 3;
+    int smallestSeries = core.length - 3;
     if (smallestSeries >= 0) {
-      int thisSeries = getSeries();
-      setSeries(smallestSeries);
+      int thisSeries = getCoreIndex();
+      setCoreIndex(smallestSeries);
       byte[] thumb = FormatTools.openThumbBytes(this, no);
-      setSeries(thisSeries);
+      setCoreIndex(thisSeries);
       return thumb;
     }
     return super.openThumbBytes(no);
@@ -154,7 +155,7 @@ public class SVSReader extends BaseTiffReader {
   public int getOptimalTileWidth() {
     FormatTools.assertId(currentId, true, 1);
     try {
-      return (int) ifds.get(getSeries()).getTileWidth();
+      return (int) ifds.get(getCoreIndex()).getTileWidth();
     }
     catch (FormatException e) {
       LOGGER.debug("", e);
@@ -166,7 +167,7 @@ public class SVSReader extends BaseTiffReader {
   public int getOptimalTileHeight() {
     FormatTools.assertId(currentId, true, 1);
     try {
-      return (int) ifds.get(getSeries()).getTileLength();
+      return (int) ifds.get(getCoreIndex()).getTileLength();
     }
     catch (FormatException e) {
       LOGGER.debug("", e);
@@ -182,6 +183,28 @@ public class SVSReader extends BaseTiffReader {
 
     ifds = tiffParser.getIFDs();
 
+    // the pyramid is made of the full resolution image and each following
+    // tiled image; the thumbnail, label and macro images are not tiled
+    IFDList pyramid = new IFDList();
+    IFDList others = new IFDList();
+    pyramid.add(ifds.get(0));
+    for (int i=1; i<ifds.size(); i++) {
+      IFD ifd = ifds.get(i);
+      IFD last = pyramid.get(pyramid.size() - 1);
+      if (ifd.isTiled() && ifd.getImageWidth() < last.getImageWidth() &&
+        (others.size() == 0 || !hasFlattenedResolutions()))
+      {
+        pyramid.add(ifd);
+      }
+      else others.add(ifd);
+    }
+    int resolutions = pyramid.size();
+    if (!hasFlattenedResolutions()) {
+      // keep the resolutions together, ahead of the other images
+      pyramid.addAll(others);
+      ifds = pyramid;
+    }
+
     core = new CoreMetadata[ifds.size()];
 
     pixelSize = new float[core.length];
@@ -239,6 +262,7 @@ public class SVSReader extends BaseTiffReader {
       core[s].dimensionOrder = "XYCZT";
       core[s].thumbnail = s != 0;
     }
+    core[0].resolutionCount = resolutions;
   }
 
   /* @see loci.formats.BaseTiffReader#initMetadataStore() */
@@ -98,6 +98,10 @@ public class ZeissCZIReader extends FormatReader {
   private MetadataStore store;
 
   private ArrayList<SubBlock> planes;
+
+  /** First valid SubBlock of each plane, indexed by series and plane. */
+  private SubBlock[][] planeIndex;
+
   private int rotations = 1;
   private int positions = 1;
   private int illuminations = 1;
@@ -234,16 +238,22 @@ public class ZeissCZIReader extends FormatReader {
 
     previousChannel = getZCTCoords(no)[1];
 
-    int currentSeries = getSeries();
+    SubBlock plane = getSubBlock(getSeries(), no);
+    if (plane == null) {
+      return buf;
+    }
 
-    for (SubBlock plane : planes) {
-      if (plane.seriesIndex == currentSeries && plane.planeIndex == no) {
-        byte[] rawData = plane.readPixelData();
-        RandomAccessInputStream s = new RandomAccessInputStream(rawData);
-        readPlane(s, x, y, w, h, buf);
-        s.close();
-        break;
-      }
+    if (plane.directoryEntry.compression == UNCOMPRESSED) {
+      // only the rows which overlap the region need to be read
+      plane.readHeader();
+      in.seek(plane.dataOffset);
+      readPlane(in, x, y, w, h, buf);
+    }
+    else {
+      byte[] rawData = plane.readPixelData();
+      RandomAccessInputStream s = new RandomAccessInputStream(rawData);
+      readPlane(s, x, y, w, h, buf);
+      s.close();
     }
     return buf;
   }
@@ -253,6 +263,7 @@ public class ZeissCZIReader extends FormatReader {
     super.close(fileOnly);
     if (!fileOnly) {
       planes = null;
+      planeIndex = null;
       rotations = 1;
       positions = 1;
       illuminations = 1;
@@ -306,25 +317,31 @@ public class ZeissCZIReader extends FormatReader {
     ArrayList<Segment> segments = new ArrayList<Segment>();
     planes = new ArrayList<SubBlock>();
 
-    while (in.getFilePointer() < in.length()) {
-      Segment segment = readSegment();
-      segments.add(segment);
+    if (!readDirectory(segments)) {
+      LOGGER.debug("No SubBlock directory; reading every segment");
+      in.seek(0);
+      while (in.getFilePointer() < in.length()) {
+        Segment segment = readSegment();
+        segments.add(segment);
 
-      if (segment instanceof SubBlock) {
-        planes.add((SubBlock) segment);
+        if (segment instanceof SubBlock) {
+          planes.add((SubBlock) segment);
+        }
       }
     }
 
+    if (planes.size() == 0) {
+      throw new FormatException("No SubBlocks found");
+    }
+
     calculateDimensions();
     convertPixelType(planes.get(0).directoryEntry.pixelType);
 
-    // remove any invalid SubBlocks
+    // remove any invalid SubBlocks, such as those which hold
+    // a subsampled copy of the plane
 
-    int planeSize =
-      getSizeX() * getSizeY() * FormatTools.getBytesPerPixel(getPixelType());
     for (int i=0; i<planes.size(); i++) {
-      byte[] pixels = planes.get(i).readPixelData();
-      if (pixels.length < planeSize) {
+      if (!planes.get(i).isFullPlane()) {
         planes.remove(i);
         i--;
       }
@@ -360,6 +377,7 @@ public class ZeissCZIReader extends FormatReader {
     core[0].dimensionOrder = "XYCZT";
 
     assignPlaneIndices();
+    indexPlanes(seriesCount);
 
     // populate the OME metadata
 
@@ -428,38 +446,42 @@ public class ZeissCZIReader extends FormatReader {
         startTime =
           DateTools.getTime(acquiredDate, DateTools.ISO8601_FORMAT) / 1000d;
       }
+      // the plane metadata is stored with each SubBlock
+      MetadataLevel level = getMetadataOptions().getMetadataLevel();
       for (int plane=0; plane<getImageCount(); plane++) {
-        for (SubBlock p : planes) {
-          if (p.seriesIndex == i && p.planeIndex == plane) {
-            if (startTime == null) {
-              startTime = p.timestamp;
-            }
+        SubBlock p = getSubBlock(i, plane);
+        if (p == null || level == MetadataLevel.MINIMUM) {
+          continue;
+        }
+        p.readHeader();
 
-            if (p.stageX != null) {
-              store.setPlanePositionX(p.stageX, i, plane);
-            }
-            else if (positionsX != null && i < positionsX.length) {
-              store.setPlanePositionX(positionsX[i], i, plane);
-            }
+        if (startTime == null) {
+          startTime = p.timestamp;
+        }
 
-            if (p.stageY != null) {
-              store.setPlanePositionY(p.stageY, i, plane);
-            }
-            else if (positionsY != null && i < positionsY.length) {
-              store.setPlanePositionY(positionsY[i], i, plane);
-            }
+        if (p.stageX != null) {
+          store.setPlanePositionX(p.stageX, i, plane);
+        }
+        else if (positionsX != null && i < positionsX.length) {
+          store.setPlanePositionX(positionsX[i], i, plane);
+        }
 
-            if (positionsZ != null && i < positionsZ.length) {
-              store.setPlanePositionZ(positionsZ[i], i, plane);
-            }
+        if (p.stageY != null) {
+          store.setPlanePositionY(p.stageY, i, plane);
+        }
+        else if (positionsY != null && i < positionsY.length) {
+          store.setPlanePositionY(positionsY[i], i, plane);
+        }
 
-            if (p.timestamp != null) {
-              store.setPlaneDeltaT(p.timestamp - startTime, i, plane);
-            }
-            if (p.exposureTime != null) {
-              store.setPlaneExposureTime(p.exposureTime, i, plane);
-            }
-          }
+        if (positionsZ != null && i < positionsZ.length) {
+          store.setPlanePositionZ(positionsZ[i], i, plane);
+        }
+
+        if (p.timestamp != null) {
+          store.setPlaneDeltaT(p.timestamp - startTime, i, plane);
+        }
+        if (p.exposureTime != null) {
+          store.setPlaneExposureTime(p.exposureTime, i, plane);
         }
       }
 
@@ -527,6 +549,72 @@ public class ZeissCZIReader extends FormatReader {
 
   // -- Helper methods --
 
+  /**
+   * Reads the SubBlock directory and the metadata segment which the file
+   * header points to, instead of every segment in the file.  The SubBlock
+   * headers are then only read when they are needed.
+   * @return false if the file has no usable directory
+   */
+  private boolean readDirectory(ArrayList<Segment> segments)
+    throws IOException
+  {
+    in.seek(0);
+    Segment header = readSegment();
+    if (!(header instanceof FileHeader)) {
+      return false;
+    }
+    FileHeader fileHeader = (FileHeader) header;
+    if (fileHeader.directoryPosition <= 0 ||
+      fileHeader.directoryPosition >= in.length())
+    {
+      return false;
+    }
+
+    in.seek(fileHeader.directoryPosition);
+    Segment directory = readSegment();
+    if (!(directory instanceof Directory) ||
+      ((Directory) directory).entries.length == 0)
+    {
+      return false;
+    }
+
+    for (DirectoryEntry entry : ((Directory) directory).entries) {
+      SubBlock block = new SubBlock();
+      block.id = "ZISRAWSUBBLOCK";
+      block.startingPosition = entry.filePosition;
+      block.directoryEntry = entry;
+      planes.add(block);
+    }
+
+    if (fileHeader.metadataPosition > 0 &&
+      fileHeader.metadataPosition < in.length())
+    {
+      in.seek(fileHeader.metadataPosition);
+      segments.add(readSegment());
+    }
+    return true;
+  }
+
+  /** Builds the lookup table of SubBlocks by series and plane. */
+  private void indexPlanes(int seriesCount) {
+    planeIndex = new SubBlock[seriesCount][getImageCount()];
+    for (SubBlock plane : planes) {
+      if (plane.seriesIndex < seriesCount &&
+        plane.planeIndex < planeIndex[plane.seriesIndex].length &&
+        planeIndex[plane.seriesIndex][plane.planeIndex] == null)
+      {
+        planeIndex[plane.seriesIndex][plane.planeIndex] = plane;
+      }
+    }
+  }
+
+  private SubBlock getSubBlock(int series, int no) {
+    if (series >= planeIndex.length || no >= planeIndex[series].length) {
+      return null;
+    }
+    return planeIndex[series][no];
+  }
+
   private void calculateDimensions() {
     // calculate the dimensions
 
@@ -1417,6 +1505,9 @@ public class ZeissCZIReader extends FormatReader {
     else if (segmentID.equals("ZISRAWATTACH")) {
       segment = new Attachment();
     }
+    else if (segmentID.equals("ZISRAWDIRECTORY")) {
+      segment = new Directory();
+    }
     else {
       LOGGER.info("Unknown segment type: " + segmentID);
       segment = new Segment();
@@ -1554,29 +1645,65 @@ public class ZeissCZIReader extends FormatReader {
     public int planeIndex;
 
     private long dataOffset;
+    private boolean headerRead = false;
 
     private Double stageX, stageY, timestamp, exposureTime;
 
     public void fillInData() throws IOException {
       super.fillInData();
+      readHeader();
+      in.seek(dataOffset + dataSize + attachmentSize);
+    }
+
+    // -- SubBlock API methods --
 
+    /**
+     * Reads the part of the segment which precedes the pixel data, if it
+     * has not already been read.
+     */
+    public void readHeader() throws IOException {
+      if (headerRead) {
+        return;
+      }
+      in.seek(startingPosition + HEADER_SIZE);
       long fp = in.getFilePointer();
       metadataSize = in.readInt();
       attachmentSize = in.readInt();
       dataSize = in.readLong();
-      directoryEntry = new DirectoryEntry();
+      DirectoryEntry entry = new DirectoryEntry();
+      if (directoryEntry == null) {
+        directoryEntry = entry;
+      }
       in.skipBytes((int) Math.max(256 - (in.getFilePointer() - fp), 0));
 
       metadata = in.readString(metadataSize).trim();
       dataOffset = in.getFilePointer();
-      in.seek(in.getFilePointer() + dataSize + attachmentSize);
+      headerRead = true;
 
       parseMetadata();
     }
 
-    // -- SubBlock API methods --
+    /**
+     * Returns true if the stored pixels cover the whole plane, judging by
+     * the directory entry alone.
+     */
+    public boolean isFullPlane() {
+      long storedX = 0, storedY = 0;
+      for (DimensionEntry dimension : directoryEntry.dimensionEntries) {
+        int stored = dimension.storedSize > 0 ?
+          dimension.storedSize : dimension.size;
+        if (dimension.dimension.charAt(0) == 'X') {
+          storedX = stored;
+        }
+        else if (dimension.dimension.charAt(0) == 'Y') {
+          storedY = stored;
+        }
+      }
+      return storedX * storedY >= (long) getSizeX() * getSizeY();
+    }
 
     public byte[] readPixelData() throws FormatException, IOException {
+      readHeader();
       in.seek(dataOffset);
       byte[] data = new byte[(int) dataSize];
       in.read(data);
@@ -1679,6 +1806,22 @@ public class ZeissCZIReader extends FormatReader {
     }
   }
 
+  /** Segment with ID "ZISRAWDIRECTORY". */
+  class Directory extends Segment {
+    public DirectoryEntry[] entries;
+
+    public void fillInData() throws IOException {
+      super.fillInData();
+
+      int entryCount = in.readInt();
+      in.skipBytes(124); // reserved
+      entries = new DirectoryEntry[entryCount];
+      for (int i=0; i<entries.length; i++) {
+        entries[i] = new DirectoryEntry();
+      }
+    }
+  }
+
   class DirectoryEntry {
     public String schemaType;
     public int pixelType;
@@ -164,6 +164,13 @@ public class ZeissLSMReader extends FormatReader {
   private Vector<IFDList> ifdsList;
   private TiffParser tiffParser;
 
+  /**
+   * Parser for each LSM file, kept open between calls to openBytes.
+   * The streams use pooled file handles, so the number of files which are
+   * actually open stays bounded.
+   */
+  private TiffParser[] lsmParsers;
+
   private int nextLaser = 0, nextDetector = 0;
   private int nextFilter = 0, nextDichroicChannel = 0, nextDichroic = 0;
   private int nextDataChannel = 0, nextIllumChannel = 0, nextDetectChannel = 0;
@@ -180,6 +187,7 @@ public class ZeissLSMReader extends FormatReader {
 
   private int totalROIs = 0;
 
+  private int prevSeries = -1;
   private int prevPlane = -1;
   private int prevChannel = 0;
   private byte[] prevBuf = null;
@@ -234,6 +242,14 @@ public class ZeissLSMReader extends FormatReader {
   /* @see loci.formats.IFormatReader#close(boolean) */
   public void close(boolean fileOnly) throws IOException {
     super.close(fileOnly);
+    if (lsmParsers != null) {
+      for (int i=0; i<lsmParsers.length; i++) {
+        if (lsmParsers[i] != null) {
+          lsmParsers[i].getStream().close();
+          lsmParsers[i] = null;
+        }
+      }
+    }
     if (!fileOnly) {
       pixelSizeX = pixelSizeY = pixelSizeZ = 0;
       lut = null;
@@ -242,6 +258,7 @@ public class ZeissLSMReader extends FormatReader {
       lsmFilenames = null;
       ifdsList = null;
       tiffParser = null;
+      lsmParsers = null;
       nextLaser = nextDetector = 0;
       nextFilter = nextDichroicChannel = nextDichroic = 0;
       nextDataChannel = nextIllumChannel = nextDetectChannel = 0;
@@ -250,6 +267,7 @@ public class ZeissLSMReader extends FormatReader {
       imageNames = null;
       binning = null;
       totalROIs = 0;
+      prevSeries = -1;
       prevPlane = -1;
       prevChannel = 0;
       prevBuf = null;
@@ -327,14 +345,6 @@ public class ZeissLSMReader extends FormatReader {
     return s;
   }
 
-  /* @see loci.formats.IFormatReader#setSeries(int) */
-  public void setSeries(int series) {
-    if (series != getSeries()) {
-      prevBuf = null;
-    }
-    super.setSeries(series);
-  }
-
   /**
    * @see loci.formats.IFormatReader#openBytes(int, byte[], int, int, int, int)
    */
@@ -343,13 +353,8 @@ public class ZeissLSMReader extends FormatReader {
   {
     FormatTools.checkPlaneParameters(this, no, buf.length, x, y, w, h);
 
-    if (getSeriesCount() > 1) {
-      in.close();
-      in = new RandomAccessInputStream(getLSMFileFromSeries(getSeries()));
-      in.order(!isLittleEndian());
-      tiffParser = new TiffParser(in);
-    }
-
+    TiffParser parser =
+      getSeriesCount() > 1 ? getParser(getSeries()) : tiffParser;
     IFDList ifds = ifdsList.get(getSeries());
 
     if (splitPlanes && getSizeC() > 1 && ifds.size() == getSizeZ() * getSizeT())
@@ -359,11 +364,17 @@ public class ZeissLSMReader extends FormatReader {
       int c = no % getSizeC();
       Region region = new Region(x, y, w, h);
 
-      if (prevPlane != plane || prevBuf == null ||
-        prevBuf.length < w * h * bpp * getSizeC() || !region.equals(prevRegion))
+      int size = w * h * bpp * getSizeC();
+
+      if (prevSeries != getSeries() || prevPlane != plane ||
+        prevBuf == null || !region.equals(prevRegion))
       {
-        prevBuf = new byte[w * h * bpp * getSizeC()];
-        tiffParser.getSamples(ifds.get(plane), prevBuf, x, y, w, h);
+        // regions of the same size are decoded into the same buffer
+        if (prevBuf == null || prevBuf.length != size) {
+          prevBuf = new byte[size];
+        }
+        parser.getSamples(ifds.get(plane), prevBuf, x, y, w, h);
+        prevSeries = getSeries();
         prevPlane = plane;
         prevRegion = region;
       }
@@ -372,10 +383,9 @@ public class ZeissLSMReader extends FormatReader {
       prevChannel = c;
     }
     else {
-      tiffParser.getSamples(ifds.get(no), buf, x, y, w, h);
+      parser.getSamples(ifds.get(no), buf, x, y, w, h);
       prevChannel = getZCTCoords(no)[1];
     }
-    if (getSeriesCount() > 1) in.close();
     return buf;
   }
 
@@ -578,6 +588,21 @@ public class ZeissLSMReader extends FormatReader {
     return effectiveSeries < 0 ? null : lsmFilenames[effectiveSeries];
   }
 
+  /** Returns the parser for the LSM file which holds the given series. */
+  private TiffParser getParser(int series) throws IOException {
+    int file = getEffectiveSeries(series);
+    if (lsmParsers == null) {
+      lsmParsers = new TiffParser[lsmFilenames.length];
+    }
+    if (lsmParsers[file] == null) {
+      RandomAccessInputStream s =
+        new RandomAccessInputStream(lsmFilenames[file]);
+      s.order(isLittleEndian());
+      lsmParsers[file] = new TiffParser(s);
+    }
+    return lsmParsers[file];
+  }
+
   private int getExtraSeries(String file) throws FormatException, IOException {
     if (in != null) in.close();
     in = new RandomAccessInputStream(file);
@@ -0,0 +1,200 @@
+//
+// LIFReaderTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Hashtable;
+
+import loci.common.DataTools;
+import loci.formats.in.DefaultMetadataOptions;
+import loci.formats.in.LIFReader;
+import loci.formats.in.MetadataLevel;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that {@link LIFReader} reads regions of images whose rows are
+ * padded, and images that follow them, and that each series' original
+ * metadata is read when it is asked for.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/bio-formats/test/loci/formats/utests/LIFReaderTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/bio-formats/test/loci/formats/utests/LIFReaderTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class LIFReaderTest {
+
+  /** Width, height, Z sections and row padding of each image. */
+  private static final int[][] IMAGES = {{30, 20, 3, 2}, {64, 10, 2, 0}};
+
+  private File file;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    file = File.createTempFile("LIFReaderTest", ".lif");
+    writeFile();
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    file.delete();
+  }
+
+  @Test
+  public void testRegions() throws Exception {
+    LIFReader reader = new LIFReader();
+    reader.setMetadataOptions(
+      new DefaultMetadataOptions(MetadataLevel.MINIMUM));
+    reader.setId(file.getAbsolutePath());
+    assertEquals(IMAGES.length, reader.getSeriesCount());
+
+    for (int s=0; s<IMAGES.length; s++) {
+      reader.setSeries(s);
+      int sizeX = IMAGES[s][0], sizeY = IMAGES[s][1];
+      assertEquals(sizeX, reader.getSizeX());
+      assertEquals(sizeY, reader.getSizeY());
+      assertEquals(IMAGES[s][2], reader.getImageCount());
+
+      int[][] regions = {
+        {0, 0, sizeX, sizeY}, {3, 5, 10, 4}, {sizeX - 1, sizeY - 1, 1, 1}
+      };
+      for (int no=0; no<reader.getImageCount(); no++) {
+        for (int[] r : regions) {
+          byte[] region = reader.openBytes(no, r[0], r[1], r[2], r[3]);
+          for (int y=0; y<r[3]; y++) {
+            for (int x=0; x<r[2]; x++) {
+              assertEquals("series " + s + ", plane " + no,
+                value(s, no, r[0] + x, r[1] + y), region[y * r[2] + x]);
+            }
+          }
+        }
+      }
+    }
+    reader.close();
+  }
+
+  @Test
+  public void testSeriesMetadata() throws Exception {
+    LIFReader reader = new LIFReader();
+    reader.setId(file.getAbsolutePath());
+    String key = "DimensionDescription|NumberOfElements 0";
+    for (int s=IMAGES.length-1; s>=0; s--) {
+      reader.setSeries(s);
+      assertEquals(String.valueOf(IMAGES[s][0]),
+        reader.getSeriesMetadataValue(key));
+      assertEquals("Image " + s, reader.getSeriesMetadataValue("Image name"));
+    }
+
+    // each table is only filled once
+    reader.setSeries(1);
+    Hashtable<String, Object> table = reader.getSeriesMetadata();
+    int size = table.size();
+    assertEquals(size, reader.getCoreMetadata()[1].seriesMetadata.size());
+    assertEquals(size, reader.getSeriesMetadata().size());
+    reader.close();
+
+    reader.setMetadataOptions(
+      new DefaultMetadataOptions(MetadataLevel.MINIMUM));
+    reader.setId(file.getAbsolutePath());
+    assertNull(reader.getSeriesMetadataValue(key));
+    reader.close();
+  }
+
+  // -- Helper methods --
+
+  private static byte value(int series, int no, int x, int y) {
+    return (byte) (series * 50 + no * 17 + y * 3 + x);
+  }
+
+  /** Writes an 8-bit LIF file with one memory block per image. */
+  private void writeFile() throws IOException {
+    StringBuffer xml = new StringBuffer("<Element Name=\"Project\"><Children>");
+    for (int s=0; s<IMAGES.length; s++) {
+      int sizeX = IMAGES[s][0], sizeY = IMAGES[s][1];
+      xml.append("<Element Name=\"Image " + s + "\"><Data><Image>");
+      xml.append("<ImageDescription><Channels>");
+      xml.append("<ChannelDescription LUTName=\"Gray\" BytesInc=\"0\"/>");
+      xml.append("</Channels><Dimensions>");
+      xml.append(dimension(1, sizeX, 1));
+      xml.append(dimension(2, sizeY, sizeX));
+      xml.append(dimension(3, IMAGES[s][2], sizeX * sizeY));
+      xml.append("</Dimensions></ImageDescription>");
+      xml.append("</Image></Data></Element>");
+    }
+    xml.append("</Children></Element>");
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] description = utf16(xml.toString());
+    out.write(DataTools.intToBytes(LIFReader.LIF_MAGIC_BYTE, true));
+    out.write(DataTools.intToBytes(description.length + 5, true));
+    out.write(LIFReader.LIF_MEMORY_BYTE);
+    out.write(DataTools.intToBytes(xml.length(), true));
+    out.write(description);
+
+    for (int s=0; s<IMAGES.length; s++) {
+      int sizeX = IMAGES[s][0], sizeY = IMAGES[s][1];
+      int padding = IMAGES[s][3];
+      ByteArrayOutputStream block = new ByteArrayOutputStream();
+      for (int no=0; no<IMAGES[s][2]; no++) {
+        for (int y=0; y<sizeY; y++) {
+          for (int x=0; x<sizeX; x++) {
+            block.write(value(s, no, x, y));
+          }
+          block.write(new byte[padding]);
+        }
+      }
+      byte[] name = utf16("MemBlock_" + s);
+      out.write(DataTools.intToBytes(LIFReader.LIF_MAGIC_BYTE, true));
+      out.write(DataTools.intToBytes(0, true));
+      out.write(LIFReader.LIF_MEMORY_BYTE);
+      out.write(DataTools.longToBytes(block.size(), true));
+      out.write(LIFReader.LIF_MEMORY_BYTE);
+      out.write(DataTools.intToBytes(name.length / 2, true));
+      out.write(name);
+      out.write(block.toByteArray());
+    }
+
+    FileOutputStream stream = new FileOutputStream(file);
+    stream.write(out.toByteArray());
+    stream.close();
+  }
+
+  private static String dimension(int id, int size, int bytesInc) {
+    return "<DimensionDescription DimID=\"" + id + "\" NumberOfElements=\"" +
+      size + "\" BytesInc=\"" + bytesInc + "\" Length=\"" + size +
+      "e-006\" Unit=\"m\"/>";
+  }
+
+  private static byte[] utf16(String s) throws IOException {
+    return s.getBytes("UTF-16LE");
+  }
+
+}
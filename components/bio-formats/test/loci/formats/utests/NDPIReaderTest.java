@@ -0,0 +1,221 @@
+//
+// NDPIReaderTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+
+import loci.common.RandomAccessInputStream;
+import loci.common.RandomAccessOutputStream;
+import loci.formats.in.NDPIReader;
+import loci.formats.tiff.IFD;
+import loci.formats.tiff.TiffCompression;
+import loci.formats.tiff.TiffSaver;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that {@link NDPIReader} decodes regions of a large image from the
+ * JPEG restart intervals which overlap them.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/bio-formats/test/loci/formats/utests/NDPIReaderTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/bio-formats/test/loci/formats/utests/NDPIReaderTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class NDPIReaderTest {
+
+  private static final int MCU_STARTS_TAG = 65426;
+
+  /** Wider than NDPIReader decodes at once; not a multiple of the MCU. */
+  private static final int SIZE_X = 8200;
+
+  private static final int SIZE_Y = 20;
+
+  /** 1025 MCUs per row, in 5 intervals. */
+  private static final int INTERVAL = 205;
+
+  private File file;
+
+  private byte[] expected;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    file = File.createTempFile("NDPIReaderTest", ".ndpi");
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    file.delete();
+  }
+
+  @DataProvider(name = "mcuStarts")
+  public Object[][] createMcuStarts() {
+    return new Object[][] {{true}, {false}};
+  }
+
+  @Test(dataProvider = "mcuStarts")
+  public void testRegions(boolean mcuStarts) throws Exception {
+    writeFile(mcuStarts);
+
+    NDPIReader reader = new NDPIReader();
+    reader.setId(file.getAbsolutePath());
+    assertEquals(SIZE_X, reader.getSizeX());
+    assertEquals(INTERVAL * 8, reader.getOptimalTileWidth());
+    assertEquals(SIZE_Y, reader.getOptimalTileHeight());
+
+    int[][] regions = new int[][] {
+      {0, 0, SIZE_X, SIZE_Y},
+      {1630, 3, 20, 10},
+      {8190, 15, 10, 5},
+      {1640, 8, 1640, 8},
+      {5000, 0, 1, 20}
+    };
+    for (int[] r : regions) {
+      byte[] region = reader.openBytes(0, r[0], r[1], r[2], r[3]);
+      for (int y=0; y<r[3]; y++) {
+        for (int x=0; x<r[2]; x++) {
+          assertEquals("(" + (r[0] + x) + ", " + (r[1] + y) + ")",
+            expected[(r[1] + y) * SIZE_X + r[0] + x], region[y * r[2] + x]);
+        }
+      }
+    }
+    reader.close();
+  }
+
+  // -- Helper methods --
+
+  /**
+   * Writes a grayscale JPEG with restart intervals as a single strip, so
+   * that decoding the intervals separately gives the same pixels.
+   */
+  private void writeFile(boolean mcuStarts) throws Exception {
+    BufferedImage image =
+      new BufferedImage(SIZE_X, SIZE_Y, BufferedImage.TYPE_BYTE_GRAY);
+    byte[] pixels =
+      ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+    for (int i=0; i<pixels.length; i++) {
+      int x = i % SIZE_X, y = i / SIZE_X;
+      pixels[i] = (byte) ((x / 7 + y * 13) % 256);
+    }
+
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    ImageWriteParam param = writer.getDefaultWriteParam();
+    IIOMetadata metadata = writer.getDefaultImageMetadata(
+      new ImageTypeSpecifier(image), param);
+    String format = "javax_imageio_jpeg_image_1.0";
+    IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+    IIOMetadataNode markers =
+      (IIOMetadataNode) root.getElementsByTagName("markerSequence").item(0);
+    IIOMetadataNode dri = new IIOMetadataNode("dri");
+    dri.setAttribute("interval", String.valueOf(INTERVAL));
+    markers.insertBefore(dri, markers.getFirstChild());
+    metadata.setFromTree(format, root);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ImageOutputStream stream = ImageIO.createImageOutputStream(bytes);
+    writer.setOutput(stream);
+    writer.write(null, new IIOImage(image, null, metadata), param);
+    stream.close();
+    writer.dispose();
+    byte[] jpeg = bytes.toByteArray();
+
+    BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(jpeg));
+    expected = ((DataBufferByte) decoded.getRaster().getDataBuffer()).getData();
+
+    IFD ifd = new IFD();
+    ifd.putIFDValue(IFD.IMAGE_WIDTH, SIZE_X);
+    ifd.putIFDValue(IFD.IMAGE_LENGTH, SIZE_Y);
+    ifd.putIFDValue(IFD.BITS_PER_SAMPLE, new int[] {8});
+    ifd.putIFDValue(IFD.COMPRESSION, TiffCompression.JPEG.getCode());
+    ifd.putIFDValue(IFD.PHOTOMETRIC_INTERPRETATION, 1);
+    ifd.putIFDValue(IFD.SAMPLES_PER_PIXEL, 1);
+    ifd.putIFDValue(IFD.ROWS_PER_STRIP, new long[] {SIZE_Y});
+    ifd.putIFDValue(IFD.STRIP_OFFSETS, new long[] {0});
+    ifd.putIFDValue(IFD.STRIP_BYTE_COUNTS, new long[] {jpeg.length});
+    if (mcuStarts) {
+      ifd.putIFDValue(MCU_STARTS_TAG, findRestartIntervals(jpeg));
+    }
+
+    RandomAccessOutputStream out =
+      new RandomAccessOutputStream(file.getAbsolutePath());
+    TiffSaver saver = new TiffSaver(out, file.getAbsolutePath());
+    saver.setLittleEndian(true);
+    saver.writeHeader();
+    saver.writeIFD(ifd, 0);
+    long offset = out.length();
+    out.seek(offset);
+    out.write(jpeg);
+
+    RandomAccessInputStream in =
+      new RandomAccessInputStream(file.getAbsolutePath());
+    saver.overwriteIFDValue(in, 0, IFD.STRIP_OFFSETS, new long[] {offset});
+    in.close();
+    out.close();
+  }
+
+  /** Returns the offset of each restart interval within the JPEG. */
+  private static long[] findRestartIntervals(byte[] jpeg) {
+    // skip the marker segments up to and including the start of scan
+    int i = 2;
+    boolean scan = false;
+    while (!scan) {
+      scan = (jpeg[i + 1] & 0xff) == 0xda;
+      i += 2 + (((jpeg[i + 2] & 0xff) << 8) | (jpeg[i + 3] & 0xff));
+    }
+
+    List<Long> starts = new ArrayList<Long>();
+    starts.add(new Long(i));
+    for (; i<jpeg.length - 1; i++) {
+      int marker = jpeg[i + 1] & 0xff;
+      if (jpeg[i] == (byte) 0xff && marker >= 0xd0 && marker <= 0xd7) {
+        starts.add(new Long(i + 2));
+      }
+    }
+    long[] offsets = new long[starts.size()];
+    for (int n=0; n<offsets.length; n++) {
+      offsets[n] = starts.get(n);
+    }
+    return offsets;
+  }
+
+}
@@ -0,0 +1,262 @@
+//
+// TileStitcherTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+import static org.testng.AssertJUnit.fail;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import loci.common.services.ServiceFactory;
+import loci.formats.FormatException;
+import loci.formats.IFormatReader;
+import loci.formats.TileStitcher;
+import loci.formats.in.FakeReader;
+import loci.formats.meta.MetadataStore;
+import loci.formats.services.OMEXMLService;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that {@link TileStitcher} assembles regions from the parts of the
+ * tiles which overlap them, and that no tile is still being read once a
+ * read has failed or the stitcher has been closed.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/bio-formats/test/loci/formats/utests/TileStitcherTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/bio-formats/test/loci/formats/utests/TileStitcherTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class TileStitcherTest {
+
+  private static final int COLUMNS = 3;
+
+  private static final int ROWS = 2;
+
+  private static final int TILE_SIZE = 16;
+
+  private static final int CHANNELS = 3;
+
+  private static final long TIMEOUT = 10000;
+
+  /** Number of tiles being read by {@link SlowReader}s. */
+  private static final AtomicInteger READING = new AtomicInteger();
+
+  /** Series which {@link SlowReader} fails to read, or -1. */
+  private static volatile int failingSeries = -1;
+
+  /** Whether a {@link SlowReader} was closed while reading a tile. */
+  private static volatile boolean closedWhileReading;
+
+  @DataProvider(name = "configurations")
+  public Object[][] createConfigurations() {
+    return new Object[][] {
+      {true, 1}, {false, 1}, {true, 3}, {false, 3}
+    };
+  }
+
+  @Test(dataProvider = "configurations")
+  public void testRegions(boolean interleaved, int threads) throws Exception {
+    TileStitcher stitcher = makeStitcher(new TiledReader(), interleaved,
+      threads);
+
+    assertEquals(COLUMNS * TILE_SIZE, stitcher.getSizeX());
+    assertEquals(ROWS * TILE_SIZE, stitcher.getSizeY());
+
+    int[][] regions = new int[][] {
+      {0, 0, COLUMNS * TILE_SIZE, ROWS * TILE_SIZE},
+      {10, 5, 30, 20},
+      {17, 3, 8, 9},
+      {TILE_SIZE - 1, TILE_SIZE - 1, 2, 2}
+    };
+    for (int[] r : regions) {
+      byte[] buf = stitcher.openBytes(0, r[0], r[1], r[2], r[3]);
+      assertEquals(r[2] * r[3] * CHANNELS, buf.length);
+      for (int c=0; c<CHANNELS; c++) {
+        for (int y=0; y<r[3]; y++) {
+          for (int x=0; x<r[2]; x++) {
+            int index = interleaved ? (y * r[2] + x) * CHANNELS + c :
+              (c * r[3] + y) * r[2] + x;
+            assertEquals(value(r[0] + x, r[1] + y, c), buf[index]);
+          }
+        }
+      }
+    }
+    assertEquals(0, stitcher.getSeries());
+    stitcher.close();
+  }
+
+  @Test
+  public void testFailingTile() throws Exception {
+    TileStitcher stitcher = makeStitcher(new SlowReader(), true, 3);
+    failingSeries = 0;
+    try {
+      stitcher.openBytes(0);
+      fail("expected the first tile to fail");
+    }
+    catch (FormatException e) {
+      // the other tiles must not be written after the failure is reported
+      assertEquals(0, READING.get());
+    }
+    finally {
+      failingSeries = -1;
+    }
+    stitcher.close();
+  }
+
+  @Test
+  public void testCloseWhileReading() throws Exception {
+    final TileStitcher stitcher = makeStitcher(new SlowReader(), true, 3);
+    closedWhileReading = false;
+    Thread thread = new Thread(new Runnable() {
+      public void run() {
+        try {
+          stitcher.openBytes(0);
+        }
+        catch (Exception e) {
+          // the read may be refused once the stitcher is closed
+        }
+      }
+    });
+    thread.start();
+
+    long end = System.currentTimeMillis() + TIMEOUT;
+    while (READING.get() == 0) {
+      assertTrue("timed out waiting for a tile to be read",
+        System.currentTimeMillis() < end);
+      Thread.sleep(1);
+    }
+    stitcher.close();
+    assertEquals(0, READING.get());
+    thread.join();
+    assertFalse(closedWhileReading);
+  }
+
+  // -- Helper methods --
+
+  private static TileStitcher makeStitcher(IFormatReader reader,
+    boolean interleaved, int threads) throws Exception
+  {
+    TileStitcher stitcher = new TileStitcher(reader);
+    ServiceFactory factory = new ServiceFactory();
+    OMEXMLService service = factory.getInstance(OMEXMLService.class);
+    stitcher.setMetadataStore(service.createOMEXMLMetadata());
+    stitcher.setThreadCount(threads);
+    stitcher.setId("test&sizeX=" + TILE_SIZE + "&sizeY=" + TILE_SIZE +
+      "&sizeC=" + CHANNELS + "&rgb=" + CHANNELS + "&interleaved=" +
+      interleaved + "&series=" + (COLUMNS * ROWS) + ".fake");
+    return stitcher;
+  }
+
+  /** Gets the value of a pixel, from its coordinates in the stitched image. */
+  private static byte value(int x, int y, int c) {
+    return (byte) (x * 3 + y * 5 + c * 7);
+  }
+
+  /**
+   * A reader whose series are tiles on a regular grid, and whose pixel
+   * values depend on their position in the stitched image.
+   */
+  public static class TiledReader extends FakeReader {
+
+    public byte[] openBytes(int no, byte[] buf, int x, int y, int w, int h)
+      throws FormatException, IOException
+    {
+      int tileX = (getSeries() % COLUMNS) * getSizeX();
+      int tileY = (getSeries() / COLUMNS) * getSizeY();
+      int c = getRGBChannelCount();
+      for (int ch=0; ch<c; ch++) {
+        for (int row=0; row<h; row++) {
+          for (int col=0; col<w; col++) {
+            int index = isInterleaved() ? (row * w + col) * c + ch :
+              (ch * h + row) * w + col;
+            buf[index] = value(tileX + x + col, tileY + y + row, ch);
+          }
+        }
+      }
+      return buf;
+    }
+
+    protected void initFile(String id) throws FormatException, IOException {
+      super.initFile(id);
+      MetadataStore store = getMetadataStore();
+      for (int s=0; s<getSeriesCount(); s++) {
+        setSeries(s);
+        for (int p=0; p<getImageCount(); p++) {
+          store.setPlanePositionX((double) (s % COLUMNS) * getSizeX(), s, p);
+          store.setPlanePositionY((double) (s / COLUMNS) * getSizeY(), s, p);
+          store.setPlanePositionZ(0.0, s, p);
+        }
+      }
+      setSeries(0);
+    }
+  }
+
+  /**
+   * A tiled reader which takes a while to read each tile, and which fails
+   * to read the series given by {@link #failingSeries}.
+   */
+  public static class SlowReader extends TiledReader {
+
+    private int reading;
+
+    public byte[] openBytes(int no, byte[] buf, int x, int y, int w, int h)
+      throws FormatException, IOException
+    {
+      synchronized (this) {
+        reading++;
+      }
+      READING.incrementAndGet();
+      try {
+        if (getSeries() == failingSeries) {
+          throw new FormatException("Could not read tile " + getSeries());
+        }
+        try {
+          Thread.sleep(100);
+        }
+        catch (InterruptedException e) {
+          throw new FormatException(e);
+        }
+        return super.openBytes(no, buf, x, y, w, h);
+      }
+      finally {
+        READING.decrementAndGet();
+        synchronized (this) {
+          reading--;
+        }
+      }
+    }
+
+    public void close(boolean fileOnly) throws IOException {
+      synchronized (this) {
+        if (reading > 0) closedWhileReading = true;
+      }
+      super.close(fileOnly);
+    }
+  }
+
+}
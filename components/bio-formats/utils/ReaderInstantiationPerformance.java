@@ -0,0 +1,75 @@
+//
+// ReaderInstantiationPerformance.java
+//
+
+import loci.formats.FileStitcher;
+import loci.formats.IFormatReader;
+import loci.formats.ImageReader;
+
+/**
+ * A benchmark for the startup and heap cost of creating readers.  It
+ * compares ImageReaders which only instantiate the reader picked by type
+ * detection with ImageReaders whose readers are all instantiated, as they
+ * used to be, and then stitches a pattern of fake files.
+ *
+ * Usage: java ReaderInstantiationPerformance [readers] [files]
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/bio-formats/utils/ReaderInstantiationPerformance.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/bio-formats/utils/ReaderInstantiationPerformance.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class ReaderInstantiationPerformance {
+
+  private static final String FAKE_ID = "test&sizeX=64&sizeY=64.fake";
+
+  private static long usedMemory() {
+    Runtime r = Runtime.getRuntime();
+    for (int i=0; i<3; i++) System.gc();
+    return r.totalMemory() - r.freeMemory();
+  }
+
+  private static void report(String label, long start, long memory) {
+    long time = System.currentTimeMillis() - start;
+    long heap = (usedMemory() - memory) / 1024;
+    System.out.println(label + ": " + time + " ms, " + heap + " KB");
+  }
+
+  public static void main(String[] args) throws Exception {
+    int count = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+    int files = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+    // warm up class loading and the shared detection readers
+    new ImageReader().getReaders();
+
+    IFormatReader[] readers = new IFormatReader[count];
+    long memory = usedMemory();
+    long start = System.currentTimeMillis();
+    for (int i=0; i<count; i++) {
+      readers[i] = new ImageReader();
+      readers[i].setId(FAKE_ID);
+    }
+    report(count + " ImageReaders, readers created on demand", start, memory);
+    readers = new IFormatReader[count];
+
+    memory = usedMemory();
+    start = System.currentTimeMillis();
+    for (int i=0; i<count; i++) {
+      ImageReader reader = new ImageReader();
+      reader.getReaders();
+      reader.setId(FAKE_ID);
+      readers[i] = reader;
+    }
+    report(count + " ImageReaders, all readers created", start, memory);
+    readers = null;
+
+    String pattern = "test_t<1-" + files + ">&sizeX=64&sizeY=64.fake";
+    memory = usedMemory();
+    start = System.currentTimeMillis();
+    FileStitcher stitcher = new FileStitcher(true);
+    stitcher.setId(pattern);
+    report("FileStitcher over " + stitcher.getImageCount() + " files",
+      start, memory);
+    stitcher.close();
+  }
+
+}
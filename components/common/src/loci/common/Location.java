@@ -280,6 +280,9 @@ public class Location {
       else if (BZip2Handle.isBZip2File(id)) {
         handle = new BZip2Handle(mapId);
       }
+      else if (!writable && PooledFileHandle.getMaxOpenFiles() > 0) {
+        handle = new PooledFileHandle(mapId, "r");
+      }
       else {
         handle = new NIOFileHandle(mapId, writable ? "rw" : "r");
       }
@@ -0,0 +1,491 @@
+//
+// PooledFileHandle.java
+//
+
+/*
+LOCI Common package: utilities for I/O, reflection and miscellaneous tasks.
+Copyright (C) 2005-@year@ Melissa Linkert, Curtis Rueden and Chris Allan.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file handle which shares a process-wide limit on the number of open
+ * files.
+ *
+ * Each PooledFileHandle wraps an {@link NIOFileHandle}.  When opening a
+ * file would exceed the limit, the least recently used files are closed;
+ * a closed handle is reopened transparently on its next use, with its
+ * file pointer and byte order restored.  This allows datasets made up of
+ * more files than the operating system allows to be open at once to be
+ * read without closing and reopening every file for each access.
+ *
+ * Recency is tracked with the "clock" approximation of LRU, so that using
+ * an open handle does not require the pool lock.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/common/src/loci/common/PooledFileHandle.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/common/src/loci/common/PooledFileHandle.java;hb=HEAD">Gitweb</a></dd></dl>
+ *
+ * @see IRandomAccess
+ * @see NIOFileHandle
+ */
+public class PooledFileHandle implements IRandomAccess {
+
+  // -- Constants --
+
+  private static final Logger LOGGER =
+    LoggerFactory.getLogger(PooledFileHandle.class);
+
+  /** Default maximum number of files held open by pooled handles. */
+  public static final int DEFAULT_MAX_OPEN_FILES = 512;
+
+  // -- Static fields --
+
+  /** Maximum number of files held open by pooled handles. */
+  private static int maxOpenFiles = DEFAULT_MAX_OPEN_FILES;
+
+  /** Handles whose files are open, in the order in which they were opened. */
+  private static final LinkedHashSet<PooledFileHandle> openHandles =
+    new LinkedHashSet<PooledFileHandle>();
+
+  /** Number of times a closed handle has been reopened. */
+  private static long reopenCount = 0;
+
+  // -- Fields --
+
+  private final File file;
+  private final String mode;
+  private final int bufferSize;
+
+  /** The open handle, or null if the file is currently closed. */
+  private NIOFileHandle handle;
+
+  /** Whether the handle has been used since the clock last passed it. */
+  private volatile boolean referenced;
+
+  /** Whether {@link #close()} has been called. */
+  private boolean closed;
+
+  /** Whether the file has been closed to make room for other files. */
+  private boolean released;
+
+  /** File pointer to restore when the file is reopened. */
+  private long position;
+
+  /** Byte order to restore when the file is reopened. */
+  private ByteOrder order;
+
+  // -- Constructors --
+
+  /**
+   * Creates a pooled handle for the given file, opened in the given mode
+   * and using the given NIO buffer size.
+   */
+  public PooledFileHandle(File file, String mode, int bufferSize)
+    throws IOException
+  {
+    this.file = file;
+    this.mode = mode;
+    this.bufferSize = bufferSize;
+    // NB: open immediately, so that a missing file is reported here
+    handle();
+  }
+
+  /**
+   * Creates a pooled handle for the given file, opened in the given mode.
+   */
+  public PooledFileHandle(File file, String mode) throws IOException {
+    this(file, mode, mode.equals("rw") ?
+      NIOFileHandle.defaultRWBufferSize : NIOFileHandle.defaultBufferSize);
+  }
+
+  /**
+   * Creates a pooled handle for the file with the given name, opened in
+   * the given mode.
+   */
+  public PooledFileHandle(String name, String mode) throws IOException {
+    this(new File(name), mode);
+  }
+
+  // -- PooledFileHandle API methods --
+
+  /**
+   * Sets the maximum number of files which pooled handles may hold open.
+   * A value of 0 or less disables pooling in {@link Location#getHandle}.
+   */
+  public static void setMaxOpenFiles(int max) {
+    List<PooledFileHandle> victims;
+    synchronized (openHandles) {
+      maxOpenFiles = max;
+      victims = selectVictims(null);
+    }
+    release(victims);
+  }
+
+  /** Gets the maximum number of files which pooled handles may hold open. */
+  public static int getMaxOpenFiles() {
+    synchronized (openHandles) {
+      return maxOpenFiles;
+    }
+  }
+
+  /** Gets the number of files currently held open by pooled handles. */
+  public static int getOpenFileCount() {
+    synchronized (openHandles) {
+      return openHandles.size();
+    }
+  }
+
+  /** Gets the number of times a closed handle has been reopened. */
+  public static long getReopenCount() {
+    synchronized (openHandles) {
+      return reopenCount;
+    }
+  }
+
+  /** Returns true if this handle's file is currently open. */
+  public synchronized boolean isOpen() {
+    return handle != null;
+  }
+
+  // -- IRandomAccess API methods --
+
+  /* @see IRandomAccess.close() */
+  public synchronized void close() throws IOException {
+    closed = true;
+    if (handle != null) {
+      synchronized (openHandles) {
+        openHandles.remove(this);
+      }
+      handle.close();
+      handle = null;
+    }
+  }
+
+  /* @see IRandomAccess.getFilePointer() */
+  public synchronized long getFilePointer() throws IOException {
+    return handle == null ? position : handle.getFilePointer();
+  }
+
+  /* @see IRandomAccess.length() */
+  public synchronized long length() throws IOException {
+    return handle().length();
+  }
+
+  /* @see IRandomAccess.getOrder() */
+  public synchronized ByteOrder getOrder() {
+    return handle == null ? order : handle.getOrder();
+  }
+
+  /* @see IRandomAccess.setOrder(ByteOrder) */
+  public synchronized void setOrder(ByteOrder order) {
+    this.order = order;
+    if (handle != null) handle.setOrder(order);
+  }
+
+  /* @see IRandomAccess.read(byte[]) */
+  public synchronized int read(byte[] b) throws IOException {
+    return handle().read(b);
+  }
+
+  /* @see IRandomAccess.read(byte[], int, int) */
+  public synchronized int read(byte[] b, int off, int len) throws IOException {
+    return handle().read(b, off, len);
+  }
+
+  /* @see IRandomAccess.read(ByteBuffer) */
+  public synchronized int read(ByteBuffer buffer) throws IOException {
+    return handle().read(buffer);
+  }
+
+  /* @see IRandomAccess.read(ByteBuffer, int, int) */
+  public synchronized int read(ByteBuffer buffer, int off, int len)
+    throws IOException
+  {
+    return handle().read(buffer, off, len);
+  }
+
+  /* @see IRandomAccess.seek(long) */
+  public synchronized void seek(long pos) throws IOException {
+    if (handle == null) {
+      // NB: no need to reopen the file just to move the file pointer
+      if (closed) throw new HandleException("Handle is closed");
+      position = pos;
+    }
+    else handle.seek(pos);
+  }
+
+  /* @see IRandomAccess.write(ByteBuffer) */
+  public synchronized void write(ByteBuffer buf) throws IOException {
+    handle().write(buf);
+  }
+
+  /* @see IRandomAccess.write(ByteBuffer, int, int) */
+  public synchronized void write(ByteBuffer buf, int off, int len)
+    throws IOException
+  {
+    handle().write(buf, off, len);
+  }
+
+  // -- DataInput API methods --
+
+  /* @see java.io.DataInput.readBoolean() */
+  public synchronized boolean readBoolean() throws IOException {
+    return handle().readBoolean();
+  }
+
+  /* @see java.io.DataInput.readByte() */
+  public synchronized byte readByte() throws IOException {
+    return handle().readByte();
+  }
+
+  /* @see java.io.DataInput.readChar() */
+  public synchronized char readChar() throws IOException {
+    return handle().readChar();
+  }
+
+  /* @see java.io.DataInput.readDouble() */
+  public synchronized double readDouble() throws IOException {
+    return handle().readDouble();
+  }
+
+  /* @see java.io.DataInput.readFloat() */
+  public synchronized float readFloat() throws IOException {
+    return handle().readFloat();
+  }
+
+  /* @see java.io.DataInput.readFully(byte[]) */
+  public synchronized void readFully(byte[] b) throws IOException {
+    handle().readFully(b);
+  }
+
+  /* @see java.io.DataInput.readFully(byte[], int, int) */
+  public synchronized void readFully(byte[] b, int off, int len)
+    throws IOException
+  {
+    handle().readFully(b, off, len);
+  }
+
+  /* @see java.io.DataInput.readInt() */
+  public synchronized int readInt() throws IOException {
+    return handle().readInt();
+  }
+
+  /* @see java.io.DataInput.readLine() */
+  public synchronized String readLine() throws IOException {
+    return handle().readLine();
+  }
+
+  /* @see java.io.DataInput.readLong() */
+  public synchronized long readLong() throws IOException {
+    return handle().readLong();
+  }
+
+  /* @see java.io.DataInput.readShort() */
+  public synchronized short readShort() throws IOException {
+    return handle().readShort();
+  }
+
+  /* @see java.io.DataInput.readUnsignedByte() */
+  public synchronized int readUnsignedByte() throws IOException {
+    return handle().readUnsignedByte();
+  }
+
+  /* @see java.io.DataInput.readUnsignedShort() */
+  public synchronized int readUnsignedShort() throws IOException {
+    return handle().readUnsignedShort();
+  }
+
+  /* @see java.io.DataInput.readUTF() */
+  public synchronized String readUTF() throws IOException {
+    return handle().readUTF();
+  }
+
+  /* @see java.io.DataInput.skipBytes(int) */
+  public synchronized int skipBytes(int n) throws IOException {
+    return handle().skipBytes(n);
+  }
+
+  // -- DataOutput API methods --
+
+  /* @see java.io.DataOutput.write(byte[]) */
+  public synchronized void write(byte[] b) throws IOException {
+    handle().write(b);
+  }
+
+  /* @see java.io.DataOutput.write(byte[], int, int) */
+  public synchronized void write(byte[] b, int off, int len)
+    throws IOException
+  {
+    handle().write(b, off, len);
+  }
+
+  /* @see java.io.DataOutput.write(int b) */
+  public synchronized void write(int b) throws IOException {
+    handle().write(b);
+  }
+
+  /* @see java.io.DataOutput.writeBoolean(boolean) */
+  public synchronized void writeBoolean(boolean v) throws IOException {
+    handle().writeBoolean(v);
+  }
+
+  /* @see java.io.DataOutput.writeByte(int) */
+  public synchronized void writeByte(int v) throws IOException {
+    handle().writeByte(v);
+  }
+
+  /* @see java.io.DataOutput.writeBytes(String) */
+  public synchronized void writeBytes(String s) throws IOException {
+    handle().writeBytes(s);
+  }
+
+  /* @see java.io.DataOutput.writeChar(int) */
+  public synchronized void writeChar(int v) throws IOException {
+    handle().writeChar(v);
+  }
+
+  /* @see java.io.DataOutput.writeChars(String) */
+  public synchronized void writeChars(String s) throws IOException {
+    handle().writeChars(s);
+  }
+
+  /* @see java.io.DataOutput.writeDouble(double) */
+  public synchronized void writeDouble(double v) throws IOException {
+    handle().writeDouble(v);
+  }
+
+  /* @see java.io.DataOutput.writeFloat(float) */
+  public synchronized void writeFloat(float v) throws IOException {
+    handle().writeFloat(v);
+  }
+
+  /* @see java.io.DataOutput.writeInt(int) */
+  public synchronized void writeInt(int v) throws IOException {
+    handle().writeInt(v);
+  }
+
+  /* @see java.io.DataOutput.writeLong(long) */
+  public synchronized void writeLong(long v) throws IOException {
+    handle().writeLong(v);
+  }
+
+  /* @see java.io.DataOutput.writeShort(int) */
+  public synchronized void writeShort(int v) throws IOException {
+    handle().writeShort(v);
+  }
+
+  /* @see java.io.DataOutput.writeUTF(String) */
+  public synchronized void writeUTF(String str) throws IOException {
+    handle().writeUTF(str);
+  }
+
+  // -- Object API methods --
+
+  /* @see java.lang.Object#toString() */
+  public String toString() {
+    return getClass().getName() + "[" + file + "]";
+  }
+
+  // -- Helper methods --
+
+  /**
+   * Gets the open handle, reopening the file if it was closed to make room
+   * for other files.  Must be called while holding this handle's lock.
+   */
+  private NIOFileHandle handle() throws IOException {
+    referenced = true;
+    if (handle != null) return handle;
+    if (closed) throw new HandleException("Handle is closed");
+
+    NIOFileHandle h = new NIOFileHandle(file, mode, bufferSize);
+    if (order != null) h.setOrder(order);
+    if (position != 0) h.seek(position);
+    handle = h;
+
+    List<PooledFileHandle> victims;
+    synchronized (openHandles) {
+      openHandles.add(this);
+      if (released) reopenCount++;
+      victims = selectVictims(this);
+    }
+    // NB: the pool lock must not be held while closing other handles,
+    // as their owners may be waiting for it
+    release(victims);
+    return handle;
+  }
+
+  /**
+   * Closes this handle's file, remembering the state needed to reopen it.
+   */
+  private synchronized void release() {
+    if (handle == null) return;
+    try {
+      position = handle.getFilePointer();
+      order = handle.getOrder();
+      handle.close();
+    }
+    catch (IOException e) {
+      LOGGER.debug("Could not close " + file, e);
+    }
+    handle = null;
+    released = true;
+  }
+
+  /**
+   * Removes handles from the pool until it is within the limit, skipping
+   * recently used handles and the given handle.  Must be called while
+   * holding the pool lock.
+   */
+  private static List<PooledFileHandle> selectVictims(PooledFileHandle keep) {
+    List<PooledFileHandle> victims = new ArrayList<PooledFileHandle>();
+    int max = Math.max(maxOpenFiles, 1);
+    while (openHandles.size() > max) {
+      Iterator<PooledFileHandle> it = openHandles.iterator();
+      PooledFileHandle candidate = it.next();
+      it.remove();
+      if (candidate == keep || candidate.referenced) {
+        // give the handle a second chance
+        candidate.referenced = false;
+        openHandles.add(candidate);
+      }
+      else victims.add(candidate);
+    }
+    return victims;
+  }
+
+  private static void release(List<PooledFileHandle> victims) {
+    for (PooledFileHandle victim : victims) {
+      LOGGER.trace("closing least recently used file {}", victim.file);
+      victim.release();
+    }
+  }
+
+}
@@ -0,0 +1,155 @@
+//
+// PooledFileHandleTest.java
+//
+
+/*
+LOCI Common package: utilities for I/O, reflection and miscellaneous tasks.
+Copyright (C) 2005-@year@ Melissa Linkert, Curtis Rueden and Chris Allan.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.common.utests;
+
+import static org.testng.AssertJUnit.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+
+import loci.common.IRandomAccess;
+import loci.common.Location;
+import loci.common.PooledFileHandle;
+import loci.common.RandomAccessInputStream;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the open file limit shared by {@link PooledFileHandle}s.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/common/test/loci/common/utests/PooledFileHandleTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/common/test/loci/common/utests/PooledFileHandleTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ *
+ * @see loci.common.PooledFileHandle
+ */
+public class PooledFileHandleTest {
+
+  private static final int FILE_COUNT = 10;
+
+  private static final int MAX_OPEN = 3;
+
+  private File[] files;
+
+  private int oldMax;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    oldMax = PooledFileHandle.getMaxOpenFiles();
+    PooledFileHandle.setMaxOpenFiles(MAX_OPEN);
+    files = new File[FILE_COUNT];
+    for (int i=0; i<FILE_COUNT; i++) {
+      files[i] = File.createTempFile("pooled", ".dat");
+      files[i].deleteOnExit();
+      FileOutputStream out = new FileOutputStream(files[i]);
+      try {
+        for (int b=0; b<256; b++) out.write((b + i) & 0xff);
+      }
+      finally {
+        out.close();
+      }
+    }
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    PooledFileHandle.setMaxOpenFiles(oldMax);
+    for (File f : files) f.delete();
+  }
+
+  @Test
+  public void testOpenFileLimit() throws IOException {
+    PooledFileHandle[] handles = new PooledFileHandle[FILE_COUNT];
+    for (int i=0; i<FILE_COUNT; i++) {
+      handles[i] = new PooledFileHandle(files[i], "r");
+      assertTrue(PooledFileHandle.getOpenFileCount() <= MAX_OPEN);
+    }
+    for (int i=0; i<FILE_COUNT; i++) handles[i].close();
+    assertEquals(0, PooledFileHandle.getOpenFileCount());
+  }
+
+  @Test
+  public void testPositionRestored() throws IOException {
+    PooledFileHandle[] handles = new PooledFileHandle[FILE_COUNT];
+    for (int i=0; i<FILE_COUNT; i++) {
+      handles[i] = new PooledFileHandle(files[i], "r");
+      handles[i].setOrder(ByteOrder.LITTLE_ENDIAN);
+      handles[i].seek(i);
+    }
+    long reopened = PooledFileHandle.getReopenCount();
+    // interleave reads so that every handle is closed and reopened
+    for (int pass=0; pass<4; pass++) {
+      for (int i=0; i<FILE_COUNT; i++) {
+        long pos = i + pass * 2;
+        assertEquals(pos, handles[i].getFilePointer());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, handles[i].getOrder());
+        int lo = (int) ((pos + i) & 0xff);
+        int hi = (int) ((pos + 1 + i) & 0xff);
+        assertEquals((hi << 8) | lo, handles[i].readUnsignedShort());
+        assertTrue(PooledFileHandle.getOpenFileCount() <= MAX_OPEN);
+      }
+    }
+    assertTrue(PooledFileHandle.getReopenCount() > reopened);
+    for (int i=0; i<FILE_COUNT; i++) handles[i].close();
+  }
+
+  @Test(expectedExceptions={IOException.class})
+  public void testClosed() throws IOException {
+    PooledFileHandle handle = new PooledFileHandle(files[0], "r");
+    handle.close();
+    handle.readByte();
+  }
+
+  @Test
+  public void testLocationHandle() throws IOException {
+    IRandomAccess handle = Location.getHandle(files[0].getAbsolutePath());
+    assertTrue(handle instanceof PooledFileHandle);
+    handle.close();
+
+    PooledFileHandle.setMaxOpenFiles(0);
+    handle = Location.getHandle(files[0].getAbsolutePath());
+    assertFalse(handle instanceof PooledFileHandle);
+    handle.close();
+  }
+
+  @Test
+  public void testStreams() throws IOException {
+    RandomAccessInputStream[] streams =
+      new RandomAccessInputStream[FILE_COUNT];
+    for (int i=0; i<FILE_COUNT; i++) {
+      streams[i] = new RandomAccessInputStream(files[i].getAbsolutePath());
+      streams[i].seek(100);
+    }
+    for (int i=FILE_COUNT-1; i>=0; i--) {
+      assertEquals((100 + i) & 0xff, streams[i].read());
+      assertEquals(256, streams[i].length());
+    }
+    for (RandomAccessInputStream s : streams) s.close();
+  }
+
+}
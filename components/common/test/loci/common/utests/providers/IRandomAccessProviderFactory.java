@@ -48,6 +48,7 @@ public class IRandomAccessProviderFactory {
     providers.put("BZip2Handle", new BZip2HandleProvider());
     providers.put("GZipHandle", new GZipHandleProvider());
     providers.put("NIOFileHandle", new NIOFileHandleProvider());
+    providers.put("PooledFileHandle", new PooledFileHandleProvider());
     providers.put("URLHandle", new URLHandleProvider());
     providers.put("ZipHandle", new ZipHandleProvider());
   }
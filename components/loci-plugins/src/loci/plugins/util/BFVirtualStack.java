@@ -40,7 +40,7 @@ import loci.formats.IFormatReader;
 import loci.formats.cache.Cache;
 import loci.formats.cache.CacheException;
 import loci.formats.cache.CacheStrategy;
-import loci.formats.cache.CrosshairStrategy;
+import loci.formats.cache.PredictiveStrategy;
 import loci.plugins.util.RecordedImageProcessor.MethodEntry;
 
 /**
@@ -54,6 +54,12 @@ import loci.plugins.util.RecordedImageProcessor.MethodEntry;
  */
 public class BFVirtualStack extends VirtualStack {
 
+  // -- Constants --
+
+  /** Number of threads which load planes in the background. */
+  public static final int LOADER_THREADS = Math.max(1,
+    Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
   // -- Fields --
 
   protected ImageProcessorReader reader;
@@ -72,6 +78,9 @@ public class BFVirtualStack extends VirtualStack {
 
   private int[] len;
 
+  /** Reused position of the current plane within the cache. */
+  private int[] cachePos;
+
   private int[] planeIndexes;
 
   private float[] calibrationTable;
@@ -116,9 +125,10 @@ public class BFVirtualStack extends VirtualStack {
     System.arraycopy(subC, 0, len, 0, subC.length);
     len[len.length - 2] = r.getSizeZ();
     len[len.length - 1] = r.getSizeT();
-    CacheStrategy strategy = new CrosshairStrategy(len);
+    CacheStrategy strategy = new PredictiveStrategy(len);
+    cachePos = new int[len.length];
 
-    cache = new Cache(strategy, new ImageProcessorSource(r), true);
+    cache = new BackgroundCache(strategy, reader, path, LOADER_THREADS);
 
     methodStacks = new ArrayList<List<MethodEntry>>();
     for (int i=0; i<r.getImageCount(); i++) {
@@ -147,6 +157,11 @@ public class BFVirtualStack extends VirtualStack {
     this.planeIndexes = planeIndexes;
   }
 
+  /** Stops loading planes in the background. */
+  public void close() {
+    ((BackgroundCache) cache).quit();
+  }
+
   // -- VirtualStack API methods --
 
   public synchronized ImageProcessor getProcessor(int n) {
@@ -162,30 +177,19 @@ public class BFVirtualStack extends VirtualStack {
     int sliceIndex = planeIndexes == null ? n - 1 : planeIndexes[n - 1];
     int[] pos = reader.getZCTCoords(sliceIndex);
     if (merge) pos = new ChannelMerger(reader).getZCTCoords(sliceIndex);
-    int[] cachePos = FormatTools.rasterToPosition(len, sliceIndex);
+    FormatTools.rasterToPosition(len, sliceIndex, cachePos);
+    BackgroundCache loader = (BackgroundCache) cache;
     ImageProcessor ip = null;
 
+    // queue the surrounding planes first, then read this one unless cached
     try {
-      ip = (ImageProcessor) cache.getObject(cachePos);
       cache.setCurrentPos(cachePos);
+      ip = (ImageProcessor) loader.load(sliceIndex);
     }
     catch (CacheException exc) {
       exc.printStackTrace();
     }
 
-    // cache missed
-    try {
-      if (ip == null) {
-        ip = reader.openProcessors(reader.getIndex(pos[0], pos[1], pos[2]))[0];
-      }
-    }
-    catch (FormatException exc) {
-      exc.printStackTrace();
-    }
-    catch (IOException exc) {
-      exc.printStackTrace();
-    }
-
     if (colorize) {
       // apply color table, if necessary
       byte[] lut = new byte[256];
@@ -211,24 +215,12 @@ public class BFVirtualStack extends VirtualStack {
       for (int i=0; i<otherChannels.length; i++) {
         int channel = i >= pos[1] ? i + 1 : i;
         try {
-          cachePos[0] = channel;
-          otherChannels[i] = (ImageProcessor) cache.getObject(cachePos);
+          int index = reader.getIndex(pos[0], channel, pos[2]);
+          otherChannels[i] = (ImageProcessor) loader.load(index);
         }
         catch (CacheException exc) {
           exc.printStackTrace();
         }
-        if (otherChannels[i] == null) {
-          try {
-            int index = reader.getIndex(pos[0], channel, pos[2]);
-            otherChannels[i] = reader.openProcessors(index)[0];
-          }
-          catch (FormatException exc) {
-            exc.printStackTrace();
-          }
-          catch (IOException exc) {
-            exc.printStackTrace();
-          }
-        }
       }
       currentProcessor = new RecordedImageProcessor(ip, pos[1], otherChannels);
       currentProcessor.setDoRecording(record);
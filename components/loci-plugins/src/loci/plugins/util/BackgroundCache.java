@@ -0,0 +1,527 @@
+//
+// BackgroundCache.java
+//
+
+/*
+LOCI Plugins for ImageJ: a collection of ImageJ plugins including the
+Bio-Formats Importer, Bio-Formats Exporter, Bio-Formats Macro Extensions,
+Data Browser and Stack Slicer. Copyright (C) 2005-@year@ Melissa Linkert,
+Curtis Rueden and Christopher Peterson.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.plugins.util;
+
+import ij.IJ;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import loci.common.DebugTools;
+import loci.formats.FormatException;
+import loci.formats.FormatTools;
+import loci.formats.IFormatReader;
+import loci.formats.ReaderWrapper;
+import loci.formats.cache.Cache;
+import loci.formats.cache.CacheEvent;
+import loci.formats.cache.CacheException;
+import loci.formats.cache.ICacheStrategy;
+import loci.formats.in.DefaultMetadataOptions;
+import loci.formats.in.MetadataLevel;
+import loci.plugins.BF;
+
+/**
+ * A cache of image processors which loads the planes chosen by its strategy
+ * on a pool of background threads, each with its own copy of the reader.
+ * The threads are started when the first plane is missed, and are shared
+ * by every cache of the same reader.
+ *
+ * Changing the current position never waits for planes to load: queued
+ * planes which are no longer wanted are cancelled, and the rest are queued
+ * nearest first.  {@link #load(int)} gives priority to the plane being
+ * displayed by reading it on the calling thread, unless a background
+ * thread is already reading it.  Prefetching is limited to a share of
+ * ImageJ's maximum memory.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/loci-plugins/src/loci/plugins/util/BackgroundCache.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/loci-plugins/src/loci/plugins/util/BackgroundCache.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class BackgroundCache extends Cache {
+
+  // -- Constants --
+
+  /** Share of ImageJ's maximum memory which cached planes may occupy. */
+  public static final double MEMORY_FRACTION = 0.25;
+
+  // -- Static fields --
+
+  /** Background threads of each reader which has a cache. */
+  private static final Map<IFormatReader, Workers> WORKERS =
+    new HashMap<IFormatReader, Workers>();
+
+  // -- Fields --
+
+  /** Reader used by the calling thread, and by workers without their own. */
+  private ImageProcessorReader reader;
+
+  private int series, imageCount, sizeX, sizeY, pixelType;
+
+  /** Size in bytes of one cached plane. */
+  private long planeBytes;
+
+  private Workers workers;
+
+  /** Indices of the planes waiting to be loaded, nearest first. */
+  private int[] queue;
+  private int queueStart, queueEnd;
+
+  /** Whether each plane is being read right now. */
+  private boolean[] loading;
+
+  /** Number of planes being read by background threads. */
+  private int reads;
+
+  /** Incremented whenever the cache is reallocated. */
+  private int generation;
+
+  private boolean quit;
+
+  // -- Constructors --
+
+  /**
+   * Constructs a cache of the current series of the given reader,
+   * which is already initialized with the given file.
+   *
+   * @param threads the number of background threads, if this is the first
+   *   cache of the reader
+   */
+  public BackgroundCache(ICacheStrategy strategy, IFormatReader reader,
+    String id, int threads) throws CacheException
+  {
+    super(strategy, new ImageProcessorSource(reader), false);
+    this.reader = ((ImageProcessorSource) source).reader;
+    series = reader.getSeries();
+    imageCount = reader.getImageCount();
+    sizeX = reader.getSizeX();
+    sizeY = reader.getSizeY();
+    pixelType = reader.getPixelType();
+    int bpp = FormatTools.getBytesPerPixel(pixelType);
+    planeBytes = Math.max((long) sizeX * sizeY * bpp, 1);
+    maxBytes = (long) (IJ.maxMemory() * MEMORY_FRACTION);
+
+    // wrappers such as those of resliced stacks share the same workers
+    IFormatReader key = reader;
+    while (key instanceof ReaderWrapper) {
+      key = ((ReaderWrapper) key).getReader();
+    }
+    synchronized (WORKERS) {
+      workers = WORKERS.get(key);
+      if (workers == null) {
+        workers = new Workers(key, this.reader, id, Math.max(threads, 1));
+        WORKERS.put(key, workers);
+      }
+      workers.add(this);
+    }
+
+    reset();
+    autoUpdate = true;
+    recache();
+  }
+
+  // -- BackgroundCache API methods --
+
+  /**
+   * Gets the plane with the given index, reading it on the calling thread
+   * unless it is cached or a background thread is already reading it.
+   * Planes which were cached or being read count as OBJECT_HIT events,
+   * and planes read on the calling thread as OBJECT_MISSED.
+   */
+  public Object load(int index) throws CacheException {
+    int gen;
+    Object o = null;
+    synchronized (this) {
+      while (loading[index] && cache[index] == null) {
+        try {
+          wait();
+        }
+        catch (InterruptedException exc) {
+          throw new CacheException(exc);
+        }
+      }
+      o = cache[index];
+      if (o == null) {
+        loading[index] = true;
+        gen = generation;
+      }
+      else gen = -1;
+    }
+    if (o != null) {
+      notifyListeners(new CacheEvent(this, CacheEvent.OBJECT_HIT, index));
+      return o;
+    }
+    notifyListeners(new CacheEvent(this, CacheEvent.OBJECT_MISSED, index));
+    workers.start();
+
+    try {
+      synchronized (reader) {
+        reader.setSeries(series);
+        o = source.getObject(index);
+      }
+    }
+    finally {
+      store(index, o, gen);
+    }
+    return o;
+  }
+
+  /** Cancels all queued loads, leaving the cached planes in place. */
+  public synchronized void cancel() {
+    queueStart = queueEnd = 0;
+  }
+
+  /**
+   * Stops loading planes in the background, waiting for any reads in
+   * progress, and stops the background threads once no other cache of the
+   * reader needs them.
+   */
+  public void quit() {
+    synchronized (this) {
+      quit = true;
+      queueStart = queueEnd = 0;
+      try {
+        while (reads > 0) wait();
+      }
+      catch (InterruptedException exc) {
+        BF.debug(DebugTools.getStackTrace(exc));
+      }
+    }
+    workers.remove(this);
+  }
+
+  // -- Cache API methods --
+
+  /* @see loci.formats.cache.Cache#getObject(int) */
+  public synchronized Object getObject(int pos) throws CacheException {
+    return cache[pos];
+  }
+
+  /* @see loci.formats.cache.Cache#reset() */
+  public void reset() throws CacheException {
+    super.reset();
+    synchronized (this) {
+      queue = new int[cache.length];
+      queueStart = queueEnd = 0;
+      loading = new boolean[cache.length];
+      generation++;
+      notifyAll();
+    }
+  }
+
+  /**
+   * Marks the planes on the load list as wanted, drops all others and
+   * queues the missing ones for the background threads, without waiting
+   * for any of them.
+   */
+  public void recache() throws CacheException {
+    int[][] indices = strategy.getLoadList(currentPos);
+    int[] len = strategy.getLengths();
+    int[] dropped;
+    int dropCount = 0;
+    boolean queued;
+
+    synchronized (this) {
+      long count = indices.length;
+      if (maxBytes > 0) {
+        count = Math.min(Math.max(maxBytes / planeBytes, 1), count);
+      }
+
+      for (int i=0; i<inCache.length; i++) inCache[i] = false;
+      queueStart = queueEnd = 0;
+      for (int i=0; i<count; i++) {
+        int ndx = FormatTools.positionToRaster(len, indices[i]);
+        if (ndx < 0 || ndx >= inCache.length || inCache[ndx]) continue;
+        inCache[ndx] = true;
+        if (cache[ndx] == null && !loading[ndx]) queue[queueEnd++] = ndx;
+      }
+      queued = queueEnd > 0;
+
+      dropped = new int[cache.length];
+      for (int i=0; i<cache.length; i++) {
+        if (!inCache[i] && cache[i] != null) {
+          cache[i] = null;
+          cachedBytes -= planeBytes;
+          dropped[dropCount++] = i;
+        }
+      }
+      notifyAll();
+    }
+
+    // NB: listeners and workers are told outside of the lock,
+    // which the workers need
+    if (queued && workers != null) workers.wake();
+    for (int i=0; i<dropCount; i++) {
+      notifyListeners(new CacheEvent(this, CacheEvent.OBJECT_DROPPED,
+        dropped[i]));
+    }
+  }
+
+  // -- Helper methods --
+
+  /* @see loci.formats.cache.Cache#getSize(Object) */
+  protected long getSize(Object o) {
+    return planeBytes;
+  }
+
+  /**
+   * Reads the next queued plane on a background thread, using the given
+   * copy of the reader, or this cache's reader if the copy is null or
+   * describes different planes.
+   *
+   * @return false if no planes are queued
+   */
+  private boolean loadNext(ImageProcessorReader copy) {
+    int index, gen;
+    synchronized (this) {
+      while (true) {
+        if (quit || queueStart == queueEnd) return false;
+        index = queue[queueStart++];
+        if (cache[index] == null && !loading[index] && inCache[index]) break;
+      }
+      if (!hasMemory()) {
+        // leave the rest to the planes which are actually displayed
+        queueStart = queueEnd = 0;
+        return false;
+      }
+      loading[index] = true;
+      gen = generation;
+      reads++;
+    }
+
+    Object o = null;
+    try {
+      if (copy != null) {
+        copy.setSeries(series);
+        if (copy.getImageCount() != imageCount ||
+          copy.getSizeX() != sizeX || copy.getSizeY() != sizeY ||
+          copy.getPixelType() != pixelType)
+        {
+          copy = null;
+        }
+      }
+      if (copy != null) o = new ImageProcessorSource(copy).getObject(index);
+      else {
+        synchronized (reader) {
+          reader.setSeries(series);
+          o = source.getObject(index);
+        }
+      }
+    }
+    catch (CacheException exc) {
+      BF.debug(DebugTools.getStackTrace(exc));
+    }
+    catch (RuntimeException exc) {
+      BF.debug(DebugTools.getStackTrace(exc));
+    }
+    finally {
+      store(index, o, gen);
+      synchronized (this) {
+        reads--;
+        notifyAll();
+      }
+    }
+    return true;
+  }
+
+  /** Caches a plane read by any thread, if it is still wanted. */
+  private void store(int index, Object o, int gen) {
+    boolean loaded = false;
+    synchronized (this) {
+      if (gen != generation) return;
+      loading[index] = false;
+      if (o != null && inCache[index] && cache[index] == null) {
+        cache[index] = o;
+        cachedBytes += planeBytes;
+        loaded = true;
+      }
+      notifyAll();
+    }
+    if (loaded) {
+      notifyListeners(new CacheEvent(this, CacheEvent.OBJECT_LOADED, index));
+    }
+  }
+
+  /** Returns true if ImageJ has room for a few more planes. */
+  private boolean hasMemory() {
+    long max = IJ.maxMemory();
+    return max <= 0 || max - IJ.currentMemory() > 4 * planeBytes;
+  }
+
+  // -- Helper classes --
+
+  /**
+   * Background threads, each with its own copy of a reader, which load the
+   * planes queued by every cache of that reader in turn.
+   */
+  private static class Workers {
+
+    private IFormatReader key;
+    private ImageProcessorReader reader;
+    private String id;
+    private Thread[] threads;
+
+    private List<BackgroundCache> caches = new ArrayList<BackgroundCache>();
+    private boolean started, quit;
+
+    /** Incremented whenever a cache queues planes. */
+    private int signals;
+
+    public Workers(IFormatReader key, ImageProcessorReader reader,
+      String id, int threads)
+    {
+      this.key = key;
+      this.reader = reader;
+      this.id = id;
+      this.threads = new Thread[threads];
+    }
+
+    public synchronized void add(BackgroundCache cache) {
+      caches.add(cache);
+    }
+
+    /** Starts the threads, unless they are already running. */
+    public synchronized void start() {
+      if (started || quit) return;
+      started = true;
+      for (int i=0; i<threads.length; i++) {
+        final boolean first = i == 0;
+        threads[i] = new Thread(new Runnable() {
+          public void run() {
+            work(first);
+          }
+        }, "Bio-Formats-Background-Cache-" + i);
+        threads[i].setDaemon(true);
+        threads[i].setPriority(Thread.NORM_PRIORITY - 1);
+        threads[i].start();
+      }
+    }
+
+    /** Tells idle threads that planes have been queued. */
+    public synchronized void wake() {
+      signals++;
+      notifyAll();
+    }
+
+    /** Removes the given cache, stopping the threads if it was the last. */
+    public void remove(BackgroundCache cache) {
+      synchronized (WORKERS) {
+        synchronized (this) {
+          caches.remove(cache);
+          if (!caches.isEmpty()) return;
+          quit = true;
+          notifyAll();
+        }
+        WORKERS.remove(key);
+      }
+      if (!started) return;
+      for (Thread thread : threads) {
+        try {
+          thread.join();
+        }
+        catch (InterruptedException exc) {
+          BF.debug(DebugTools.getStackTrace(exc));
+        }
+      }
+    }
+
+    /** Loads queued planes until the last cache quits. */
+    private void work(boolean first) {
+      ImageProcessorReader copy = createReader();
+      if (copy == null && !first) return;
+
+      try {
+        while (true) {
+          int signal;
+          BackgroundCache[] list;
+          synchronized (this) {
+            if (quit) break;
+            signal = signals;
+            list = caches.toArray(new BackgroundCache[caches.size()]);
+          }
+          boolean loaded = false;
+          for (BackgroundCache cache : list) {
+            if (cache.loadNext(copy)) loaded = true;
+          }
+          if (loaded) continue;
+          synchronized (this) {
+            while (!quit && signals == signal) wait();
+          }
+        }
+      }
+      catch (InterruptedException exc) {
+        BF.debug(DebugTools.getStackTrace(exc));
+      }
+      finally {
+        if (copy != null) {
+          try {
+            copy.close();
+          }
+          catch (IOException exc) {
+            BF.debug(DebugTools.getStackTrace(exc));
+          }
+        }
+      }
+    }
+
+    /**
+     * Opens a copy of the reader for a background thread, or returns null
+     * if it cannot be opened.
+     */
+    private ImageProcessorReader createReader() {
+      ImageProcessorReader copy = null;
+      try {
+        copy = (ImageProcessorReader) reader.duplicate(null);
+        copy.setMetadataOptions(
+          new DefaultMetadataOptions(MetadataLevel.MINIMUM));
+        copy.setId(id);
+        return copy;
+      }
+      catch (FormatException exc) {
+        BF.debug(DebugTools.getStackTrace(exc));
+      }
+      catch (IOException exc) {
+        BF.debug(DebugTools.getStackTrace(exc));
+      }
+      catch (RuntimeException exc) {
+        BF.debug(DebugTools.getStackTrace(exc));
+      }
+      if (copy != null) {
+        try {
+          copy.close();
+        }
+        catch (IOException exc) {
+          BF.debug(DebugTools.getStackTrace(exc));
+        }
+      }
+      return null;
+    }
+
+  }
+
+}
@@ -97,6 +97,9 @@ public class VirtualImagePlus extends ImagePlus {
   }
 
   public void close() {
+    if (getStack() instanceof BFVirtualStack) {
+      ((BFVirtualStack) getStack()).close();
+    }
     super.close();
     try {
       r.close();
@@ -0,0 +1,200 @@
+//
+// BackgroundCacheTest.java
+//
+
+package loci.plugins.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import ij.process.ImageProcessor;
+
+import java.io.IOException;
+
+import loci.formats.FormatException;
+import loci.formats.FormatTools;
+import loci.formats.ImageReader;
+import loci.formats.cache.CacheException;
+import loci.formats.cache.CrosshairStrategy;
+import loci.formats.cache.ICacheStrategy;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the background loading of planes by {@link BackgroundCache}.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/loci-plugins/test/loci/plugins/util/BackgroundCacheTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/loci-plugins/test/loci/plugins/util/BackgroundCacheTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class BackgroundCacheTest {
+
+  // -- Constants --
+
+  private static final String ID =
+    "test&sizeX=32&sizeY=16&sizeZ=5&sizeT=8&sizeC=2&dimOrder=XYCZT.fake";
+
+  private static final int[] LENGTHS = {2, 5, 8};
+
+  private static final long TIMEOUT = 10000;
+
+  // -- Fields --
+
+  private ImageProcessorReader reader;
+  private ImageProcessorReader check;
+  private BackgroundCache cache;
+
+  // -- Setup methods --
+
+  @Before
+  public void setUp() throws FormatException, IOException, CacheException {
+    reader = new ImageProcessorReader(new ImageReader());
+    reader.setId(ID);
+    check = new ImageProcessorReader(new ImageReader());
+    check.setId(ID);
+    ICacheStrategy strategy = new CrosshairStrategy(LENGTHS);
+    strategy.setRange(2, 1);
+    strategy.setRange(2, 2);
+    cache = new BackgroundCache(strategy, reader, ID, 3);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    cache.quit();
+    reader.close();
+    check.close();
+  }
+
+  // -- BackgroundCacheTest methods --
+
+  @Test
+  public void testLoad() throws Exception {
+    for (int i=0; i<reader.getImageCount(); i++) {
+      assertPlane(i, cache.load(i));
+    }
+  }
+
+  @Test
+  public void testPrefetch() throws Exception {
+    int[] pos = {0, 2, 4};
+    cache.setCurrentPos(pos);
+    int current = raster(pos);
+    assertPlane(current, cache.load(current));
+
+    // neighbours along Z and T arrive without being asked for
+    int[][] neighbours = {{0, 1, 4}, {0, 3, 4}, {0, 2, 3}, {0, 2, 6}};
+    for (int[] n : neighbours) {
+      int index = raster(n);
+      assertTrue(cache.isInCache(index));
+      assertPlane(index, waitFor(index));
+    }
+    assertFalse(cache.isInCache(raster(new int[] {0, 0, 0})));
+  }
+
+  @Test
+  public void testMoveDropsPlanes() throws Exception {
+    int[] pos = {0, 2, 4};
+    cache.setCurrentPos(pos);
+    int current = raster(pos);
+    assertPlane(current, cache.load(current));
+    int old = raster(new int[] {0, 2, 6});
+    waitFor(old);
+
+    cache.setCurrentPos(new int[] {1, 2, 0});
+    assertFalse(cache.isInCache(old));
+    assertNull(cache.getObject(old));
+    int index = raster(new int[] {1, 2, 1});
+    assertPlane(index, waitFor(index));
+  }
+
+  @Test
+  public void testMemoryLimit() throws Exception {
+    cache.setMaxBytes(2 * 32 * 16);
+    cache.setCurrentPos(new int[] {0, 2, 4});
+    int wanted = 0;
+    for (int i=0; i<reader.getImageCount(); i++) {
+      if (cache.isInCache(i)) wanted++;
+    }
+    assertEquals(2, wanted);
+
+    // planes beyond the limit can still be read, but are not kept
+    int far = raster(new int[] {1, 0, 0});
+    assertPlane(far, cache.load(far));
+    assertNull(cache.getObject(far));
+  }
+
+  @Test
+  public void testSharedWorkers() throws Exception {
+    // nothing is read in the background until a plane is missed
+    int[] pos = {0, 2, 4};
+    cache.setCurrentPos(pos);
+    assertEquals(0, countWorkers());
+
+    ICacheStrategy strategy = new CrosshairStrategy(LENGTHS);
+    strategy.setRange(2, 1);
+    BackgroundCache other = new BackgroundCache(strategy,
+      new ImageProcessorReader(reader), ID, 3);
+    try {
+      int current = raster(pos);
+      assertPlane(current, cache.load(current));
+      assertEquals(3, countWorkers());
+
+      // a cache of a wrapper of the same reader uses the same threads
+      int[] otherPos = {1, 2, 4};
+      other.setCurrentPos(otherPos);
+      int index = raster(otherPos);
+      assertPlane(index, other.load(index));
+      index = raster(new int[] {1, 3, 4});
+      assertPlane(index, waitFor(other, index));
+      assertEquals(3, countWorkers());
+    }
+    finally {
+      other.quit();
+    }
+    assertEquals(3, countWorkers());
+  }
+
+  // -- Helper methods --
+
+  private int raster(int[] pos) {
+    return FormatTools.positionToRaster(LENGTHS, pos);
+  }
+
+  private Object waitFor(int index) throws Exception {
+    return waitFor(cache, index);
+  }
+
+  private Object waitFor(BackgroundCache c, int index) throws Exception {
+    long end = System.currentTimeMillis() + TIMEOUT;
+    while (c.getObject(index) == null) {
+      assertTrue("timed out waiting for plane " + index,
+        System.currentTimeMillis() < end);
+      Thread.sleep(10);
+    }
+    return c.getObject(index);
+  }
+
+  private int countWorkers() {
+    int count = 0;
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.getName().startsWith("Bio-Formats-Background-Cache-")) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void assertPlane(int index, Object o) throws Exception {
+    assertNotNull(o);
+    ImageProcessor expected = check.openProcessors(index)[0];
+    ImageProcessor actual = (ImageProcessor) o;
+    assertArrayEquals((byte[]) expected.getPixels(),
+      (byte[]) actual.getPixels());
+  }
+
+}
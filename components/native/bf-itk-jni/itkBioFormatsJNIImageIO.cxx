@@ -450,6 +450,40 @@ namespace itk {
 		   //cout << "Got getImageCount method: " << mid << endl;
        int imageCount = env->CallStaticIntMethod(itkBridgeClass, mid);
       //cout << "image count: " << imageCount << endl;
+
+     // decode the whole region in place when the JVM can wrap our buffer;
+     // a direct buffer holds at most 2^31-1 bytes, and older loci_tools
+     // jars have no readRegion, so otherwise fall back to reading planes
+     size_t byteCount = (size_t) bytesPerPlane * zCount * tCount * cCount;
+     jobject direct = NULL;
+     jmethodID readRegion = env->GetStaticMethodID(itkBridgeClass,
+       "readRegion", "(Ljava/nio/ByteBuffer;IIIIIIIIII)V");
+     if (readRegion == NULL) env->ExceptionClear();
+     else if (byteCount <= 0x7fffffff) {
+       direct = env->NewDirectByteBuffer(pData, (jlong) byteCount);
+       if (direct == NULL) env->ExceptionClear();
+     }
+     if (direct != NULL) {
+       env->CallStaticVoidMethod(itkBridgeClass, readRegion, direct,
+         (jint)xStart, (jint)xCount, (jint)yStart, (jint)yCount,
+         (jint)zStart, (jint)zCount, (jint)tStart, (jint)tCount,
+         (jint)cStart, (jint)cCount);
+       env->DeleteLocalRef(direct);
+       bool failed = env->ExceptionCheck();
+       if (failed) {
+         env->ExceptionDescribe();
+         env->ExceptionClear();
+       }
+
+       mid = env->GetStaticMethodID(itkBridgeClass, "close", "()V");
+       env->CallStaticVoidMethod(itkBridgeClass, mid);
+       if (failed) {
+         itkExceptionMacro("Bio-Formats could not read " << m_FileName);
+       }
+       itkDebugMacro("Done.");
+       return;
+     }
+
      mid = env->GetStaticMethodID(itkBridgeClass, "readPlane", "(III[BIIII)V");
      //cout << "Got readPlane method: " << mid << endl;
 
@@ -74,6 +74,13 @@ See slicer-license.txt for Slicer3's licensing information.
 
 #include <stdio.h>
 #include <stdlib.h>
+#include <string.h>
+
+#if !defined (_WIN32)
+#include <fcntl.h>
+#include <unistd.h>
+#include <sys/mman.h>
+#endif
 
 #if defined (_WIN32)
 #define PATHSTEP ';'
@@ -138,6 +145,7 @@ BioFormatsImageIO::BioFormatsImageIO()
   itkDebugMacro("BioFormatsImageIO constructor");
 
   this->m_FileType = Binary;
+  this->m_UseSharedMemory = true;
 
   const char name[] = "ITK_AUTOLOAD_PATH";
   const char* namePtr;
@@ -570,20 +578,29 @@ void BioFormatsImageIO::Read(void* pData)
 
   CreateJavaProcess();
 
-  // send the command to the java process
-  std::string command = "read\t";
-  command += m_FileName;
+  std::string regionArgs;
   for( unsigned int d=0; d<region.GetImageDimension(); d++ )
     {
-    command += "\t";
-    command += toString(region.GetIndex(d));
-    command += "\t";
-    command += toString(region.GetSize(d));
+    regionArgs += "\t";
+    regionArgs += toString(region.GetIndex(d));
+    regionArgs += "\t";
+    regionArgs += toString(region.GetSize(d));
     }
   for( int d=region.GetImageDimension(); d<5; d++ )
     {
-    command += "\t0\t1";
+    regionArgs += "\t0\t1";
     }
+
+  size_t byteCount = this->GetPixelSize() * region.GetNumberOfPixels();
+  if( m_UseSharedMemory && ReadShared( pData, regionArgs, byteCount ) )
+    {
+    return;
+    }
+
+  // send the command to the java process
+  std::string command = "read\t";
+  command += m_FileName;
+  command += regionArgs;
   command += "\n";
   itkDebugMacro("BioFormatsImageIO::Read command: " << command);
   write( m_Pipe[1], command.c_str(), command.size() );
@@ -596,7 +613,6 @@ void BioFormatsImageIO::Read(void* pData)
   char * pipedata;
   int pipedatalength;
 
-  size_t byteCount = this->GetPixelSize() * region.GetNumberOfPixels();
   while( pos < byteCount )
     {
     int retcode = itksysProcess_WaitForData( m_Process, &pipedata, &pipedatalength, NULL );
@@ -621,6 +637,96 @@ void BioFormatsImageIO::Read(void* pData)
   itkDebugMacro("BioFormatsImageIO::Read error output: " << errorMessage);
 }
 
+/*
+ * Lets the java process decode the region straight into a temporary file
+ * mapped by both sides, so the pixels never go through the pipe. Returns
+ * false, without sending anything, when the file cannot be set up.
+ */
+bool BioFormatsImageIO::ReadShared(void* pData, const std::string & regionArgs, size_t byteCount)
+{
+#if defined (_WIN32)
+  return false;
+#else
+  if( byteCount == 0 )
+    {
+    return false;
+    }
+
+  // prefer a memory-backed file system, so the mapping is never written back
+  std::string dir = "/dev/shm";
+  if( access( dir.c_str(), W_OK ) != 0 )
+    {
+    const char * tmp = getenv("TMPDIR");
+    dir = tmp != NULL ? tmp : "/tmp";
+    }
+  std::string path = dir + SLASH + "bfitkXXXXXX";
+  std::vector<char> pathBuffer( path.begin(), path.end() );
+  pathBuffer.push_back( '\0' );
+  int fd = mkstemp( &pathBuffer[0] );
+  if( fd < 0 )
+    {
+    itkDebugMacro("BioFormatsImageIO::ReadShared: unable to create " << path);
+    return false;
+    }
+  path = &pathBuffer[0];
+  if( ftruncate( fd, byteCount ) != 0 )
+    {
+    close( fd );
+    unlink( path.c_str() );
+    return false;
+    }
+
+  std::string command = "readShared\t";
+  command += m_FileName;
+  command += "\t";
+  command += path;
+  command += regionArgs;
+  command += "\n";
+  itkDebugMacro("BioFormatsImageIO::ReadShared command: " << command);
+  write( m_Pipe[1], command.c_str(), command.size() );
+
+  // wait for the java process to report that the region is in place
+  std::string output;
+  std::string errorMessage;
+  char * pipedata;
+  int pipedatalength;
+
+  while( output.size() < 2 || output.substr( output.size() - 2 ) != "\n\n" )
+    {
+    int retcode = itksysProcess_WaitForData( m_Process, &pipedata, &pipedatalength, NULL );
+    if( retcode == itksysProcess_Pipe_STDOUT )
+      {
+      output += std::string( pipedata, pipedatalength );
+      }
+    else if( retcode == itksysProcess_Pipe_STDERR )
+      {
+      errorMessage += std::string( pipedata, pipedatalength );
+      }
+    else
+      {
+      close( fd );
+      unlink( path.c_str() );
+      DestroyJavaProcess();
+      itkExceptionMacro(<<"BioFormatsImageIO: 'ITKBridgePipe readShared' exited abnormally. " << errorMessage);
+      }
+    }
+  itkDebugMacro("BioFormatsImageIO::ReadShared error output: " << errorMessage);
+
+  void * shared = mmap( NULL, byteCount, PROT_READ, MAP_SHARED, fd, 0 );
+  if( shared == MAP_FAILED )
+    {
+    close( fd );
+    unlink( path.c_str() );
+    itkExceptionMacro(<<"BioFormatsImageIO: unable to map " << path);
+    }
+  memcpy( pData, shared, byteCount );
+  munmap( shared, byteCount );
+  close( fd );
+  unlink( path.c_str() );
+  return true;
+#endif
+}
+
 bool BioFormatsImageIO::CanWriteFile(const char* name)
 {
   itkDebugMacro("BioFormatsImageIO::CanWriteFile: name = " << name);
@@ -112,6 +112,13 @@ public:
   void CreateJavaProcess();
   void DestroyJavaProcess();
 
+  /** Decode the requested region into a memory-mapped file shared with the
+   * Java process instead of streaming it through the pipe. On by default;
+   * falls back to the pipe when no shared file can be created. */
+  itkSetMacro(UseSharedMemory, bool);
+  itkGetConstMacro(UseSharedMemory, bool);
+  itkBooleanMacro(UseSharedMemory);
+
 protected:
   BioFormatsImageIO();
   ~BioFormatsImageIO();
@@ -119,6 +126,8 @@ protected:
   virtual SizeType GetHeaderSize() const { return 0; }
 
 private:
+  bool ReadShared(void* buffer, const std::string & regionArgs, size_t byteCount);
+
   char ** toCArray( std::vector< std::string > & args )
   {
     char **argv = new char *[args.size() + 1];
@@ -135,6 +144,7 @@ private:
   char **                      m_Argv;
   itksysProcess_Pipe_Handle    m_Pipe[2];
   itksysProcess *              m_Process;
+  bool                         m_UseSharedMemory;
 };
 
 }
@@ -20,6 +20,7 @@ int main(int, char * argv[])
   ReaderType::Pointer reader = ReaderType::New();
   reader->SetFileName( argv[1] );
   itk::BioFormatsImageIO::Pointer io = itk::BioFormatsImageIO::New();
+  io->UseSharedMemoryOff();
   reader->SetImageIO( io );
   // update a first time to avoid the effect of the system cache
   reader->Update();
@@ -36,9 +37,19 @@ int main(int, char * argv[])
   ReaderType::Pointer reader2 = ReaderType::New();
   reader2->SetFileName( argv[1] );
   itk::BioFormatsImageIO::Pointer io2 = itk::BioFormatsImageIO::New();
+  io2->UseSharedMemoryOff();
   reader2->SetImageIO( io2 );
   // update a first time to avoid the effect of the system cache
   reader2->Update();
+
+  // same as reader, but the pixels are decoded into a shared mapping
+  ReaderType::Pointer reader5 = ReaderType::New();
+  reader5->SetFileName( argv[1] );
+  itk::BioFormatsImageIO::Pointer io5 = itk::BioFormatsImageIO::New();
+  io5->UseSharedMemoryOn();
+  reader5->SetImageIO( io5 );
+  // update a first time to avoid the effect of the system cache
+  reader5->Update();
   
 //   ReaderType::Pointer reader3 = ReaderType::New();
 //   reader3->SetFileName( "out.tif" );
@@ -54,10 +65,11 @@ int main(int, char * argv[])
 //   // update a first time to avoid the effect of the system cache
 //   reader4->Update();
   
-  std::cout << "1IO\txIO\txTIF\txNRRD" << std::endl;
+  std::cout << "1IO\txIO\t1SHM\txTIF\txNRRD" << std::endl;
 
   itk::TimeProbe time;
   itk::TimeProbe time2;
+  itk::TimeProbe time5;
 //   itk::TimeProbe time3;
 //   itk::TimeProbe time4;
   for( int i=0; i<10; i++ )
@@ -73,6 +85,11 @@ int main(int, char * argv[])
     reader2->Update();
     time2.Stop();
 
+    reader5->Modified();
+    time5.Start();
+    reader5->Update();
+    time5.Stop();
+
 //     io3 = itk::TIFFImageIO::New();
 //     reader3->SetImageIO( io3 );
 //     time3.Start();
@@ -88,6 +105,7 @@ int main(int, char * argv[])
   std::cout << std::setprecision(3)
     << time.GetMeanTime() << "\t" 
     << time2.GetMeanTime() << "\t" 
+    << time5.GetMeanTime() << "\t" 
 //     << time3.GetMeanTime() << "\t" 
 //     << time4.GetMeanTime() << "\t" 
     << std::endl;  
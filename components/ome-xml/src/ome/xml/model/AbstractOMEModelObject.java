@@ -24,7 +24,9 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package ome.xml.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import ome.xml.model.enums.EnumerationException;
 
@@ -112,6 +114,49 @@ public abstract class AbstractOMEModelObject implements OMEModelObject {
     return toReturn;
   }
 
+  /**
+   * Retrieves all the children of an element, grouped by tag name, in a
+   * single pass over the child nodes.  Namespace prefixes are stripped as
+   * for {@link #getChildrenByTagName(Element, String)}.
+   * @param parent DOM element to retrieve tags based upon.
+   * @return Map of tag names to the list of elements with that name, in
+   * document order.
+   */
+  public static Map<String, List<Element>> groupChildrenByTagName(
+      Element parent) {
+    Map<String, List<Element>> toReturn = new HashMap<String, List<Element>>();
+    NodeList children = parent.getChildNodes();
+    for (int i = 0; i < children.getLength(); i++) {
+      Node child = children.item(i);
+      if (child.getNodeType() == Node.ELEMENT_NODE) {
+        String name = stripNamespacePrefix(child.getNodeName());
+        List<Element> elements = toReturn.get(name);
+        if (elements == null) {
+          elements = new ArrayList<Element>();
+          toReturn.put(name, elements);
+        }
+        elements.add((Element) child);
+      }
+    }
+    return toReturn;
+  }
+
+  /**
+   * Retrieves the children with a given tag name from a map built by
+   * {@link #groupChildrenByTagName(Element)}.
+   * @param children Child elements grouped by tag name.
+   * @param name Name of the tags to retrieve.
+   * @return List of elements which have the tag <code>name</code>.
+   */
+  public static List<Element> getChildrenByTagName(
+      Map<String, List<Element>> children, String name) {
+    List<Element> toReturn = children.get(name);
+    if (toReturn == null) {
+      return new ArrayList<Element>();
+    }
+    return toReturn;
+  }
+
   /**
    * Strips the namespace prefix off of a given tag name.
    * @param v Tag name to strip the prefix from if it has one.
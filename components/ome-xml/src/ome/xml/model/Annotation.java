@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -77,49 +78,49 @@ public abstract class Annotation extends AbstractOMEModelObject
 	private String description;
 
 	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private List<Annotation> annotationList = new ReferenceList<Annotation>();
 
 	// Back reference Image_BackReference
-	private List<Image> image_BackReferenceList = new ArrayList<Image>();
+	private List<Image> image_BackReferenceList = new ReferenceList<Image>();
 
 	// Back reference Pixels_BackReference
-	private List<Pixels> pixels_BackReferenceList = new ArrayList<Pixels>();
+	private List<Pixels> pixels_BackReferenceList = new ReferenceList<Pixels>();
 
 	// Back reference Plane_BackReference
-	private List<Plane> plane_BackReferenceList = new ArrayList<Plane>();
+	private List<Plane> plane_BackReferenceList = new ReferenceList<Plane>();
 
 	// Back reference Channel_BackReference
-	private List<Channel> channel_BackReferenceList = new ArrayList<Channel>();
+	private List<Channel> channel_BackReferenceList = new ReferenceList<Channel>();
 
 	// Back reference Project_BackReference
-	private List<Project> project_BackReferenceList = new ArrayList<Project>();
+	private List<Project> project_BackReferenceList = new ReferenceList<Project>();
 
 	// Back reference Dataset_BackReference
-	private List<Dataset> dataset_BackReferenceList = new ArrayList<Dataset>();
+	private List<Dataset> dataset_BackReferenceList = new ReferenceList<Dataset>();
 
 	// Back reference Experimenter_BackReference
-	private List<Experimenter> experimenter_BackReferenceList = new ArrayList<Experimenter>();
+	private List<Experimenter> experimenter_BackReferenceList = new ReferenceList<Experimenter>();
 
 	// Back reference ROI_BackReference
-	private List<ROI> roi_backReferenceList = new ArrayList<ROI>();
+	private List<ROI> roi_backReferenceList = new ReferenceList<ROI>();
 
 	// Back reference Plate_BackReference
-	private List<Plate> plate_BackReferenceList = new ArrayList<Plate>();
+	private List<Plate> plate_BackReferenceList = new ReferenceList<Plate>();
 
 	// Back reference Reagent_BackReference
-	private List<Reagent> reagent_BackReferenceList = new ArrayList<Reagent>();
+	private List<Reagent> reagent_BackReferenceList = new ReferenceList<Reagent>();
 
 	// Back reference Screen_BackReference
-	private List<Screen> screen_BackReferenceList = new ArrayList<Screen>();
+	private List<Screen> screen_BackReferenceList = new ReferenceList<Screen>();
 
 	// Back reference PlateAcquisition_BackReference
-	private List<PlateAcquisition> plateAcquisition_BackReferenceList = new ArrayList<PlateAcquisition>();
+	private List<PlateAcquisition> plateAcquisition_BackReferenceList = new ReferenceList<PlateAcquisition>();
 
 	// Back reference Well_BackReference
-	private List<Well> well_BackReferenceList = new ArrayList<Well>();
+	private List<Well> well_BackReferenceList = new ReferenceList<Well>();
 
 	// Back reference WellSample_BackReference
-	private List<WellSample> wellSample_BackReferenceList = new ArrayList<WellSample>();
+	private List<WellSample> wellSample_BackReferenceList = new ReferenceList<WellSample>();
 
 	// -- Constructors --
 
@@ -163,6 +164,8 @@ public abstract class Annotation extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Annotation".equals(tagName))
 		{
@@ -189,7 +192,7 @@ public abstract class Annotation extends AbstractOMEModelObject
 			model.addModelObject(getID(), this);
 		}
 		List<Element> Description_nodeList =
-				getChildrenByTagName(element, "Description");
+				getChildrenByTagName(children, "Description");
 		if (Description_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -206,7 +209,7 @@ public abstract class Annotation extends AbstractOMEModelObject
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
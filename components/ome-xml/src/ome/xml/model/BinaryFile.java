@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -124,6 +125,8 @@ public class BinaryFile extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"BinaryFile".equals(tagName))
 		{
@@ -148,7 +151,7 @@ public class BinaryFile extends AbstractOMEModelObject
 					element.getAttribute("FileName")));
 		}
 		List<Element> External_nodeList =
-				getChildrenByTagName(element, "External");
+				getChildrenByTagName(children, "External");
 		if (External_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -164,7 +167,7 @@ public class BinaryFile extends AbstractOMEModelObject
 					(Element) External_nodeList.get(0), model));
 		}
 		List<Element> BinData_nodeList =
-				getChildrenByTagName(element, "BinData");
+				getChildrenByTagName(children, "BinData");
 		if (BinData_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
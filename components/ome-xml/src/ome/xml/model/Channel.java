@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -119,7 +120,7 @@ public class Channel extends AbstractOMEModelObject
 	private FilterSet filterSet;
 
 	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private List<Annotation> annotationList = new ReferenceList<Annotation>();
 
 	// Property
 	private LightPath lightPath;
@@ -166,6 +167,8 @@ public class Channel extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Channel".equals(tagName))
 		{
@@ -258,7 +261,7 @@ public class Channel extends AbstractOMEModelObject
 					element.getAttribute("SamplesPerPixel")));
 		}
 		List<Element> LightSourceSettings_nodeList =
-				getChildrenByTagName(element, "LightSourceSettings");
+				getChildrenByTagName(children, "LightSourceSettings");
 		if (LightSourceSettings_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -275,7 +278,7 @@ public class Channel extends AbstractOMEModelObject
 		}
 		// Element reference OTFRef
 		List<Element> OTFRef_nodeList =
-				getChildrenByTagName(element, "OTFRef");
+				getChildrenByTagName(children, "OTFRef");
 		for (Element OTFRef_element : OTFRef_nodeList)
 		{
 			OTFRef otf_reference = new OTFRef();
@@ -283,7 +286,7 @@ public class Channel extends AbstractOMEModelObject
 			model.addReference(this, otf_reference);
 		}
 		List<Element> DetectorSettings_nodeList =
-				getChildrenByTagName(element, "DetectorSettings");
+				getChildrenByTagName(children, "DetectorSettings");
 		if (DetectorSettings_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -300,7 +303,7 @@ public class Channel extends AbstractOMEModelObject
 		}
 		// Element reference FilterSetRef
 		List<Element> FilterSetRef_nodeList =
-				getChildrenByTagName(element, "FilterSetRef");
+				getChildrenByTagName(children, "FilterSetRef");
 		for (Element FilterSetRef_element : FilterSetRef_nodeList)
 		{
 			FilterSetRef filterSet_reference = new FilterSetRef();
@@ -309,7 +312,7 @@ public class Channel extends AbstractOMEModelObject
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
@@ -317,7 +320,7 @@ public class Channel extends AbstractOMEModelObject
 			model.addReference(this, annotationList_reference);
 		}
 		List<Element> LightPath_nodeList =
-				getChildrenByTagName(element, "LightPath");
+				getChildrenByTagName(children, "LightPath");
 		if (LightPath_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
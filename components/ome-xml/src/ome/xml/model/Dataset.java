@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -83,13 +84,13 @@ public class Dataset extends AbstractOMEModelObject
 	private Group group;
 
 	// Reference ProjectRef
-	private List<Project> projectList = new ArrayList<Project>();
+	private List<Project> projectList = new ReferenceList<Project>();
 
 	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private List<Annotation> annotationList = new ReferenceList<Annotation>();
 
 	// Back reference Image_BackReference
-	private List<Image> image_BackReferenceList = new ArrayList<Image>();
+	private List<Image> image_BackReferenceList = new ReferenceList<Image>();
 
 	// -- Constructors --
 
@@ -133,6 +134,8 @@ public class Dataset extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Dataset".equals(tagName))
 		{
@@ -159,7 +162,7 @@ public class Dataset extends AbstractOMEModelObject
 			model.addModelObject(getID(), this);
 		}
 		List<Element> Description_nodeList =
-				getChildrenByTagName(element, "Description");
+				getChildrenByTagName(children, "Description");
 		if (Description_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -176,7 +179,7 @@ public class Dataset extends AbstractOMEModelObject
 		}
 		// Element reference ExperimenterRef
 		List<Element> ExperimenterRef_nodeList =
-				getChildrenByTagName(element, "ExperimenterRef");
+				getChildrenByTagName(children, "ExperimenterRef");
 		for (Element ExperimenterRef_element : ExperimenterRef_nodeList)
 		{
 			ExperimenterRef experimenter_reference = new ExperimenterRef();
@@ -185,7 +188,7 @@ public class Dataset extends AbstractOMEModelObject
 		}
 		// Element reference GroupRef
 		List<Element> GroupRef_nodeList =
-				getChildrenByTagName(element, "GroupRef");
+				getChildrenByTagName(children, "GroupRef");
 		for (Element GroupRef_element : GroupRef_nodeList)
 		{
 			GroupRef group_reference = new GroupRef();
@@ -194,7 +197,7 @@ public class Dataset extends AbstractOMEModelObject
 		}
 		// Element reference ProjectRef
 		List<Element> ProjectRef_nodeList =
-				getChildrenByTagName(element, "ProjectRef");
+				getChildrenByTagName(children, "ProjectRef");
 		for (Element ProjectRef_element : ProjectRef_nodeList)
 		{
 			ProjectRef projectList_reference = new ProjectRef();
@@ -203,7 +206,7 @@ public class Dataset extends AbstractOMEModelObject
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
@@ -71,10 +71,10 @@ public class Dichroic extends ManufacturerSpec
 	private String id;
 
 	// Back reference FilterSet_BackReference
-	private List<FilterSet> filterSet_BackReferenceList = new ArrayList<FilterSet>();
+	private List<FilterSet> filterSet_BackReferenceList = new ReferenceList<FilterSet>();
 
 	// Back reference LightPath_BackReference
-	private List<LightPath> lightPath_BackReferenceList = new ArrayList<LightPath>();
+	private List<LightPath> lightPath_BackReferenceList = new ReferenceList<LightPath>();
 
 	// -- Constructors --
 
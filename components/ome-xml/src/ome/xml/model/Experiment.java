@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -83,7 +84,7 @@ public class Experiment extends AbstractOMEModelObject
 	private List<MicrobeamManipulation> microbeamManipulationList = new ArrayList<MicrobeamManipulation>();
 
 	// Back reference Image_BackReference
-	private List<Image> image_BackReferenceList = new ArrayList<Image>();
+	private List<Image> image_BackReferenceList = new ReferenceList<Image>();
 
 	// -- Constructors --
 
@@ -127,6 +128,8 @@ public class Experiment extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Experiment".equals(tagName))
 		{
@@ -153,7 +156,7 @@ public class Experiment extends AbstractOMEModelObject
 			model.addModelObject(getID(), this);
 		}
 		List<Element> Description_nodeList =
-				getChildrenByTagName(element, "Description");
+				getChildrenByTagName(children, "Description");
 		if (Description_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -170,7 +173,7 @@ public class Experiment extends AbstractOMEModelObject
 		}
 		// Element reference ExperimenterRef
 		List<Element> ExperimenterRef_nodeList =
-				getChildrenByTagName(element, "ExperimenterRef");
+				getChildrenByTagName(children, "ExperimenterRef");
 		for (Element ExperimenterRef_element : ExperimenterRef_nodeList)
 		{
 			ExperimenterRef experimenter_reference = new ExperimenterRef();
@@ -180,7 +183,7 @@ public class Experiment extends AbstractOMEModelObject
 		// Element property MicrobeamManipulation which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> MicrobeamManipulation_nodeList =
-				getChildrenByTagName(element, "MicrobeamManipulation");
+				getChildrenByTagName(children, "MicrobeamManipulation");
 		for (Element MicrobeamManipulation_element : MicrobeamManipulation_nodeList)
 		{
 			addMicrobeamManipulation(
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -92,25 +93,25 @@ public class Experimenter extends AbstractOMEModelObject
 	private String id;
 
 	// Reference GroupRef
-	private List<Group> groupList = new ArrayList<Group>();
+	private List<Group> groupList = new ReferenceList<Group>();
 
 	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private List<Annotation> annotationList = new ReferenceList<Annotation>();
 
 	// Back reference Image_BackReference
-	private List<Image> image_BackReferenceList = new ArrayList<Image>();
+	private List<Image> image_BackReferenceList = new ReferenceList<Image>();
 
 	// Back reference MicrobeamManipulation_BackReference
-	private List<MicrobeamManipulation> microbeamManipulation_BackReferenceList = new ArrayList<MicrobeamManipulation>();
+	private List<MicrobeamManipulation> microbeamManipulation_BackReferenceList = new ReferenceList<MicrobeamManipulation>();
 
 	// Back reference Project_BackReference
-	private List<Project> project_BackReferenceList = new ArrayList<Project>();
+	private List<Project> project_BackReferenceList = new ReferenceList<Project>();
 
 	// Back reference Dataset_BackReference
-	private List<Dataset> dataset_BackReferenceList = new ArrayList<Dataset>();
+	private List<Dataset> dataset_BackReferenceList = new ReferenceList<Dataset>();
 
 	// Back reference Experiment_BackReference
-	private List<Experiment> experiment_BackReferenceList = new ArrayList<Experiment>();
+	private List<Experiment> experiment_BackReferenceList = new ReferenceList<Experiment>();
 
 	// -- Constructors --
 
@@ -154,6 +155,8 @@ public class Experimenter extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Experimenter".equals(tagName))
 		{
@@ -217,7 +220,7 @@ public class Experimenter extends AbstractOMEModelObject
 		}
 		// Element reference GroupRef
 		List<Element> GroupRef_nodeList =
-				getChildrenByTagName(element, "GroupRef");
+				getChildrenByTagName(children, "GroupRef");
 		for (Element GroupRef_element : GroupRef_nodeList)
 		{
 			GroupRef groupList_reference = new GroupRef();
@@ -226,7 +229,7 @@ public class Experimenter extends AbstractOMEModelObject
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -112,13 +113,15 @@ public class FileAnnotation extends Annotation
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"FileAnnotation".equals(tagName))
 		{
 			LOGGER.debug("Expecting node name of FileAnnotation got {}", tagName);
 		}
 		List<Element> BinaryFile_nodeList =
-				getChildrenByTagName(element, "BinaryFile");
+				getChildrenByTagName(children, "BinaryFile");
 		if (BinaryFile_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
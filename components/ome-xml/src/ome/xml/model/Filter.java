@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -80,10 +81,10 @@ public class Filter extends ManufacturerSpec
 	private TransmittanceRange transmittanceRange;
 
 	// Back reference FilterSet_BackReference
-	private List<FilterSet> filterSet_BackReferenceList = new ArrayList<FilterSet>();
+	private List<FilterSet> filterSet_BackReferenceList = new ReferenceList<FilterSet>();
 
 	// Back reference LightPath_BackReference
-	private List<LightPath> lightPath_BackReferenceList = new ArrayList<LightPath>();
+	private List<LightPath> lightPath_BackReferenceList = new ReferenceList<LightPath>();
 
 	// -- Constructors --
 
@@ -127,6 +128,8 @@ public class Filter extends ManufacturerSpec
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Filter".equals(tagName))
 		{
@@ -159,7 +162,7 @@ public class Filter extends ManufacturerSpec
 			model.addModelObject(getID(), this);
 		}
 		List<Element> TransmittanceRange_nodeList =
-				getChildrenByTagName(element, "TransmittanceRange");
+				getChildrenByTagName(children, "TransmittanceRange");
 		if (TransmittanceRange_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
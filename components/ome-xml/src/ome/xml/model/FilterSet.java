@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,19 +72,19 @@ public class FilterSet extends ManufacturerSpec
 	private String id;
 
 	// Reference ExcitationFilterRef
-	private List<Filter> excitationFilterList = new ArrayList<Filter>();
+	private List<Filter> excitationFilterList = new ReferenceList<Filter>();
 
 	// Property
 	private Dichroic dichroic;
 
 	// Reference EmissionFilterRef
-	private List<Filter> emissionFilterList = new ArrayList<Filter>();
+	private List<Filter> emissionFilterList = new ReferenceList<Filter>();
 
 	// Back reference Channel_BackReference
-	private List<Channel> channel_BackReferenceList = new ArrayList<Channel>();
+	private List<Channel> channel_BackReferenceList = new ReferenceList<Channel>();
 
 	// Back reference OTF_BackReference
-	private List<OTF> otf_backReferenceList = new ArrayList<OTF>();
+	private List<OTF> otf_backReferenceList = new ReferenceList<OTF>();
 
 	// -- Constructors --
 
@@ -127,6 +128,8 @@ public class FilterSet extends ManufacturerSpec
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"FilterSet".equals(tagName))
 		{
@@ -148,7 +151,7 @@ public class FilterSet extends ManufacturerSpec
 		}
 		// Element reference ExcitationFilterRef
 		List<Element> ExcitationFilterRef_nodeList =
-				getChildrenByTagName(element, "ExcitationFilterRef");
+				getChildrenByTagName(children, "ExcitationFilterRef");
 		for (Element ExcitationFilterRef_element : ExcitationFilterRef_nodeList)
 		{
 			ExcitationFilterRef excitationFilterList_reference = new ExcitationFilterRef();
@@ -157,7 +160,7 @@ public class FilterSet extends ManufacturerSpec
 		}
 		// Element reference DichroicRef
 		List<Element> DichroicRef_nodeList =
-				getChildrenByTagName(element, "DichroicRef");
+				getChildrenByTagName(children, "DichroicRef");
 		for (Element DichroicRef_element : DichroicRef_nodeList)
 		{
 			DichroicRef dichroic_reference = new DichroicRef();
@@ -166,7 +169,7 @@ public class FilterSet extends ManufacturerSpec
 		}
 		// Element reference EmissionFilterRef
 		List<Element> EmissionFilterRef_nodeList =
-				getChildrenByTagName(element, "EmissionFilterRef");
+				getChildrenByTagName(children, "EmissionFilterRef");
 		for (Element EmissionFilterRef_element : EmissionFilterRef_nodeList)
 		{
 			EmissionFilterRef emissionFilterList_reference = new EmissionFilterRef();
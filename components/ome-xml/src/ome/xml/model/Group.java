@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -83,16 +84,16 @@ public class Group extends AbstractOMEModelObject
 	private Experimenter contact;
 
 	// Back reference Image_BackReference
-	private List<Image> image_BackReferenceList = new ArrayList<Image>();
+	private List<Image> image_BackReferenceList = new ReferenceList<Image>();
 
 	// Back reference Project_BackReference
-	private List<Project> project_BackReferenceList = new ArrayList<Project>();
+	private List<Project> project_BackReferenceList = new ReferenceList<Project>();
 
 	// Back reference Dataset_BackReference
-	private List<Dataset> dataset_BackReferenceList = new ArrayList<Dataset>();
+	private List<Dataset> dataset_BackReferenceList = new ReferenceList<Dataset>();
 
 	// Back reference Experimenter_BackReference
-	private List<Experimenter> experimenter_BackReferenceList = new ArrayList<Experimenter>();
+	private List<Experimenter> experimenter_BackReferenceList = new ReferenceList<Experimenter>();
 
 	// -- Constructors --
 
@@ -136,6 +137,8 @@ public class Group extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Group".equals(tagName))
 		{
@@ -162,7 +165,7 @@ public class Group extends AbstractOMEModelObject
 			model.addModelObject(getID(), this);
 		}
 		List<Element> Description_nodeList =
-				getChildrenByTagName(element, "Description");
+				getChildrenByTagName(children, "Description");
 		if (Description_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -179,7 +182,7 @@ public class Group extends AbstractOMEModelObject
 		}
 		// Element reference Leader
 		List<Element> Leader_nodeList =
-				getChildrenByTagName(element, "Leader");
+				getChildrenByTagName(children, "Leader");
 		for (Element Leader_element : Leader_nodeList)
 		{
 			Leader leader_reference = new Leader();
@@ -188,7 +191,7 @@ public class Group extends AbstractOMEModelObject
 		}
 		// Element reference Contact
 		List<Element> Contact_nodeList =
-				getChildrenByTagName(element, "Contact");
+				getChildrenByTagName(children, "Contact");
 		for (Element Contact_element : Contact_nodeList)
 		{
 			Contact contact_reference = new Contact();
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -89,7 +90,7 @@ public class Image extends AbstractOMEModelObject
 	private Group group;
 
 	// Reference DatasetRef
-	private List<Dataset> datasetList = new ArrayList<Dataset>();
+	private List<Dataset> datasetList = new ReferenceList<Dataset>();
 
 	// Property
 	private Instrument instrument;
@@ -107,16 +108,16 @@ public class Image extends AbstractOMEModelObject
 	private Pixels pixels;
 
 	// Reference ROIRef
-	private List<ROI> roiList = new ArrayList<ROI>();
+	private List<ROI> roiList = new ReferenceList<ROI>();
 
 	// Reference MicrobeamManipulationRef
-	private List<MicrobeamManipulation> microbeamManipulationList = new ArrayList<MicrobeamManipulation>();
+	private List<MicrobeamManipulation> microbeamManipulationList = new ReferenceList<MicrobeamManipulation>();
 
 	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private List<Annotation> annotationList = new ReferenceList<Annotation>();
 
 	// Back reference WellSample_BackReference
-	private List<WellSample> wellSample_BackReferenceList = new ArrayList<WellSample>();
+	private List<WellSample> wellSample_BackReferenceList = new ReferenceList<WellSample>();
 
 	// -- Constructors --
 
@@ -160,6 +161,8 @@ public class Image extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Image".equals(tagName))
 		{
@@ -186,7 +189,7 @@ public class Image extends AbstractOMEModelObject
 					element.getAttribute("Name")));
 		}
 		List<Element> AcquiredDate_nodeList =
-				getChildrenByTagName(element, "AcquiredDate");
+				getChildrenByTagName(children, "AcquiredDate");
 		if (AcquiredDate_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -203,7 +206,7 @@ public class Image extends AbstractOMEModelObject
 		}
 		// Element reference ExperimenterRef
 		List<Element> ExperimenterRef_nodeList =
-				getChildrenByTagName(element, "ExperimenterRef");
+				getChildrenByTagName(children, "ExperimenterRef");
 		for (Element ExperimenterRef_element : ExperimenterRef_nodeList)
 		{
 			ExperimenterRef experimenter_reference = new ExperimenterRef();
@@ -211,7 +214,7 @@ public class Image extends AbstractOMEModelObject
 			model.addReference(this, experimenter_reference);
 		}
 		List<Element> Description_nodeList =
-				getChildrenByTagName(element, "Description");
+				getChildrenByTagName(children, "Description");
 		if (Description_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -228,7 +231,7 @@ public class Image extends AbstractOMEModelObject
 		}
 		// Element reference ExperimentRef
 		List<Element> ExperimentRef_nodeList =
-				getChildrenByTagName(element, "ExperimentRef");
+				getChildrenByTagName(children, "ExperimentRef");
 		for (Element ExperimentRef_element : ExperimentRef_nodeList)
 		{
 			ExperimentRef experiment_reference = new ExperimentRef();
@@ -237,7 +240,7 @@ public class Image extends AbstractOMEModelObject
 		}
 		// Element reference GroupRef
 		List<Element> GroupRef_nodeList =
-				getChildrenByTagName(element, "GroupRef");
+				getChildrenByTagName(children, "GroupRef");
 		for (Element GroupRef_element : GroupRef_nodeList)
 		{
 			GroupRef group_reference = new GroupRef();
@@ -246,7 +249,7 @@ public class Image extends AbstractOMEModelObject
 		}
 		// Element reference DatasetRef
 		List<Element> DatasetRef_nodeList =
-				getChildrenByTagName(element, "DatasetRef");
+				getChildrenByTagName(children, "DatasetRef");
 		for (Element DatasetRef_element : DatasetRef_nodeList)
 		{
 			DatasetRef datasetList_reference = new DatasetRef();
@@ -255,7 +258,7 @@ public class Image extends AbstractOMEModelObject
 		}
 		// Element reference InstrumentRef
 		List<Element> InstrumentRef_nodeList =
-				getChildrenByTagName(element, "InstrumentRef");
+				getChildrenByTagName(children, "InstrumentRef");
 		for (Element InstrumentRef_element : InstrumentRef_nodeList)
 		{
 			InstrumentRef instrument_reference = new InstrumentRef();
@@ -263,7 +266,7 @@ public class Image extends AbstractOMEModelObject
 			model.addReference(this, instrument_reference);
 		}
 		List<Element> ObjectiveSettings_nodeList =
-				getChildrenByTagName(element, "ObjectiveSettings");
+				getChildrenByTagName(children, "ObjectiveSettings");
 		if (ObjectiveSettings_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -279,7 +282,7 @@ public class Image extends AbstractOMEModelObject
 					(Element) ObjectiveSettings_nodeList.get(0), model));
 		}
 		List<Element> ImagingEnvironment_nodeList =
-				getChildrenByTagName(element, "ImagingEnvironment");
+				getChildrenByTagName(children, "ImagingEnvironment");
 		if (ImagingEnvironment_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -295,7 +298,7 @@ public class Image extends AbstractOMEModelObject
 					(Element) ImagingEnvironment_nodeList.get(0), model));
 		}
 		List<Element> StageLabel_nodeList =
-				getChildrenByTagName(element, "StageLabel");
+				getChildrenByTagName(children, "StageLabel");
 		if (StageLabel_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -311,7 +314,7 @@ public class Image extends AbstractOMEModelObject
 					(Element) StageLabel_nodeList.get(0), model));
 		}
 		List<Element> Pixels_nodeList =
-				getChildrenByTagName(element, "Pixels");
+				getChildrenByTagName(children, "Pixels");
 		if (Pixels_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -328,7 +331,7 @@ public class Image extends AbstractOMEModelObject
 		}
 		// Element reference ROIRef
 		List<Element> ROIRef_nodeList =
-				getChildrenByTagName(element, "ROIRef");
+				getChildrenByTagName(children, "ROIRef");
 		for (Element ROIRef_element : ROIRef_nodeList)
 		{
 			ROIRef roiList_reference = new ROIRef();
@@ -337,7 +340,7 @@ public class Image extends AbstractOMEModelObject
 		}
 		// Element reference MicrobeamManipulationRef
 		List<Element> MicrobeamManipulationRef_nodeList =
-				getChildrenByTagName(element, "MicrobeamManipulationRef");
+				getChildrenByTagName(children, "MicrobeamManipulationRef");
 		for (Element MicrobeamManipulationRef_element : MicrobeamManipulationRef_nodeList)
 		{
 			MicrobeamManipulationRef microbeamManipulationList_reference = new MicrobeamManipulationRef();
@@ -346,7 +349,7 @@ public class Image extends AbstractOMEModelObject
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
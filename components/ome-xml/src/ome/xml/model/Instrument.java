@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,7 +96,7 @@ public class Instrument extends AbstractOMEModelObject
 	private List<OTF> otfList = new ArrayList<OTF>();
 
 	// Back reference Image_BackReference
-	private List<Image> image_BackReferenceList = new ArrayList<Image>();
+	private List<Image> image_BackReferenceList = new ReferenceList<Image>();
 
 	// -- Constructors --
 
@@ -139,6 +140,8 @@ public class Instrument extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Instrument".equals(tagName))
 		{
@@ -159,7 +162,7 @@ public class Instrument extends AbstractOMEModelObject
 			model.addModelObject(getID(), this);
 		}
 		List<Element> Microscope_nodeList =
-				getChildrenByTagName(element, "Microscope");
+				getChildrenByTagName(children, "Microscope");
 		if (Microscope_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -179,7 +182,7 @@ public class Instrument extends AbstractOMEModelObject
 		// object type is also abstract so we need to have a handler for
 		// each "subclass".
 		List<Element> LightSource_nodeList =
-				getChildrenByTagName(element, "LightSource");
+				getChildrenByTagName(children, "LightSource");
 		for (Element LightSource_element : LightSource_nodeList)
 		{
 			List<Element> Laser_nodeList = 
@@ -218,7 +221,7 @@ public class Instrument extends AbstractOMEModelObject
 		// Element property Detector which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Detector_nodeList =
-				getChildrenByTagName(element, "Detector");
+				getChildrenByTagName(children, "Detector");
 		for (Element Detector_element : Detector_nodeList)
 		{
 			addDetector(
@@ -227,7 +230,7 @@ public class Instrument extends AbstractOMEModelObject
 		// Element property Objective which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Objective_nodeList =
-				getChildrenByTagName(element, "Objective");
+				getChildrenByTagName(children, "Objective");
 		for (Element Objective_element : Objective_nodeList)
 		{
 			addObjective(
@@ -236,7 +239,7 @@ public class Instrument extends AbstractOMEModelObject
 		// Element property FilterSet which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> FilterSet_nodeList =
-				getChildrenByTagName(element, "FilterSet");
+				getChildrenByTagName(children, "FilterSet");
 		for (Element FilterSet_element : FilterSet_nodeList)
 		{
 			addFilterSet(
@@ -245,7 +248,7 @@ public class Instrument extends AbstractOMEModelObject
 		// Element property Filter which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Filter_nodeList =
-				getChildrenByTagName(element, "Filter");
+				getChildrenByTagName(children, "Filter");
 		for (Element Filter_element : Filter_nodeList)
 		{
 			addFilter(
@@ -254,7 +257,7 @@ public class Instrument extends AbstractOMEModelObject
 		// Element property Dichroic which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Dichroic_nodeList =
-				getChildrenByTagName(element, "Dichroic");
+				getChildrenByTagName(children, "Dichroic");
 		for (Element Dichroic_element : Dichroic_nodeList)
 		{
 			addDichroic(
@@ -263,7 +266,7 @@ public class Instrument extends AbstractOMEModelObject
 		// Element property OTF which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> OTF_nodeList =
-				getChildrenByTagName(element, "OTF");
+				getChildrenByTagName(children, "OTF");
 		for (Element OTF_element : OTF_nodeList)
 		{
 			addOTF(
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -136,6 +137,8 @@ public class Laser extends LightSource
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Laser".equals(tagName))
 		{
@@ -191,7 +194,7 @@ public class Laser extends LightSource
 		}
 		// Element reference Pump
 		List<Element> Pump_nodeList =
-				getChildrenByTagName(element, "Pump");
+				getChildrenByTagName(children, "Pump");
 		for (Element Pump_element : Pump_nodeList)
 		{
 			Pump pump_reference = new Pump();
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,13 +69,13 @@ public class LightPath extends AbstractOMEModelObject
 
 
 	// Reference ExcitationFilterRef
-	private List<Filter> excitationFilterList = new ArrayList<Filter>();
+	private List<Filter> excitationFilterList = new ReferenceList<Filter>();
 
 	// Property
 	private Dichroic dichroic;
 
 	// Reference EmissionFilterRef
-	private List<Filter> emissionFilterList = new ArrayList<Filter>();
+	private List<Filter> emissionFilterList = new ReferenceList<Filter>();
 
 	// -- Constructors --
 
@@ -118,6 +119,8 @@ public class LightPath extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"LightPath".equals(tagName))
 		{
@@ -125,7 +128,7 @@ public class LightPath extends AbstractOMEModelObject
 		}
 		// Element reference ExcitationFilterRef
 		List<Element> ExcitationFilterRef_nodeList =
-				getChildrenByTagName(element, "ExcitationFilterRef");
+				getChildrenByTagName(children, "ExcitationFilterRef");
 		for (Element ExcitationFilterRef_element : ExcitationFilterRef_nodeList)
 		{
 			ExcitationFilterRef excitationFilterList_reference = new ExcitationFilterRef();
@@ -134,7 +137,7 @@ public class LightPath extends AbstractOMEModelObject
 		}
 		// Element reference DichroicRef
 		List<Element> DichroicRef_nodeList =
-				getChildrenByTagName(element, "DichroicRef");
+				getChildrenByTagName(children, "DichroicRef");
 		for (Element DichroicRef_element : DichroicRef_nodeList)
 		{
 			DichroicRef dichroic_reference = new DichroicRef();
@@ -143,7 +146,7 @@ public class LightPath extends AbstractOMEModelObject
 		}
 		// Element reference EmissionFilterRef
 		List<Element> EmissionFilterRef_nodeList =
-				getChildrenByTagName(element, "EmissionFilterRef");
+				getChildrenByTagName(children, "EmissionFilterRef");
 		for (Element EmissionFilterRef_element : EmissionFilterRef_nodeList)
 		{
 			EmissionFilterRef emissionFilterList_reference = new EmissionFilterRef();
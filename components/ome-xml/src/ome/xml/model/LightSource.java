@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -123,6 +124,8 @@ public abstract class LightSource extends ManufacturerSpec
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		if (!element.hasAttribute("ID") && getID() == null)
 		{
 			// TODO: Should be its own exception
@@ -144,7 +147,7 @@ public abstract class LightSource extends ManufacturerSpec
 					element.getAttribute("Power")));
 		}
 		List<Element> Laser_nodeList =
-				getChildrenByTagName(element, "Laser");
+				getChildrenByTagName(children, "Laser");
 		if (Laser_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -156,7 +159,7 @@ public abstract class LightSource extends ManufacturerSpec
 		{
 		}
 		List<Element> Filament_nodeList =
-				getChildrenByTagName(element, "Filament");
+				getChildrenByTagName(children, "Filament");
 		if (Filament_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -168,7 +171,7 @@ public abstract class LightSource extends ManufacturerSpec
 		{
 		}
 		List<Element> Arc_nodeList =
-				getChildrenByTagName(element, "Arc");
+				getChildrenByTagName(children, "Arc");
 		if (Arc_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -180,7 +183,7 @@ public abstract class LightSource extends ManufacturerSpec
 		{
 		}
 		List<Element> LightEmittingDiode_nodeList =
-				getChildrenByTagName(element, "LightEmittingDiode");
+				getChildrenByTagName(children, "LightEmittingDiode");
 		if (LightEmittingDiode_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
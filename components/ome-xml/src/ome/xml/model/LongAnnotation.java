@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -112,13 +113,15 @@ public class LongAnnotation extends Annotation
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"LongAnnotation".equals(tagName))
 		{
 			LOGGER.debug("Expecting node name of LongAnnotation got {}", tagName);
 		}
 		List<Element> Value_nodeList =
-				getChildrenByTagName(element, "Value");
+				getChildrenByTagName(children, "Value");
 		if (Value_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
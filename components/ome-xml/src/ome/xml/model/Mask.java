@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -124,6 +125,8 @@ public class Mask extends Shape
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Mask".equals(tagName))
 		{
@@ -156,7 +159,7 @@ public class Mask extends Shape
 		// Element property BinData which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> BinData_nodeList =
-				getChildrenByTagName(element, "BinData");
+				getChildrenByTagName(children, "BinData");
 		for (Element BinData_element : BinData_nodeList)
 		{
 			addBinData(
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -77,7 +78,7 @@ public class MicrobeamManipulation extends AbstractOMEModelObject
 	private String description;
 
 	// Reference ROIRef
-	private List<ROI> roiList = new ArrayList<ROI>();
+	private List<ROI> roiList = new ReferenceList<ROI>();
 
 	// Property
 	private Experimenter experimenter;
@@ -86,7 +87,7 @@ public class MicrobeamManipulation extends AbstractOMEModelObject
 	private List<LightSourceSettings> lightSourceSettingsList = new ArrayList<LightSourceSettings>();
 
 	// Back reference Image_BackReference
-	private List<Image> image_BackReferenceList = new ArrayList<Image>();
+	private List<Image> image_BackReferenceList = new ReferenceList<Image>();
 
 	// -- Constructors --
 
@@ -130,6 +131,8 @@ public class MicrobeamManipulation extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"MicrobeamManipulation".equals(tagName))
 		{
@@ -156,7 +159,7 @@ public class MicrobeamManipulation extends AbstractOMEModelObject
 			model.addModelObject(getID(), this);
 		}
 		List<Element> Description_nodeList =
-				getChildrenByTagName(element, "Description");
+				getChildrenByTagName(children, "Description");
 		if (Description_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -173,7 +176,7 @@ public class MicrobeamManipulation extends AbstractOMEModelObject
 		}
 		// Element reference ROIRef
 		List<Element> ROIRef_nodeList =
-				getChildrenByTagName(element, "ROIRef");
+				getChildrenByTagName(children, "ROIRef");
 		for (Element ROIRef_element : ROIRef_nodeList)
 		{
 			ROIRef roiList_reference = new ROIRef();
@@ -182,7 +185,7 @@ public class MicrobeamManipulation extends AbstractOMEModelObject
 		}
 		// Element reference ExperimenterRef
 		List<Element> ExperimenterRef_nodeList =
-				getChildrenByTagName(element, "ExperimenterRef");
+				getChildrenByTagName(children, "ExperimenterRef");
 		for (Element ExperimenterRef_element : ExperimenterRef_nodeList)
 		{
 			ExperimenterRef experimenter_reference = new ExperimenterRef();
@@ -192,7 +195,7 @@ public class MicrobeamManipulation extends AbstractOMEModelObject
 		// Element property LightSourceSettings which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> LightSourceSettings_nodeList =
-				getChildrenByTagName(element, "LightSourceSettings");
+				getChildrenByTagName(children, "LightSourceSettings");
 		for (Element LightSourceSettings_element : LightSourceSettings_nodeList)
 		{
 			addLightSourceSettings(
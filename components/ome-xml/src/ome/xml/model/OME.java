@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -151,6 +152,8 @@ public class OME extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"OME".equals(tagName))
 		{
@@ -171,7 +174,7 @@ public class OME extends AbstractOMEModelObject
 		// Element property Project which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Project_nodeList =
-				getChildrenByTagName(element, "Project");
+				getChildrenByTagName(children, "Project");
 		for (Element Project_element : Project_nodeList)
 		{
 			addProject(
@@ -180,7 +183,7 @@ public class OME extends AbstractOMEModelObject
 		// Element property Dataset which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Dataset_nodeList =
-				getChildrenByTagName(element, "Dataset");
+				getChildrenByTagName(children, "Dataset");
 		for (Element Dataset_element : Dataset_nodeList)
 		{
 			addDataset(
@@ -189,7 +192,7 @@ public class OME extends AbstractOMEModelObject
 		// Element property Experiment which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Experiment_nodeList =
-				getChildrenByTagName(element, "Experiment");
+				getChildrenByTagName(children, "Experiment");
 		for (Element Experiment_element : Experiment_nodeList)
 		{
 			addExperiment(
@@ -198,7 +201,7 @@ public class OME extends AbstractOMEModelObject
 		// Element property Plate which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Plate_nodeList =
-				getChildrenByTagName(element, "Plate");
+				getChildrenByTagName(children, "Plate");
 		for (Element Plate_element : Plate_nodeList)
 		{
 			addPlate(
@@ -207,7 +210,7 @@ public class OME extends AbstractOMEModelObject
 		// Element property Screen which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Screen_nodeList =
-				getChildrenByTagName(element, "Screen");
+				getChildrenByTagName(children, "Screen");
 		for (Element Screen_element : Screen_nodeList)
 		{
 			addScreen(
@@ -216,7 +219,7 @@ public class OME extends AbstractOMEModelObject
 		// Element property Experimenter which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Experimenter_nodeList =
-				getChildrenByTagName(element, "Experimenter");
+				getChildrenByTagName(children, "Experimenter");
 		for (Element Experimenter_element : Experimenter_nodeList)
 		{
 			addExperimenter(
@@ -225,7 +228,7 @@ public class OME extends AbstractOMEModelObject
 		// Element property Group which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Group_nodeList =
-				getChildrenByTagName(element, "Group");
+				getChildrenByTagName(children, "Group");
 		for (Element Group_element : Group_nodeList)
 		{
 			addGroup(
@@ -234,7 +237,7 @@ public class OME extends AbstractOMEModelObject
 		// Element property Instrument which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Instrument_nodeList =
-				getChildrenByTagName(element, "Instrument");
+				getChildrenByTagName(children, "Instrument");
 		for (Element Instrument_element : Instrument_nodeList)
 		{
 			addInstrument(
@@ -243,14 +246,14 @@ public class OME extends AbstractOMEModelObject
 		// Element property Image which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Image_nodeList =
-				getChildrenByTagName(element, "Image");
+				getChildrenByTagName(children, "Image");
 		for (Element Image_element : Image_nodeList)
 		{
 			addImage(
 					new Image(Image_element, model));
 		}
 		List<Element> StructuredAnnotations_nodeList =
-				getChildrenByTagName(element, "StructuredAnnotations");
+				getChildrenByTagName(children, "StructuredAnnotations");
 		if (StructuredAnnotations_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -268,14 +271,14 @@ public class OME extends AbstractOMEModelObject
 		// Element property ROI which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> ROI_nodeList =
-				getChildrenByTagName(element, "ROI");
+				getChildrenByTagName(children, "ROI");
 		for (Element ROI_element : ROI_nodeList)
 		{
 			addROI(
 					new ROI(ROI_element, model));
 		}
 		List<Element> BinaryOnly_nodeList =
-				getChildrenByTagName(element, "BinaryOnly");
+				getChildrenByTagName(children, "BinaryOnly");
 		if (BinaryOnly_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -92,7 +93,7 @@ public class OTF extends AbstractOMEModelObject
 	private BinaryFile binaryFile;
 
 	// Back reference Channel_BackReference
-	private List<Channel> channel_BackReferenceList = new ArrayList<Channel>();
+	private List<Channel> channel_BackReferenceList = new ReferenceList<Channel>();
 
 	// -- Constructors --
 
@@ -136,6 +137,8 @@ public class OTF extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"OTF".equals(tagName))
 		{
@@ -180,7 +183,7 @@ public class OTF extends AbstractOMEModelObject
 					element.getAttribute("OpticalAxisAveraged")));
 		}
 		List<Element> ObjectiveSettings_nodeList =
-				getChildrenByTagName(element, "ObjectiveSettings");
+				getChildrenByTagName(children, "ObjectiveSettings");
 		if (ObjectiveSettings_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -197,7 +200,7 @@ public class OTF extends AbstractOMEModelObject
 		}
 		// Element reference FilterSetRef
 		List<Element> FilterSetRef_nodeList =
-				getChildrenByTagName(element, "FilterSetRef");
+				getChildrenByTagName(children, "FilterSetRef");
 		for (Element FilterSetRef_element : FilterSetRef_nodeList)
 		{
 			FilterSetRef filterSet_reference = new FilterSetRef();
@@ -205,7 +208,7 @@ public class OTF extends AbstractOMEModelObject
 			model.addReference(this, filterSet_reference);
 		}
 		List<Element> BinaryFile_nodeList =
-				getChildrenByTagName(element, "BinaryFile");
+				getChildrenByTagName(children, "BinaryFile");
 		if (BinaryFile_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -115,11 +116,12 @@ public class Pixels extends AbstractOMEModelObject
 	// Property
 	private MetadataOnly metadataOnly;
 
-	// Property which occurs more than once
-	private List<Plane> planeList = new ArrayList<Plane>();
+	// Property which occurs more than once; stored column-wise, see
+	// PlaneTable
+	private PlaneTable planeTable = new PlaneTable();
 
 	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private List<Annotation> annotationList = new ReferenceList<Annotation>();
 
 	// -- Constructors --
 
@@ -163,6 +165,8 @@ public class Pixels extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Pixels".equals(tagName))
 		{
@@ -251,7 +255,7 @@ public class Pixels extends AbstractOMEModelObject
 		// Element property Channel which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Channel_nodeList =
-				getChildrenByTagName(element, "Channel");
+				getChildrenByTagName(children, "Channel");
 		for (Element Channel_element : Channel_nodeList)
 		{
 			addChannel(
@@ -260,7 +264,7 @@ public class Pixels extends AbstractOMEModelObject
 		// Element property BinData which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> BinData_nodeList =
-				getChildrenByTagName(element, "BinData");
+				getChildrenByTagName(children, "BinData");
 		for (Element BinData_element : BinData_nodeList)
 		{
 			addBinData(
@@ -269,14 +273,14 @@ public class Pixels extends AbstractOMEModelObject
 		// Element property TiffData which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> TiffData_nodeList =
-				getChildrenByTagName(element, "TiffData");
+				getChildrenByTagName(children, "TiffData");
 		for (Element TiffData_element : TiffData_nodeList)
 		{
 			addTiffData(
 					new TiffData(TiffData_element, model));
 		}
 		List<Element> MetadataOnly_nodeList =
-				getChildrenByTagName(element, "MetadataOnly");
+				getChildrenByTagName(children, "MetadataOnly");
 		if (MetadataOnly_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -294,15 +298,18 @@ public class Pixels extends AbstractOMEModelObject
 		// Element property Plane which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Plane_nodeList =
-				getChildrenByTagName(element, "Plane");
+				getChildrenByTagName(children, "Plane");
 		for (Element Plane_element : Plane_nodeList)
 		{
-			addPlane(
-					new Plane(Plane_element, model));
+			// Attach before populating so that any references are
+			// registered against the stored plane
+			Plane plane = new Plane();
+			addPlane(plane);
+			plane.update(Plane_element, model);
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
@@ -573,32 +580,104 @@ public class Pixels extends AbstractOMEModelObject
 	// Property which occurs more than once
 	public int sizeOfPlaneList()
 	{
-		return planeList.size();
+		return planeTable.size();
 	}
 
 	public List<Plane> copyPlaneList()
 	{
-		return new ArrayList<Plane>(planeList);
+		List<Plane> planeList = new ArrayList<Plane>(planeTable.size());
+		for (int i=0; i<planeTable.size(); i++)
+		{
+			planeList.add(planeTable.viewPlane(i));
+		}
+		return planeList;
 	}
 
 	public Plane getPlane(int index)
 	{
-		return planeList.get(index);
+		return planeTable.getPlane(index);
 	}
 
 	public Plane setPlane(int index, Plane plane)
 	{
-		return planeList.set(index, plane);
+		Plane previous = planeTable.getPlane(index);
+		if (previous != plane)
+		{
+			previous.detach();
+			plane.attach(planeTable, index);
+		}
+		return previous;
 	}
 
 	public void addPlane(Plane plane)
 	{
-		planeList.add(plane);
+		plane.attach(planeTable, planeTable.addRow());
 	}
 
 	public void removePlane(Plane plane)
 	{
-		planeList.remove(plane);
+		if (plane.getTable() == planeTable)
+		{
+			// The removed plane keeps its attributes, even if it was
+			// only a view from copyPlaneList()
+			planeTable.track(plane.getRow(), plane);
+			planeTable.removeRow(plane.getRow());
+		}
+	}
+
+	// Plane attributes, set directly in the plane table so that no Plane
+	// view is created for each plane
+	public void addEmptyPlane()
+	{
+		planeTable.addRow();
+	}
+
+	public void setPlaneDeltaT(int index, Double deltaT)
+	{
+		planeTable.setDouble(index, PlaneTable.DELTA_T, deltaT);
+	}
+
+	public void setPlaneExposureTime(int index, Double exposureTime)
+	{
+		planeTable.setDouble(index, PlaneTable.EXPOSURE_TIME, exposureTime);
+	}
+
+	public void setPlaneHashSHA1(int index, String hashSHA1)
+	{
+		planeTable.setHashSHA1(index, hashSHA1);
+	}
+
+	public void setPlanePositionX(int index, Double positionX)
+	{
+		planeTable.setDouble(index, PlaneTable.POSITION_X, positionX);
+	}
+
+	public void setPlanePositionY(int index, Double positionY)
+	{
+		planeTable.setDouble(index, PlaneTable.POSITION_Y, positionY);
+	}
+
+	public void setPlanePositionZ(int index, Double positionZ)
+	{
+		planeTable.setDouble(index, PlaneTable.POSITION_Z, positionZ);
+	}
+
+	public void setPlaneTheC(int index, NonNegativeInteger theC)
+	{
+		planeTable.setInt(index, PlaneTable.THE_C,
+				theC == null ? -1 : theC.getValue());
+	}
+
+	public void setPlaneTheT(int index, NonNegativeInteger theT)
+	{
+		planeTable.setInt(index, PlaneTable.THE_T,
+				theT == null ? -1 : theT.getValue());
+	}
+
+	public void setPlaneTheZ(int index, NonNegativeInteger theZ)
+	{
+		planeTable.setInt(index, PlaneTable.THE_Z,
+				theZ == null ? -1 : theZ.getValue());
 	}
 
 	// Reference which occurs more than once
@@ -745,12 +824,13 @@ public class Pixels extends AbstractOMEModelObject
 			// sub-elements)
 			Pixels_element.appendChild(metadataOnly.asXMLElement(document));
 		}
-		if (planeList != null)
+		if (planeTable != null)
 		{
 			// Element property Plane which is complex (has
 			// sub-elements) and occurs more than once
-			for (Plane planeList_value : planeList)
+			for (int i=0; i<planeTable.size(); i++)
 			{
+				Plane planeList_value = planeTable.viewPlane(i);
 				Pixels_element.appendChild(planeList_value.asXMLElement(document));
 			}
 		}
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,36 +67,11 @@ public class Plane extends AbstractOMEModelObject
 
 	// -- Instance variables --
 
+	// Columnar storage; this instance is a view onto one row of the
+	// table.  Unattached planes own a single row table of their own.
+	private PlaneTable table;
 
-	// Property
-	private Double exposureTime;
-
-	// Property
-	private Double positionZ;
-
-	// Property
-	private Double positionX;
-
-	// Property
-	private Double positionY;
-
-	// Property
-	private Double deltaT;
-
-	// Property
-	private NonNegativeInteger theC;
-
-	// Property
-	private NonNegativeInteger theZ;
-
-	// Property
-	private NonNegativeInteger theT;
-
-	// Property
-	private String hashSHA1;
-
-	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private int row;
 
 	// -- Constructors --
 
@@ -103,6 +79,22 @@ public class Plane extends AbstractOMEModelObject
 	public Plane()
 	{
 		super();
+		table = new PlaneTable(1);
+		row = table.addRow();
+		table.bind(row, this);
+	}
+
+	/**
+	 * Constructs a Plane which is a view onto an existing row of a
+	 * {@link PlaneTable}.
+	 * @param table Table which holds the plane attributes.
+	 * @param row Index of the plane within <code>table</code>.
+	 */
+	Plane(PlaneTable table, int row)
+	{
+		super();
+		this.table = table;
+		this.row = row;
 	}
 
 	/** 
@@ -117,11 +109,70 @@ public class Plane extends AbstractOMEModelObject
 	public Plane(Element element, OMEModel model)
 	    throws EnumerationException
 	{
+		this();
 		update(element, model);
 	}
 
 	// -- Custom content from Plane specific template --
 
+	/** Gets the table which holds this plane's attributes. */
+	PlaneTable getTable()
+	{
+		return table;
+	}
+
+	/** Gets the index of this plane within {@link #getTable()}. */
+	int getRow()
+	{
+		return row;
+	}
+
+	/**
+	 * Moves this plane's attributes into the given row of another table,
+	 * after which this instance is the view onto that row.
+	 */
+	void attach(PlaneTable newTable, int newRow)
+	{
+		newTable.copyRow(table, row, newRow);
+		table.unbind(row, this);
+		table = newTable;
+		row = newRow;
+		table.bind(row, this);
+	}
+
+	/** Moves this plane's attributes into a single row table of its own. */
+	void detach()
+	{
+		PlaneTable detached = new PlaneTable(1);
+		attach(detached, detached.addRow());
+	}
+
+	/** Called by the table when rows before this plane are removed. */
+	void setRow(int row)
+	{
+		this.row = row;
+	}
+
+	private Double getDouble(int flag)
+	{
+		if (!table.isSet(row, flag))
+		{
+			return null;
+		}
+		return table.getDouble(row, flag);
+	}
+
+	private NonNegativeInteger getNonNegativeInteger(int flag)
+	{
+		int value = table.getInt(row, flag);
+		return value < 0 ? null : new NonNegativeInteger(value);
+	}
+
+	private void setNonNegativeInteger(int flag, NonNegativeInteger value)
+	{
+		table.setInt(row, flag, value == null ? -1 : value.getValue());
+	}
+
 
 	// -- OMEModelObject API methods --
 
@@ -139,6 +190,8 @@ public class Plane extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Plane".equals(tagName))
 		{
@@ -193,7 +246,7 @@ public class Plane extends AbstractOMEModelObject
 					element.getAttribute("TheT")));
 		}
 		List<Element> HashSHA1_nodeList =
-				getChildrenByTagName(element, "HashSHA1");
+				getChildrenByTagName(children, "HashSHA1");
 		if (HashSHA1_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -210,7 +263,7 @@ public class Plane extends AbstractOMEModelObject
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
@@ -231,7 +284,9 @@ public class Plane extends AbstractOMEModelObject
 		if (reference instanceof AnnotationRef)
 		{
 			Annotation o_casted = (Annotation) o;
+			table.track(row, this);
 			o_casted.linkPlane(this);
+			List<Annotation> annotationList = table.getAnnotations(row, true);
 			if (!annotationList.contains(o_casted)) {
 				annotationList.add(o_casted);
 			}
@@ -245,126 +300,134 @@ public class Plane extends AbstractOMEModelObject
 	// Property
 	public Double getExposureTime()
 	{
-		return exposureTime;
+		return getDouble(PlaneTable.EXPOSURE_TIME);
 	}
 
 	public void setExposureTime(Double exposureTime)
 	{
-		this.exposureTime = exposureTime;
+		table.setDouble(row, PlaneTable.EXPOSURE_TIME, exposureTime);
 	}
 
 	// Property
 	public Double getPositionZ()
 	{
-		return positionZ;
+		return getDouble(PlaneTable.POSITION_Z);
 	}
 
 	public void setPositionZ(Double positionZ)
 	{
-		this.positionZ = positionZ;
+		table.setDouble(row, PlaneTable.POSITION_Z, positionZ);
 	}
 
 	// Property
 	public Double getPositionX()
 	{
-		return positionX;
+		return getDouble(PlaneTable.POSITION_X);
 	}
 
 	public void setPositionX(Double positionX)
 	{
-		this.positionX = positionX;
+		table.setDouble(row, PlaneTable.POSITION_X, positionX);
 	}
 
 	// Property
 	public Double getPositionY()
 	{
-		return positionY;
+		return getDouble(PlaneTable.POSITION_Y);
 	}
 
 	public void setPositionY(Double positionY)
 	{
-		this.positionY = positionY;
+		table.setDouble(row, PlaneTable.POSITION_Y, positionY);
 	}
 
 	// Property
 	public Double getDeltaT()
 	{
-		return deltaT;
+		return getDouble(PlaneTable.DELTA_T);
 	}
 
 	public void setDeltaT(Double deltaT)
 	{
-		this.deltaT = deltaT;
+		table.setDouble(row, PlaneTable.DELTA_T, deltaT);
 	}
 
 	// Property
 	public NonNegativeInteger getTheC()
 	{
-		return theC;
+		return getNonNegativeInteger(PlaneTable.THE_C);
 	}
 
 	public void setTheC(NonNegativeInteger theC)
 	{
-		this.theC = theC;
+		setNonNegativeInteger(PlaneTable.THE_C, theC);
 	}
 
 	// Property
 	public NonNegativeInteger getTheZ()
 	{
-		return theZ;
+		return getNonNegativeInteger(PlaneTable.THE_Z);
 	}
 
 	public void setTheZ(NonNegativeInteger theZ)
 	{
-		this.theZ = theZ;
+		setNonNegativeInteger(PlaneTable.THE_Z, theZ);
 	}
 
 	// Property
 	public NonNegativeInteger getTheT()
 	{
-		return theT;
+		return getNonNegativeInteger(PlaneTable.THE_T);
 	}
 
 	public void setTheT(NonNegativeInteger theT)
 	{
-		this.theT = theT;
+		setNonNegativeInteger(PlaneTable.THE_T, theT);
 	}
 
 	// Property
 	public String getHashSHA1()
 	{
-		return hashSHA1;
+		return table.getHashSHA1(row);
 	}
 
 	public void setHashSHA1(String hashSHA1)
 	{
-		this.hashSHA1 = hashSHA1;
+		table.setHashSHA1(row, hashSHA1);
 	}
 
 	// Reference which occurs more than once
 	public int sizeOfLinkedAnnotationList()
 	{
-		return annotationList.size();
+		List<Annotation> annotationList = table.getAnnotations(row, false);
+		return annotationList == null ? 0 : annotationList.size();
 	}
 
 	public List<Annotation> copyLinkedAnnotationList()
 	{
+		List<Annotation> annotationList = table.getAnnotations(row, false);
+		if (annotationList == null)
+		{
+			return new ArrayList<Annotation>();
+		}
 		return new ArrayList<Annotation>(annotationList);
 	}
 
 	public Annotation getLinkedAnnotation(int index)
 	{
-		return annotationList.get(index);
+		return table.getAnnotations(row, true).get(index);
 	}
 
 	public Annotation setLinkedAnnotation(int index, Annotation o)
 	{
-		return annotationList.set(index, o);
+		return table.getAnnotations(row, true).set(index, o);
 	}
 
 	public boolean linkAnnotation(Annotation o)
 	{
+		table.track(row, this);
 		o.linkPlane(this);
+		List<Annotation> annotationList = table.getAnnotations(row, true);
 		if (!annotationList.contains(o)) {
 			return annotationList.add(o);
 		}
@@ -374,7 +437,8 @@ public class Plane extends AbstractOMEModelObject
 	public boolean unlinkAnnotation(Annotation o)
 	{
 		o.unlinkPlane(this);
-		return annotationList.remove(o);
+		List<Annotation> annotationList = table.getAnnotations(row, false);
+		return annotationList != null && annotationList.remove(o);
 	}
 
 	public Element asXMLElement(Document document)
@@ -392,46 +456,47 @@ public class Plane extends AbstractOMEModelObject
 					document.createElementNS(NAMESPACE, "Plane");
 		}
 
-		if (exposureTime != null)
+		if (table.isSet(row, PlaneTable.EXPOSURE_TIME))
 		{
 			// Attribute property ExposureTime
-			Plane_element.setAttribute("ExposureTime", exposureTime.toString());
+			Plane_element.setAttribute("ExposureTime", getExposureTime().toString());
 		}
-		if (positionZ != null)
+		if (table.isSet(row, PlaneTable.POSITION_Z))
 		{
 			// Attribute property PositionZ
-			Plane_element.setAttribute("PositionZ", positionZ.toString());
+			Plane_element.setAttribute("PositionZ", getPositionZ().toString());
 		}
-		if (positionX != null)
+		if (table.isSet(row, PlaneTable.POSITION_X))
 		{
 			// Attribute property PositionX
-			Plane_element.setAttribute("PositionX", positionX.toString());
+			Plane_element.setAttribute("PositionX", getPositionX().toString());
 		}
-		if (positionY != null)
+		if (table.isSet(row, PlaneTable.POSITION_Y))
 		{
 			// Attribute property PositionY
-			Plane_element.setAttribute("PositionY", positionY.toString());
+			Plane_element.setAttribute("PositionY", getPositionY().toString());
 		}
-		if (deltaT != null)
+		if (table.isSet(row, PlaneTable.DELTA_T))
 		{
 			// Attribute property DeltaT
-			Plane_element.setAttribute("DeltaT", deltaT.toString());
+			Plane_element.setAttribute("DeltaT", getDeltaT().toString());
 		}
-		if (theC != null)
+		if (table.isSet(row, PlaneTable.THE_C))
 		{
 			// Attribute property TheC
-			Plane_element.setAttribute("TheC", theC.toString());
+			Plane_element.setAttribute("TheC", getTheC().toString());
 		}
-		if (theZ != null)
+		if (table.isSet(row, PlaneTable.THE_Z))
 		{
 			// Attribute property TheZ
-			Plane_element.setAttribute("TheZ", theZ.toString());
+			Plane_element.setAttribute("TheZ", getTheZ().toString());
 		}
-		if (theT != null)
+		if (table.isSet(row, PlaneTable.THE_T))
 		{
 			// Attribute property TheT
-			Plane_element.setAttribute("TheT", theT.toString());
+			Plane_element.setAttribute("TheT", getTheT().toString());
 		}
+		String hashSHA1 = getHashSHA1();
 		if (hashSHA1 != null)
 		{
 			// Element property HashSHA1 which is not complex (has no
@@ -441,6 +506,7 @@ public class Plane extends AbstractOMEModelObject
 			hashSHA1_element.setTextContent(hashSHA1.toString());
 			Plane_element.appendChild(hashSHA1_element);
 		}
+		List<Annotation> annotationList = table.getAnnotations(row, false);
 		if (annotationList != null)
 		{
 			// Reference property AnnotationRef which occurs more than once
@@ -0,0 +1,408 @@
+//
+// PlaneTable.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package ome.xml.model;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Column oriented storage for the attributes of {@link Plane} objects.
+ *
+ * Each attribute is kept in its own primitive array, indexed by row, so that
+ * a {@link Pixels} with millions of planes does not need to allocate a full
+ * object graph (boxed values, annotation lists) per plane.  {@link Plane}
+ * instances are lightweight views onto a single row of a table, created
+ * when asked for.  While a view is reachable it is the only one handed out
+ * for its row, and it follows the row when earlier rows are removed, so
+ * planes compare by identity; the table only references it weakly.
+ *
+ * The hash and annotation columns are only allocated once a row actually
+ * uses them, as most planes carry neither.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/ome-xml/src/ome/xml/model/PlaneTable.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/ome-xml/src/ome/xml/model/PlaneTable.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+final class PlaneTable {
+
+  // -- Constants --
+
+  /** Bit flags recording which attributes of a row have been set. */
+  static final int EXPOSURE_TIME = 0x01;
+  static final int POSITION_X = 0x02;
+  static final int POSITION_Y = 0x04;
+  static final int POSITION_Z = 0x08;
+  static final int DELTA_T = 0x10;
+  static final int THE_C = 0x20;
+  static final int THE_Z = 0x40;
+  static final int THE_T = 0x80;
+
+  /** Default number of rows to allocate. */
+  private static final int DEFAULT_CAPACITY = 16;
+
+  // -- Fields --
+
+  private int size;
+
+  private byte[] set;
+  private int[] theC, theZ, theT;
+  private double[] exposureTime, positionX, positionY, positionZ, deltaT;
+
+  /** Allocated on first use. */
+  private String[] hashSHA1;
+
+  /** Allocated on first use. */
+  private Object[] annotations;
+
+  /**
+   * The {@link Plane} instance which views each row, if one is still in
+   * use, so that planes may be compared by identity.
+   */
+  private View[] views;
+
+  /** Views which are no longer in use; allocated on first use. */
+  private ReferenceQueue<Plane> released;
+
+  // -- Constructors --
+
+  PlaneTable() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  PlaneTable(int capacity) {
+    set = new byte[capacity];
+    theC = new int[capacity];
+    theZ = new int[capacity];
+    theT = new int[capacity];
+    exposureTime = new double[capacity];
+    positionX = new double[capacity];
+    positionY = new double[capacity];
+    positionZ = new double[capacity];
+    deltaT = new double[capacity];
+    views = new View[capacity];
+  }
+
+  // -- PlaneTable API methods --
+
+  /** Gets the number of rows in this table. */
+  int size() {
+    return size;
+  }
+
+  /** Gets the {@link Plane} view onto the given row. */
+  Plane getPlane(int row) {
+    Plane plane = viewPlane(row);
+    track(row, plane);
+    return plane;
+  }
+
+  /**
+   * Gets the view onto the given row if one is in use, or else a new view
+   * which is not kept, for reading the rows one after another.
+   */
+  Plane viewPlane(int row) {
+    Plane plane = trackedPlane(row);
+    return plane == null ? new Plane(this, row) : plane;
+  }
+
+  /** Makes the given plane the view onto a row. */
+  void bind(int row, Plane plane) {
+    checkRow(row);
+    expunge();
+    if (released == null) released = new ReferenceQueue<Plane>();
+    views[row] = new View(plane, row, released);
+  }
+
+  /**
+   * Makes the given plane the view onto a row if it has none, for instance
+   * once a view returned by {@link #viewPlane} is linked to another object.
+   */
+  void track(int row, Plane plane) {
+    if (trackedPlane(row) == null) bind(row, plane);
+  }
+
+  /** Forgets the given plane as the view onto a row it no longer views. */
+  void unbind(int row, Plane plane) {
+    if (row < size && views[row] != null && views[row].get() == plane) {
+      views[row] = null;
+    }
+  }
+
+  /** Appends an empty row, returning its index. */
+  int addRow() {
+    ensureCapacity(size + 1);
+    return size++;
+  }
+
+  /**
+   * Removes the given row, shifting all subsequent rows down by one.
+   * The view onto the removed row keeps its attributes in a table of its
+   * own, and the views onto later rows follow them down.
+   */
+  void removeRow(int row) {
+    Plane removed = trackedPlane(row);
+    if (removed != null) removed.detach();
+    int tail = size - row - 1;
+    if (tail > 0) {
+      System.arraycopy(set, row + 1, set, row, tail);
+      System.arraycopy(theC, row + 1, theC, row, tail);
+      System.arraycopy(theZ, row + 1, theZ, row, tail);
+      System.arraycopy(theT, row + 1, theT, row, tail);
+      System.arraycopy(exposureTime, row + 1, exposureTime, row, tail);
+      System.arraycopy(positionX, row + 1, positionX, row, tail);
+      System.arraycopy(positionY, row + 1, positionY, row, tail);
+      System.arraycopy(positionZ, row + 1, positionZ, row, tail);
+      System.arraycopy(deltaT, row + 1, deltaT, row, tail);
+      if (hashSHA1 != null) {
+        System.arraycopy(hashSHA1, row + 1, hashSHA1, row, tail);
+      }
+      if (annotations != null) {
+        System.arraycopy(annotations, row + 1, annotations, row, tail);
+      }
+      System.arraycopy(views, row + 1, views, row, tail);
+      for (int i=row; i<row + tail; i++) {
+        if (views[i] == null) continue;
+        views[i].row = i;
+        Plane plane = views[i].get();
+        if (plane != null) plane.setRow(i);
+      }
+    }
+    size--;
+    clearRow(size);
+  }
+
+  /** Copies every attribute of a row from another table into this one. */
+  void copyRow(PlaneTable src, int srcRow, int dstRow) {
+    src.checkRow(srcRow);
+    checkRow(dstRow);
+    if (src == this && srcRow == dstRow) return;
+    set[dstRow] = src.set[srcRow];
+    theC[dstRow] = src.theC[srcRow];
+    theZ[dstRow] = src.theZ[srcRow];
+    theT[dstRow] = src.theT[srcRow];
+    exposureTime[dstRow] = src.exposureTime[srcRow];
+    positionX[dstRow] = src.positionX[srcRow];
+    positionY[dstRow] = src.positionY[srcRow];
+    positionZ[dstRow] = src.positionZ[srcRow];
+    deltaT[dstRow] = src.deltaT[srcRow];
+    setHashSHA1(dstRow, src.getHashSHA1(srcRow));
+    List<Annotation> list = src.getAnnotations(srcRow, false);
+    if (annotations != null) annotations[dstRow] = null;
+    if (list != null) {
+      getAnnotations(dstRow, true).addAll(list);
+    }
+  }
+
+  /** Returns true if the given attribute flag is set for a row. */
+  boolean isSet(int row, int flag) {
+    checkRow(row);
+    return (set[row] & flag) != 0;
+  }
+
+  /** Gets an integer attribute (TheC, TheZ or TheT), or -1 if unset. */
+  int getInt(int row, int flag) {
+    if (!isSet(row, flag)) return -1;
+    return intColumn(flag)[row];
+  }
+
+  /** Sets an integer attribute; a negative value marks it as unset. */
+  void setInt(int row, int flag, int value) {
+    checkRow(row);
+    if (value < 0) {
+      set[row] &= ~flag;
+      value = 0;
+    }
+    else set[row] |= flag;
+    intColumn(flag)[row] = value;
+  }
+
+  /** Gets a floating point attribute; check {@link #isSet} first. */
+  double getDouble(int row, int flag) {
+    checkRow(row);
+    return doubleColumn(flag)[row];
+  }
+
+  /** Sets a floating point attribute, or clears it if value is null. */
+  void setDouble(int row, int flag, Double value) {
+    checkRow(row);
+    if (value == null) {
+      set[row] &= ~flag;
+      doubleColumn(flag)[row] = 0;
+    }
+    else {
+      set[row] |= flag;
+      doubleColumn(flag)[row] = value.doubleValue();
+    }
+  }
+
+  String getHashSHA1(int row) {
+    checkRow(row);
+    return hashSHA1 == null ? null : hashSHA1[row];
+  }
+
+  void setHashSHA1(int row, String hash) {
+    checkRow(row);
+    if (hashSHA1 == null) {
+      if (hash == null) return;
+      hashSHA1 = new String[set.length];
+    }
+    hashSHA1[row] = hash;
+  }
+
+  /**
+   * Gets the list of annotations linked to a row.
+   * @param create whether or not to allocate the list if it does not exist
+   * @return the list, or null if it does not exist and create is false
+   */
+  @SuppressWarnings("unchecked")
+  List<Annotation> getAnnotations(int row, boolean create) {
+    checkRow(row);
+    if (annotations == null) {
+      if (!create) return null;
+      annotations = new Object[set.length];
+    }
+    List<Annotation> list = (List<Annotation>) annotations[row];
+    if (list == null && create) {
+      list = new ArrayList<Annotation>(1);
+      annotations[row] = list;
+    }
+    return list;
+  }
+
+  // -- Helper methods --
+
+  /** Gets the view onto a row which is in use, or null if there is none. */
+  private Plane trackedPlane(int row) {
+    checkRow(row);
+    expunge();
+    return views[row] == null ? null : views[row].get();
+  }
+
+  /** Drops the views which are no longer in use. */
+  private void expunge() {
+    if (released == null) return;
+    View view;
+    while ((view = (View) released.poll()) != null) {
+      if (view.row < size && views[view.row] == view) views[view.row] = null;
+    }
+  }
+
+  private void checkRow(int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException(
+        "Index: " + row + ", Size: " + size);
+    }
+  }
+
+  private void clearRow(int row) {
+    set[row] = 0;
+    views[row] = null;
+    if (hashSHA1 != null) hashSHA1[row] = null;
+    if (annotations != null) annotations[row] = null;
+  }
+
+  private int[] intColumn(int flag) {
+    switch (flag) {
+      case THE_C:
+        return theC;
+      case THE_Z:
+        return theZ;
+      case THE_T:
+        return theT;
+    }
+    throw new IllegalArgumentException("Not an integer column: " + flag);
+  }
+
+  private double[] doubleColumn(int flag) {
+    switch (flag) {
+      case EXPOSURE_TIME:
+        return exposureTime;
+      case POSITION_X:
+        return positionX;
+      case POSITION_Y:
+        return positionY;
+      case POSITION_Z:
+        return positionZ;
+      case DELTA_T:
+        return deltaT;
+    }
+    throw new IllegalArgumentException("Not a floating point column: " + flag);
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= set.length) return;
+    int n = Math.max(capacity, set.length + (set.length >> 1) + 1);
+    byte[] newSet = new byte[n];
+    System.arraycopy(set, 0, newSet, 0, size);
+    set = newSet;
+    theC = grow(theC, n);
+    theZ = grow(theZ, n);
+    theT = grow(theT, n);
+    exposureTime = grow(exposureTime, n);
+    positionX = grow(positionX, n);
+    positionY = grow(positionY, n);
+    positionZ = grow(positionZ, n);
+    deltaT = grow(deltaT, n);
+    View[] newViews = new View[n];
+    System.arraycopy(views, 0, newViews, 0, size);
+    views = newViews;
+    if (hashSHA1 != null) {
+      String[] newHash = new String[n];
+      System.arraycopy(hashSHA1, 0, newHash, 0, size);
+      hashSHA1 = newHash;
+    }
+    if (annotations != null) {
+      Object[] newAnnotations = new Object[n];
+      System.arraycopy(annotations, 0, newAnnotations, 0, size);
+      annotations = newAnnotations;
+    }
+  }
+
+  private int[] grow(int[] a, int n) {
+    int[] b = new int[n];
+    System.arraycopy(a, 0, b, 0, size);
+    return b;
+  }
+
+  private double[] grow(double[] a, int n) {
+    double[] b = new double[n];
+    System.arraycopy(a, 0, b, 0, size);
+    return b;
+  }
+
+  // -- Helper classes --
+
+  /** Weak reference to the view onto a row, which follows the row. */
+  private static final class View extends WeakReference<Plane> {
+    int row;
+
+    View(Plane plane, int row, ReferenceQueue<Plane> queue) {
+      super(plane, queue);
+      this.row = row;
+    }
+  }
+
+}
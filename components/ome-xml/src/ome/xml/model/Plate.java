@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -101,13 +102,13 @@ public class Plate extends AbstractOMEModelObject
 	private String description;
 
 	// Reference ScreenRef
-	private List<Screen> screenList = new ArrayList<Screen>();
+	private List<Screen> screenList = new ReferenceList<Screen>();
 
 	// Property which occurs more than once
 	private List<Well> wellList = new ArrayList<Well>();
 
 	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private List<Annotation> annotationList = new ReferenceList<Annotation>();
 
 	// Property which occurs more than once
 	private List<PlateAcquisition> plateAcquisitionList = new ArrayList<PlateAcquisition>();
@@ -154,6 +155,8 @@ public class Plate extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Plate".equals(tagName))
 		{
@@ -228,7 +231,7 @@ public class Plate extends AbstractOMEModelObject
 					element.getAttribute("Name")));
 		}
 		List<Element> Description_nodeList =
-				getChildrenByTagName(element, "Description");
+				getChildrenByTagName(children, "Description");
 		if (Description_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -245,7 +248,7 @@ public class Plate extends AbstractOMEModelObject
 		}
 		// Element reference ScreenRef
 		List<Element> ScreenRef_nodeList =
-				getChildrenByTagName(element, "ScreenRef");
+				getChildrenByTagName(children, "ScreenRef");
 		for (Element ScreenRef_element : ScreenRef_nodeList)
 		{
 			ScreenRef screenList_reference = new ScreenRef();
@@ -255,7 +258,7 @@ public class Plate extends AbstractOMEModelObject
 		// Element property Well which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Well_nodeList =
-				getChildrenByTagName(element, "Well");
+				getChildrenByTagName(children, "Well");
 		for (Element Well_element : Well_nodeList)
 		{
 			addWell(
@@ -263,7 +266,7 @@ public class Plate extends AbstractOMEModelObject
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
@@ -273,7 +276,7 @@ public class Plate extends AbstractOMEModelObject
 		// Element property PlateAcquisition which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> PlateAcquisition_nodeList =
-				getChildrenByTagName(element, "PlateAcquisition");
+				getChildrenByTagName(children, "PlateAcquisition");
 		for (Element PlateAcquisition_element : PlateAcquisition_nodeList)
 		{
 			addPlateAcquisition(
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -86,10 +87,10 @@ public class PlateAcquisition extends AbstractOMEModelObject
 	private String description;
 
 	// Reference WellSampleRef
-	private List<WellSample> wellSampleList = new ArrayList<WellSample>();
+	private List<WellSample> wellSampleList = new ReferenceList<WellSample>();
 
 	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private List<Annotation> annotationList = new ReferenceList<Annotation>();
 
 	// -- Constructors --
 
@@ -133,6 +134,8 @@ public class PlateAcquisition extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"PlateAcquisition".equals(tagName))
 		{
@@ -177,7 +180,7 @@ public class PlateAcquisition extends AbstractOMEModelObject
 					element.getAttribute("Name")));
 		}
 		List<Element> Description_nodeList =
-				getChildrenByTagName(element, "Description");
+				getChildrenByTagName(children, "Description");
 		if (Description_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -194,7 +197,7 @@ public class PlateAcquisition extends AbstractOMEModelObject
 		}
 		// Element reference WellSampleRef
 		List<Element> WellSampleRef_nodeList =
-				getChildrenByTagName(element, "WellSampleRef");
+				getChildrenByTagName(children, "WellSampleRef");
 		for (Element WellSampleRef_element : WellSampleRef_nodeList)
 		{
 			WellSampleRef wellSampleList_reference = new WellSampleRef();
@@ -203,7 +206,7 @@ public class PlateAcquisition extends AbstractOMEModelObject
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -83,10 +84,10 @@ public class Project extends AbstractOMEModelObject
 	private Group group;
 
 	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private List<Annotation> annotationList = new ReferenceList<Annotation>();
 
 	// Back reference Dataset_BackReference
-	private List<Dataset> dataset_BackReferenceList = new ArrayList<Dataset>();
+	private List<Dataset> dataset_BackReferenceList = new ReferenceList<Dataset>();
 
 	// -- Constructors --
 
@@ -130,6 +131,8 @@ public class Project extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Project".equals(tagName))
 		{
@@ -156,7 +159,7 @@ public class Project extends AbstractOMEModelObject
 			model.addModelObject(getID(), this);
 		}
 		List<Element> Description_nodeList =
-				getChildrenByTagName(element, "Description");
+				getChildrenByTagName(children, "Description");
 		if (Description_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -173,7 +176,7 @@ public class Project extends AbstractOMEModelObject
 		}
 		// Element reference ExperimenterRef
 		List<Element> ExperimenterRef_nodeList =
-				getChildrenByTagName(element, "ExperimenterRef");
+				getChildrenByTagName(children, "ExperimenterRef");
 		for (Element ExperimenterRef_element : ExperimenterRef_nodeList)
 		{
 			ExperimenterRef experimenter_reference = new ExperimenterRef();
@@ -182,7 +185,7 @@ public class Project extends AbstractOMEModelObject
 		}
 		// Element reference GroupRef
 		List<Element> GroupRef_nodeList =
-				getChildrenByTagName(element, "GroupRef");
+				getChildrenByTagName(children, "GroupRef");
 		for (Element GroupRef_element : GroupRef_nodeList)
 		{
 			GroupRef group_reference = new GroupRef();
@@ -191,7 +194,7 @@ public class Project extends AbstractOMEModelObject
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -80,16 +81,16 @@ public class ROI extends AbstractOMEModelObject
 	private Union union;
 
 	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private List<Annotation> annotationList = new ReferenceList<Annotation>();
 
 	// Property
 	private String description;
 
 	// Back reference Image_BackReference
-	private List<Image> image_BackReferenceList = new ArrayList<Image>();
+	private List<Image> image_BackReferenceList = new ReferenceList<Image>();
 
 	// Back reference MicrobeamManipulation_BackReference
-	private List<MicrobeamManipulation> microbeamManipulation_BackReferenceList = new ArrayList<MicrobeamManipulation>();
+	private List<MicrobeamManipulation> microbeamManipulation_BackReferenceList = new ReferenceList<MicrobeamManipulation>();
 
 	// -- Constructors --
 
@@ -133,6 +134,8 @@ public class ROI extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"ROI".equals(tagName))
 		{
@@ -165,7 +168,7 @@ public class ROI extends AbstractOMEModelObject
 					element.getAttribute("Name")));
 		}
 		List<Element> Union_nodeList =
-				getChildrenByTagName(element, "Union");
+				getChildrenByTagName(children, "Union");
 		if (Union_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -182,7 +185,7 @@ public class ROI extends AbstractOMEModelObject
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
@@ -190,7 +193,7 @@ public class ROI extends AbstractOMEModelObject
 			model.addReference(this, annotationList_reference);
 		}
 		List<Element> Description_nodeList =
-				getChildrenByTagName(element, "Description");
+				getChildrenByTagName(children, "Description");
 		if (Description_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -0,0 +1,129 @@
+//
+// ReferenceList.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package ome.xml.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * List of linked model objects, used for references and back references.
+ *
+ * Linking checks that an object is not already in the list before adding
+ * it, so once a list grows beyond a handful of entries it maintains a hash
+ * index of its contents.  This keeps {@link #contains(Object)} constant time
+ * when, for example, one annotation is referenced by every plane of a large
+ * image.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/ome-xml/src/ome/xml/model/ReferenceList.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/ome-xml/src/ome/xml/model/ReferenceList.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+final class ReferenceList<T> extends AbstractList<T> implements RandomAccess {
+
+  // -- Constants --
+
+  /** Size above which the hash index is maintained. */
+  private static final int INDEX_THRESHOLD = 8;
+
+  // -- Fields --
+
+  private final List<T> items = new ArrayList<T>();
+
+  /** Number of occurrences of each item; null until the list is large. */
+  private Map<T, Integer> index;
+
+  // -- List API methods --
+
+  public T get(int i) {
+    return items.get(i);
+  }
+
+  public int size() {
+    return items.size();
+  }
+
+  public T set(int i, T o) {
+    T previous = items.set(i, o);
+    if (index != null) {
+      unindex(previous);
+      index(o);
+    }
+    return previous;
+  }
+
+  public void add(int i, T o) {
+    items.add(i, o);
+    modCount++;
+    if (index != null) index(o);
+    else if (items.size() > INDEX_THRESHOLD) {
+      index = new HashMap<T, Integer>();
+      for (T item : items) index(item);
+    }
+  }
+
+  public T remove(int i) {
+    T previous = items.remove(i);
+    modCount++;
+    if (index != null) unindex(previous);
+    return previous;
+  }
+
+  public boolean remove(Object o) {
+    if (index != null && !index.containsKey(o)) return false;
+    int i = items.indexOf(o);
+    if (i < 0) return false;
+    remove(i);
+    return true;
+  }
+
+  public boolean contains(Object o) {
+    if (index != null) return index.containsKey(o);
+    return items.contains(o);
+  }
+
+  public void clear() {
+    items.clear();
+    modCount++;
+    index = null;
+  }
+
+  // -- Helper methods --
+
+  private void index(T o) {
+    Integer count = index.get(o);
+    index.put(o, count == null ? 1 : count + 1);
+  }
+
+  private void unindex(T o) {
+    Integer count = index.get(o);
+    if (count == null) return;
+    if (count == 1) index.remove(o);
+    else index.put(o, count - 1);
+  }
+
+}
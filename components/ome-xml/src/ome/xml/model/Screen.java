@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,10 +96,10 @@ public class Screen extends AbstractOMEModelObject
 	private List<Reagent> reagentList = new ArrayList<Reagent>();
 
 	// Reference PlateRef
-	private List<Plate> plateList = new ArrayList<Plate>();
+	private List<Plate> plateList = new ReferenceList<Plate>();
 
 	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private List<Annotation> annotationList = new ReferenceList<Annotation>();
 
 	// -- Constructors --
 
@@ -142,6 +143,8 @@ public class Screen extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Screen".equals(tagName))
 		{
@@ -198,7 +201,7 @@ public class Screen extends AbstractOMEModelObject
 					element.getAttribute("ReagentSetIdentifier")));
 		}
 		List<Element> Description_nodeList =
-				getChildrenByTagName(element, "Description");
+				getChildrenByTagName(children, "Description");
 		if (Description_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -216,7 +219,7 @@ public class Screen extends AbstractOMEModelObject
 		// Element property Reagent which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> Reagent_nodeList =
-				getChildrenByTagName(element, "Reagent");
+				getChildrenByTagName(children, "Reagent");
 		for (Element Reagent_element : Reagent_nodeList)
 		{
 			addReagent(
@@ -224,7 +227,7 @@ public class Screen extends AbstractOMEModelObject
 		}
 		// Element reference PlateRef
 		List<Element> PlateRef_nodeList =
-				getChildrenByTagName(element, "PlateRef");
+				getChildrenByTagName(children, "PlateRef");
 		for (Element PlateRef_element : PlateRef_nodeList)
 		{
 			PlateRef plateList_reference = new PlateRef();
@@ -233,7 +236,7 @@ public class Screen extends AbstractOMEModelObject
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
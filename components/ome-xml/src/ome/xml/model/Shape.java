@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -182,6 +183,8 @@ public abstract class Shape extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		if (element.hasAttribute("StrokeDashArray"))
 		{
 			// Attribute property StrokeDashArray
@@ -299,7 +302,7 @@ public abstract class Shape extends AbstractOMEModelObject
 					element.getAttribute("Name")));
 		}
 		List<Element> Line_nodeList =
-				getChildrenByTagName(element, "Line");
+				getChildrenByTagName(children, "Line");
 		if (Line_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -311,7 +314,7 @@ public abstract class Shape extends AbstractOMEModelObject
 		{
 		}
 		List<Element> Rectangle_nodeList =
-				getChildrenByTagName(element, "Rectangle");
+				getChildrenByTagName(children, "Rectangle");
 		if (Rectangle_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -323,7 +326,7 @@ public abstract class Shape extends AbstractOMEModelObject
 		{
 		}
 		List<Element> Mask_nodeList =
-				getChildrenByTagName(element, "Mask");
+				getChildrenByTagName(children, "Mask");
 		if (Mask_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -335,7 +338,7 @@ public abstract class Shape extends AbstractOMEModelObject
 		{
 		}
 		List<Element> Ellipse_nodeList =
-				getChildrenByTagName(element, "Ellipse");
+				getChildrenByTagName(children, "Ellipse");
 		if (Ellipse_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -347,7 +350,7 @@ public abstract class Shape extends AbstractOMEModelObject
 		{
 		}
 		List<Element> Point_nodeList =
-				getChildrenByTagName(element, "Point");
+				getChildrenByTagName(children, "Point");
 		if (Point_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -359,7 +362,7 @@ public abstract class Shape extends AbstractOMEModelObject
 		{
 		}
 		List<Element> Polyline_nodeList =
-				getChildrenByTagName(element, "Polyline");
+				getChildrenByTagName(children, "Polyline");
 		if (Polyline_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -371,7 +374,7 @@ public abstract class Shape extends AbstractOMEModelObject
 		{
 		}
 		List<Element> Path_nodeList =
-				getChildrenByTagName(element, "Path");
+				getChildrenByTagName(children, "Path");
 		if (Path_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -383,7 +386,7 @@ public abstract class Shape extends AbstractOMEModelObject
 		{
 		}
 		List<Element> Text_nodeList =
-				getChildrenByTagName(element, "Text");
+				getChildrenByTagName(children, "Text");
 		if (Text_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -395,7 +398,7 @@ public abstract class Shape extends AbstractOMEModelObject
 		{
 		}
 		List<Element> Description_nodeList =
-				getChildrenByTagName(element, "Description");
+				getChildrenByTagName(children, "Description");
 		if (Description_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -139,6 +140,8 @@ public class StructuredAnnotations extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"StructuredAnnotations".equals(tagName))
 		{
@@ -147,7 +150,7 @@ public class StructuredAnnotations extends AbstractOMEModelObject
 		// Element property XMLAnnotation which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> XMLAnnotation_nodeList =
-				getChildrenByTagName(element, "XMLAnnotation");
+				getChildrenByTagName(children, "XMLAnnotation");
 		for (Element XMLAnnotation_element : XMLAnnotation_nodeList)
 		{
 			addXMLAnnotation(
@@ -156,7 +159,7 @@ public class StructuredAnnotations extends AbstractOMEModelObject
 		// Element property FileAnnotation which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> FileAnnotation_nodeList =
-				getChildrenByTagName(element, "FileAnnotation");
+				getChildrenByTagName(children, "FileAnnotation");
 		for (Element FileAnnotation_element : FileAnnotation_nodeList)
 		{
 			addFileAnnotation(
@@ -165,7 +168,7 @@ public class StructuredAnnotations extends AbstractOMEModelObject
 		// Element property ListAnnotation which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> ListAnnotation_nodeList =
-				getChildrenByTagName(element, "ListAnnotation");
+				getChildrenByTagName(children, "ListAnnotation");
 		for (Element ListAnnotation_element : ListAnnotation_nodeList)
 		{
 			addListAnnotation(
@@ -174,7 +177,7 @@ public class StructuredAnnotations extends AbstractOMEModelObject
 		// Element property LongAnnotation which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> LongAnnotation_nodeList =
-				getChildrenByTagName(element, "LongAnnotation");
+				getChildrenByTagName(children, "LongAnnotation");
 		for (Element LongAnnotation_element : LongAnnotation_nodeList)
 		{
 			addLongAnnotation(
@@ -183,7 +186,7 @@ public class StructuredAnnotations extends AbstractOMEModelObject
 		// Element property DoubleAnnotation which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> DoubleAnnotation_nodeList =
-				getChildrenByTagName(element, "DoubleAnnotation");
+				getChildrenByTagName(children, "DoubleAnnotation");
 		for (Element DoubleAnnotation_element : DoubleAnnotation_nodeList)
 		{
 			addDoubleAnnotation(
@@ -192,7 +195,7 @@ public class StructuredAnnotations extends AbstractOMEModelObject
 		// Element property CommentAnnotation which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> CommentAnnotation_nodeList =
-				getChildrenByTagName(element, "CommentAnnotation");
+				getChildrenByTagName(children, "CommentAnnotation");
 		for (Element CommentAnnotation_element : CommentAnnotation_nodeList)
 		{
 			addCommentAnnotation(
@@ -201,7 +204,7 @@ public class StructuredAnnotations extends AbstractOMEModelObject
 		// Element property BooleanAnnotation which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> BooleanAnnotation_nodeList =
-				getChildrenByTagName(element, "BooleanAnnotation");
+				getChildrenByTagName(children, "BooleanAnnotation");
 		for (Element BooleanAnnotation_element : BooleanAnnotation_nodeList)
 		{
 			addBooleanAnnotation(
@@ -210,7 +213,7 @@ public class StructuredAnnotations extends AbstractOMEModelObject
 		// Element property TimestampAnnotation which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> TimestampAnnotation_nodeList =
-				getChildrenByTagName(element, "TimestampAnnotation");
+				getChildrenByTagName(children, "TimestampAnnotation");
 		for (Element TimestampAnnotation_element : TimestampAnnotation_nodeList)
 		{
 			addTimestampAnnotation(
@@ -219,7 +222,7 @@ public class StructuredAnnotations extends AbstractOMEModelObject
 		// Element property TagAnnotation which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> TagAnnotation_nodeList =
-				getChildrenByTagName(element, "TagAnnotation");
+				getChildrenByTagName(children, "TagAnnotation");
 		for (Element TagAnnotation_element : TagAnnotation_nodeList)
 		{
 			addTagAnnotation(
@@ -228,7 +231,7 @@ public class StructuredAnnotations extends AbstractOMEModelObject
 		// Element property TermAnnotation which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> TermAnnotation_nodeList =
-				getChildrenByTagName(element, "TermAnnotation");
+				getChildrenByTagName(children, "TermAnnotation");
 		for (Element TermAnnotation_element : TermAnnotation_nodeList)
 		{
 			addTermAnnotation(
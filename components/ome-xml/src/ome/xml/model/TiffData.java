@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -127,6 +128,8 @@ public class TiffData extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"TiffData".equals(tagName))
 		{
@@ -163,7 +166,7 @@ public class TiffData extends AbstractOMEModelObject
 					element.getAttribute("FirstT")));
 		}
 		List<Element> UUID_nodeList =
-				getChildrenByTagName(element, "UUID");
+				getChildrenByTagName(children, "UUID");
 		if (UUID_nodeList.size() > 1)
 		{
 			// TODO: Should be its own Exception
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -112,6 +113,8 @@ public class Union extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Union".equals(tagName))
 		{
@@ -122,7 +125,7 @@ public class Union extends AbstractOMEModelObject
 		// object type is also abstract so we need to have a handler for
 		// each "subclass".
 		List<Element> Shape_nodeList =
-				getChildrenByTagName(element, "Shape");
+				getChildrenByTagName(children, "Shape");
 		for (Element Shape_element : Shape_nodeList)
 		{
 			List<Element> Line_nodeList = 
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,7 +96,7 @@ public class Well extends AbstractOMEModelObject
 	private Reagent reagent;
 
 	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private List<Annotation> annotationList = new ReferenceList<Annotation>();
 
 	// -- Constructors --
 
@@ -139,6 +140,8 @@ public class Well extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"Well".equals(tagName))
 		{
@@ -197,7 +200,7 @@ public class Well extends AbstractOMEModelObject
 		// Element property WellSample which is complex (has
 		// sub-elements) and occurs more than once
 		List<Element> WellSample_nodeList =
-				getChildrenByTagName(element, "WellSample");
+				getChildrenByTagName(children, "WellSample");
 		for (Element WellSample_element : WellSample_nodeList)
 		{
 			addWellSample(
@@ -205,7 +208,7 @@ public class Well extends AbstractOMEModelObject
 		}
 		// Element reference ReagentRef
 		List<Element> ReagentRef_nodeList =
-				getChildrenByTagName(element, "ReagentRef");
+				getChildrenByTagName(children, "ReagentRef");
 		for (Element ReagentRef_element : ReagentRef_nodeList)
 		{
 			ReagentRef reagent_reference = new ReagentRef();
@@ -214,7 +217,7 @@ public class Well extends AbstractOMEModelObject
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
@@ -40,6 +40,7 @@ package ome.xml.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -86,10 +87,10 @@ public class WellSample extends AbstractOMEModelObject
 	private Image image;
 
 	// Reference AnnotationRef
-	private List<Annotation> annotationList = new ArrayList<Annotation>();
+	private List<Annotation> annotationList = new ReferenceList<Annotation>();
 
 	// Back reference PlateAcquisition_BackReference
-	private List<PlateAcquisition> plateAcquisition_BackReferenceList = new ArrayList<PlateAcquisition>();
+	private List<PlateAcquisition> plateAcquisition_BackReferenceList = new ReferenceList<PlateAcquisition>();
 
 	// -- Constructors --
 
@@ -133,6 +134,8 @@ public class WellSample extends AbstractOMEModelObject
 	    throws EnumerationException
 	{
 		super.update(element, model);
+		// Child elements grouped by tag name, so they are only visited once
+		Map<String, List<Element>> children = groupChildrenByTagName(element);
 		String tagName = element.getTagName();
 		if (!"WellSample".equals(tagName))
 		{
@@ -178,7 +181,7 @@ public class WellSample extends AbstractOMEModelObject
 		}
 		// Element reference ImageRef
 		List<Element> ImageRef_nodeList =
-				getChildrenByTagName(element, "ImageRef");
+				getChildrenByTagName(children, "ImageRef");
 		for (Element ImageRef_element : ImageRef_nodeList)
 		{
 			ImageRef image_reference = new ImageRef();
@@ -187,7 +190,7 @@ public class WellSample extends AbstractOMEModelObject
 		}
 		// Element reference AnnotationRef
 		List<Element> AnnotationRef_nodeList =
-				getChildrenByTagName(element, "AnnotationRef");
+				getChildrenByTagName(children, "AnnotationRef");
 		for (Element AnnotationRef_element : AnnotationRef_nodeList)
 		{
 			AnnotationRef annotationList_reference = new AnnotationRef();
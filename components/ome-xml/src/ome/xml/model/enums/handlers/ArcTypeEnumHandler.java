@@ -68,6 +68,10 @@ public class ArcTypeEnumHandler implements IEnumerationHandler {
   /** Every ArcType value must match one of these patterns. */
   private static final Hashtable<String, String> patterns = makePatterns();
 
+  /** Compiled form of {@link #patterns}, with a cache of matched values. */
+  private static final EnumerationPatterns compiledPatterns =
+    new EnumerationPatterns(patterns);
+
   private static Hashtable<String, String> makePatterns() {
     Hashtable<String, String> p = new Hashtable<String, String>();
     // BEGIN Schema enumeration mappings
@@ -84,11 +88,9 @@ public class ArcTypeEnumHandler implements IEnumerationHandler {
   public Enumeration getEnumeration(String value)
     throws EnumerationException {
     if (value != null) {
-      for (String pattern : patterns.keySet()) {
-        if (value.toLowerCase().matches(pattern.toLowerCase())) {
-          String v = patterns.get(pattern);
-          return ArcType.fromString(v);
-        }
+      String v = compiledPatterns.match(value);
+      if (v != null) {
+        return ArcType.fromString(v);
       }
     }
     LOGGER.warn("Unknown {} value '{}' will be stored as \"Other\"",
@@ -0,0 +1,123 @@
+//
+// EnumerationPatterns.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package ome.xml.model.enums.handlers;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled form of an enumeration handler's pattern table.
+ *
+ * The patterns are compiled once, in the iteration order of the table they
+ * were built from, so that the first matching pattern is the same one the
+ * handlers have always picked.  Values which exactly equal one of the
+ * enumeration strings are answered from a fixed map, and other recently
+ * seen values from a small LRU cache.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/ome-xml/src/ome/xml/model/enums/handlers/EnumerationPatterns.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/ome-xml/src/ome/xml/model/enums/handlers/EnumerationPatterns.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+final class EnumerationPatterns {
+
+  // -- Constants --
+
+  /** Maximum number of non-canonical values to remember. */
+  private static final int CACHE_SIZE = 256;
+
+  // -- Fields --
+
+  /** Lower case patterns, in the order in which they are tried. */
+  private final Pattern[] patterns;
+
+  /** Enumeration value corresponding to each pattern. */
+  private final String[] values;
+
+  /** Results for values which are exactly an enumeration string. */
+  private final Map<String, String> exact = new HashMap<String, String>();
+
+  /** Results for recently matched values. */
+  private final Map<String, String> cache =
+    new LinkedHashMap<String, String>(16, 0.75f, true) {
+      protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+        return size() > CACHE_SIZE;
+      }
+    };
+
+  // -- Constructor --
+
+  /**
+   * Compiles the given table, which maps regular expressions to enumeration
+   * values.  Patterns are matched case insensitively against the whole value.
+   */
+  EnumerationPatterns(Map<String, String> table) {
+    patterns = new Pattern[table.size()];
+    values = new String[table.size()];
+    int i = 0;
+    for (Map.Entry<String, String> entry : table.entrySet()) {
+      patterns[i] = Pattern.compile(entry.getKey().toLowerCase());
+      values[i] = entry.getValue();
+      i++;
+    }
+    for (String value : values) {
+      String v = search(value);
+      if (v != null) exact.put(value, v);
+    }
+  }
+
+  // -- EnumerationPatterns API methods --
+
+  /**
+   * Finds the enumeration value for the given string.
+   * @return the enumeration value, or null if no pattern matches.
+   */
+  String match(String value) {
+    String v = exact.get(value);
+    if (v != null) return v;
+    synchronized (cache) {
+      v = cache.get(value);
+    }
+    if (v != null) return v;
+    v = search(value);
+    if (v != null) {
+      synchronized (cache) {
+        cache.put(value, v);
+      }
+    }
+    return v;
+  }
+
+  // -- Helper methods --
+
+  private String search(String value) {
+    String lower = value.toLowerCase();
+    for (int i=0; i<patterns.length; i++) {
+      if (patterns[i].matcher(lower).matches()) return values[i];
+    }
+    return null;
+  }
+
+}
@@ -68,6 +68,10 @@ public class MicrobeamManipulationTypeEnumHandler implements IEnumerationHandler
   /** Every MicrobeamManipulationType value must match one of these patterns. */
   private static final Hashtable<String, String> patterns = makePatterns();
 
+  /** Compiled form of {@link #patterns}, with a cache of matched values. */
+  private static final EnumerationPatterns compiledPatterns =
+    new EnumerationPatterns(patterns);
+
   private static Hashtable<String, String> makePatterns() {
     Hashtable<String, String> p = new Hashtable<String, String>();
     // BEGIN Schema enumeration mappings
@@ -88,11 +92,9 @@ public class MicrobeamManipulationTypeEnumHandler implements IEnumerationHandler
   public Enumeration getEnumeration(String value)
     throws EnumerationException {
     if (value != null) {
-      for (String pattern : patterns.keySet()) {
-        if (value.toLowerCase().matches(pattern.toLowerCase())) {
-          String v = patterns.get(pattern);
-          return MicrobeamManipulationType.fromString(v);
-        }
+      String v = compiledPatterns.match(value);
+      if (v != null) {
+        return MicrobeamManipulationType.fromString(v);
       }
     }
     LOGGER.warn("Unknown {} value '{}' will be stored as \"Other\"",
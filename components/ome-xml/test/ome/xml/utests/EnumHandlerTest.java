@@ -40,9 +40,11 @@ import ome.xml.model.enums.Binning;
 import ome.xml.model.enums.Correction;
 import ome.xml.model.enums.EnumerationException;
 import ome.xml.model.enums.Immersion;
+import ome.xml.model.enums.PixelType;
 import ome.xml.model.enums.handlers.BinningEnumHandler;
 import ome.xml.model.enums.handlers.CorrectionEnumHandler;
 import ome.xml.model.enums.handlers.ImmersionEnumHandler;
+import ome.xml.model.enums.handlers.PixelTypeEnumHandler;
 import ome.xml.model.primitives.NonNegativeInteger;
 
 import org.testng.annotations.Test;
@@ -117,4 +119,27 @@ public class EnumHandlerTest {
     Binning v = (Binning) handler.getEnumeration("   8 x 8  ");
     assertEquals(Binning.EIGHTXEIGHT, v);
   }
+
+  @Test
+  public void testPixelTypeExactValues() throws EnumerationException {
+    PixelTypeEnumHandler handler = new PixelTypeEnumHandler();
+    for (PixelType t : PixelType.values()) {
+      assertEquals(t, handler.getEnumeration(t.getValue()));
+    }
+  }
+
+  @Test
+  public void testImmersionRepeatedLookup() throws EnumerationException {
+    ImmersionEnumHandler handler = new ImmersionEnumHandler();
+    for (int i=0; i<1000; i++) {
+      assertEquals(Immersion.WATER, handler.getEnumeration(" Wasser " + i));
+      assertEquals(Immersion.OIL, handler.getEnumeration("oi"));
+    }
+  }
+
+  @Test(expectedExceptions={EnumerationException.class})
+  public void testPixelTypeUnknown() throws EnumerationException {
+    PixelTypeEnumHandler handler = new PixelTypeEnumHandler();
+    handler.getEnumeration("uint12");
+  }
 }
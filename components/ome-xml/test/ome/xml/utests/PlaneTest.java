@@ -0,0 +1,287 @@
+//
+// PlaneTest.java
+//
+
+/*
+ * ome.xml.utests
+ *
+ *-----------------------------------------------------------------------------
+ *
+ *  Copyright (C) 2012 Open Microscopy Environment
+ *      Massachusetts Institute of Technology,
+ *      National Institutes of Health,
+ *      University of Dundee,
+ *      University of Wisconsin-Madison
+ *
+ *
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation; either
+ *    version 2.1 of the License, or (at your option) any later version.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public
+ *    License along with this library; if not, write to the Free Software
+ *    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ *-----------------------------------------------------------------------------
+ */
+
+package ome.xml.utests;
+
+import static org.testng.AssertJUnit.*;
+
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import ome.xml.model.CommentAnnotation;
+import ome.xml.model.OMEModelImpl;
+import ome.xml.model.Pixels;
+import ome.xml.model.Plane;
+import ome.xml.model.primitives.NonNegativeInteger;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Tests the column oriented plane storage behind {@link Pixels}.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/ome-xml/test/ome/xml/utests/PlaneTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/ome-xml/test/ome/xml/utests/PlaneTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class PlaneTest {
+
+  private static final int PLANE_COUNT = 1000;
+
+  private Pixels pixels;
+
+  @BeforeMethod
+  public void setUp() {
+    pixels = new Pixels();
+    pixels.setID("Pixels:0");
+    for (int i=0; i<PLANE_COUNT; i++) {
+      Plane plane = new Plane();
+      plane.setTheZ(new NonNegativeInteger(i % 10));
+      plane.setTheT(new NonNegativeInteger(i / 10));
+      if (i % 2 == 0) {
+        plane.setDeltaT((double) i);
+      }
+      pixels.addPlane(plane);
+    }
+  }
+
+  @Test
+  public void testUnattachedPlane() {
+    Plane plane = new Plane();
+    assertNull(plane.getTheC());
+    assertNull(plane.getExposureTime());
+    plane.setTheC(new NonNegativeInteger(0));
+    plane.setExposureTime(0.5);
+    assertEquals(0, plane.getTheC().getValue().intValue());
+    assertEquals(0.5, plane.getExposureTime());
+    plane.setExposureTime(null);
+    assertNull(plane.getExposureTime());
+  }
+
+  @Test
+  public void testAddedPlanes() {
+    assertEquals(PLANE_COUNT, pixels.sizeOfPlaneList());
+    for (int i=0; i<PLANE_COUNT; i++) {
+      Plane plane = pixels.getPlane(i);
+      assertEquals(i % 10, plane.getTheZ().getValue().intValue());
+      assertEquals(i / 10, plane.getTheT().getValue().intValue());
+      assertNull(plane.getTheC());
+      if (i % 2 == 0) {
+        assertEquals((double) i, plane.getDeltaT());
+      }
+      else {
+        assertNull(plane.getDeltaT());
+      }
+    }
+  }
+
+  @Test
+  public void testWriteThrough() {
+    Plane plane = new Plane();
+    pixels.addPlane(plane);
+    plane.setPositionX(1.5);
+    Plane view = pixels.getPlane(PLANE_COUNT);
+    assertEquals(1.5, view.getPositionX());
+    assertSame(plane, view);
+    assertFalse(plane.equals(pixels.getPlane(0)));
+  }
+
+  @Test
+  public void testStableHashCode() {
+    Plane plane = new Plane();
+    Set<Plane> planes = new HashSet<Plane>();
+    planes.add(plane);
+    pixels.addPlane(plane);
+    assertTrue(planes.contains(plane));
+    pixels.removePlane(pixels.getPlane(0));
+    assertTrue(planes.contains(plane));
+    assertTrue(planes.contains(pixels.getPlane(PLANE_COUNT - 1)));
+  }
+
+  @Test(expectedExceptions={IndexOutOfBoundsException.class})
+  public void testGetPlaneOutOfBounds() {
+    pixels.getPlane(PLANE_COUNT);
+  }
+
+  @Test
+  public void testSetPlane() {
+    Plane plane = new Plane();
+    plane.setTheC(new NonNegativeInteger(3));
+    Plane stored = pixels.getPlane(5);
+    Plane previous = pixels.setPlane(5, plane);
+    assertSame(stored, previous);
+    assertEquals(5, previous.getTheZ().getValue().intValue());
+    assertSame(plane, pixels.getPlane(5));
+    assertEquals(3, pixels.getPlane(5).getTheC().getValue().intValue());
+    assertNull(pixels.getPlane(5).getTheZ());
+    assertEquals(PLANE_COUNT, pixels.sizeOfPlaneList());
+
+    // the replaced plane no longer writes through to the pixels
+    previous.setTheZ(new NonNegativeInteger(9));
+    assertNull(pixels.getPlane(5).getTheZ());
+  }
+
+  @Test
+  public void testRemovePlane() {
+    Plane removed = pixels.getPlane(0);
+    pixels.removePlane(removed);
+    assertEquals(PLANE_COUNT - 1, pixels.sizeOfPlaneList());
+    assertEquals(0, removed.getTheZ().getValue().intValue());
+    assertEquals(1, pixels.getPlane(0).getTheZ().getValue().intValue());
+    assertEquals(PLANE_COUNT - 1, pixels.copyPlaneList().size());
+  }
+
+  @Test
+  public void testRemovePlaneMovesViews() {
+    CommentAnnotation annotation = new CommentAnnotation();
+    annotation.setID("Annotation:0");
+    Plane later = pixels.getPlane(7);
+    later.linkAnnotation(annotation);
+    pixels.removePlane(pixels.getPlane(3));
+
+    // views and back-references still refer to the same plane
+    assertSame(later, pixels.getPlane(6));
+    assertEquals(7, later.getTheZ().getValue().intValue());
+    assertSame(later, annotation.getLinkedPlane(0));
+    assertEquals(annotation, later.getLinkedAnnotation(0));
+    later.setTheC(new NonNegativeInteger(2));
+    assertEquals(2, pixels.getPlane(6).getTheC().getValue().intValue());
+    assertNull(pixels.getPlane(7).getTheC());
+  }
+
+  @Test
+  public void testUnusedViewReleased() throws Exception {
+    // the pixels do not keep views which are no longer in use
+    WeakReference<Plane> view = new WeakReference<Plane>(pixels.getPlane(3));
+    for (int i=0; i<20 && view.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertNull(view.get());
+    assertEquals(3, pixels.getPlane(3).getTheZ().getValue().intValue());
+  }
+
+  @Test
+  public void testPlaneAttributeSetters() {
+    pixels.addEmptyPlane();
+    pixels.setPlaneTheC(PLANE_COUNT, new NonNegativeInteger(1));
+    pixels.setPlaneExposureTime(PLANE_COUNT, 0.25);
+    pixels.setPlaneHashSHA1(PLANE_COUNT, "abc");
+    pixels.setPlaneDeltaT(0, null);
+    assertEquals(PLANE_COUNT + 1, pixels.sizeOfPlaneList());
+    Plane plane = pixels.getPlane(PLANE_COUNT);
+    assertEquals(1, plane.getTheC().getValue().intValue());
+    assertNull(plane.getTheZ());
+    assertEquals(0.25, plane.getExposureTime());
+    assertEquals("abc", plane.getHashSHA1());
+    assertNull(pixels.getPlane(0).getDeltaT());
+
+    // existing views see the new values
+    pixels.setPlanePositionX(PLANE_COUNT, 2.0);
+    assertEquals(2.0, plane.getPositionX());
+  }
+
+  @Test
+  public void testCopiedPlanes() {
+    Plane held = pixels.getPlane(2);
+    Plane copied = pixels.copyPlaneList().get(5);
+    assertSame(held, pixels.copyPlaneList().get(2));
+    assertEquals(5, copied.getTheZ().getValue().intValue());
+
+    // a copied plane which is linked is the one returned from then on
+    CommentAnnotation annotation = new CommentAnnotation();
+    annotation.setID("Annotation:0");
+    copied.linkAnnotation(annotation);
+    assertSame(copied, pixels.getPlane(5));
+
+    Plane removed = pixels.copyPlaneList().get(0);
+    pixels.removePlane(removed);
+    assertEquals(0, removed.getTheZ().getValue().intValue());
+    assertSame(copied, pixels.getPlane(4));
+  }
+
+  @Test
+  public void testAnnotationAndHash() {
+    CommentAnnotation annotation = new CommentAnnotation();
+    annotation.setID("Annotation:0");
+    pixels.getPlane(7).linkAnnotation(annotation);
+    pixels.getPlane(7).setHashSHA1("abc");
+    assertEquals(1, pixels.getPlane(7).sizeOfLinkedAnnotationList());
+    assertEquals(0, pixels.getPlane(8).sizeOfLinkedAnnotationList());
+    assertEquals(annotation, pixels.getPlane(7).getLinkedAnnotation(0));
+    assertEquals("abc", pixels.getPlane(7).getHashSHA1());
+    assertNull(pixels.getPlane(8).getHashSHA1());
+    assertEquals(1, annotation.sizeOfLinkedPlaneList());
+    assertTrue(pixels.getPlane(7).unlinkAnnotation(annotation));
+    assertEquals(0, pixels.getPlane(7).sizeOfLinkedAnnotationList());
+  }
+
+  @Test
+  public void testSharedAnnotation() {
+    CommentAnnotation annotation = new CommentAnnotation();
+    annotation.setID("Annotation:0");
+    for (int i=0; i<PLANE_COUNT; i++) {
+      pixels.getPlane(i).linkAnnotation(annotation);
+      pixels.getPlane(i).linkAnnotation(annotation);
+    }
+    assertEquals(PLANE_COUNT, annotation.sizeOfLinkedPlaneList());
+    assertEquals(pixels.getPlane(3), annotation.getLinkedPlane(3));
+    pixels.getPlane(3).unlinkAnnotation(annotation);
+    assertEquals(PLANE_COUNT - 1, annotation.sizeOfLinkedPlaneList());
+    assertEquals(pixels.getPlane(4), annotation.getLinkedPlane(3));
+    pixels.getPlane(3).linkAnnotation(annotation);
+    assertEquals(PLANE_COUNT, annotation.sizeOfLinkedPlaneList());
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    Document document =
+      DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    Element element = pixels.asXMLElement(document);
+    Pixels copy = new Pixels(element, new OMEModelImpl());
+    assertEquals(PLANE_COUNT, copy.sizeOfPlaneList());
+    for (int i=0; i<PLANE_COUNT; i++) {
+      assertEquals(pixels.getPlane(i).getTheZ(), copy.getPlane(i).getTheZ());
+      assertEquals(pixels.getPlane(i).getTheT(), copy.getPlane(i).getTheT());
+      assertEquals(pixels.getPlane(i).getDeltaT(),
+        copy.getPlane(i).getDeltaT());
+    }
+  }
+
+}
@@ -0,0 +1,106 @@
+//
+// EnumHandlerPerformance.java
+//
+
+import java.util.Hashtable;
+
+import ome.xml.model.enums.EnumerationException;
+import ome.xml.model.enums.Immersion;
+import ome.xml.model.enums.PixelType;
+import ome.xml.model.enums.handlers.IEnumerationHandler;
+import ome.xml.model.enums.handlers.ImmersionEnumHandler;
+import ome.xml.model.enums.handlers.PixelTypeEnumHandler;
+
+/**
+ * A benchmark for enumeration handler lookups, comparing the handlers with
+ * the uncompiled regular expression search they used to perform.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/ome-xml/utils/EnumHandlerPerformance.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/ome-xml/utils/EnumHandlerPerformance.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class EnumHandlerPerformance {
+
+  private static final String[] PIXEL_TYPES = {
+    "uint8", "uint16", "float", " int32 ", "DOUBLE", "double-complex"
+  };
+
+  private static final String[] IMMERSIONS = {
+    "Oil", "Water", " Dry ", "W", "Wasser", "Glycerol"
+  };
+
+  private static int hits = 0;
+
+  /** Lookup as performed before the patterns were precompiled. */
+  private static String search(Hashtable<String, String> patterns,
+    String value)
+  {
+    for (String pattern : patterns.keySet()) {
+      if (value.toLowerCase().matches(pattern.toLowerCase())) {
+        return patterns.get(pattern);
+      }
+    }
+    return null;
+  }
+
+  private static Hashtable<String, String> pixelTypePatterns() {
+    Hashtable<String, String> p = new Hashtable<String, String>();
+    for (PixelType t : PixelType.values()) {
+      p.put("^\\s*" + t.getValue() + "\\s*", t.getValue());
+    }
+    return p;
+  }
+
+  private static Hashtable<String, String> immersionPatterns() {
+    Hashtable<String, String> p = new Hashtable<String, String>();
+    for (Immersion t : Immersion.values()) {
+      p.put("^\\s*" + t.getValue() + "\\s*", t.getValue());
+    }
+    p.put("^\\s*Dry\\s*", "Air");
+    p.put("^\\s*OI\\s*", "Oil");
+    p.put(".*Oil.*", "Oil");
+    p.put(".*Oel.*", "Oil");
+    p.put(".*Wasser.*", "Water");
+    p.put(".*Gly.*", "Glycerol");
+    p.put("^\\s*Wl\\s*", "Water");
+    p.put("^\\s*W\\s*", "Water");
+    return p;
+  }
+
+  public static void benchmark(String name, IEnumerationHandler handler,
+    Hashtable<String, String> patterns, String[] values)
+    throws EnumerationException
+  {
+    System.out.println();
+    System.out.println("--== " + name + " lookup benchmark ==--");
+
+    int loops = 10000;
+    for (int outer=0; outer<3; outer++) {
+      long start = System.currentTimeMillis();
+      for (int i=0; i<loops; i++) {
+        if (search(patterns, values[i % values.length]) != null) hits++;
+      }
+      System.out.println(loops + " uncompiled pattern searches: " +
+        (System.currentTimeMillis() - start) + " ms");
+
+      start = System.currentTimeMillis();
+      for (int i=0; i<loops; i++) {
+        if (handler.getEnumeration(values[i % values.length]) != null) hits++;
+      }
+      System.out.println(loops + " handler lookups: " +
+        (System.currentTimeMillis() - start) + " ms");
+
+      loops *= 10;
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    benchmark("PixelType", new PixelTypeEnumHandler(),
+      pixelTypePatterns(), PIXEL_TYPES);
+    benchmark("Immersion", new ImmersionEnumHandler(),
+      immersionPatterns(), IMMERSIONS);
+    System.out.println();
+    System.out.println(hits + " successful lookups");
+  }
+
+}
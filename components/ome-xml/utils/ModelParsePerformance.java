@@ -0,0 +1,116 @@
+//
+// ModelParsePerformance.java
+//
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import ome.xml.model.OME;
+import ome.xml.model.OMEModel;
+import ome.xml.model.OMEModelImpl;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * A benchmark for populating the OME model from a DOM tree, including
+ * reference resolution.  The time per plane should stay constant as the
+ * number of planes grows.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/ome-xml/utils/ModelParsePerformance.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/ome-xml/utils/ModelParsePerformance.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class ModelParsePerformance {
+
+  private static final String NAMESPACE =
+    "http://www.openmicroscopy.org/Schemas/OME/2011-06";
+
+  private static final String SA_NAMESPACE =
+    "http://www.openmicroscopy.org/Schemas/SA/2011-06";
+
+  /**
+   * Builds a single image document with the given number of planes and
+   * channels, where every plane and channel references the same annotation.
+   */
+  public static Element makeDocument(int planes, int channels)
+    throws Exception
+  {
+    Document document = DocumentBuilderFactory.newInstance()
+      .newDocumentBuilder().newDocument();
+    Element ome = document.createElementNS(NAMESPACE, "OME");
+    document.appendChild(ome);
+
+    Element image = document.createElementNS(NAMESPACE, "Image");
+    image.setAttribute("ID", "Image:0");
+    ome.appendChild(image);
+
+    Element pixels = document.createElementNS(NAMESPACE, "Pixels");
+    pixels.setAttribute("ID", "Pixels:0");
+    pixels.setAttribute("DimensionOrder", "XYCZT");
+    pixels.setAttribute("Type", "uint8");
+    pixels.setAttribute("SizeX", "1");
+    pixels.setAttribute("SizeY", "1");
+    pixels.setAttribute("SizeZ", "1");
+    pixels.setAttribute("SizeC", String.valueOf(channels));
+    pixels.setAttribute("SizeT", String.valueOf(planes / channels));
+    image.appendChild(pixels);
+
+    for (int c=0; c<channels; c++) {
+      Element channel = document.createElementNS(NAMESPACE, "Channel");
+      channel.setAttribute("ID", "Channel:0:" + c);
+      channel.appendChild(makeAnnotationRef(document));
+      pixels.appendChild(channel);
+    }
+    Element binData = document.createElementNS(
+      "http://www.openmicroscopy.org/Schemas/BinaryFile/2011-06", "BinData");
+    binData.setAttribute("BigEndian", "false");
+    binData.setAttribute("Length", "0");
+    pixels.appendChild(binData);
+    for (int p=0; p<planes; p++) {
+      Element plane = document.createElementNS(NAMESPACE, "Plane");
+      plane.setAttribute("TheZ", "0");
+      plane.setAttribute("TheC", String.valueOf(p % channels));
+      plane.setAttribute("TheT", String.valueOf(p / channels));
+      plane.setAttribute("DeltaT", String.valueOf(p));
+      plane.appendChild(makeAnnotationRef(document));
+      pixels.appendChild(plane);
+    }
+
+    Element annotations =
+      document.createElementNS(SA_NAMESPACE, "StructuredAnnotations");
+    Element comment =
+      document.createElementNS(SA_NAMESPACE, "CommentAnnotation");
+    comment.setAttribute("ID", "Annotation:0");
+    Element value = document.createElementNS(SA_NAMESPACE, "Value");
+    value.setTextContent("shared");
+    comment.appendChild(value);
+    annotations.appendChild(comment);
+    ome.appendChild(annotations);
+    return ome;
+  }
+
+  private static Element makeAnnotationRef(Document document) {
+    Element ref = document.createElementNS(SA_NAMESPACE, "AnnotationRef");
+    ref.setAttribute("ID", "Annotation:0");
+    return ref;
+  }
+
+  public static void main(String[] args) throws Exception {
+    int channels = 4;
+    for (int planes=1000; planes<=128000; planes*=2) {
+      Element root = makeDocument(planes, channels);
+      // warm up on the same document, then time a second population
+      new OME(root, new OMEModelImpl());
+      long start = System.currentTimeMillis();
+      OMEModel model = new OMEModelImpl();
+      OME ome = new OME(root, model);
+      int unresolved = model.resolveReferences();
+      long time = System.currentTimeMillis() - start;
+      System.out.println(planes + " planes: " + time + " ms (" +
+        ((time * 1000000L) / planes) + " ns/plane, " + unresolved +
+        " unresolved, " + ome.getStructuredAnnotations()
+        .getCommentAnnotation(0).sizeOfLinkedPlaneList() + " links)");
+    }
+  }
+
+}
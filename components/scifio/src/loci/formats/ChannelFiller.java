@@ -24,6 +24,7 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import loci.formats.meta.MetadataStore;
 
@@ -236,6 +237,16 @@ public class ChannelFiller extends ReaderWrapper {
     return buf;
   }
 
+  /* @see IFormatReader#openBytes(int, ByteBuffer, int, int, int, int, int, int) */
+  public ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    if (!isFilled()) {
+      return reader.openBytes(no, buf, offset, stride, x, y, w, h);
+    }
+    return FormatTools.openBytes(this, no, buf, offset, stride, x, y, w, h);
+  }
+
   // -- IFormatHandler API methods --
 
   /* @see IFormatHandler#getNativeDataType() */
@@ -24,6 +24,7 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * Logic to automatically merge channels in a file.
@@ -159,6 +160,17 @@ public class ChannelMerger extends ReaderWrapper {
     return buf;
   }
 
+  /* @see IFormatReader#openBytes(int, ByteBuffer, int, int, int, int, int, int) */
+  public ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    FormatTools.assertId(getCurrentFile(), true, 2);
+    if (!canMerge()) {
+      return super.openBytes(no, buf, offset, stride, x, y, w, h);
+    }
+    return FormatTools.openBytes(this, no, buf, offset, stride, x, y, w, h);
+  }
+
   public int getIndex(int z, int c, int t) {
     return FormatTools.getIndex(this, z, c, t);
   }
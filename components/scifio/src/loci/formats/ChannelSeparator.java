@@ -24,6 +24,9 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 
 /**
  * Logic to automatically separate the channels in a file.
@@ -42,28 +45,25 @@ public class ChannelSeparator extends ReaderWrapper {
     return new ChannelSeparator(r);
   }
 
-  // -- Fields --
-
-  /** Last image opened. */
-  private byte[] lastImage;
+  // -- Constants --
 
-  /** Index of last image opened. */
-  private int lastImageIndex = -1;
+  /** Default number of decoded regions kept in the cache. */
+  public static final int DEFAULT_CACHE_SIZE = 4;
 
-  /** Series of last image opened. */
-  private int lastImageSeries = -1;
-
-  /** X index of last image opened. */
-  private int lastImageX = -1;
+  // -- Fields --
 
-  /** Y index of last image opened. */
-  private int lastImageY = -1;
+  /**
+   * Recently decoded regions of the original images, with all channels,
+   * in least recently used order.
+   */
+  private LinkedHashMap<Region, byte[]> cache =
+    new LinkedHashMap<Region, byte[]>(16, 0.75f, true);
 
-  /** Width of last image opened. */
-  private int lastImageWidth = -1;
+  /** Maximum number of regions in the cache. */
+  private int cacheSize = DEFAULT_CACHE_SIZE;
 
-  /** Height of last image opened. */
-  private int lastImageHeight = -1;
+  /** Buffer into which strips of large regions are decoded. */
+  private byte[] stripBuffer;
 
   // -- Constructors --
 
@@ -75,6 +75,24 @@ public class ChannelSeparator extends ReaderWrapper {
 
   // -- ChannelSeparator API methods --
 
+  /**
+   * Sets the number of decoded regions which are kept, so that every
+   * channel of a recently read region is split from a single decoding of
+   * it.  A size of 0 disables the cache.
+   */
+  public void setCacheSize(int cacheSize) {
+    if (cacheSize < 0) {
+      throw new IllegalArgumentException("Negative cache size: " + cacheSize);
+    }
+    this.cacheSize = cacheSize;
+    trimCache(cacheSize);
+  }
+
+  /** Gets the number of decoded regions which are kept. */
+  public int getCacheSize() {
+    return cacheSize;
+  }
+
   /**
    * Returns the image number in the original dataset that corresponds to the
    * given image number.  For instance, if the original dataset was a single
@@ -154,61 +172,66 @@ public class ChannelSeparator extends ReaderWrapper {
       int c = getSizeC() / reader.getEffectiveSizeC();
       int source = getOriginalIndex(no);
       int channel = no % c;
-      int series = getSeries();
       int bpp = FormatTools.getBytesPerPixel(getPixelType());
+      boolean interleaved = isInterleaved();
 
-      if (source != lastImageIndex || series != lastImageSeries ||
-        x != lastImageX || y != lastImageY || w != lastImageWidth ||
-        h != lastImageHeight)
-      {
-        int strips = 1;
-
-        // check how big the original image is; if it's larger than the
-        // available memory, we will need to split it into strips
+      Region key = new Region(getCoreIndex(), source, x, y, w, h);
+      byte[] image = cache.get(key);
+      if (image != null) {
+        splitChannel(image, buf, 0, channel, c, bpp, interleaved, w * h);
+        return buf;
+      }
 
-        Runtime rt = Runtime.getRuntime();
-        long availableMemory = rt.freeMemory();
+      // check how big the original image is; if it's larger than the
+      // available memory, we will need to split it into strips
 
-        if (availableMemory < w * h * bpp * c) {
-          strips = (int) Math.sqrt(h);
-        }
+      Runtime rt = Runtime.getRuntime();
+      long availableMemory = rt.freeMemory();
 
+      if (cacheSize == 0 || availableMemory < (long) w * h * bpp * c) {
+        int strips = availableMemory < (long) w * h * bpp * c ?
+          (int) Math.sqrt(h) : 1;
         int stripHeight = h / strips;
         int lastStripHeight = stripHeight + (h - (stripHeight * strips));
-        byte[] strip = strips == 1 ? buf : new byte[stripHeight * w * bpp];
+        int stripSize = lastStripHeight * w * bpp * c;
+        if (stripBuffer == null || stripBuffer.length < stripSize) {
+          stripBuffer = new byte[stripSize];
+        }
         for (int i=0; i<strips; i++) {
-          lastImage = reader.openBytes(source, x, y + i * stripHeight, w,
-            i == strips - 1 ? lastStripHeight : stripHeight);
-          lastImageIndex = source;
-          lastImageSeries = series;
-          lastImageX = x;
-          lastImageY = y + i * stripHeight;
-          lastImageWidth = w;
-          lastImageHeight = i == strips - 1 ? lastStripHeight : stripHeight;
-
-          if (strips != 1 && lastStripHeight != stripHeight && i == strips - 1)
-          {
-            strip = new byte[lastStripHeight * w * bpp];
-          }
-
-          ImageTools.splitChannels(lastImage, strip, channel, c, bpp,
-            false, isInterleaved(), strips == 1 ? w * h * bpp : strip.length);
-          if (strips != 1) {
-            System.arraycopy(strip, 0, buf, i * stripHeight * w * bpp,
-              strip.length);
-          }
+          int height = i == strips - 1 ? lastStripHeight : stripHeight;
+          byte[] strip = reader.openBytes(source, stripBuffer, x,
+            y + i * stripHeight, w, height);
+          splitChannel(strip, buf, i * stripHeight * w * bpp, channel, c, bpp,
+            interleaved, w * height);
         }
-      }
-      else {
-        ImageTools.splitChannels(lastImage, buf, channel, c, bpp,
-          false, isInterleaved(), w * h * bpp);
+        return buf;
       }
 
+      // reuse the least recently used region's buffer if it is the same size
+      byte[] recycled = trimCache(cacheSize - 1);
+      int size = w * h * bpp * c;
+      if (recycled == null || recycled.length != size) {
+        recycled = new byte[size];
+      }
+      image = reader.openBytes(source, recycled, x, y, w, h);
+      cache.put(key, image);
+      splitChannel(image, buf, 0, channel, c, bpp, interleaved, w * h);
       return buf;
     }
     return reader.openBytes(no, buf, x, y, w, h);
   }
 
+  /* @see IFormatReader#openBytes(int, ByteBuffer, int, int, int, int, int, int) */
+  public ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    FormatTools.assertId(getCurrentFile(), true, 2);
+    if (reader.isRGB() && !reader.isIndexed()) {
+      return FormatTools.openBytes(this, no, buf, offset, stride, x, y, w, h);
+    }
+    return reader.openBytes(no, buf, offset, stride, x, y, w, h);
+  }
+
   /* @see loci.formats.IFormatReader#openThumbBytes(int) */
   public byte[] openThumbBytes(int no) throws FormatException, IOException {
     FormatTools.assertId(getCurrentFile(), true, 2);
@@ -227,13 +250,8 @@ public class ChannelSeparator extends ReaderWrapper {
   public void close(boolean fileOnly) throws IOException {
     super.close(fileOnly);
     if (!fileOnly) {
-      lastImage = null;
-      lastImageIndex = -1;
-      lastImageSeries = -1;
-      lastImageX = -1;
-      lastImageY = -1;
-      lastImageWidth = -1;
-      lastImageHeight = -1;
+      cache.clear();
+      stripBuffer = null;
     }
   }
 
@@ -256,14 +274,91 @@ public class ChannelSeparator extends ReaderWrapper {
   public void setId(String id) throws FormatException, IOException {
     super.setId(id);
 
-    // clear last image cache
-    lastImage = null;
-    lastImageIndex = -1;
-    lastImageSeries = -1;
-    lastImageX = -1;
-    lastImageY = -1;
-    lastImageWidth = -1;
-    lastImageHeight = -1;
+    // clear decoded region cache
+    cache.clear();
+  }
+
+  // -- Helper methods --
+
+  /**
+   * Removes the least recently used regions until at most the given number
+   * remain.
+   *
+   * @return the buffer of the last region removed, or null if none was
+   */
+  private byte[] trimCache(int size) {
+    byte[] removed = null;
+    Iterator<byte[]> values = cache.values().iterator();
+    while (cache.size() > Math.max(size, 0)) {
+      removed = values.next();
+      values.remove();
+    }
+    return removed;
+  }
+
+  /**
+   * Copies one channel of a decoded region into the given buffer, starting
+   * at the given offset.
+   *
+   * @param image the region, with all channels
+   * @param buf the buffer for the channel
+   * @param offset index in buf of the channel's first byte
+   * @param channel index of the channel
+   * @param c number of channels in the region
+   * @param bpp number of bytes per pixel
+   * @param interleaved true if the region's channels are interleaved
+   * @param pixels number of pixels in the region
+   */
+  private static void splitChannel(byte[] image, byte[] buf, int offset,
+    int channel, int c, int bpp, boolean interleaved, int pixels)
+  {
+    int length = Math.min(pixels * bpp, buf.length - offset);
+    if (!interleaved) {
+      System.arraycopy(image, channel * pixels * bpp, buf, offset, length);
+    }
+    else if (bpp == 1) {
+      for (int i=0, src=channel; i<length; i++, src+=c) {
+        buf[offset + i] = image[src];
+      }
+    }
+    else {
+      int stride = c * bpp;
+      for (int i=0, src=channel*bpp; i<length; i+=bpp, src+=stride) {
+        System.arraycopy(image, src, buf, offset + i, Math.min(bpp, length - i));
+      }
+    }
+  }
+
+  // -- Helper classes --
+
+  /** A region of one of the original images, at one resolution. */
+  private static class Region {
+    private int coreIndex, no, x, y, w, h;
+
+    public Region(int coreIndex, int no, int x, int y, int w, int h) {
+      this.coreIndex = coreIndex;
+      this.no = no;
+      this.x = x;
+      this.y = y;
+      this.w = w;
+      this.h = h;
+    }
+
+    public boolean equals(Object o) {
+      if (!(o instanceof Region)) return false;
+      Region r = (Region) o;
+      return coreIndex == r.coreIndex && no == r.no && x == r.x && y == r.y &&
+        w == r.w && h == r.h;
+    }
+
+    public int hashCode() {
+      int hash = coreIndex;
+      hash = 31 * hash + no;
+      hash = 31 * hash + x;
+      hash = 31 * hash + y;
+      hash = 31 * hash + w;
+      return 31 * hash + h;
+    }
   }
 
 }
@@ -135,6 +135,13 @@ public class CoreMetadata {
    */
   public boolean thumbnail;
 
+  /**
+   * Number of resolutions in the pyramid which starts with this series.
+   * The following (resolutionCount - 1) entries hold the smaller
+   * resolutions, in order of decreasing size.
+   */
+  public int resolutionCount = 1;
+
   // -- Constructors --
 
   public CoreMetadata() {
@@ -142,8 +149,17 @@ public class CoreMetadata {
   }
 
   public CoreMetadata(IFormatReader r, int seriesNo) {
-    int series = r.getSeries();
+    this(r, seriesNo, 0);
+  }
+
+  /**
+   * Copies the core metadata of the given resolution of a series.  The full
+   * resolution also records the number of resolutions in the series.
+   */
+  public CoreMetadata(IFormatReader r, int seriesNo, int resolution) {
+    int coreIndex = r.getCoreIndex();
     r.setSeries(seriesNo);
+    r.setResolution(resolution);
     sizeX = r.getSizeX();
     sizeY = r.getSizeY();
     sizeZ = r.getSizeZ();
@@ -166,7 +182,8 @@ public class CoreMetadata {
     metadataComplete = r.isMetadataComplete();
     seriesMetadata = r.getSeriesMetadata();
     thumbnail = r.isThumbnailSeries();
-    r.setSeries(series);
+    resolutionCount = resolution == 0 ? r.getResolutionCount() : 1;
+    r.setCoreIndex(coreIndex);
   }
 
   // -- Object methods --
@@ -200,6 +217,7 @@ public class CoreMetadata {
     sb.append("\n\tmetadataComplete = " + metadataComplete);
     sb.append("\n\tseriesMetadata = " + seriesMetadata.size() + " keys");
     sb.append("\n\tthumbnail = " + thumbnail);
+    sb.append("\n\tresolutionCount = " + resolutionCount);
     return sb.toString();
   }
 
@@ -113,6 +113,27 @@ public abstract class DelegateReader extends FormatReader {
     if (legacyReaderInitialized) legacyReader.setSeries(no);
   }
 
+  /* @see IFormatReader#setResolution(int) */
+  public void setResolution(int no) {
+    super.setResolution(no);
+    if (nativeReaderInitialized) nativeReader.setResolution(no);
+    if (legacyReaderInitialized) legacyReader.setResolution(no);
+  }
+
+  /* @see IFormatReader#setCoreIndex(int) */
+  public void setCoreIndex(int no) {
+    super.setCoreIndex(no);
+    if (nativeReaderInitialized) nativeReader.setCoreIndex(no);
+    if (legacyReaderInitialized) legacyReader.setCoreIndex(no);
+  }
+
+  /* @see IFormatReader#setFlattenedResolutions(boolean) */
+  public void setFlattenedResolutions(boolean flatten) {
+    super.setFlattenedResolutions(flatten);
+    nativeReader.setFlattenedResolutions(flatten);
+    legacyReader.setFlattenedResolutions(flatten);
+  }
+
   /* @see IFormatReader#setNormalized(boolean) */
   public void setNormalized(boolean normalize) {
     super.setNormalized(normalize);
@@ -250,6 +271,7 @@ public abstract class DelegateReader extends FormatReader {
       metadata = legacyReader.getGlobalMetadata();
       metadataStore = legacyReader.getMetadataStore();
     }
+    groupResolutions();
   }
 
 }
@@ -24,6 +24,7 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import loci.formats.meta.MetadataStore;
 
@@ -126,23 +127,23 @@ public class DimensionSwapper extends ReaderWrapper {
     dims[oldC] = getSizeC();
     dims[oldT] = getSizeT();
 
-    int series = getSeries();
+    int index = getCoreIndex();
 
-    core[series].sizeX = dims[newX];
-    core[series].sizeY = dims[newY];
-    core[series].sizeZ = dims[newZ];
-    core[series].sizeC = dims[newC];
-    core[series].sizeT = dims[newT];
-    //core.currentOrder[series] = order;
-    if (outputOrder[series] == null) {
-      outputOrder[series] = core[series].dimensionOrder;
+    core[index].sizeX = dims[newX];
+    core[index].sizeY = dims[newY];
+    core[index].sizeZ = dims[newZ];
+    core[index].sizeC = dims[newC];
+    core[index].sizeT = dims[newT];
+    //core.currentOrder[index] = order;
+    if (outputOrder[index] == null) {
+      outputOrder[index] = core[index].dimensionOrder;
     }
-    core[series].dimensionOrder = order;
+    core[index].dimensionOrder = order;
 
     if (oldC != newC) {
       // C was overridden; clear the sub-C dimensional metadata
-      core[series].cLengths = new int[] {getSizeC()};
-      core[series].cTypes = new String[] {FormatTools.CHANNEL};
+      core[index].cLengths = new int[] {getSizeC()};
+      core[index].cTypes = new String[] {FormatTools.CHANNEL};
     }
 
     MetadataStore store = getMetadataStore();
@@ -161,12 +162,12 @@ public class DimensionSwapper extends ReaderWrapper {
    */
   public void setOutputOrder(String outputOrder) {
     FormatTools.assertId(getCurrentFile(), true, 2);
-    this.outputOrder[getSeries()] = outputOrder;
+    this.outputOrder[getCoreIndex()] = outputOrder;
   }
 
   public String getInputOrder() {
     FormatTools.assertId(getCurrentFile(), true, 2);
-    return core[getSeries()].dimensionOrder;
+    return core[getCoreIndex()].dimensionOrder;
   }
 
   // -- IFormatReader API methods --
@@ -174,51 +175,51 @@ public class DimensionSwapper extends ReaderWrapper {
   /* @see IFormatReader#getSizeX() */
   public int getSizeX() {
     FormatTools.assertId(getCurrentFile(), true, 2);
-    return core[getSeries()].sizeX;
+    return core[getCoreIndex()].sizeX;
   }
 
   /* @see IFormatReader#getSizeY() */
   public int getSizeY() {
     FormatTools.assertId(getCurrentFile(), true, 2);
-    return core[getSeries()].sizeY;
+    return core[getCoreIndex()].sizeY;
   }
 
   /* @see IFormatReader#getSizeZ() */
   public int getSizeZ() {
     FormatTools.assertId(getCurrentFile(), true, 2);
-    return core[getSeries()].sizeZ;
+    return core[getCoreIndex()].sizeZ;
   }
 
   /* @see IFormatReader#getSizeC() */
   public int getSizeC() {
     FormatTools.assertId(getCurrentFile(), true, 2);
-    return core[getSeries()].sizeC;
+    return core[getCoreIndex()].sizeC;
   }
 
   /* @see IFormatReader#getSizeT() */
   public int getSizeT() {
     FormatTools.assertId(getCurrentFile(), true, 2);
-    return core[getSeries()].sizeT;
+    return core[getCoreIndex()].sizeT;
   }
 
   /* @see IFormatReader#getChannelDimLengths() */
   public int[] getChannelDimLengths() {
     FormatTools.assertId(getCurrentFile(), true, 2);
-    int[] cLengths = core[getSeries()].cLengths;
+    int[] cLengths = core[getCoreIndex()].cLengths;
     return cLengths == null ? super.getChannelDimLengths() : cLengths;
   }
 
   /* @see IFormatReader#getChannelDimTypes() */
   public String[] getChannelDimTypes() {
     FormatTools.assertId(getCurrentFile(), true, 2);
-    String[] cTypes = core[getSeries()].cTypes;
+    String[] cTypes = core[getCoreIndex()].cTypes;
     return cTypes == null ? super.getChannelDimTypes() : cTypes;
   }
 
   /* @see IFormatReader#getDimensionOrder() */
   public String getDimensionOrder() {
     FormatTools.assertId(getCurrentFile(), true, 2);
-    String outOrder = outputOrder[getSeries()];
+    String outOrder = outputOrder[getCoreIndex()];
     if (outOrder != null) return outOrder;
     return getInputOrder();
   }
@@ -249,6 +250,13 @@ public class DimensionSwapper extends ReaderWrapper {
     return super.openBytes(reorder(no), buf, x, y, w, h);
   }
 
+  /* @see IFormatReader#openBytes(int, ByteBuffer, int, int, int, int, int, int) */
+  public ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    return super.openBytes(reorder(no), buf, offset, stride, x, y, w, h);
+  }
+
   /* @see IFormatReader#openThumbImage(int) */
   public byte[] openThumbBytes(int no) throws FormatException, IOException {
     return super.openThumbBytes(reorder(no));
@@ -278,13 +286,14 @@ public class DimensionSwapper extends ReaderWrapper {
     String oldFile = getCurrentFile();
     super.setId(id);
     if (!id.equals(oldFile) || outputOrder == null ||
-      outputOrder.length != getSeriesCount())
+      outputOrder.length != getCoreCount())
     {
-      outputOrder = new String[getSeriesCount()];
-
       // NB: Create our own copy of the CoreMetadata,
       // which we can manipulate safely.
       core = copyCoreMetadata(reader);
+
+      // one entry for each resolution of each series
+      outputOrder = new String[core.length];
     }
   }
 
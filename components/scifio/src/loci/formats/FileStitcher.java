@@ -26,6 +26,7 @@ package loci.formats;
 import java.io.File;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -463,6 +464,31 @@ public class FileStitcher extends ReaderWrapper {
     return buf;
   }
 
+  /* @see IFormatReader#openBytes(int, ByteBuffer, int, int, int, int, int, int) */
+  public ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    FormatTools.assertId(getCurrentFile(), true, 2);
+
+    int[] pos = computeIndices(no);
+    IFormatReader r = getReader(getSeries(), pos[0]);
+    int ino = pos[1];
+
+    if (ino < r.getImageCount()) {
+      return r.openBytes(ino, buf, offset, stride, x, y, w, h);
+    }
+
+    // return a blank image to cover for the fact that
+    // this file does not contain enough image planes
+    FormatTools.checkPlaneParameters(this, no, buf, offset, stride, x, y, w, h);
+    byte[] blank = new byte[FormatTools.getRowLength(this, w)];
+    int rows = FormatTools.getRowCount(this, h);
+    for (int row=0; row<rows; row++) {
+      FormatTools.put(blank, 0, buf, offset + row * stride, blank.length);
+    }
+    return buf;
+  }
+
   /* @see IFormatReader#openPlane(int, int, int, int, int) */
   public Object openPlane(int no, int x, int y, int w, int h)
     throws FormatException, IOException
@@ -537,6 +563,50 @@ public class FileStitcher extends ReaderWrapper {
     return reader.getSeries() > 0 ? reader.getSeries() : series;
   }
 
+  /* @see IFormatReader#getResolutionCount() */
+  public int getResolutionCount() {
+    FormatTools.assertId(getCurrentFile(), true, 2);
+    return noStitch ? reader.getResolutionCount() : 1;
+  }
+
+  /* @see IFormatReader#setResolution(int) */
+  public void setResolution(int no) {
+    FormatTools.assertId(getCurrentFile(), true, 2);
+    if (noStitch) reader.setResolution(no);
+    else if (no != 0) {
+      throw new IllegalArgumentException("Invalid resolution: " + no);
+    }
+  }
+
+  /* @see IFormatReader#getResolution() */
+  public int getResolution() {
+    FormatTools.assertId(getCurrentFile(), true, 2);
+    return noStitch ? reader.getResolution() : 0;
+  }
+
+  /* @see IFormatReader#getCoreIndex() */
+  public int getCoreIndex() {
+    FormatTools.assertId(getCurrentFile(), true, 2);
+    return noStitch ? reader.getCoreIndex() : getSeries();
+  }
+
+  /* @see IFormatReader#setCoreIndex(int) */
+  public void setCoreIndex(int no) {
+    FormatTools.assertId(getCurrentFile(), true, 2);
+    if (noStitch) reader.setCoreIndex(no);
+    else setSeries(no);
+  }
+
+  /* @see IFormatReader#seriesToCoreIndex(int) */
+  public int seriesToCoreIndex(int series) {
+    return noStitch ? reader.seriesToCoreIndex(series) : series;
+  }
+
+  /* @see IFormatReader#coreIndexToSeries(int) */
+  public int coreIndexToSeries(int index) {
+    return noStitch ? reader.coreIndexToSeries(index) : index;
+  }
+
   /* @see IFormatReader#setGroupFiles(boolean) */
   public void setGroupFiles(boolean group) {
     this.group = group;
@@ -1121,14 +1191,35 @@ public class FileStitcher extends ReaderWrapper {
       files = this.pattern.getFiles();
 
       readers = new DimensionSwapper[files.length];
-      for (int i=0; i<readers.length; i++) {
-        if (classList != null) {
-          readers[i] = new DimensionSwapper(new ImageReader(classList));
+      if (classList != null) {
+        readers[0] = new DimensionSwapper(new ImageReader(classList));
+      }
+      else readers[0] = new DimensionSwapper();
+      readers[0].setGroupFiles(false);
+      readers[0].setId(files[0]);
+
+      // assume that all files are the same type, and reuse the reader class
+      // detected for the first file rather than detecting each file's type
+      Class<? extends IFormatReader> readerClass =
+        readers[0].unwrap().getClass();
+      for (int i=1; i<readers.length; i++) {
+        IFormatReader r = null;
+        try {
+          r = readerClass.newInstance();
+        }
+        catch (IllegalAccessException exc) {
+          LOGGER.debug("", exc);
+        }
+        catch (InstantiationException exc) {
+          LOGGER.debug("", exc);
         }
-        else readers[i] = new DimensionSwapper();
+        if (r == null) {
+          if (classList != null) r = new ImageReader(classList);
+          else r = new ImageReader();
+        }
+        readers[i] = new DimensionSwapper(r);
         readers[i].setGroupFiles(false);
       }
-      readers[0].setId(files[0]);
 
       ag = new AxisGuesser(this.pattern, readers[0].getDimensionOrder(),
         readers[0].getSizeZ(), readers[0].getSizeT(),
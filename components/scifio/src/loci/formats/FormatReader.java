@@ -24,6 +24,9 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Set;
@@ -161,6 +164,15 @@ public abstract class FormatReader extends FormatHandler
   /** Whether or not to group multi-file formats. */
   protected boolean group = true;
 
+  /** Whether or not to report each resolution as a separate series. */
+  protected boolean flattenedResolutions = true;
+
+  /**
+   * Core index of the full resolution of each series, if resolutions are
+   * not flattened; null if they are, or while the file is initialized.
+   */
+  private int[] resolutionBases;
+
   /** List of domains in which this format is used. */
   protected String[] domains = new String[0];
 
@@ -219,6 +231,24 @@ public abstract class FormatReader extends FormatHandler
     getMetadataStore().createRoot();
   }
 
+  /**
+   * Groups the core metadata into series of one or more resolutions, if
+   * resolutions are not flattened.  Subclasses which replace the core
+   * metadata after {@link #setId(String)} should call this again.
+   */
+  protected void groupResolutions() {
+    resolutionBases = null;
+    if (flattenedResolutions || core == null) return;
+    int count = 0;
+    int[] bases = new int[core.length];
+    for (int i=0; i<core.length; i+=Math.max(core[i].resolutionCount, 1)) {
+      bases[count++] = i;
+    }
+    resolutionBases = new int[count];
+    System.arraycopy(bases, 0, resolutionBases, 0, count);
+    series = seriesToCoreIndex(coreIndexToSeries(series));
+  }
+
   /** Returns true if the given file name is in the used files list. */
   protected boolean isUsedFile(String file) {
     String[] usedFiles = getUsedFiles();
@@ -454,6 +484,75 @@ public abstract class FormatReader extends FormatHandler
     return buf;
   }
 
+  /**
+   * Reads a raw plane from disk into the given buffer.  Each row is stored
+   * <code>stride</code> bytes after the previous one, as described by
+   * {@link IFormatReader#openBytes(int, ByteBuffer, int, int, int, int, int,
+   * int)}.  Array-backed buffers are read into directly; direct buffers are
+   * filled one row at a time.
+   */
+  protected ByteBuffer readPlane(RandomAccessInputStream s, int x, int y,
+    int w, int h, int scanlinePad, ByteBuffer buf, int offset, int stride)
+    throws IOException
+  {
+    int c = getRGBChannelCount();
+    int bpp = FormatTools.getBytesPerPixel(getPixelType());
+    int pixel = isInterleaved() ? bpp * c : bpp;
+    int planes = isInterleaved() ? 1 : c;
+    int scanlineWidth = (getSizeX() + scanlinePad) * pixel;
+    int rowLen = w * pixel;
+    byte[] row = buf.hasArray() ? null : new byte[rowLen];
+
+    for (int plane=0; plane<planes; plane++) {
+      int index = offset + plane * h * stride;
+      s.skipBytes(y * scanlineWidth);
+      if (buf.hasArray() && x == 0 && w == getSizeX() && scanlinePad == 0 &&
+        stride == rowLen)
+      {
+        s.read(buf.array(), buf.arrayOffset() + index, h * rowLen);
+      }
+      else {
+        for (int r=0; r<h; r++) {
+          s.skipBytes(x * pixel);
+          if (row == null) {
+            s.read(buf.array(), buf.arrayOffset() + index, rowLen);
+          }
+          else {
+            s.read(row, 0, rowLen);
+            FormatTools.put(row, 0, buf, index, rowLen);
+          }
+          index += stride;
+          if (r < h - 1 || plane < planes - 1) {
+            // no need to skip bytes after reading final row of final plane
+            s.skipBytes(scanlineWidth - rowLen - x * pixel);
+          }
+        }
+      }
+      if (plane < planes - 1) {
+        // no need to skip bytes after reading final plane
+        s.skipBytes(scanlineWidth * (getSizeY() - y - h));
+      }
+    }
+    return buf;
+  }
+
+  /**
+   * Checks whether this reader's class overrides
+   * {@link #openBytes(int, byte[], int, int, int, int)} below the given
+   * class.  Readers which decode straight into a {@link ByteBuffer} use this
+   * to defer to subclasses that post-process the byte array.
+   */
+  protected boolean isOpenBytesOverridden(Class<? extends FormatReader> c) {
+    try {
+      Method m = getClass().getMethod("openBytes", int.class, byte[].class,
+        int.class, int.class, int.class, int.class);
+      return m.getDeclaringClass() != c;
+    }
+    catch (NoSuchMethodException e) {
+      return true;
+    }
+  }
+
   /** Return a properly configured loci.formats.meta.FilterMetadata. */
   protected MetadataStore makeFilterMetadata() {
     return new FilterMetadata(getMetadataStore(), isMetadataFiltered());
@@ -753,6 +852,13 @@ public abstract class FormatReader extends FormatHandler
   public abstract byte[] openBytes(int no, byte[] buf, int x, int y,
     int w, int h) throws FormatException, IOException;
 
+  /* @see IFormatReader#openBytes(int, ByteBuffer, int, int, int, int, int, int) */
+  public ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    return FormatTools.openBytes(this, no, buf, offset, stride, x, y, w, h);
+  }
+
   /* @see IFormatReader#openPlane(int, int, int, int, int int) */
   public Object openPlane(int no, int x, int y, int w, int h)
     throws FormatException, IOException
@@ -773,12 +879,14 @@ public abstract class FormatReader extends FormatHandler
     if (!fileOnly) {
       in = null;
       currentId = null;
+      resolutionBases = null;
     }
   }
 
   /* @see IFormatReader#getSeriesCount() */
   public int getSeriesCount() {
     FormatTools.assertId(currentId, true, 1);
+    if (resolutionBases != null) return resolutionBases.length;
     return core.length;
   }
 
@@ -787,14 +895,78 @@ public abstract class FormatReader extends FormatHandler
     if (no < 0 || no >= getSeriesCount()) {
       throw new IllegalArgumentException("Invalid series: " + no);
     }
-    series = no;
+    series = seriesToCoreIndex(no);
   }
 
   /* @see IFormatReader#getSeries() */
   public int getSeries() {
+    return coreIndexToSeries(series);
+  }
+
+  /* @see IFormatReader#getResolutionCount() */
+  public int getResolutionCount() {
+    FormatTools.assertId(currentId, true, 1);
+    if (resolutionBases == null) return 1;
+    int no = getSeries();
+    int end =
+      no < resolutionBases.length - 1 ? resolutionBases[no + 1] : core.length;
+    return end - resolutionBases[no];
+  }
+
+  /* @see IFormatReader#setResolution(int) */
+  public void setResolution(int no) {
+    if (no < 0 || no >= getResolutionCount()) {
+      throw new IllegalArgumentException("Invalid resolution: " + no);
+    }
+    series = seriesToCoreIndex(getSeries()) + no;
+  }
+
+  /* @see IFormatReader#getResolution() */
+  public int getResolution() {
+    return series - seriesToCoreIndex(getSeries());
+  }
+
+  /* @see IFormatReader#setFlattenedResolutions(boolean) */
+  public void setFlattenedResolutions(boolean flatten) {
+    FormatTools.assertId(currentId, false, 1);
+    flattenedResolutions = flatten;
+  }
+
+  /* @see IFormatReader#hasFlattenedResolutions() */
+  public boolean hasFlattenedResolutions() {
+    return flattenedResolutions;
+  }
+
+  /* @see IFormatReader#getCoreIndex() */
+  public int getCoreIndex() {
     return series;
   }
 
+  /* @see IFormatReader#setCoreIndex(int) */
+  public void setCoreIndex(int no) {
+    FormatTools.assertId(currentId, true, 1);
+    if (no < 0 || no >= core.length) {
+      throw new IllegalArgumentException("Invalid core index: " + no);
+    }
+    series = no;
+  }
+
+  /* @see IFormatReader#seriesToCoreIndex(int) */
+  public int seriesToCoreIndex(int no) {
+    if (resolutionBases == null) return no;
+    if (no < 0 || no >= resolutionBases.length) {
+      throw new IllegalArgumentException("Invalid series: " + no);
+    }
+    return resolutionBases[no];
+  }
+
+  /* @see IFormatReader#coreIndexToSeries(int) */
+  public int coreIndexToSeries(int index) {
+    if (resolutionBases == null) return index;
+    int s = Arrays.binarySearch(resolutionBases, index);
+    return s >= 0 ? s : -s - 2;
+  }
+
   /* @see IFormatReader#setGroupFiles(boolean) */
   public void setGroupFiles(boolean groupFiles) {
     FormatTools.assertId(currentId, false, 1);
@@ -867,19 +1039,24 @@ public abstract class FormatReader extends FormatHandler
   /* @see IFormatReader#getUsedFiles() */
   public String[] getUsedFiles(boolean noPixels) {
     int oldSeries = getSeries();
+    int oldResolution = getResolution();
     Vector<String> files = new Vector<String>();
     for (int i=0; i<getSeriesCount(); i++) {
       setSeries(i);
-      String[] s = getSeriesUsedFiles(noPixels);
-      if (s != null) {
-        for (String file : s) {
-          if (!files.contains(file)) {
-            files.add(file);
+      for (int r=0; r<getResolutionCount(); r++) {
+        setResolution(r);
+        String[] s = getSeriesUsedFiles(noPixels);
+        if (s != null) {
+          for (String file : s) {
+            if (!files.contains(file)) {
+              files.add(file);
+            }
           }
         }
       }
     }
     setSeries(oldSeries);
+    setResolution(oldResolution);
     return files.toArray(new String[files.size()]);
   }
 
@@ -1121,6 +1298,10 @@ public abstract class FormatReader extends FormatHandler
           }
         }
       }
+
+      // NB: resolutions are only grouped once the reader is initialized,
+      // so that initFile may still treat each core index as a series
+      groupResolutions();
     }
   }
 
@@ -24,6 +24,7 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Vector;
 
 import loci.common.DateTools;
@@ -715,6 +716,31 @@ public final class FormatTools {
     if (bufLength >= 0) checkBufferSize(r, bufLength, w, h);
   }
 
+  /**
+   * Convenience method for checking that the plane number, tile size and
+   * destination layout are valid for the given reader, when reading into
+   * a buffer with {@link IFormatReader#openBytes(int, ByteBuffer, int, int,
+   * int, int, int, int)}.
+   */
+  public static void checkPlaneParameters(IFormatReader r, int no,
+    ByteBuffer buf, int offset, int stride, int x, int y, int w, int h)
+    throws FormatException
+  {
+    checkPlaneParameters(r, no, -1, x, y, w, h);
+    int rowLength = getRowLength(r, w);
+    if (offset < 0 || stride < rowLength) {
+      throw new FormatException("Invalid buffer layout: offset=" + offset +
+        ", stride=" + stride + " (row length " + rowLength + ")");
+    }
+    int rows = getRowCount(r, h);
+    long end = rows == 0 ? offset : offset + (long) (rows - 1) * stride +
+      rowLength;
+    if (end > buf.limit()) {
+      throw new FormatException("Buffer too small (got " + buf.limit() +
+        ", expected " + end + ").");
+    }
+  }
+
   /** Checks that the given plane number is valid for the given reader. */
   public static void checkPlaneNumber(IFormatReader r, int no)
     throws FormatException
@@ -783,6 +809,21 @@ public final class FormatTools {
     return w * h * r.getRGBChannelCount() * getBytesPerPixel(r.getPixelType());
   }
 
+  /**
+   * Returns the size in bytes of one row of a w pixel wide tile, as returned
+   * by the given reader.  Rows hold every channel if the reader's planes are
+   * interleaved, and a single channel otherwise.
+   */
+  public static int getRowLength(IFormatReader r, int w) {
+    int channels = r.isInterleaved() ? r.getRGBChannelCount() : 1;
+    return w * channels * getBytesPerPixel(r.getPixelType());
+  }
+
+  /** Returns the number of rows in an h pixel high tile. */
+  public static int getRowCount(IFormatReader r, int h) {
+    return r.isInterleaved() ? h : h * r.getRGBChannelCount();
+  }
+
   // -- Utility methods -- export
 
   /**
@@ -862,6 +903,50 @@ public final class FormatTools {
     return totalPlanes / filenames.length;
   }
 
+  // -- Utility methods -- resolutions
+
+  /**
+   * Gets the factors by which the given resolution of the reader's current
+   * series is smaller than the full resolution, along X and Y.
+   */
+  public static double[] getResolutionScale(IFormatReader r, int resolution) {
+    int current = r.getResolution();
+    try {
+      r.setResolution(0);
+      double sizeX = r.getSizeX(), sizeY = r.getSizeY();
+      r.setResolution(resolution);
+      return new double[] {sizeX / r.getSizeX(), sizeY / r.getSizeY()};
+    }
+    finally {
+      r.setResolution(current);
+    }
+  }
+
+  /**
+   * Gets the smallest resolution of the reader's current series which is
+   * still at least as large as the full resolution shrunk by the given
+   * factor; this is the cheapest resolution from which to draw a view at
+   * that zoom without upsampling.
+   */
+  public static int getResolutionForScale(IFormatReader r, double scale) {
+    int current = r.getResolution();
+    int best = 0;
+    try {
+      r.setResolution(0);
+      double minX = Math.floor(r.getSizeX() / scale);
+      double minY = Math.floor(r.getSizeY() / scale);
+      for (int i=1; i<r.getResolutionCount(); i++) {
+        r.setResolution(i);
+        if (r.getSizeX() < minX || r.getSizeY() < minY) break;
+        best = i;
+      }
+    }
+    finally {
+      r.setResolution(current);
+    }
+    return best;
+  }
+
   // -- Utility methods -- other
 
   /**
@@ -942,6 +1027,54 @@ public final class FormatTools {
     return rtn;
   }
 
+  /**
+   * Default implementation for {@link IFormatReader#openBytes(int,
+   * ByteBuffer, int, int, int, int, int, int)}.
+   *
+   * If the destination is an array-backed buffer that holds exactly the
+   * requested tile, the tile is read straight into its array.  Otherwise
+   * the tile is read with {@link IFormatReader#openBytes(int, int, int, int,
+   * int)} and copied one row at a time; readers which can decode directly
+   * into a strided buffer should override the method instead.
+   */
+  public static ByteBuffer openBytes(IFormatReader reader, int no,
+    ByteBuffer buf, int offset, int stride, int x, int y, int w, int h)
+    throws FormatException, IOException
+  {
+    checkPlaneParameters(reader, no, buf, offset, stride, x, y, w, h);
+    int rowLength = getRowLength(reader, w);
+    if (buf.hasArray() && buf.arrayOffset() + offset == 0 &&
+      stride == rowLength && buf.array().length == getPlaneSize(reader, w, h))
+    {
+      reader.openBytes(no, buf.array(), x, y, w, h);
+      return buf;
+    }
+    byte[] tile = reader.openBytes(no, x, y, w, h);
+    int rows = getRowCount(reader, h);
+    for (int row=0; row<rows; row++) {
+      put(tile, row * rowLength, buf, offset + row * stride, rowLength);
+    }
+    return buf;
+  }
+
+  /**
+   * Copies len bytes of src into buf at the given index, without changing
+   * the position or limit of buf.
+   */
+  public static void put(byte[] src, int srcOffset, ByteBuffer buf,
+    int index, int len)
+  {
+    if (buf.hasArray()) {
+      System.arraycopy(src, srcOffset, buf.array(), buf.arrayOffset() + index,
+        len);
+    }
+    else {
+      ByteBuffer dest = buf.duplicate();
+      dest.position(index);
+      dest.put(src, srcOffset, len);
+    }
+  }
+
   // -- Conversion convenience methods --
 
   /**
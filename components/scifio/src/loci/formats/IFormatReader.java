@@ -24,6 +24,7 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Hashtable;
 
 import loci.common.RandomAccessInputStream;
@@ -273,6 +274,36 @@ public interface IFormatReader extends IFormatHandler, IMetadataConfigurable {
   byte[] openBytes(int no, byte[] buf, int x, int y, int w, int h)
     throws FormatException, IOException;
 
+  /**
+   * Obtains a sub-image of the specified image plane into a destination
+   * buffer that may be larger than the sub-image, such as a mosaic, a stack
+   * or a direct buffer shared with native code.
+   *
+   * Row <i>r</i> of the sub-image is stored at
+   * <code>offset + r * stride</code>.  If the image planes are not
+   * interleaved, channel <i>c</i> follows the previous channels, so that its
+   * row <i>r</i> is stored at <code>offset + (c * h + r) * stride</code>.
+   * Bytes between the end of a row and the start of the next are left
+   * untouched, as are the position and limit of <code>buf</code>.
+   *
+   * @param no the image index within the file.
+   * @param buf the destination buffer, which may be heap or direct.
+   * @param offset index in <code>buf</code> of the first byte of the first row
+   * @param stride number of bytes from the start of one row in
+   *   <code>buf</code> to the start of the next; at least
+   *   {@link FormatTools#getRowLength(IFormatReader, int)}
+   * @param x X coordinate of the upper-left corner of the sub-image
+   * @param y Y coordinate of the upper-left corner of the sub-image
+   * @param w width of the sub-image
+   * @param h height of the sub-image
+   * @return the destination buffer <code>buf</code> for convenience.
+   * @throws FormatException if there was a problem parsing the metadata of the
+   *   file, or if the sub-image does not fit in <code>buf</code>.
+   * @throws IOException if there was a problem reading the file.
+   */
+  ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException;
+
   /**
    * Obtains the specified image plane (or sub-image thereof) in the reader's
    * native data structure. For most readers this is a byte array; however,
@@ -309,6 +340,51 @@ public interface IFormatReader extends IFormatHandler, IMetadataConfigurable {
   /** Gets the currently active series. */
   int getSeries();
 
+  /**
+   * Gets the number of resolutions of the current series.  This is always 1
+   * if resolutions are flattened; see {@link #setFlattenedResolutions}.
+   */
+  int getResolutionCount();
+
+  /**
+   * Activates the specified resolution of the current series, where 0 is
+   * the full resolution and each following resolution is smaller.
+   * The size getters then describe the active resolution.
+   */
+  void setResolution(int resolution);
+
+  /** Gets the currently active resolution of the current series. */
+  int getResolution();
+
+  /**
+   * Specifies whether or not each resolution of a pyramid is reported as
+   * a separate series, which is the default.  If unset, each pyramid is one
+   * series, whose resolutions are selected with {@link #setResolution(int)}.
+   * Either way, the MetadataStore usually holds one Image for every
+   * resolution; use {@link #seriesToCoreIndex(int)} to find a series' Image
+   * index.  Readers whose metadata describes only the full resolutions, such
+   * as OME-TIFF, document that their Image indexes are series indexes.
+   */
+  void setFlattenedResolutions(boolean flatten);
+
+  /** Returns true if each resolution is reported as a separate series. */
+  boolean hasFlattenedResolutions();
+
+  /**
+   * Gets the index of the active series and resolution in the flattened
+   * list of all series and resolutions, i.e. in {@link #getCoreMetadata()}.
+   */
+  int getCoreIndex();
+
+  /** Activates the series and resolution with the given core index. */
+  void setCoreIndex(int no);
+
+  /** Gets the core index of the full resolution of the given series. */
+  int seriesToCoreIndex(int series);
+
+  /** Gets the series to which the given core index belongs. */
+  int coreIndexToSeries(int index);
+
   /** Specifies whether or not to normalize float data. */
   void setNormalized(boolean normalize);
 
@@ -24,11 +24,14 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import loci.common.Location;
@@ -42,8 +45,13 @@ import org.slf4j.LoggerFactory;
 
 /**
  * ImageReader is the master file format reader for all supported formats.
- * It uses one instance of each reader subclass (specified in readers.txt,
- * or other class list source) to identify file formats and read data.
+ * It uses the reader subclasses specified in readers.txt (or other class
+ * list source) to identify file formats and read data.
+ *
+ * Readers are instantiated on demand: file formats are identified using
+ * detection instances shared by all ImageReaders, and an ImageReader only
+ * creates its own instance of a reader subclass once that reader has been
+ * picked to read a file (or is explicitly requested).
  *
  * <dl><dt><b>Source code:</b></dt>
  * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/bio-formats/src/loci/formats/ImageReader.java">Trac</a>,
@@ -63,6 +71,10 @@ public class ImageReader implements IFormatReader {
   /** Default list of reader classes, for use with noargs constructor. */
   private static ClassList<IFormatReader> defaultClasses;
 
+  /** Shared reader instances used only for type detection. */
+  private static final Map<Class<? extends IFormatReader>, IFormatReader>
+    detectors = new HashMap<Class<? extends IFormatReader>, IFormatReader>();
+
   // -- Static utility methods --
 
   public static ClassList<IFormatReader> getDefaultReaderClasses() {
@@ -80,9 +92,43 @@ public class ImageReader implements IFormatReader {
     return defaultClasses;
   }
 
+  /**
+   * Gets the shared detection instance of the given reader class,
+   * or null if the class cannot be instantiated.
+   */
+  private static IFormatReader getDetector(
+    Class<? extends IFormatReader> c)
+  {
+    synchronized (detectors) {
+      if (detectors.containsKey(c)) return detectors.get(c);
+      IFormatReader reader = newReader(c);
+      if (reader == null) {
+        LOGGER.error("{} cannot be instantiated.", c.getName());
+      }
+      detectors.put(c, reader);
+      return reader;
+    }
+  }
+
+  /** Creates a new instance of the given reader class, or returns null. */
+  private static IFormatReader newReader(Class<? extends IFormatReader> c) {
+    try {
+      return c.newInstance();
+    }
+    catch (IllegalAccessException exc) { }
+    catch (InstantiationException exc) { }
+    return null;
+  }
+
   // -- Fields --
 
-  /** List of supported file format readers. */
+  /** List of supported file format reader classes. */
+  private Class<? extends IFormatReader>[] classes;
+
+  /**
+   * File format readers owned by this ImageReader, one per class;
+   * null until each reader is first needed.
+   */
   private IFormatReader[] readers;
 
   /**
@@ -99,6 +145,18 @@ public class ImageReader implements IFormatReader {
 
   private boolean allowOpen = true;
 
+  // NB: settings to apply to readers as they are instantiated;
+  // null if never set, in which case the reader's default is kept
+
+  private Boolean groupFiles;
+  private Boolean normalized;
+  private Boolean flattenedResolutions;
+  private Boolean metadataCollected;
+  private Boolean originalMetadataPopulated;
+  private Boolean metadataFiltered;
+  private MetadataStore metadataStore;
+  private MetadataOptions metadataOptions;
+
   // -- Constructors --
 
   /**
@@ -111,24 +169,16 @@ public class ImageReader implements IFormatReader {
 
   /** Constructs a new ImageReader from the given list of reader classes. */
   public ImageReader(ClassList<IFormatReader> classList) {
-    // add readers to the list
-    List<IFormatReader> list = new ArrayList<IFormatReader>();
+    // add reader classes to the list; readers are instantiated on demand
+    List<Class<? extends IFormatReader>> list =
+      new ArrayList<Class<? extends IFormatReader>>();
     Class<? extends IFormatReader>[] c = classList.getClasses();
     for (int i=0; i<c.length; i++) {
-      IFormatReader reader = null;
-      try {
-        reader = c[i].newInstance();
-      }
-      catch (IllegalAccessException exc) { }
-      catch (InstantiationException exc) { }
-      if (reader == null) {
-        LOGGER.error("{} cannot be instantiated.", c[i].getName());
-        continue;
-      }
-      list.add(reader);
+      if (getDetector(c[i]) == null) continue;
+      list.add(c[i]);
     }
-    readers = new IFormatReader[list.size()];
-    list.toArray(readers);
+    classes = list.toArray(new Class[list.size()]);
+    readers = new IFormatReader[classes.length];
   }
 
   // -- ImageReader API methods --
@@ -166,8 +216,9 @@ public class ImageReader implements IFormatReader {
       // initialize file
       boolean success = false;
       if (!invalid) {
-        for (int i=0; i<readers.length; i++) {
-          if (readers[i].isThisType(id, allowOpen)) {
+        for (int i=0; i<classes.length; i++) {
+          if (isThisType(i, id, allowOpen)) {
+            getReader(i);
             current = i;
             currentId = id;
             success = true;
@@ -190,16 +241,19 @@ public class ImageReader implements IFormatReader {
 
   /** Gets the file format reader instance matching the given class. */
   public IFormatReader getReader(Class<? extends IFormatReader> c) {
-    for (int i=0; i<readers.length; i++) {
-      if (readers[i].getClass().equals(c)) return readers[i];
+    for (int i=0; i<classes.length; i++) {
+      if (classes[i].equals(c)) return getReader(i);
     }
     return null;
   }
 
-  /** Gets all constituent file format readers. */
+  /**
+   * Gets all constituent file format readers.
+   * Note that this instantiates every reader which has not yet been used.
+   */
   public IFormatReader[] getReaders() {
     IFormatReader[] r = new IFormatReader[readers.length];
-    System.arraycopy(readers, 0, r, 0, readers.length);
+    for (int i=0; i<r.length; i++) r[i] = getReader(i);
     return r;
   }
 
@@ -207,20 +261,21 @@ public class ImageReader implements IFormatReader {
 
   /* @see loci.formats.IMetadataConfigurable#getSupportedMetadataLevels() */
   public Set<MetadataLevel> getSupportedMetadataLevels() {
-    return getReaders()[0].getSupportedMetadataLevels();
+    return getReader(0).getSupportedMetadataLevels();
   }
 
   /* @see loci.formats.IMetadataConfigurable#getMetadataOptions() */
   public MetadataOptions getMetadataOptions() {
-    return getReaders()[0].getMetadataOptions();
+    return getReader(0).getMetadataOptions();
   }
 
   /**
    * @see loci.formats.IMetadataConfigurable#setMetadataOptions(MetadataOptions)
    */
   public void setMetadataOptions(MetadataOptions options) {
+    metadataOptions = options;
     for (IFormatReader reader : readers) {
-      reader.setMetadataOptions(options);
+      if (reader != null) reader.setMetadataOptions(options);
     }
   }
 
@@ -228,24 +283,38 @@ public class ImageReader implements IFormatReader {
 
   /* @see IFormatReader#isThisType(String, boolean) */
   public boolean isThisType(String name, boolean open) {
-    for (int i=0; i<readers.length; i++) {
-      if (readers[i].isThisType(name, open)) return true;
+    for (int i=0; i<classes.length; i++) {
+      if (isThisType(i, name, open)) return true;
     }
     return false;
   }
 
   /* @see IFormatReader.isThisType(byte[]) */
   public boolean isThisType(byte[] block) {
-    for (int i=0; i<readers.length; i++) {
-      if (readers[i].isThisType(block)) return true;
+    for (int i=0; i<classes.length; i++) {
+      IFormatReader r = readers[i];
+      if (r == null) {
+        r = getDetector(classes[i]);
+        synchronized (r) {
+          if (r.isThisType(block)) return true;
+        }
+      }
+      else if (r.isThisType(block)) return true;
     }
     return false;
   }
 
   /* @see IFormatReader.isThisType(RandomAccessInputStream) */
   public boolean isThisType(RandomAccessInputStream stream) throws IOException {
-    for (int i=0; i<readers.length; i++) {
-      if (readers[i].isThisType(stream)) return true;
+    for (int i=0; i<classes.length; i++) {
+      IFormatReader r = readers[i];
+      if (r == null) {
+        r = getDetector(classes[i]);
+        synchronized (r) {
+          if (r.isThisType(stream)) return true;
+        }
+      }
+      else if (r.isThisType(stream)) return true;
     }
     return false;
   }
@@ -401,6 +470,13 @@ public class ImageReader implements IFormatReader {
     return getReader().openBytes(no, buf, x, y, w, h);
   }
 
+  /* @see IFormatReader#openBytes(int, ByteBuffer, int, int, int, int, int, int) */
+  public ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    return getReader().openBytes(no, buf, offset, stride, x, y, w, h);
+  }
+
   /* @see IFormatReader#openPlane(int, int, int, int, int) */
   public Object openPlane(int no, int x, int y, int w, int h)
     throws FormatException, IOException
@@ -428,6 +504,56 @@ public class ImageReader implements IFormatReader {
     return getReader().getSeries();
   }
 
+  /* @see IFormatReader#getResolutionCount() */
+  public int getResolutionCount() {
+    return getReader().getResolutionCount();
+  }
+
+  /* @see IFormatReader#setResolution(int) */
+  public void setResolution(int no) {
+    getReader().setResolution(no);
+  }
+
+  /* @see IFormatReader#getResolution() */
+  public int getResolution() {
+    return getReader().getResolution();
+  }
+
+  /* @see IFormatReader#setFlattenedResolutions(boolean) */
+  public void setFlattenedResolutions(boolean flatten) {
+    FormatTools.assertId(currentId, false, 2);
+    flattenedResolutions = flatten;
+    for (int i=0; i<readers.length; i++) {
+      if (readers[i] != null) readers[i].setFlattenedResolutions(flatten);
+    }
+  }
+
+  /* @see IFormatReader#hasFlattenedResolutions() */
+  public boolean hasFlattenedResolutions() {
+    // NB: all readers should have the same resolution setting
+    return getReader(0).hasFlattenedResolutions();
+  }
+
+  /* @see IFormatReader#getCoreIndex() */
+  public int getCoreIndex() {
+    return getReader().getCoreIndex();
+  }
+
+  /* @see IFormatReader#setCoreIndex(int) */
+  public void setCoreIndex(int no) {
+    getReader().setCoreIndex(no);
+  }
+
+  /* @see IFormatReader#seriesToCoreIndex(int) */
+  public int seriesToCoreIndex(int series) {
+    return getReader().seriesToCoreIndex(series);
+  }
+
+  /* @see IFormatReader#coreIndexToSeries(int) */
+  public int coreIndexToSeries(int index) {
+    return getReader().coreIndexToSeries(index);
+  }
+
   /* @see IFormatReader#getUsedFiles() */
   public String[] getUsedFiles() {
     return getReader().getUsedFiles();
@@ -500,14 +626,19 @@ public class ImageReader implements IFormatReader {
 
   /* @see IFormatReader#close(boolean) */
   public void close(boolean fileOnly) throws IOException {
-    for (int i=0; i<readers.length; i++) readers[i].close(fileOnly);
+    for (int i=0; i<readers.length; i++) {
+      if (readers[i] != null) readers[i].close(fileOnly);
+    }
     if (!fileOnly) currentId = null;
   }
 
   /* @see IFormatReader#setGroupFiles(boolean) */
   public void setGroupFiles(boolean group) {
     FormatTools.assertId(currentId, false, 2);
-    for (int i=0; i<readers.length; i++) readers[i].setGroupFiles(group);
+    groupFiles = group;
+    for (int i=0; i<readers.length; i++) {
+      if (readers[i] != null) readers[i].setGroupFiles(group);
+    }
   }
 
   /* @see IFormatReader#isGroupFiles() */
@@ -528,13 +659,16 @@ public class ImageReader implements IFormatReader {
   /* @see IFormatReader#setNormalized(boolean) */
   public void setNormalized(boolean normalize) {
     FormatTools.assertId(currentId, false, 2);
-    for (int i=0; i<readers.length; i++) readers[i].setNormalized(normalize);
+    normalized = normalize;
+    for (int i=0; i<readers.length; i++) {
+      if (readers[i] != null) readers[i].setNormalized(normalize);
+    }
   }
 
   /* @see IFormatReader#isNormalized() */
   public boolean isNormalized() {
     // NB: all readers should have the same normalization setting
-    return readers[0].isNormalized();
+    return getReader(0).isNormalized();
   }
 
   /**
@@ -543,8 +677,9 @@ public class ImageReader implements IFormatReader {
    */
   public void setMetadataCollected(boolean collect) {
     FormatTools.assertId(currentId, false, 2);
+    metadataCollected = collect;
     for (int i=0; i<readers.length; i++) {
-      readers[i].setMetadataCollected(collect);
+      if (readers[i] != null) readers[i].setMetadataCollected(collect);
     }
   }
 
@@ -553,20 +688,21 @@ public class ImageReader implements IFormatReader {
    * @see IFormatReader#isMetadataCollected()
    */
   public boolean isMetadataCollected() {
-    return readers[0].isMetadataCollected();
+    return getReader(0).isMetadataCollected();
   }
 
   /* @see IFormatReader#setOriginalMetadataPopulated(boolean) */
   public void setOriginalMetadataPopulated(boolean populate) {
     FormatTools.assertId(currentId, false, 1);
+    originalMetadataPopulated = populate;
     for (int i=0; i<readers.length; i++) {
-      readers[i].setOriginalMetadataPopulated(populate);
+      if (readers[i] != null) readers[i].setOriginalMetadataPopulated(populate);
     }
   }
 
   /* @see IFormatReader#isOriginalMetadataPopulated() */
   public boolean isOriginalMetadataPopulated() {
-    return readers[0].isOriginalMetadataPopulated();
+    return getReader(0).isOriginalMetadataPopulated();
   }
 
   /* @see IFormatReader#getCurrentFile() */
@@ -578,19 +714,25 @@ public class ImageReader implements IFormatReader {
   /* @see IFormatReader#setMetadataFiltered(boolean) */
   public void setMetadataFiltered(boolean filter) {
     FormatTools.assertId(currentId, false, 2);
-    for (int i=0; i<readers.length; i++) readers[i].setMetadataFiltered(filter);
+    metadataFiltered = filter;
+    for (int i=0; i<readers.length; i++) {
+      if (readers[i] != null) readers[i].setMetadataFiltered(filter);
+    }
   }
 
   /* @see IFormatReader#isMetadataFiltered() */
   public boolean isMetadataFiltered() {
     // NB: all readers should have the same metadata filtering setting
-    return readers[0].isMetadataFiltered();
+    return getReader(0).isMetadataFiltered();
   }
 
   /* @see IFormatReader#setMetadataStore(MetadataStore) */
   public void setMetadataStore(MetadataStore store) {
     FormatTools.assertId(currentId, false, 2);
-    for (int i=0; i<readers.length; i++) readers[i].setMetadataStore(store);
+    metadataStore = store;
+    for (int i=0; i<readers.length; i++) {
+      if (readers[i] != null) readers[i].setMetadataStore(store);
+    }
   }
 
   /* @see IFormatReader#getMetadataStore() */
@@ -661,8 +803,10 @@ public class ImageReader implements IFormatReader {
   public String[] getSuffixes() {
     if (suffixes == null) {
       HashSet<String> suffixSet = new HashSet<String>();
-      for (int i=0; i<readers.length; i++) {
-        String[] suf = readers[i].getSuffixes();
+      for (int i=0; i<classes.length; i++) {
+        IFormatReader r =
+          readers[i] == null ? getDetector(classes[i]) : readers[i];
+        String[] suf = r.getSuffixes();
         for (int j=0; j<suf.length; j++) suffixSet.add(suf[j]);
       }
       suffixes = new String[suffixSet.size()];
@@ -685,4 +829,51 @@ public class ImageReader implements IFormatReader {
   /* @see IFormatHandler#close() */
   public void close() throws IOException { close(false); }
 
+  // -- Helper methods --
+
+  /**
+   * Gets this ImageReader's instance of the reader at the given index,
+   * instantiating it and applying the current settings if necessary.
+   */
+  private IFormatReader getReader(int i) {
+    if (readers[i] == null) {
+      IFormatReader reader = newReader(classes[i]);
+      if (reader == null) {
+        throw new IllegalStateException(
+          classes[i].getName() + " cannot be instantiated.");
+      }
+      if (groupFiles != null) reader.setGroupFiles(groupFiles);
+      if (normalized != null) reader.setNormalized(normalized);
+      if (flattenedResolutions != null) {
+        reader.setFlattenedResolutions(flattenedResolutions);
+      }
+      if (metadataCollected != null) {
+        reader.setMetadataCollected(metadataCollected);
+      }
+      if (originalMetadataPopulated != null) {
+        reader.setOriginalMetadataPopulated(originalMetadataPopulated);
+      }
+      if (metadataFiltered != null) {
+        reader.setMetadataFiltered(metadataFiltered);
+      }
+      if (metadataStore != null) reader.setMetadataStore(metadataStore);
+      if (metadataOptions != null) reader.setMetadataOptions(metadataOptions);
+      readers[i] = reader;
+    }
+    return readers[i];
+  }
+
+  /**
+   * Checks whether the reader at the given index can read the given file,
+   * using this ImageReader's instance if there is one, and the shared
+   * detection instance otherwise.
+   */
+  private boolean isThisType(int i, String name, boolean open) {
+    if (readers[i] != null) return readers[i].isThisType(name, open);
+    IFormatReader detector = getDetector(classes[i]);
+    synchronized (detector) {
+      return detector.isThisType(name, open);
+    }
+  }
+
 }
@@ -24,6 +24,7 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import loci.common.DataTools;
@@ -108,7 +109,7 @@ public class MinMaxCalculator extends ReaderWrapper {
       throw new FormatException("Invalid channel index: " + theC);
     }
 
-    int series = getSeries();
+    int series = getCoreIndex();
 
     // check that all planes have been read
     if (minMaxDone == null || minMaxDone[series] < getImageCount()) {
@@ -130,7 +131,7 @@ public class MinMaxCalculator extends ReaderWrapper {
       throw new FormatException("Invalid channel index: " + theC);
     }
 
-    int series = getSeries();
+    int series = getCoreIndex();
 
     // check that all planes have been read
     if (minMaxDone == null || minMaxDone[series] < getImageCount()) {
@@ -150,7 +151,7 @@ public class MinMaxCalculator extends ReaderWrapper {
     throws FormatException, IOException
   {
     FormatTools.assertId(getCurrentFile(), true, 2);
-    return chanMin == null ? null : new Double(chanMin[getSeries()][theC]);
+    return chanMin == null ? null : new Double(chanMin[getCoreIndex()][theC]);
   }
 
   /**
@@ -164,7 +165,7 @@ public class MinMaxCalculator extends ReaderWrapper {
     throws FormatException, IOException
   {
     FormatTools.assertId(getCurrentFile(), true, 2);
-    return chanMax == null ? null : new Double(chanMax[getSeries()][theC]);
+    return chanMax == null ? null : new Double(chanMax[getCoreIndex()][theC]);
   }
 
   /**
@@ -182,7 +183,7 @@ public class MinMaxCalculator extends ReaderWrapper {
 
     int numRGB = getRGBChannelCount();
     int pBase = no * numRGB;
-    int series = getSeries();
+    int series = getCoreIndex();
     if (Double.isNaN(planeMin[series][pBase])) return null;
 
     Double[] min = new Double[numRGB];
@@ -207,7 +208,7 @@ public class MinMaxCalculator extends ReaderWrapper {
 
     int numRGB = getRGBChannelCount();
     int pBase = no * numRGB;
-    int series = getSeries();
+    int series = getCoreIndex();
     if (Double.isNaN(planeMax[series][pBase])) return null;
 
     Double[] max = new Double[numRGB];
@@ -226,7 +227,7 @@ public class MinMaxCalculator extends ReaderWrapper {
    */
   public boolean isMinMaxPopulated() throws FormatException, IOException {
     FormatTools.assertId(getCurrentFile(), true, 2);
-    return minMaxDone != null && minMaxDone[getSeries()] == getImageCount();
+    return minMaxDone != null && minMaxDone[getCoreIndex()] == getImageCount();
   }
 
   // -- IFormatReader API methods --
@@ -263,6 +264,14 @@ public class MinMaxCalculator extends ReaderWrapper {
     return buf;
   }
 
+  /* @see IFormatReader#openBytes(int, ByteBuffer, int, int, int, int, int, int) */
+  public ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    FormatTools.assertId(getCurrentFile(), true, 2);
+    return FormatTools.openBytes(this, no, buf, offset, stride, x, y, w, h);
+  }
+
   /* @see IFormatReader#close(boolean) */
   public void close(boolean fileOnly) throws IOException {
     reader.close(fileOnly);
@@ -298,7 +307,7 @@ public class MinMaxCalculator extends ReaderWrapper {
     initMinMax();
 
     int numRGB = getRGBChannelCount();
-    int series = getSeries();
+    int series = getCoreIndex();
     int pixelType = getPixelType();
     int bpp = FormatTools.getBytesPerPixel(pixelType);
     int planeSize = getSizeX() * getSizeY() * bpp;
@@ -357,10 +366,10 @@ public class MinMaxCalculator extends ReaderWrapper {
     }
     minMaxDone[series] = Math.max(minMaxDone[series], no + 1);
 
-    if (minMaxDone[getSeries()] == getImageCount() && minMaxStore != null) {
+    if (minMaxDone[getCoreIndex()] == getImageCount() && minMaxStore != null) {
       for (int c=0; c<getSizeC(); c++) {
-        minMaxStore.setChannelGlobalMinMax(c, chanMin[getSeries()][c],
-          chanMax[getSeries()][c], getSeries());
+        minMaxStore.setChannelGlobalMinMax(c, chanMin[getCoreIndex()][c],
+          chanMax[getCoreIndex()][c], getCoreIndex());
       }
     }
   }
@@ -372,46 +381,47 @@ public class MinMaxCalculator extends ReaderWrapper {
    * @throws IOException Not actually thrown.
    */
   protected void initMinMax() throws FormatException, IOException {
-    int seriesCount = getSeriesCount();
-    int oldSeries = getSeries();
+    // one entry for each resolution of each series
+    int seriesCount = getCoreCount();
+    int oldSeries = getCoreIndex();
 
     if (chanMin == null) {
       chanMin = new double[seriesCount][];
       for (int i=0; i<seriesCount; i++) {
-        setSeries(i);
+        setCoreIndex(i);
         chanMin[i] = new double[getSizeC()];
         Arrays.fill(chanMin[i], Double.POSITIVE_INFINITY);
       }
-      setSeries(oldSeries);
+      setCoreIndex(oldSeries);
     }
     if (chanMax == null) {
       chanMax = new double[seriesCount][];
       for (int i=0; i<seriesCount; i++) {
-        setSeries(i);
+        setCoreIndex(i);
         chanMax[i] = new double[getSizeC()];
         Arrays.fill(chanMax[i], Double.NEGATIVE_INFINITY);
       }
-      setSeries(oldSeries);
+      setCoreIndex(oldSeries);
     }
     if (planeMin == null) {
       planeMin = new double[seriesCount][];
       for (int i=0; i<seriesCount; i++) {
-        setSeries(i);
+        setCoreIndex(i);
         int numRGB = getRGBChannelCount();
         planeMin[i] = new double[getImageCount() * numRGB];
         Arrays.fill(planeMin[i], Double.NaN);
       }
-      setSeries(oldSeries);
+      setCoreIndex(oldSeries);
     }
     if (planeMax == null) {
       planeMax = new double[seriesCount][];
       for (int i=0; i<seriesCount; i++) {
-        setSeries(i);
+        setCoreIndex(i);
         int numRGB = getRGBChannelCount();
         planeMax[i] = new double[getImageCount() * numRGB];
         Arrays.fill(planeMax[i], Double.NaN);
       }
-      setSeries(oldSeries);
+      setCoreIndex(oldSeries);
     }
     if (minMaxDone == null) minMaxDone = new int[seriesCount];
   }
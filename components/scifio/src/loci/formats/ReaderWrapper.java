@@ -25,8 +25,10 @@ package loci.formats;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
 import java.util.Hashtable;
 import java.util.Set;
+import java.util.Vector;
 
 import loci.common.RandomAccessInputStream;
 import loci.formats.in.MetadataLevel;
@@ -117,6 +119,7 @@ public abstract class ReaderWrapper implements IFormatReader {
    *   <li>{@link #isNormalized()}</li>
    *   <li>{@link #isMetadataFiltered()}</li>
    *   <li>{@link #isMetadataCollected()}</li>
+   *   <li>{@link #hasFlattenedResolutions()}</li>
    *   <li>{@link DelegateReader#isLegacy()}</li>
    * </ul>
    *
@@ -133,9 +136,11 @@ public abstract class ReaderWrapper implements IFormatReader {
     boolean normalized = isNormalized();
     boolean metadataFiltered = isMetadataFiltered();
     boolean metadataCollected = isMetadataCollected();
+    boolean flattenedResolutions = hasFlattenedResolutions();
     wrapperCopy.setNormalized(normalized);
     wrapperCopy.setMetadataFiltered(metadataFiltered);
     wrapperCopy.setMetadataCollected(metadataCollected);
+    wrapperCopy.setFlattenedResolutions(flattenedResolutions);
     return wrapperCopy;
   }
 
@@ -304,6 +309,12 @@ public abstract class ReaderWrapper implements IFormatReader {
     return reader.openBytes(no, buf, x, y, w, h);
   }
 
+  public ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    return reader.openBytes(no, buf, offset, stride, x, y, w, h);
+  }
+
   public Object openPlane(int no, int x, int y, int w, int h)
     throws FormatException, IOException
   {
@@ -330,6 +341,42 @@ public abstract class ReaderWrapper implements IFormatReader {
     return reader.getSeries();
   }
 
+  public int getResolutionCount() {
+    return reader.getResolutionCount();
+  }
+
+  public void setResolution(int resolution) {
+    reader.setResolution(resolution);
+  }
+
+  public int getResolution() {
+    return reader.getResolution();
+  }
+
+  public void setFlattenedResolutions(boolean flatten) {
+    reader.setFlattenedResolutions(flatten);
+  }
+
+  public boolean hasFlattenedResolutions() {
+    return reader.hasFlattenedResolutions();
+  }
+
+  public int getCoreIndex() {
+    return reader.getCoreIndex();
+  }
+
+  public void setCoreIndex(int no) {
+    reader.setCoreIndex(no);
+  }
+
+  public int seriesToCoreIndex(int series) {
+    return reader.seriesToCoreIndex(series);
+  }
+
+  public int coreIndexToSeries(int index) {
+    return reader.coreIndexToSeries(index);
+  }
+
   public void setGroupFiles(boolean group) {
     reader.setGroupFiles(group);
   }
@@ -563,11 +610,35 @@ public abstract class ReaderWrapper implements IFormatReader {
 
   // -- Helper methods --
 
-  /** Creates a copy of the core metadata matching to the given reader state. */
+  /**
+   * Copies the core metadata of every resolution of every series of the
+   * given reader, in core index order.
+   */
   protected CoreMetadata[] copyCoreMetadata(IFormatReader r) {
-    CoreMetadata[] core = new CoreMetadata[r.getSeriesCount()];
-    for (int s=0; s<core.length; s++) core[s] = new CoreMetadata(r, s);
-    return core;
+    int coreIndex = r.getCoreIndex();
+    Vector<CoreMetadata> core = new Vector<CoreMetadata>();
+    for (int s=0; s<r.getSeriesCount(); s++) {
+      r.setSeries(s);
+      int resolutions = r.getResolutionCount();
+      for (int i=0; i<resolutions; i++) {
+        core.add(new CoreMetadata(r, s, i));
+      }
+    }
+    r.setCoreIndex(coreIndex);
+    return core.toArray(new CoreMetadata[core.size()]);
+  }
+
+  /**
+   * Returns the number of core metadata entries of this reader: one for
+   * each resolution of each series.
+   */
+  protected int getCoreCount() {
+    int coreIndex = getCoreIndex();
+    int last = getSeriesCount() - 1;
+    setSeries(last);
+    int count = seriesToCoreIndex(last) + getResolutionCount();
+    setCoreIndex(coreIndex);
+    return count;
   }
 
 }
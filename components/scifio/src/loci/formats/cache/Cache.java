@@ -23,6 +23,8 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 
 package loci.formats.cache;
 
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
 import java.util.Vector;
 
 import loci.formats.FormatTools;
@@ -67,6 +69,12 @@ public class Cache implements CacheReporter {
   /** Whether the cache should automatically update when a parameter changes. */
   protected boolean autoUpdate;
 
+  /** Maximum number of bytes which cached objects may occupy, or 0. */
+  protected long maxBytes;
+
+  /** Number of bytes occupied by cached objects. */
+  protected long cachedBytes;
+
   // -- Constructors --
 
   /** Constructs an object cache with the given cache strategy and source. */
@@ -85,7 +93,10 @@ public class Cache implements CacheReporter {
 
   // -- Cache API methods --
 
-  /** Gets the cached object at the given dimensional position. */
+  /**
+   * Gets the cached object at the given dimensional position, reporting
+   * an OBJECT_HIT or OBJECT_MISSED event to any listeners.
+   */
   public Object getObject(int[] pos) throws CacheException {
     if (pos.length != strategy.getLengths().length) {
       throw new CacheException("Invalid number of axes; got " + pos.length +
@@ -93,7 +104,17 @@ public class Cache implements CacheReporter {
     }
 
     int ndx = FormatTools.positionToRaster(strategy.getLengths(), pos);
-    return cache[ndx];
+    Object o = cache[ndx];
+    if (!listeners.isEmpty()) {
+      int type = o == null ? CacheEvent.OBJECT_MISSED : CacheEvent.OBJECT_HIT;
+      notifyListeners(new CacheEvent(this, type, ndx));
+    }
+    return o;
+  }
+
+  /** Gets the cached object at the given index. */
+  public Object getObject(int pos) throws CacheException {
+    return cache[pos];
   }
 
   /**
@@ -114,8 +135,26 @@ public class Cache implements CacheReporter {
     currentPos = new int[strategy.getLengths().length];
     cache = new Object[source.getObjectCount()];
     inCache = new boolean[source.getObjectCount()];
+    cachedBytes = 0;
   }
 
+  /** Gets the maximum number of bytes which cached objects may occupy. */
+  public long getMaxBytes() { return maxBytes; }
+
+  /**
+   * Sets the maximum number of bytes which cached objects may occupy,
+   * or 0 for no limit.  When the limit is reached, objects furthest down
+   * the load list are dropped to make room for those nearer the top.
+   */
+  public void setMaxBytes(long maxBytes) throws CacheException {
+    if (maxBytes < 0) throw new CacheException("maxBytes is negative");
+    this.maxBytes = maxBytes;
+    if (autoUpdate) recache();
+  }
+
+  /** Gets the number of bytes occupied by cached objects. */
+  public long getCachedBytes() { return cachedBytes; }
+
   /** Gets the cache's caching strategy. */
   public ICacheStrategy getStrategy() { return strategy; }
 
@@ -185,10 +224,7 @@ public class Cache implements CacheReporter {
       }
       if (!found) {
         inCache[i] = false;
-        if (cache[i] != null) {
-          cache[i] = null;
-          notifyListeners(new CacheEvent(this, CacheEvent.OBJECT_DROPPED, i));
-        }
+        drop(i);
       }
     }
 
@@ -196,7 +232,27 @@ public class Cache implements CacheReporter {
     if (ndx >= 0) inCache[ndx] = true;
 
     if (cache[ndx] == null) {
-      cache[ndx] = source.getObject(ndx);
+      if (maxBytes > 0 && cachedBytes >= maxBytes &&
+        !hasCachedAfter(indices, n))
+      {
+        // full of objects nearer the top of the load list
+        inCache[ndx] = false;
+        return;
+      }
+      Object o = source.getObject(ndx);
+      long size = getSize(o);
+      for (int j=indices.length-1; j>n; j--) {
+        if (maxBytes <= 0 || cachedBytes + size <= maxBytes) break;
+        int drop = FormatTools.positionToRaster(len, indices[j]);
+        inCache[drop] = false;
+        drop(drop);
+      }
+      if (maxBytes > 0 && cachedBytes + size > maxBytes) {
+        inCache[ndx] = false;
+        return;
+      }
+      cache[ndx] = o;
+      cachedBytes += size;
       notifyListeners(new CacheEvent(this, CacheEvent.OBJECT_LOADED, ndx));
     }
   }
@@ -250,6 +306,40 @@ public class Cache implements CacheReporter {
 
   // -- Helper methods --
 
+  /**
+   * Estimates the number of bytes occupied by the given cached object.
+   * Byte arrays and BufferedImages are measured; other objects count as
+   * 0 bytes unless a subclass knows better.
+   */
+  protected long getSize(Object o) {
+    if (o instanceof byte[]) return ((byte[]) o).length;
+    if (o instanceof BufferedImage) {
+      DataBuffer buffer = ((BufferedImage) o).getRaster().getDataBuffer();
+      return (long) buffer.getSize() * buffer.getNumBanks() *
+        DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+    return 0;
+  }
+
+  /** Drops the object at the given index, if it is cached. */
+  private void drop(int ndx) {
+    if (cache[ndx] == null) return;
+    cachedBytes -= getSize(cache[ndx]);
+    cache[ndx] = null;
+    notifyListeners(new CacheEvent(this, CacheEvent.OBJECT_DROPPED, ndx));
+  }
+
+  /** Returns true if any object after the nth on the load list is cached. */
+  private boolean hasCachedAfter(int[][] indices, int n) {
+    int[] len = strategy.getLengths();
+    for (int j=n+1; j<indices.length; j++) {
+      if (cache[FormatTools.positionToRaster(len, indices[j])] != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /** Informs listeners of a cache update. */
   protected void notifyListeners(CacheEvent e) {
     synchronized (listeners) {
@@ -60,6 +60,12 @@ public class CacheEvent {
   /** Event type indicating an object has been removed from the cache. */
   public static final int OBJECT_DROPPED = 8;
 
+  /** Event type indicating a requested object was already in the cache. */
+  public static final int OBJECT_HIT = 9;
+
+  /** Event type indicating a requested object was not in the cache. */
+  public static final int OBJECT_MISSED = 10;
+
   // -- Fields --
 
   /** Source of the cache update. */
@@ -94,7 +100,7 @@ public class CacheEvent {
   /**
    * Gets the index relevant to the cache update, if any.
    * This parameter is only set for events POSITION_CHANGED,
-   * OBJECT_LOADED and OBJECT_DROPPED.
+   * OBJECT_LOADED, OBJECT_DROPPED, OBJECT_HIT and OBJECT_MISSED.
    */
   public int getIndex() { return index; }
 
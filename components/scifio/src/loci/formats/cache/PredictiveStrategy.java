@@ -0,0 +1,202 @@
+//
+// PredictiveStrategy.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.cache;
+
+import java.util.Arrays;
+
+/**
+ * A cache strategy which learns how the current position moves and
+ * prefetches along the predicted trajectory.
+ *
+ * Each time the load list is requested for a new position, the step from
+ * the previous position is folded into a smoothed velocity for each axis.
+ * The load list then holds the current position, followed by up to
+ * {@link #getLookahead()} positions which the velocity predicts will be
+ * visited next, followed by the crosshair neighbourhood given by the usual
+ * ranges, with positions ahead of the motion before those behind it.
+ *
+ * Steps longer than half an axis are taken to wrap around the end of the
+ * axis, as when an animation loops.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/bio-formats/src/loci/formats/cache/PredictiveStrategy.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/bio-formats/src/loci/formats/cache/PredictiveStrategy.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class PredictiveStrategy extends CrosshairStrategy {
+
+  // -- Constants --
+
+  /** Default number of positions to prefetch along the trajectory. */
+  public static final int DEFAULT_LOOKAHEAD = 4;
+
+  /** Default weight of the latest step in the smoothed velocity. */
+  public static final double DEFAULT_SMOOTHING = 0.5;
+
+  /** Speed below which an axis is considered to be at rest. */
+  public static final double MIN_SPEED = 0.25;
+
+  // -- Fields --
+
+  /** Smoothed number of positions moved per step along each axis. */
+  private double[] velocity;
+
+  /** Last position seen, or null if no position has been seen yet. */
+  private int[] lastPos;
+
+  private int lookahead = DEFAULT_LOOKAHEAD;
+  private double smoothing = DEFAULT_SMOOTHING;
+
+  // -- Constructor --
+
+  /** Constructs a predictive strategy. */
+  public PredictiveStrategy(int[] lengths) {
+    super(lengths);
+    velocity = new double[lengths.length];
+  }
+
+  // -- PredictiveStrategy API methods --
+
+  /** Gets the learned number of positions moved per step along each axis. */
+  public synchronized double[] getVelocity() {
+    double[] v = new double[velocity.length];
+    System.arraycopy(velocity, 0, v, 0, v.length);
+    return v;
+  }
+
+  /** Gets the number of positions to prefetch along the trajectory. */
+  public int getLookahead() { return lookahead; }
+
+  /** Sets the number of positions to prefetch along the trajectory. */
+  public void setLookahead(int lookahead) {
+    if (lookahead < 0) {
+      throw new IllegalArgumentException("negative lookahead: " + lookahead);
+    }
+    this.lookahead = lookahead;
+    notifyListeners(new CacheEvent(this, CacheEvent.RANGE_CHANGED));
+  }
+
+  /** Gets the weight of the latest step in the smoothed velocity. */
+  public double getSmoothing() { return smoothing; }
+
+  /** Sets the weight, between 0 and 1, of the latest step. */
+  public void setSmoothing(double smoothing) {
+    if (smoothing <= 0 || smoothing > 1) {
+      throw new IllegalArgumentException("invalid smoothing: " + smoothing);
+    }
+    this.smoothing = smoothing;
+  }
+
+  /**
+   * Records a move to the given position, updating the velocity.
+   * Positions equal to the last one are ignored.
+   */
+  public synchronized void observe(int[] pos) {
+    if (lastPos == null) {
+      lastPos = new int[pos.length];
+      System.arraycopy(pos, 0, lastPos, 0, pos.length);
+      return;
+    }
+    if (Arrays.equals(pos, lastPos)) return;
+    for (int i=0; i<velocity.length; i++) {
+      int step = pos[i] - lastPos[i];
+      if (2 * step > lengths[i]) step -= lengths[i];
+      else if (-2 * step > lengths[i]) step += lengths[i];
+      velocity[i] = smoothing * step + (1 - smoothing) * velocity[i];
+      lastPos[i] = pos[i];
+    }
+  }
+
+  /** Forgets the learned velocity. */
+  public synchronized void resetVelocity() {
+    Arrays.fill(velocity, 0);
+    lastPos = null;
+  }
+
+  // -- CacheStrategy API methods --
+
+  /* @see ICacheStrategy#getLoadList(int[]) */
+  public synchronized int[][] getLoadList(int[] pos) throws CacheException {
+    observe(pos);
+    int[][] neighbours = super.getLoadList(pos);
+
+    boolean moving = false;
+    for (int i=0; i<velocity.length; i++) {
+      if (Math.abs(velocity[i]) >= MIN_SPEED) moving = true;
+    }
+
+    int[][] list = new int[neighbours.length + (moving ? lookahead : 0) + 1][];
+    int count = 0;
+    list[count++] = copy(pos);
+
+    // positions along the predicted trajectory
+    for (int k=1; moving && k<=lookahead; k++) {
+      int[] p = new int[pos.length];
+      for (int i=0; i<p.length; i++) {
+        int value = pos[i] + (int) Math.round(k * velocity[i]);
+        p[i] = ((value % lengths[i]) + lengths[i]) % lengths[i];
+      }
+      if (indexOf(list, count, p) < 0) list[count++] = p;
+    }
+
+    // the neighbourhood, ahead of the motion first
+    for (int pass=0; pass<2; pass++) {
+      for (int[] p : neighbours) {
+        if ((pass == 0) != isAhead(pos, p)) continue;
+        if (indexOf(list, count, p) < 0) list[count++] = p;
+      }
+    }
+
+    int[][] loadList = new int[count][];
+    System.arraycopy(list, 0, loadList, 0, count);
+    return loadList;
+  }
+
+  // -- Helper methods --
+
+  /** Returns true if the given position lies ahead of the motion, or level. */
+  private boolean isAhead(int[] pos, int[] p) {
+    double dot = 0;
+    for (int i=0; i<p.length; i++) {
+      int step = p[i] - pos[i];
+      if (2 * step > lengths[i]) step -= lengths[i];
+      else if (-2 * step > lengths[i]) step += lengths[i];
+      dot += step * velocity[i];
+    }
+    return dot >= 0;
+  }
+
+  private static int indexOf(int[][] list, int count, int[] p) {
+    for (int i=0; i<count; i++) {
+      if (Arrays.equals(list[i], p)) return i;
+    }
+    return -1;
+  }
+
+  private static int[] copy(int[] pos) {
+    int[] p = new int[pos.length];
+    System.arraycopy(pos, 0, p, 0, p.length);
+    return p;
+  }
+
+}
@@ -46,6 +46,7 @@ import loci.formats.cache.CacheListener;
 import loci.formats.cache.CrosshairStrategy;
 import loci.formats.cache.ICacheSource;
 import loci.formats.cache.ICacheStrategy;
+import loci.formats.cache.PredictiveStrategy;
 import loci.formats.cache.RectangleStrategy;
 
 import org.slf4j.Logger;
@@ -76,10 +77,12 @@ public class CacheComponent extends JPanel
     BufferedImageSource.class
   };
   protected static final Class[] SOURCE_PARAMS = {String.class};
-  protected static final String[] STRATEGIES = {"Crosshair", "Rectangle"};
+  protected static final String[] STRATEGIES =
+    {"Crosshair", "Rectangle", "Predictive"};
   protected static final Class[] STRATEGY_VALUES = {
     CrosshairStrategy.class,
-    RectangleStrategy.class
+    RectangleStrategy.class,
+    PredictiveStrategy.class
   };
   protected static final Class[] STRATEGY_PARAMS = {int[].class};
 
@@ -23,15 +23,29 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 
 package loci.formats.in;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Vector;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import loci.common.BZip2Handle;
+import loci.common.Constants;
 import loci.common.DataTools;
 import loci.common.DateTools;
+import loci.common.GZipHandle;
 import loci.common.Location;
+import loci.common.NIOFileHandle;
 import loci.common.RandomAccessInputStream;
+import loci.common.RandomAccessOutputStream;
+import loci.common.ZipHandle;
 import loci.formats.CoreMetadata;
 import loci.formats.FilePattern;
 import loci.formats.FormatException;
@@ -99,6 +113,19 @@ public class DicomReader extends FormatReader {
 
   private static final int IMPLICIT_VR = 0x2d2d;
 
+  /**
+   * Name of the file in each directory that caches the grouping tags of
+   * the other files in that directory.
+   */
+  public static final String DIRECTORY_INDEX = ".bfdicom-index";
+
+  /** Buffer size used when reading the grouping tags of other files. */
+  private static final int HEADER_BUFFER_SIZE = 16384;
+
+  /** Number of threads used to read the grouping tags of other files. */
+  private static final int SCAN_THREADS =
+    Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors() * 2));
+
   // -- Fields --
 
   /** Bits per pixel. */
@@ -135,6 +162,9 @@ public class DicomReader extends FormatReader {
 
   private DicomReader helper;
 
+  /** Whether to read and write the index of each scanned directory. */
+  private boolean directoryIndex = false;
+
   // -- Constructor --
 
   /** Constructs a new DICOM reader. */
@@ -148,6 +178,23 @@ public class DicomReader extends FormatReader {
     datasetDescription = "One or more .dcm or .dicom files";
   }
 
+  // -- DicomReader API methods --
+
+  /**
+   * Toggles whether the grouping tags of the files in each scanned
+   * directory are cached in a {@link #DIRECTORY_INDEX} file, so that
+   * opening another file from the same dataset does not need to read
+   * every file again.  Entries are invalidated when a file's length or
+   * modification time changes.
+   */
+  public void setDirectoryIndex(boolean directoryIndex) {
+    FormatTools.assertId(currentId, false, 1);
+    this.directoryIndex = directoryIndex;
+  }
+
+  /** Gets whether directory indices are read and written. */
+  public boolean isDirectoryIndex() { return directoryIndex; }
+
   // -- IFormatReader API methods --
 
   /* @see loci.formats.IFormatReader#isThisType(String, boolean) */
@@ -1065,12 +1112,12 @@ public class DicomReader extends FormatReader {
       // move up a directory and look for other directories that
       // could contain matching files
 
-      directory = directory.getParentFile();
-      String[] subdirs = directory.list(true);
+      Location parent = directory.getParentFile();
+      String[] subdirs = parent.list(true);
       if (subdirs != null) {
         for (String subdir : subdirs) {
-          Location f = new Location(directory, subdir).getAbsoluteFile();
-          if (!f.isDirectory()) continue;
+          Location f = new Location(parent, subdir).getAbsoluteFile();
+          if (!f.isDirectory() || f.equals(directory)) continue;
           scanDirectory(f, true);
         }
       }
@@ -1110,65 +1157,259 @@ public class DicomReader extends FormatReader {
     String[] files = dir.list(true);
     if (files == null) return;
     Arrays.sort(files);
+
+    List<String> candidates = new ArrayList<String>();
     for (String f : files) {
       String file = new Location(dir, f).getAbsolutePath();
       LOGGER.debug("Checking file {}", file);
       if (!f.equals(currentId) && !file.equals(currentId) &&
-        isThisType(file) && Arrays.binarySearch(patternFiles, file) >= 0)
+        Arrays.binarySearch(patternFiles, file) >= 0)
       {
-        addFileToList(file, checkSeries);
+        candidates.add(file);
+      }
+    }
+    if (candidates.size() == 0) return;
+
+    FileHeader[] headers = getFileHeaders(dir, files, candidates);
+    for (int i=0; i<headers.length; i++) {
+      if (headers[i].isComplete()) {
+        addFileToList(candidates.get(i), headers[i], checkSeries);
       }
     }
   }
 
   /**
-   * Determine if the given file belongs in the same dataset as this file.
+   * Gets the grouping tags of each of the given files in the given directory,
+   * from the directory index if it is enabled and up to date, and otherwise
+   * from the start of each file.
    */
-  private void addFileToList(String file, boolean checkSeries)
-    throws FormatException, IOException
+  private FileHeader[] getFileHeaders(Location dir, String[] listing,
+    List<String> files) throws FormatException, IOException
   {
-    RandomAccessInputStream stream = new RandomAccessInputStream(file);
-    if (!isThisType(stream)) {
-      stream.close();
+    FileHeader[] headers = new FileHeader[files.size()];
+    Hashtable<String, String> index =
+      directoryIndex ? readDirectoryIndex(dir) : null;
+    List<Integer> stale = new ArrayList<Integer>();
+    for (int i=0; i<headers.length; i++) {
+      if (index != null) {
+        Location file = new Location(files.get(i));
+        headers[i] = FileHeader.parse(index.get(file.getName()), file);
+      }
+      if (headers[i] == null) stale.add(new Integer(i));
+    }
+    if (stale.size() == 0) return headers;
+
+    readFileHeaders(files, stale, headers);
+
+    if (index != null) {
+      for (Integer i : stale) {
+        String entry = headers[i].toEntry();
+        if (entry != null) index.put(headers[i].name, entry);
+        else index.remove(headers[i].name);
+      }
+      writeDirectoryIndex(dir, listing, index);
+    }
+    return headers;
+  }
+
+  /**
+   * Reads the grouping tags of the files at the given indices, using a
+   * separate parser for each file so that they can be read in parallel.
+   */
+  private void readFileHeaders(final List<String> files, List<Integer> indices,
+    FileHeader[] headers) throws FormatException, IOException
+  {
+    int threads = Math.min(SCAN_THREADS, indices.size());
+    if (threads == 1) {
+      for (Integer i : indices) {
+        headers[i] = makeParser().readFileHeader(files.get(i));
+      }
       return;
     }
-    stream.order(true);
 
-    stream.seek(128);
-    if (!stream.readString(4).equals("DICM")) stream.seek(0);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<FileHeader>> futures = new ArrayList<Future<FileHeader>>();
+    for (Integer i : indices) {
+      final String file = files.get(i);
+      futures.add(executor.submit(new Callable<FileHeader>() {
+        public FileHeader call() throws FormatException, IOException {
+          return makeParser().readFileHeader(file);
+        }
+      }));
+    }
+
+    try {
+      for (int i=0; i<indices.size(); i++) {
+        headers[indices.get(i)] = futures.get(i).get();
+      }
+    }
+    catch (InterruptedException e) {
+      throw new FormatException(e);
+    }
+    catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof FormatException) throw (FormatException) cause;
+      if (cause instanceof IOException) throw (IOException) cause;
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      throw new FormatException(cause);
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
 
-    int fileSeries = -1;
+  /**
+   * Creates a reader that parses tags the same way as this one, for reading
+   * the grouping tags of another file.
+   */
+  private DicomReader makeParser() {
+    DicomReader parser = new DicomReader();
+    parser.core = new CoreMetadata[] {new CoreMetadata()};
+    parser.oddLocations = oddLocations;
+    parser.bigEndianTransferSyntax = bigEndianTransferSyntax;
+    return parser;
+  }
+
+  /**
+   * Reads the tags used to group files from the start of the given file.
+   * The file is buffered only as far as the last tag read.
+   */
+  private FileHeader readFileHeader(String file)
+    throws FormatException, IOException
+  {
+    FileHeader header = new FileHeader();
+    Location location = new Location(file);
+    header.name = location.getName();
+    header.length = location.length();
+    header.lastModified = location.lastModified();
 
-    String date = null, time = null, instance = null;
-    while (date == null || time == null || instance == null ||
-      (checkSeries && fileSeries < 0))
+    RandomAccessInputStream stream = openHeader(file);
+    try {
+      if (!isThisType(stream)) return header;
+      stream.order(true);
+
+      stream.seek(128);
+      if (!stream.readString(4).equals(DICOM_MAGIC_STRING)) stream.seek(0);
+
+      // tags are stored in increasing order, so the acquisition date and
+      // time and the series number all come before the instance number
+      while (header.instance == null) {
+        long fp = stream.getFilePointer();
+        if (fp + 4 >= stream.length() || fp < 0) break;
+        int tag = getNextTag(stream);
+        if (tag == PIXEL_DATA) break;
+        String key = TYPES.get(new Integer(tag));
+        if ("Instance Number".equals(key)) {
+          header.instance = stream.readString(elementLength).trim();
+          if (header.instance.length() == 0) {
+            header.instance = null;
+            break;
+          }
+        }
+        else if ("Acquisition Time".equals(key)) {
+          header.time = stream.readString(elementLength);
+        }
+        else if ("Acquisition Date".equals(key)) {
+          header.date = stream.readString(elementLength);
+        }
+        else if ("Series Number".equals(key)) {
+          header.series =
+            Integer.parseInt(stream.readString(elementLength).trim());
+        }
+        else stream.skipBytes(elementLength);
+      }
+    }
+    finally {
+      stream.close();
+    }
+    return header;
+  }
+
+  /**
+   * Opens the given file with a buffer that is only large enough for the
+   * header, instead of the default buffer size.
+   */
+  private static RandomAccessInputStream openHeader(String file)
+    throws IOException
+  {
+    String id = Location.getMappedId(file);
+    File f = new File(id);
+    if (Location.getMappedFile(file) == null && f.isFile() &&
+      !ZipHandle.isZipFile(id) && !GZipHandle.isGZipFile(id) &&
+      !BZip2Handle.isBZip2File(id))
     {
-      long fp = stream.getFilePointer();
-      if (fp + 4 >= stream.length() || fp < 0) break;
-      int tag = getNextTag(stream);
-      String key = TYPES.get(new Integer(tag));
-      if ("Instance Number".equals(key)) {
-        instance = stream.readString(elementLength).trim();
-        if (instance.length() == 0) instance = null;
+      return new RandomAccessInputStream(
+        new NIOFileHandle(f, "r", HEADER_BUFFER_SIZE));
+    }
+    return new RandomAccessInputStream(file);
+  }
+
+  /**
+   * Reads the index of the given directory, mapping each file name to its
+   * index entry.
+   */
+  private Hashtable<String, String> readDirectoryIndex(Location dir) {
+    Hashtable<String, String> index = new Hashtable<String, String>();
+    Location file = new Location(dir, DIRECTORY_INDEX);
+    if (!file.exists()) return index;
+    try {
+      String[] lines = DataTools.readFile(file.getAbsolutePath()).split("\n");
+      for (String line : lines) {
+        int tab = line.indexOf("\t");
+        if (tab > 0) index.put(line.substring(0, tab), line);
       }
-      else if ("Acquisition Time".equals(key)) {
-        time = stream.readString(elementLength);
+    }
+    catch (IOException e) {
+      LOGGER.debug("Could not read " + file.getAbsolutePath(), e);
+    }
+    return index;
+  }
+
+  /**
+   * Writes the index of the given directory, omitting files that are
+   * no longer in the directory.  The index is only a cache, so failing
+   * to write it is not an error.
+   */
+  private void writeDirectoryIndex(Location dir, String[] listing,
+    Hashtable<String, String> index)
+  {
+    if (!dir.canWrite()) return;
+    StringBuffer sb = new StringBuffer();
+    for (String name : listing) {
+      String entry = index.get(name);
+      if (entry != null) {
+        sb.append(entry);
+        sb.append("\n");
       }
-      else if ("Acquisition Date".equals(key)) {
-        date = stream.readString(elementLength);
+    }
+
+    Location file = new Location(dir, DIRECTORY_INDEX);
+    try {
+      file.delete();
+      RandomAccessOutputStream out =
+        new RandomAccessOutputStream(file.getAbsolutePath());
+      try {
+        out.write(sb.toString().getBytes(Constants.ENCODING));
       }
-      else if ("Series Number".equals(key)) {
-        fileSeries = Integer.parseInt(stream.readString(elementLength).trim());
+      finally {
+        out.close();
       }
-      else stream.skipBytes(elementLength);
     }
-    stream.close();
-
-    if (date == null || time == null || instance == null ||
-      (checkSeries && fileSeries == originalSeries))
-    {
-      return;
+    catch (IOException e) {
+      LOGGER.debug("Could not write " + file.getAbsolutePath(), e);
     }
+  }
+
+  /**
+   * Determine if the given file belongs in the same dataset as this file.
+   */
+  private void addFileToList(String file, FileHeader header,
+    boolean checkSeries)
+  {
+    String date = header.date, time = header.time, instance = header.instance;
+    int fileSeries = header.series;
+
+    if (checkSeries && fileSeries == originalSeries) return;
 
     int stamp = 0;
     try {
@@ -1840,4 +2081,75 @@ public class DicomReader extends FormatReader {
     return dict;
   }
 
+  // -- Helper classes --
+
+  /** Tags used to group files into a dataset, read from a single file. */
+  private static class FileHeader {
+    public String name;
+    public long length, lastModified;
+    public String date, time, instance;
+    public int series = -1;
+
+    /** Whether all of the tags needed to place the file were found. */
+    public boolean isComplete() {
+      return date != null && time != null && instance != null;
+    }
+
+    /**
+     * Parses the given directory index entry, returning null if there is
+     * no entry or if the file has changed since the entry was written.
+     */
+    public static FileHeader parse(String entry, Location file) {
+      if (entry == null) return null;
+      String[] fields = entry.split("\t", -1);
+      if (fields.length != 3 && fields.length != 7) return null;
+      FileHeader header = new FileHeader();
+      header.name = fields[0];
+      try {
+        header.length = Long.parseLong(fields[1]);
+        header.lastModified = Long.parseLong(fields[2]);
+        if (fields.length == 7) header.series = Integer.parseInt(fields[6]);
+      }
+      catch (NumberFormatException e) {
+        return null;
+      }
+      if (header.length != file.length() ||
+        header.lastModified != file.lastModified())
+      {
+        return null;
+      }
+      if (fields.length == 7) {
+        header.date = fields[3];
+        header.time = fields[4];
+        header.instance = fields[5];
+      }
+      return header;
+    }
+
+    /**
+     * Returns the directory index entry for this file, or null if the
+     * tags cannot be stored in an entry.
+     */
+    public String toEntry() {
+      String[] values = isComplete() ?
+        new String[] {name, String.valueOf(length),
+          String.valueOf(lastModified), date, time, instance,
+          String.valueOf(series)} :
+        new String[] {name, String.valueOf(length),
+          String.valueOf(lastModified)};
+      StringBuffer sb = new StringBuffer();
+      for (int i=0; i<values.length; i++) {
+        String value = values[i];
+        if (value.indexOf('\t') >= 0 || value.indexOf('\n') >= 0 ||
+          value.indexOf('\r') >= 0)
+        {
+          return null;
+        }
+        if (i > 0) sb.append("\t");
+        sb.append(value);
+      }
+      return sb.toString();
+    }
+  }
+
 }
@@ -24,6 +24,7 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats.in;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import loci.common.RandomAccessInputStream;
 import loci.formats.FormatException;
@@ -76,6 +77,16 @@ public class FitsReader extends FormatReader {
     return buf;
   }
 
+  /* @see loci.formats.IFormatReader#openBytes(int, ByteBuffer, int, int, int, int, int, int) */
+  public ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    FormatTools.checkPlaneParameters(this, no, buf, offset, stride, x, y, w, h);
+
+    in.seek(pixelOffset + no * FormatTools.getPlaneSize(this));
+    return readPlane(in, x, y, w, h, 0, buf, offset, stride);
+  }
+
   /* @see loci.formats.IFormatReader#close(boolean) */
   public void close(boolean fileOnly) throws IOException {
     super.close(fileOnly);
@@ -24,6 +24,7 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats.in;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -122,6 +123,19 @@ public class MinimalTiffReader extends FormatReader {
     return thumbnailIFDs;
   }
 
+  /**
+   * Gets the reduced resolutions of the given plane which are stored as
+   * SubIFDs, from largest to smallest, or null if there are none.
+   */
+  public IFDList getSubResolutionIFDs(int no) {
+    if (resolutionLevels != null || subResolutionIFDs == null ||
+      no >= subResolutionIFDs.size())
+    {
+      return null;
+    }
+    return subResolutionIFDs.get(no);
+  }
+
   // -- IFormatReader API methods --
 
   /* @see loci.formats.IFormatReader#isThisType(RandomAccessInputStream) */
@@ -261,16 +275,7 @@ public class MinimalTiffReader extends FormatReader {
     FormatTools.checkPlaneParameters(this, no, buf.length, x, y, w, h);
 
     IFD firstIFD = ifds.get(0);
-    lastPlane = no;
-    IFD ifd = ifds.get(no);
-    if ((firstIFD.getCompression() == TiffCompression.JPEG_2000
-        || firstIFD.getCompression() == TiffCompression.JPEG_2000_LOSSY)
-        && resolutionLevels != null) {
-      if (series > 0) {
-        ifd = subResolutionIFDs.get(no).get(series - 1);
-      }
-      setResolutionLevel(ifd);
-    }
+    IFD ifd = selectIFD(no);
 
     tiffParser.getSamples(ifd, buf, x, y, w, h);
 
@@ -325,6 +330,24 @@ public class MinimalTiffReader extends FormatReader {
     return buf;
   }
 
+  /* @see loci.formats.IFormatReader#openBytes(int, ByteBuffer, int, int, int, int, int, int) */
+  public ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    // TiffParser stores samples one after another, half and 24-bit floats
+    // are widened after decoding, and subclasses may post-process the byte
+    // array; all of these go through a byte array instead
+    int bits = ifds.get(0).getBitsPerSample()[0];
+    if (isInterleaved() || (getPixelType() == FormatTools.FLOAT &&
+      bits != 32) || isOpenBytesOverridden(MinimalTiffReader.class))
+    {
+      return super.openBytes(no, buf, offset, stride, x, y, w, h);
+    }
+    FormatTools.checkPlaneParameters(this, no, buf, offset, stride, x, y, w, h);
+    return tiffParser.getSamples(selectIFD(no), buf, offset, stride, x, y,
+      w, h);
+  }
+
   /* @see loci.formats.IFormatReader#close(boolean) */
   public void close(boolean fileOnly) throws IOException {
     super.close(fileOnly);
@@ -343,7 +366,7 @@ public class MinimalTiffReader extends FormatReader {
   public int getOptimalTileWidth() {
     FormatTools.assertId(currentId, true, 1);
     try {
-      return (int) ifds.get(0).getTileWidth();
+      return (int) getTileIFD().getTileWidth();
     }
     catch (FormatException e) {
       LOGGER.debug("Could not retrieve tile width", e);
@@ -355,7 +378,7 @@ public class MinimalTiffReader extends FormatReader {
   public int getOptimalTileHeight() {
     FormatTools.assertId(currentId, true, 1);
     try {
-      return (int) ifds.get(0).getTileLength();
+      return (int) getTileIFD().getTileLength();
     }
     catch (FormatException e) {
       LOGGER.debug("Could not retrieve tile height", e);
@@ -387,6 +410,15 @@ public class MinimalTiffReader extends FormatReader {
       throw new FormatException("No IFDs found");
     }
 
+    // reduced resolutions stored as SubIFDs are neither planes nor thumbnails
+    IFDList otherIFDs = new IFDList();
+    List<IFDList> levels = findSubResolutions(allIFDs, otherIFDs);
+    boolean hasSubIFDResolutions = levels != null;
+    if (hasSubIFDResolutions) {
+      subResolutionIFDs = levels;
+      allIFDs = otherIFDs;
+    }
+
     ifds = new IFDList();
     thumbnailIFDs = new IFDList();
     for (IFD ifd : allIFDs) {
@@ -406,8 +438,10 @@ public class MinimalTiffReader extends FormatReader {
 
     for (IFD ifd : ifds) {
       tiffParser.fillInIFD(ifd);
-      if (ifd.getCompression() == TiffCompression.JPEG_2000
-          || ifd.getCompression() == TiffCompression.JPEG_2000_LOSSY) {
+      if (!hasSubIFDResolutions &&
+        (ifd.getCompression() == TiffCompression.JPEG_2000
+        || ifd.getCompression() == TiffCompression.JPEG_2000_LOSSY))
+      {
         LOGGER.debug("Found IFD with JPEG 2000 compression");
         long[] stripOffsets = ifd.getStripOffsets();
         long[] stripByteCounts = ifd.getStripByteCounts();
@@ -507,7 +541,11 @@ public class MinimalTiffReader extends FormatReader {
     core[0].bitsPerPixel = firstIFD.getBitsPerSample()[0];
 
     // New core metadata now that we know how many sub-resolutions we have.
-    if (resolutionLevels != null && subResolutionIFDs.size() > 0) {
+    // SubIFD resolutions are only reported when resolutions are not
+    // flattened, so that they do not change the number of series.
+    if (subResolutionIFDs.size() > 0 &&
+      (resolutionLevels != null || !hasFlattenedResolutions()))
+    {
       IFDList ifds = subResolutionIFDs.get(0);
       CoreMetadata[] newCore = new CoreMetadata[ifds.size() + 1];
       newCore[0] = core[0];
@@ -519,6 +557,7 @@ public class MinimalTiffReader extends FormatReader {
         newCore[i].thumbnail = true;
         i++;
       }
+      newCore[0].resolutionCount = newCore.length;
       core = newCore;
     }
 
@@ -538,4 +577,101 @@ public class MinimalTiffReader extends FormatReader {
         j2kCodecOptions.resolution);
     tiffParser.setCodecOptions(j2kCodecOptions);
   }
+
+  // -- Helper methods --
+
+  /**
+   * Gets the IFD that holds the given plane of the current series, and
+   * selects its resolution level if the IFD is JPEG 2000 compressed.
+   */
+  private IFD selectIFD(int no) throws FormatException {
+    IFD firstIFD = ifds.get(0);
+    lastPlane = no;
+    IFD ifd = ifds.get(no);
+    if ((firstIFD.getCompression() == TiffCompression.JPEG_2000
+        || firstIFD.getCompression() == TiffCompression.JPEG_2000_LOSSY)
+        && resolutionLevels != null) {
+      if (series > 0) {
+        ifd = subResolutionIFDs.get(no).get(series - 1);
+      }
+      setResolutionLevel(ifd);
+    }
+    else if (series > 0 && no < subResolutionIFDs.size()) {
+      ifd = subResolutionIFDs.get(no).get(series - 1);
+    }
+    return ifd;
+  }
+
+  /** Gets the IFD whose tile size is used for the current series. */
+  private IFD getTileIFD() {
+    IFDList levels = getSubResolutionIFDs(0);
+    if (series > 0 && levels != null && series <= levels.size()) {
+      return levels.get(series - 1);
+    }
+    return ifds.get(0);
+  }
+
+  /**
+   * Finds the reduced resolutions stored as SubIFDs of each plane, such as
+   * those written by {@link loci.formats.out.TiffWriter#setResolutions}.
+   * Each one must have a NewSubfileType of 1 and be no larger than the one
+   * before, and every plane must have the same number of them.  The IFDs
+   * which are not reduced resolutions are added to the given list.
+   * @return the reduced resolutions of each plane, or null if there are none
+   */
+  private List<IFDList> findSubResolutions(IFDList allIFDs, IFDList otherIFDs)
+    throws FormatException, IOException
+  {
+    List<IFDList> levels = new ArrayList<IFDList>();
+    int count = -1;
+    for (int i=0; i<allIFDs.size(); i++) {
+      IFD ifd = allIFDs.get(i);
+      otherIFDs.add(ifd);
+      Number subfile = (Number) ifd.getIFDValue(IFD.NEW_SUBFILE_TYPE);
+      if (subfile != null && subfile.intValue() == 1) continue;
+
+      IFDList subIFDs = new IFDList();
+      if (ifd.containsKey(IFD.SUB_IFD)) {
+        subIFDs = tiffParser.getSubIFDs(ifd);
+        if (isPyramid(ifd, subIFDs)) {
+          // getIFDs() lists the SubIFDs right after their parent
+          i += subIFDs.size();
+        }
+        else subIFDs = new IFDList();
+      }
+      if (count >= 0 && subIFDs.size() != count) return null;
+      count = subIFDs.size();
+      levels.add(subIFDs);
+    }
+    return count > 0 ? levels : null;
+  }
+
+  /**
+   * Returns true if the given SubIFDs are reduced resolutions of the given
+   * IFD, from largest to smallest.
+   */
+  private boolean isPyramid(IFD ifd, IFDList subIFDs)
+    throws FormatException, IOException
+  {
+    if (subIFDs.size() == 0) return false;
+    tiffParser.fillInIFD(ifd);
+    int samples = ifd.getSamplesPerPixel();
+    int bits = ifd.getBitsPerSample()[0];
+    long width = ifd.getImageWidth();
+    long height = ifd.getImageLength();
+    for (IFD sub : subIFDs) {
+      tiffParser.fillInIFD(sub);
+      Number subfile = (Number) sub.getIFDValue(IFD.NEW_SUBFILE_TYPE);
+      if (subfile == null || subfile.intValue() != 1 ||
+        sub.getSamplesPerPixel() != samples ||
+        sub.getBitsPerSample()[0] != bits ||
+        sub.getImageWidth() > width || sub.getImageLength() > height)
+      {
+        return false;
+      }
+      width = sub.getImageWidth();
+      height = sub.getImageLength();
+    }
+    return true;
+  }
 }
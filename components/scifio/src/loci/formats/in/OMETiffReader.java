@@ -25,6 +25,7 @@ package loci.formats.in;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Hashtable;
@@ -60,6 +61,10 @@ import ome.xml.model.primitives.PositiveInteger;
  * OMETiffReader is the file format reader for
  * <a href="http://ome-xml.org/wiki/OmeTiff">OME-TIFF</a> files.
  *
+ * Reduced resolutions stored as SubIFDs of each plane are only reported
+ * when resolutions are not flattened, as the OME-XML describes only the
+ * full resolution of each series; Image indexes are then series indexes.
+ *
  * <dl><dt><b>Source code:</b></dt>
  * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/bio-formats/src/loci/formats/in/OMETiffReader.java">Trac</a>,
  * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/bio-formats/src/loci/formats/in/OMETiffReader.java;hb=HEAD">Gitweb</a></dd></dl>
@@ -205,18 +210,8 @@ public class OMETiffReader extends FormatReader {
     throws FormatException, IOException
   {
     FormatTools.checkPlaneParameters(this, no, buf.length, x, y, w, h);
-    lastPlane = no;
-    int i = info[series][no].ifd;
-    MinimalTiffReader r = (MinimalTiffReader) info[series][no].reader;
-    if (r.getCurrentFile() == null) {
-      r.setId(info[series][no].id);
-    }
-    IFDList ifdList = r.getIFDs();
-    if (i >= ifdList.size()) {
-      LOGGER.warn("Error untangling IFDs; the OME-TIFF file may be malformed.");
-      return buf;
-    }
-    IFD ifd = ifdList.get(i);
+    IFD ifd = getPlaneIFD(no);
+    if (ifd == null) return buf;
     RandomAccessInputStream s =
       new RandomAccessInputStream(info[series][no].id);
     TiffParser p = new TiffParser(s);
@@ -225,6 +220,24 @@ public class OMETiffReader extends FormatReader {
     return buf;
   }
 
+  /*
+   * @see loci.formats.IFormatReader#openBytes(int, ByteBuffer, int, int, int,
+   *   int, int, int)
+   */
+  public ByteBuffer openBytes(int no, ByteBuffer buf, int offset, int stride,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    FormatTools.checkPlaneParameters(this, no, buf, offset, stride, x, y, w, h);
+    IFD ifd = getPlaneIFD(no);
+    if (ifd == null) return buf;
+    RandomAccessInputStream s =
+      new RandomAccessInputStream(info[series][no].id);
+    TiffParser p = new TiffParser(s);
+    p.getSamples(ifd, buf, offset, stride, x, y, w, h);
+    s.close();
+    return buf;
+  }
+
   /* @see loci.formats.IFormatReader#getSeriesUsedFiles(boolean) */
   public String[] getSeriesUsedFiles(boolean noPixels) {
     FormatTools.assertId(currentId, true, 1);
@@ -282,13 +295,13 @@ public class OMETiffReader extends FormatReader {
   /* @see loci.formats.IFormatReader#getOptimalTileWidth() */
   public int getOptimalTileWidth() {
     FormatTools.assertId(currentId, true, 1);
-    return tileWidth[getSeries()];
+    return tileWidth[getCoreIndex()];
   }
 
   /* @see loci.formats.IFormatReader#getOptimalTileHeight() */
   public int getOptimalTileHeight() {
     FormatTools.assertId(currentId, true, 1);
-    return tileHeight[getSeries()];
+    return tileHeight[getCoreIndex()];
   }
 
   // -- Internal FormatReader API methods --
@@ -765,6 +778,8 @@ public class OMETiffReader extends FormatReader {
       }
     }
     metadataStore = getMetadataStoreForConversion();
+
+    if (!hasFlattenedResolutions()) addSubResolutions();
   }
 
   // -- OMETiffReader API methods --
@@ -807,6 +822,93 @@ public class OMETiffReader extends FormatReader {
 
   // -- Helper methods --
 
+  /**
+   * Gets the IFD that holds the given plane of the current series, or null
+   * if the IFD cannot be found.
+   */
+  private IFD getPlaneIFD(int no) throws FormatException, IOException {
+    lastPlane = no;
+    int i = info[series][no].ifd;
+    MinimalTiffReader r = (MinimalTiffReader) info[series][no].reader;
+    if (r.getCurrentFile() == null) {
+      r.setId(info[series][no].id);
+    }
+    IFDList ifdList = r.getIFDs();
+    if (i >= ifdList.size()) {
+      LOGGER.warn("Error untangling IFDs; the OME-TIFF file may be malformed.");
+      return null;
+    }
+    int resolution = info[series][no].resolution;
+    if (resolution > 0) {
+      IFDList levels = r.getSubResolutionIFDs(i);
+      if (levels == null || resolution > levels.size()) {
+        LOGGER.warn("Missing resolution {} of plane {}", resolution, no);
+        return null;
+      }
+      return levels.get(resolution - 1);
+    }
+    return ifdList.get(i);
+  }
+
+  /**
+   * Inserts the reduced resolutions which are stored as SubIFDs after the
+   * full resolution of each series.  The number of resolutions is taken
+   * from the first plane of the series.
+   */
+  private void addSubResolutions() throws FormatException, IOException {
+    Vector<CoreMetadata> newCore = new Vector<CoreMetadata>();
+    Vector<OMETiffPlane[]> planeInfo = new Vector<OMETiffPlane[]>();
+    Vector<Integer> tileWidths = new Vector<Integer>();
+    Vector<Integer> tileHeights = new Vector<Integer>();
+    for (int s=0; s<core.length; s++) {
+      newCore.add(core[s]);
+      planeInfo.add(info[s]);
+      tileWidths.add(tileWidth[s]);
+      tileHeights.add(tileHeight[s]);
+
+      OMETiffPlane first = info[s][0];
+      if (!(first.reader instanceof MinimalTiffReader)) continue;
+      MinimalTiffReader r = (MinimalTiffReader) first.reader;
+      if (r.getCurrentFile() == null) {
+        r.setId(first.id);
+      }
+      IFDList levels = r.getSubResolutionIFDs(first.ifd);
+      if (levels == null) continue;
+
+      core[s].resolutionCount = levels.size() + 1;
+      for (int resolution=1; resolution<=levels.size(); resolution++) {
+        IFD ifd = levels.get(resolution - 1);
+        CoreMetadata level = new CoreMetadata(this, s);
+        level.sizeX = (int) ifd.getImageWidth();
+        level.sizeY = (int) ifd.getImageLength();
+        level.thumbnail = true;
+        newCore.add(level);
+
+        OMETiffPlane[] planes = new OMETiffPlane[info[s].length];
+        for (int p=0; p<planes.length; p++) {
+          planes[p] = new OMETiffPlane();
+          planes[p].reader = info[s][p].reader;
+          planes[p].id = info[s][p].id;
+          planes[p].ifd = info[s][p].ifd;
+          planes[p].certain = info[s][p].certain;
+          planes[p].resolution = resolution;
+        }
+        planeInfo.add(planes);
+        tileWidths.add((int) ifd.getTileWidth());
+        tileHeights.add((int) ifd.getTileLength());
+      }
+    }
+
+    core = newCore.toArray(new CoreMetadata[newCore.size()]);
+    info = planeInfo.toArray(new OMETiffPlane[0][0]);
+    tileWidth = new int[core.length];
+    tileHeight = new int[core.length];
+    for (int i=0; i<core.length; i++) {
+      tileWidth[i] = tileWidths.get(i);
+      tileHeight[i] = tileHeights.get(i);
+    }
+  }
+
   private String normalizeFilename(String dir, String name) {
      File file = new File(dir, name);
      if (file.exists()) return file.getAbsolutePath();
@@ -835,6 +937,8 @@ public class OMETiffReader extends FormatReader {
     public int ifd = -1;
     /** Certainty flag, for dealing with unspecified NumPlanes. */
     public boolean certain = false;
+    /** Reduced resolution of this plane, or 0 for the full resolution. */
+    public int resolution = 0;
   }
 
 }
@@ -24,6 +24,7 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats.itk;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import loci.formats.FormatException;
 import loci.formats.MetadataTools;
@@ -155,6 +156,22 @@ public class ITKBridgeJNI {
 	  }
   }
   
+  /**
+   * Decodes a region straight into the given buffer, in the order used by
+   * ITK.  The native code wraps the ITK image buffer in a direct
+   * {@link ByteBuffer}, so whole volumes are read without copying planes
+   * across JNI.  Exceptions are left for the native code to report, as the
+   * buffer is incomplete.
+   */
+  public static void readRegion(ByteBuffer buf, int xStart, int xCount,
+    int yStart, int yCount, int zStart, int zCount, int tStart, int tCount,
+    int cStart, int cCount)
+    throws FormatException, IOException
+  {
+    ITKBridgeTools.readRegion(reader, buf, xStart, xCount, yStart, yCount,
+      zStart, zCount, tStart, tCount, cStart, cCount);
+  }
+
   public static void close() {
 	  try {
 		  reader.close();
@@ -29,6 +29,9 @@ import java.io.BufferedReader;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.Map;
@@ -88,6 +91,7 @@ public class ITKBridgePipes {
    * <ul>
    * <li>info</li> - Dumps image metadata
    * <li>read</li> - Dumps image pixels
+   * <li>readShared</li> - Decodes image pixels into a shared file
    * <li>canRead</li> - Tests whether the given file path can be parsed
    * </ul>
    */
@@ -119,6 +123,26 @@ public class ITKBridgePipes {
       int cEnd =   Integer.parseInt( args[11] ) + cBegin - 1;
       return read(filePath, xBegin, xEnd, yBegin, yEnd, zBegin, zEnd, tBegin, tEnd, cBegin, cEnd);
     }
+    else if (command.equals("readShared")) {
+      final String filePath = args[1].trim();
+      final String sharedPath = args[2].trim();
+      int xBegin = Integer.parseInt( args[3] );
+      int xCount = Integer.parseInt( args[4] );
+      int yBegin = Integer.parseInt( args[5] );
+      int yCount = Integer.parseInt( args[6] );
+      int zBegin = Integer.parseInt( args[7] );
+      int zCount = Integer.parseInt( args[8] );
+      int tBegin = Integer.parseInt( args[9] );
+      int tCount = Integer.parseInt( args[10] );
+      int cBegin = Integer.parseInt( args[11] );
+      int cCount = Integer.parseInt( args[12] );
+      boolean res = readShared(filePath, sharedPath, xBegin, xCount,
+        yBegin, yCount, zBegin, zCount, tBegin, tCount, cBegin, cCount);
+      // add an extra \n to mark the end of the output
+      System.out.println();
+      System.out.flush();
+      return res;
+    }
     else if (command.equals("canRead")) {
       final String filePath = args[1].trim();
       boolean res = canRead(filePath);
@@ -338,6 +362,45 @@ public class ITKBridgePipes {
     return true;
   }
   
+  /**
+   * Reads image pixels from the given file path into a file shared with the
+   * native code, which maps it into memory.  The pixels are decoded straight
+   * into a memory mapping of the shared file, in the order used by ITK, so
+   * that no plane data is copied through the pipe.
+   *
+   * @param filePath a path to a file on disk, or a hash token for an
+   *   initialized reader, as for {@link #read}.
+   * @param sharedPath the path to the shared file, which is grown to fit
+   *   the requested region if necessary.
+   */
+  public boolean readShared(String filePath, String sharedPath,
+    int xBegin, int xCount, int yBegin, int yCount, int zBegin, int zCount,
+    int tBegin, int tCount, int cBegin, int cCount)
+    throws FormatException, IOException
+  {
+    createReader(filePath);
+
+    long size = ITKBridgeTools.getRegionSize(reader, xCount, yCount, zCount,
+      tCount, cCount);
+    if (size > Integer.MAX_VALUE) {
+      throw new FormatException("Region too large to share: " + size +
+        " bytes");
+    }
+
+    RandomAccessFile file = new RandomAccessFile(sharedPath, "rw");
+    try {
+      MappedByteBuffer buf =
+        file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+      ITKBridgeTools.readRegion(reader, buf, xBegin, xCount, yBegin, yCount,
+        zBegin, zCount, tBegin, tCount, cBegin, cCount);
+    }
+    finally {
+      file.close();
+    }
+    System.out.println(size);
+    return true;
+  }
+
   /**
    * 
    */
@@ -531,6 +594,23 @@ public class ITKBridgePipes {
       int cEnd =   Integer.parseInt( args[11] ) + cBegin - 1;
       if (!new ITKBridgePipes().read(args[1], xBegin, xEnd, yBegin, yEnd, zBegin, zEnd, tBegin, tEnd, cBegin, cEnd)) System.exit(1);
     }
+    else if(args[0].equals("readShared")) {
+      int xBegin = Integer.parseInt( args[3] );
+      int xCount = Integer.parseInt( args[4] );
+      int yBegin = Integer.parseInt( args[5] );
+      int yCount = Integer.parseInt( args[6] );
+      int zBegin = Integer.parseInt( args[7] );
+      int zCount = Integer.parseInt( args[8] );
+      int tBegin = Integer.parseInt( args[9] );
+      int tCount = Integer.parseInt( args[10] );
+      int cBegin = Integer.parseInt( args[11] );
+      int cCount = Integer.parseInt( args[12] );
+      if (!new ITKBridgePipes().readShared(args[1], args[2], xBegin, xCount,
+        yBegin, yCount, zBegin, zCount, tBegin, tCount, cBegin, cCount))
+      {
+        System.exit(1);
+      }
+    }
     else if(args[0].equals("canRead")) {
       if (!new ITKBridgePipes().canRead(args[1])) System.exit(1);
     }
@@ -0,0 +1,118 @@
+//
+// ITKBridgeTools.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.itk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import loci.formats.FormatException;
+import loci.formats.FormatTools;
+import loci.formats.IFormatReader;
+
+/**
+ * Utility methods shared by the ITK bridges.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/scifio/src/loci/formats/itk/ITKBridgeTools.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/scifio/src/loci/formats/itk/ITKBridgeTools.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public final class ITKBridgeTools {
+
+  // -- Constructor --
+
+  private ITKBridgeTools() { }
+
+  // -- Utility methods --
+
+  /**
+   * Gets the number of bytes needed to hold the given region of the
+   * reader's current series.
+   */
+  public static long getRegionSize(IFormatReader reader, int xCount,
+    int yCount, int zCount, int tCount, int cCount)
+  {
+    return (long) xCount * yCount * zCount * tCount * cCount *
+      reader.getRGBChannelCount() *
+      FormatTools.getBytesPerPixel(reader.getPixelType());
+  }
+
+  /**
+   * Decodes a region of the reader's current series into the given buffer,
+   * in the order used by ITK: X varies fastest, then Y, Z, T and C, with
+   * the RGB channels of each pixel stored together.
+   *
+   * Interleaved and single channel planes are decoded straight into the
+   * buffer; planes whose RGB channels are stored separately are decoded
+   * into a temporary array and interleaved one row at a time.
+   */
+  public static void readRegion(IFormatReader reader, ByteBuffer buf,
+    int xBegin, int xCount, int yBegin, int yCount, int zBegin, int zCount,
+    int tBegin, int tCount, int cBegin, int cCount)
+    throws FormatException, IOException
+  {
+    long size = getRegionSize(reader, xCount, yCount, zCount, tCount, cCount);
+    if (size > buf.limit()) {
+      throw new FormatException("Buffer too small (got " + buf.limit() +
+        ", expected " + size + ").");
+    }
+
+    int rgbChannelCount = reader.getRGBChannelCount();
+    int bpp = FormatTools.getBytesPerPixel(reader.getPixelType());
+    int rowLength = xCount * rgbChannelCount * bpp;
+    int planeSize = rowLength * yCount;
+    boolean direct = rgbChannelCount == 1 || reader.isInterleaved();
+    byte[] plane = direct ? null : new byte[planeSize];
+    byte[] row = direct ? null : new byte[rowLength];
+
+    int offset = 0;
+    for (int c=cBegin; c<cBegin+cCount; c++) {
+      for (int t=tBegin; t<tBegin+tCount; t++) {
+        for (int z=zBegin; z<zBegin+zCount; z++) {
+          int no = reader.getIndex(z, c, t);
+          if (direct) {
+            reader.openBytes(no, buf, offset, rowLength,
+              xBegin, yBegin, xCount, yCount);
+          }
+          else {
+            reader.openBytes(no, plane, xBegin, yBegin, xCount, yCount);
+            for (int y=0; y<yCount; y++) {
+              for (int i=0; i<rgbChannelCount; i++) {
+                int src = (i * yCount + y) * xCount * bpp;
+                int dest = i * bpp;
+                for (int x=0; x<xCount; x++) {
+                  System.arraycopy(plane, src, row, dest, bpp);
+                  src += bpp;
+                  dest += rgbChannelCount * bpp;
+                }
+              }
+              FormatTools.put(row, 0, buf, offset + y * rowLength, rowLength);
+            }
+          }
+          offset += planeSize;
+        }
+      }
+    }
+  }
+
+}
@@ -42,7 +42,7 @@
 
 package loci.formats.meta;
 
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
 
 import ome.xml.model.enums.*;
@@ -66,6 +66,12 @@ public class AggregateMetadata implements IMetadata
 	/** The active metadata store delegates. */
 	private List delegates;
 
+	/** Delegates of type {@link MetadataStore}, in delegate order. */
+	private MetadataStore[] stores;
+
+	/** Delegates of type {@link MetadataRetrieve}, in delegate order. */
+	private MetadataRetrieve[] retrieves;
+
 	// -- Constructor --
 
 	/**
@@ -75,7 +81,7 @@ public class AggregateMetadata implements IMetadata
 	 */
 	public AggregateMetadata(List delegates)
 	{
-		this.delegates = delegates;
+		setDelegates(delegates);
 	}
 
 	// -- MetadataStore API methods --
@@ -83,13 +89,9 @@ public class AggregateMetadata implements IMetadata
 	/* @see MetadataStore#createRoot() */
 	public void createRoot()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				((MetadataStore) o).createRoot();
-			}
+			stores[i].createRoot();
 		}
 	}
 
@@ -116,34 +118,49 @@ public class AggregateMetadata implements IMetadata
 
 	// -- AggregateMetadata API methods --
 
+	/** Gets the active metadata store delegates. */
+	public List getDelegates()
+	{
+		return delegates;
+	}
+
+	/**
+	 * Sets the active metadata store delegates.  This must also be called
+	 * if the delegate list is modified after it has been set.
+	 * @param delegates of type {@link MetadataRetrieve}
+	 *   and/or {@link MetadataStore}.
+	 */
+	public void setDelegates(List delegates)
+	{
+		List<MetadataStore> s = new ArrayList<MetadataStore>();
+		List<MetadataRetrieve> r = new ArrayList<MetadataRetrieve>();
+		for (Object o : delegates)
+		{
+			if (o instanceof MetadataStore) s.add((MetadataStore) o);
+			if (o instanceof MetadataRetrieve) r.add((MetadataRetrieve) o);
+		}
+		this.delegates = delegates;
+		stores = s.toArray(new MetadataStore[s.size()]);
+		retrieves = r.toArray(new MetadataRetrieve[r.size()]);
+	}
 
 	// -- Entity counting (manual definitions) --
 
 	public int getPixelsBinDataCount(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getPixelsBinDataCount(imageIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getPixelsBinDataCount(imageIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public String getLightSourceType(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		if (retrieves.length > 0)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				return retrieve.getLightSourceType(instrumentIndex, lightSourceIndex);
-			}
+			return retrieves[0].getLightSourceType(instrumentIndex, lightSourceIndex);
 		}
 		return null;
 	}
@@ -153,210 +170,140 @@ public class AggregateMetadata implements IMetadata
 	// AnnotationRef entity counting
 	public int getROIAnnotationRefCount(int ROIIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getROIAnnotationRefCount(ROIIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getROIAnnotationRefCount(ROIIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getPlateAcquisitionAnnotationRefCount(int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getPlateAcquisitionAnnotationRefCount(plateIndex, plateAcquisitionIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getPlateAcquisitionAnnotationRefCount(plateIndex, plateAcquisitionIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getPlateAnnotationRefCount(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getPlateAnnotationRefCount(plateIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getPlateAnnotationRefCount(plateIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getImageAnnotationRefCount(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getImageAnnotationRefCount(imageIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getImageAnnotationRefCount(imageIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getScreenAnnotationRefCount(int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getScreenAnnotationRefCount(screenIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getScreenAnnotationRefCount(screenIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getWellAnnotationRefCount(int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getWellAnnotationRefCount(plateIndex, wellIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getWellAnnotationRefCount(plateIndex, wellIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getDatasetAnnotationRefCount(int datasetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getDatasetAnnotationRefCount(datasetIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getDatasetAnnotationRefCount(datasetIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getProjectAnnotationRefCount(int projectIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getProjectAnnotationRefCount(projectIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getProjectAnnotationRefCount(projectIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getReagentAnnotationRefCount(int screenIndex, int reagentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getReagentAnnotationRefCount(screenIndex, reagentIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getReagentAnnotationRefCount(screenIndex, reagentIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getPlaneAnnotationRefCount(int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getPlaneAnnotationRefCount(imageIndex, planeIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getPlaneAnnotationRefCount(imageIndex, planeIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getExperimenterAnnotationRefCount(int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getExperimenterAnnotationRefCount(experimenterIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getExperimenterAnnotationRefCount(experimenterIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getWellSampleAnnotationRefCount(int plateIndex, int wellIndex, int wellSampleIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getWellSampleAnnotationRefCount(plateIndex, wellIndex, wellSampleIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getWellSampleAnnotationRefCount(plateIndex, wellIndex, wellSampleIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getPixelsAnnotationRefCount(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getPixelsAnnotationRefCount(imageIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getPixelsAnnotationRefCount(imageIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getChannelAnnotationRefCount(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getChannelAnnotationRefCount(imageIndex, channelIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getChannelAnnotationRefCount(imageIndex, channelIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -367,15 +314,10 @@ public class AggregateMetadata implements IMetadata
 	// BooleanAnnotation entity counting
 	public int getBooleanAnnotationCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getBooleanAnnotationCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getBooleanAnnotationCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -383,15 +325,10 @@ public class AggregateMetadata implements IMetadata
 	// Channel entity counting
 	public int getChannelCount(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getChannelCount(imageIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getChannelCount(imageIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -399,15 +336,10 @@ public class AggregateMetadata implements IMetadata
 	// CommentAnnotation entity counting
 	public int getCommentAnnotationCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getCommentAnnotationCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getCommentAnnotationCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -416,15 +348,10 @@ public class AggregateMetadata implements IMetadata
 	// Dataset entity counting
 	public int getDatasetCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getDatasetCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getDatasetCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -432,15 +359,10 @@ public class AggregateMetadata implements IMetadata
 	// DatasetRef entity counting
 	public int getDatasetRefCount(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getDatasetRefCount(imageIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getDatasetRefCount(imageIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -448,15 +370,10 @@ public class AggregateMetadata implements IMetadata
 	// Detector entity counting
 	public int getDetectorCount(int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getDetectorCount(instrumentIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getDetectorCount(instrumentIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -465,15 +382,10 @@ public class AggregateMetadata implements IMetadata
 	// Dichroic entity counting
 	public int getDichroicCount(int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getDichroicCount(instrumentIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getDichroicCount(instrumentIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -482,15 +394,10 @@ public class AggregateMetadata implements IMetadata
 	// DoubleAnnotation entity counting
 	public int getDoubleAnnotationCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getDoubleAnnotationCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getDoubleAnnotationCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -499,30 +406,20 @@ public class AggregateMetadata implements IMetadata
 	// EmissionFilterRef entity counting
 	public int getLightPathEmissionFilterRefCount(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getLightPathEmissionFilterRefCount(imageIndex, channelIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getLightPathEmissionFilterRefCount(imageIndex, channelIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getFilterSetEmissionFilterRefCount(int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getFilterSetEmissionFilterRefCount(instrumentIndex, filterSetIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getFilterSetEmissionFilterRefCount(instrumentIndex, filterSetIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -530,30 +427,20 @@ public class AggregateMetadata implements IMetadata
 	// ExcitationFilterRef entity counting
 	public int getLightPathExcitationFilterRefCount(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getLightPathExcitationFilterRefCount(imageIndex, channelIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getLightPathExcitationFilterRefCount(imageIndex, channelIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getFilterSetExcitationFilterRefCount(int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getFilterSetExcitationFilterRefCount(instrumentIndex, filterSetIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getFilterSetExcitationFilterRefCount(instrumentIndex, filterSetIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -561,15 +448,10 @@ public class AggregateMetadata implements IMetadata
 	// Experiment entity counting
 	public int getExperimentCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getExperimentCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getExperimentCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -578,15 +460,10 @@ public class AggregateMetadata implements IMetadata
 	// Experimenter entity counting
 	public int getExperimenterCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getExperimenterCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getExperimenterCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -596,15 +473,10 @@ public class AggregateMetadata implements IMetadata
 	// FileAnnotation entity counting
 	public int getFileAnnotationCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getFileAnnotationCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getFileAnnotationCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -612,15 +484,10 @@ public class AggregateMetadata implements IMetadata
 	// Filter entity counting
 	public int getFilterCount(int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getFilterCount(instrumentIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getFilterCount(instrumentIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -628,15 +495,10 @@ public class AggregateMetadata implements IMetadata
 	// FilterSet entity counting
 	public int getFilterSetCount(int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getFilterSetCount(instrumentIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getFilterSetCount(instrumentIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -645,15 +507,10 @@ public class AggregateMetadata implements IMetadata
 	// Group entity counting
 	public int getGroupCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getGroupCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getGroupCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -661,15 +518,10 @@ public class AggregateMetadata implements IMetadata
 	// GroupRef entity counting
 	public int getExperimenterGroupRefCount(int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getExperimenterGroupRefCount(experimenterIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getExperimenterGroupRefCount(experimenterIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -677,15 +529,10 @@ public class AggregateMetadata implements IMetadata
 	// Image entity counting
 	public int getImageCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getImageCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getImageCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -695,15 +542,10 @@ public class AggregateMetadata implements IMetadata
 	// Instrument entity counting
 	public int getInstrumentCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getInstrumentCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getInstrumentCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -716,15 +558,10 @@ public class AggregateMetadata implements IMetadata
 	// LightSource entity counting
 	public int getLightSourceCount(int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getLightSourceCount(instrumentIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getLightSourceCount(instrumentIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -732,15 +569,10 @@ public class AggregateMetadata implements IMetadata
 	// LightSourceSettings entity counting
 	public int getMicrobeamManipulationLightSourceSettingsCount(int experimentIndex, int microbeamManipulationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getMicrobeamManipulationLightSourceSettingsCount(experimentIndex, microbeamManipulationIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getMicrobeamManipulationLightSourceSettingsCount(experimentIndex, microbeamManipulationIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -749,15 +581,10 @@ public class AggregateMetadata implements IMetadata
 	// ListAnnotation entity counting
 	public int getListAnnotationCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getListAnnotationCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getListAnnotationCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -765,15 +592,10 @@ public class AggregateMetadata implements IMetadata
 	// LongAnnotation entity counting
 	public int getLongAnnotationCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getLongAnnotationCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getLongAnnotationCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -783,15 +605,10 @@ public class AggregateMetadata implements IMetadata
 	// MicrobeamManipulation entity counting
 	public int getMicrobeamManipulationCount(int experimentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getMicrobeamManipulationCount(experimentIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getMicrobeamManipulationCount(experimentIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -799,15 +616,10 @@ public class AggregateMetadata implements IMetadata
 	// MicrobeamManipulationRef entity counting
 	public int getMicrobeamManipulationRefCount(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getMicrobeamManipulationRefCount(imageIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getMicrobeamManipulationRefCount(imageIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -816,15 +628,10 @@ public class AggregateMetadata implements IMetadata
 	// OTF entity counting
 	public int getOTFCount(int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getOTFCount(instrumentIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getOTFCount(instrumentIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -833,15 +640,10 @@ public class AggregateMetadata implements IMetadata
 	// Objective entity counting
 	public int getObjectiveCount(int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getObjectiveCount(instrumentIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getObjectiveCount(instrumentIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -852,15 +654,10 @@ public class AggregateMetadata implements IMetadata
 	// Plane entity counting
 	public int getPlaneCount(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getPlaneCount(imageIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getPlaneCount(imageIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -868,15 +665,10 @@ public class AggregateMetadata implements IMetadata
 	// Plate entity counting
 	public int getPlateCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getPlateCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getPlateCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -884,15 +676,10 @@ public class AggregateMetadata implements IMetadata
 	// PlateAcquisition entity counting
 	public int getPlateAcquisitionCount(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getPlateAcquisitionCount(plateIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getPlateAcquisitionCount(plateIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -900,15 +687,10 @@ public class AggregateMetadata implements IMetadata
 	// PlateRef entity counting
 	public int getPlateRefCount(int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getPlateRefCount(screenIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getPlateRefCount(screenIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -918,15 +700,10 @@ public class AggregateMetadata implements IMetadata
 	// Project entity counting
 	public int getProjectCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getProjectCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getProjectCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -934,15 +711,10 @@ public class AggregateMetadata implements IMetadata
 	// ProjectRef entity counting
 	public int getProjectRefCount(int datasetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getProjectRefCount(datasetIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getProjectRefCount(datasetIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -951,15 +723,10 @@ public class AggregateMetadata implements IMetadata
 	// ROI entity counting
 	public int getROICount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getROICount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getROICount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -967,30 +734,20 @@ public class AggregateMetadata implements IMetadata
 	// ROIRef entity counting
 	public int getImageROIRefCount(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getImageROIRefCount(imageIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getImageROIRefCount(imageIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
 
 	public int getMicrobeamManipulationROIRefCount(int experimentIndex, int microbeamManipulationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getMicrobeamManipulationROIRefCount(experimentIndex, microbeamManipulationIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getMicrobeamManipulationROIRefCount(experimentIndex, microbeamManipulationIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -998,15 +755,10 @@ public class AggregateMetadata implements IMetadata
 	// Reagent entity counting
 	public int getReagentCount(int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getReagentCount(screenIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getReagentCount(screenIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -1016,15 +768,10 @@ public class AggregateMetadata implements IMetadata
 	// Screen entity counting
 	public int getScreenCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getScreenCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getScreenCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -1032,15 +779,10 @@ public class AggregateMetadata implements IMetadata
 	// ScreenRef entity counting
 	public int getScreenRefCount(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getScreenRefCount(plateIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getScreenRefCount(plateIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -1048,15 +790,10 @@ public class AggregateMetadata implements IMetadata
 	// Shape entity counting
 	public int getShapeCount(int ROIIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getShapeCount(ROIIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getShapeCount(ROIIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -1066,15 +803,10 @@ public class AggregateMetadata implements IMetadata
 	// TagAnnotation entity counting
 	public int getTagAnnotationCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getTagAnnotationCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getTagAnnotationCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -1082,15 +814,10 @@ public class AggregateMetadata implements IMetadata
 	// TermAnnotation entity counting
 	public int getTermAnnotationCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getTermAnnotationCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getTermAnnotationCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -1099,15 +826,10 @@ public class AggregateMetadata implements IMetadata
 	// TiffData entity counting
 	public int getTiffDataCount(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getTiffDataCount(imageIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getTiffDataCount(imageIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -1115,15 +837,10 @@ public class AggregateMetadata implements IMetadata
 	// TimestampAnnotation entity counting
 	public int getTimestampAnnotationCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getTimestampAnnotationCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getTimestampAnnotationCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -1133,29 +850,18 @@ public class AggregateMetadata implements IMetadata
 	// {u'TiffData': [u'int imageIndex', u'int tiffDataIndex']}
 	public void setUUIDValue(String value, int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				((MetadataStore) o).setUUIDValue(value, imageIndex, tiffDataIndex);
-			}
+			stores[i].setUUIDValue(value, imageIndex, tiffDataIndex);
 		}
 	}
 
 	public String getUUIDValue(int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				String result = ((MetadataRetrieve) o).getUUIDValue(imageIndex, tiffDataIndex);
-				if (result != null)
-				{
-					return result;
-				}
-			}
+			String result = retrieves[i].getUUIDValue(imageIndex, tiffDataIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1165,15 +871,10 @@ public class AggregateMetadata implements IMetadata
 	// Well entity counting
 	public int getWellCount(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getWellCount(plateIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getWellCount(plateIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -1181,15 +882,10 @@ public class AggregateMetadata implements IMetadata
 	// WellSample entity counting
 	public int getWellSampleCount(int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getWellSampleCount(plateIndex, wellIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getWellSampleCount(plateIndex, wellIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -1197,15 +893,10 @@ public class AggregateMetadata implements IMetadata
 	// WellSampleRef entity counting
 	public int getWellSampleRefCount(int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getWellSampleRefCount(plateIndex, plateAcquisitionIndex);
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getWellSampleRefCount(plateIndex, plateAcquisitionIndex);
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -1213,15 +904,10 @@ public class AggregateMetadata implements IMetadata
 	// XMLAnnotation entity counting
 	public int getXMLAnnotationCount()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				int result = retrieve.getXMLAnnotationCount();
-				if (result >= 0) return result;
-			}
+			int result = retrieves[i].getXMLAnnotationCount();
+			if (result >= 0) return result;
 		}
 		return -1;
 	}
@@ -1231,15 +917,10 @@ public class AggregateMetadata implements IMetadata
 
 	public Boolean getPixelsBinDataBigEndian(int imageIndex, int binDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Boolean result = retrieve.getPixelsBinDataBigEndian(imageIndex, binDataIndex);
-				if (result != null) return result;
-			}
+			Boolean result = retrieves[i].getPixelsBinDataBigEndian(imageIndex, binDataIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1249,15 +930,10 @@ public class AggregateMetadata implements IMetadata
 	/** Gets the UUID associated with this collection of metadata. */
 	public String getUUID()
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getUUID();
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getUUID();
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1285,15 +961,10 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent LightSource
 	public String getArcID(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getArcID(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getArcID(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1303,15 +974,10 @@ public class AggregateMetadata implements IMetadata
 	// LotNumber accessor from parent LightSource
 	public String getArcLotNumber(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getArcLotNumber(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getArcLotNumber(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1319,15 +985,10 @@ public class AggregateMetadata implements IMetadata
 	// Manufacturer accessor from parent LightSource
 	public String getArcManufacturer(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getArcManufacturer(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getArcManufacturer(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1335,15 +996,10 @@ public class AggregateMetadata implements IMetadata
 	// Model accessor from parent LightSource
 	public String getArcModel(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getArcModel(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getArcModel(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1351,15 +1007,10 @@ public class AggregateMetadata implements IMetadata
 	// Power accessor from parent LightSource
 	public Double getArcPower(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getArcPower(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getArcPower(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1367,30 +1018,20 @@ public class AggregateMetadata implements IMetadata
 	// SerialNumber accessor from parent LightSource
 	public String getArcSerialNumber(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getArcSerialNumber(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getArcSerialNumber(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public ArcType getArcType(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				ArcType result = retrieve.getArcType(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			ArcType result = retrieves[i].getArcType(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1406,90 +1047,60 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring External element, complex property
 	public String getFileAnnotationBinaryFileFileName(int fileAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFileAnnotationBinaryFileFileName(fileAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFileAnnotationBinaryFileFileName(fileAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getOTFBinaryFileFileName(int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getOTFBinaryFileFileName(instrumentIndex, OTFIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getOTFBinaryFileFileName(instrumentIndex, OTFIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getFileAnnotationBinaryFileMIMEType(int fileAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFileAnnotationBinaryFileMIMEType(fileAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFileAnnotationBinaryFileMIMEType(fileAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getOTFBinaryFileMIMEType(int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getOTFBinaryFileMIMEType(instrumentIndex, OTFIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getOTFBinaryFileMIMEType(instrumentIndex, OTFIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeLong getFileAnnotationBinaryFileSize(int fileAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeLong result = retrieve.getFileAnnotationBinaryFileSize(fileAnnotationIndex);
-				if (result != null) return result;
-			}
+			NonNegativeLong result = retrieves[i].getFileAnnotationBinaryFileSize(fileAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeLong getOTFBinaryFileSize(int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeLong result = retrieve.getOTFBinaryFileSize(instrumentIndex, OTFIndex);
-				if (result != null) return result;
-			}
+			NonNegativeLong result = retrieves[i].getOTFBinaryFileSize(instrumentIndex, OTFIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1503,30 +1114,20 @@ public class AggregateMetadata implements IMetadata
 
 	public String getBinaryOnlyMetadataFile(int metadataFileIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getBinaryOnlyMetadataFile(metadataFileIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getBinaryOnlyMetadataFile(metadataFileIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getBinaryOnlyUUID(int UUIDIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getBinaryOnlyUUID(UUIDIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getBinaryOnlyUUID(UUIDIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1540,15 +1141,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getBooleanAnnotationAnnotationRef(int booleanAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getBooleanAnnotationAnnotationRef(booleanAnnotationIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getBooleanAnnotationAnnotationRef(booleanAnnotationIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1557,15 +1153,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public String getBooleanAnnotationDescription(int booleanAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getBooleanAnnotationDescription(booleanAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getBooleanAnnotationDescription(booleanAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1573,15 +1164,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Experimenter_BackReference back reference
 	public String getBooleanAnnotationID(int booleanAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getBooleanAnnotationID(booleanAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getBooleanAnnotationID(booleanAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1589,15 +1175,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Image_BackReference back reference
 	public String getBooleanAnnotationNamespace(int booleanAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getBooleanAnnotationNamespace(booleanAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getBooleanAnnotationNamespace(booleanAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1612,15 +1193,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public Boolean getBooleanAnnotationValue(int booleanAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Boolean result = retrieve.getBooleanAnnotationValue(booleanAnnotationIndex);
-				if (result != null) return result;
-			}
+			Boolean result = retrieves[i].getBooleanAnnotationValue(booleanAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1636,60 +1212,40 @@ public class AggregateMetadata implements IMetadata
 
 	public AcquisitionMode getChannelAcquisitionMode(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				AcquisitionMode result = retrieve.getChannelAcquisitionMode(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			AcquisitionMode result = retrieves[i].getChannelAcquisitionMode(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getChannelAnnotationRef(int imageIndex, int channelIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getChannelAnnotationRef(imageIndex, channelIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getChannelAnnotationRef(imageIndex, channelIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Integer getChannelColor(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getChannelColor(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getChannelColor(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public ContrastMethod getChannelContrastMethod(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				ContrastMethod result = retrieve.getChannelContrastMethod(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			ContrastMethod result = retrieves[i].getChannelContrastMethod(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1697,90 +1253,60 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring DetectorSettings element, complex property
 	public PositiveInteger getChannelEmissionWavelength(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getChannelEmissionWavelength(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getChannelEmissionWavelength(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getChannelExcitationWavelength(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getChannelExcitationWavelength(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getChannelExcitationWavelength(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getChannelFilterSetRef(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getChannelFilterSetRef(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getChannelFilterSetRef(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getChannelFluor(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getChannelFluor(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getChannelFluor(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getChannelID(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getChannelID(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getChannelID(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public IlluminationType getChannelIlluminationType(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				IlluminationType result = retrieve.getChannelIlluminationType(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			IlluminationType result = retrieves[i].getChannelIlluminationType(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1789,90 +1315,60 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring LightSourceSettings element, complex property
 	public Double getChannelNDFilter(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getChannelNDFilter(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getChannelNDFilter(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getChannelName(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getChannelName(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getChannelName(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getChannelOTFRef(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getChannelOTFRef(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getChannelOTFRef(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getChannelPinholeSize(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getChannelPinholeSize(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getChannelPinholeSize(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Integer getChannelPockelCellSetting(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getChannelPockelCellSetting(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getChannelPockelCellSetting(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getChannelSamplesPerPixel(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getChannelSamplesPerPixel(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getChannelSamplesPerPixel(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1886,15 +1382,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getCommentAnnotationAnnotationRef(int commentAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getCommentAnnotationAnnotationRef(commentAnnotationIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getCommentAnnotationAnnotationRef(commentAnnotationIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1903,15 +1394,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public String getCommentAnnotationDescription(int commentAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getCommentAnnotationDescription(commentAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getCommentAnnotationDescription(commentAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1919,15 +1405,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Experimenter_BackReference back reference
 	public String getCommentAnnotationID(int commentAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getCommentAnnotationID(commentAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getCommentAnnotationID(commentAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1935,15 +1416,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Image_BackReference back reference
 	public String getCommentAnnotationNamespace(int commentAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getCommentAnnotationNamespace(commentAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getCommentAnnotationNamespace(commentAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1958,15 +1434,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public String getCommentAnnotationValue(int commentAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getCommentAnnotationValue(commentAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getCommentAnnotationValue(commentAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -1993,75 +1464,50 @@ public class AggregateMetadata implements IMetadata
 
 	public String getDatasetAnnotationRef(int datasetIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDatasetAnnotationRef(datasetIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDatasetAnnotationRef(datasetIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDatasetDescription(int datasetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDatasetDescription(datasetIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDatasetDescription(datasetIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDatasetExperimenterRef(int datasetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDatasetExperimenterRef(datasetIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDatasetExperimenterRef(datasetIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDatasetGroupRef(int datasetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDatasetGroupRef(datasetIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDatasetGroupRef(datasetIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDatasetID(int datasetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDatasetID(datasetIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDatasetID(datasetIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2069,30 +1515,20 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Image_BackReference back reference
 	public String getDatasetName(int datasetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDatasetName(datasetIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDatasetName(datasetIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDatasetProjectRef(int datasetIndex, int projectRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDatasetProjectRef(datasetIndex, projectRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDatasetProjectRef(datasetIndex, projectRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2117,165 +1553,110 @@ public class AggregateMetadata implements IMetadata
 
 	public Double getDetectorAmplificationGain(int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getDetectorAmplificationGain(instrumentIndex, detectorIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getDetectorAmplificationGain(instrumentIndex, detectorIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getDetectorGain(int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getDetectorGain(instrumentIndex, detectorIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getDetectorGain(instrumentIndex, detectorIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDetectorID(int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDetectorID(instrumentIndex, detectorIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDetectorID(instrumentIndex, detectorIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDetectorLotNumber(int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDetectorLotNumber(instrumentIndex, detectorIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDetectorLotNumber(instrumentIndex, detectorIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDetectorManufacturer(int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDetectorManufacturer(instrumentIndex, detectorIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDetectorManufacturer(instrumentIndex, detectorIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDetectorModel(int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDetectorModel(instrumentIndex, detectorIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDetectorModel(instrumentIndex, detectorIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getDetectorOffset(int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getDetectorOffset(instrumentIndex, detectorIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getDetectorOffset(instrumentIndex, detectorIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDetectorSerialNumber(int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDetectorSerialNumber(instrumentIndex, detectorIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDetectorSerialNumber(instrumentIndex, detectorIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public DetectorType getDetectorType(int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				DetectorType result = retrieve.getDetectorType(instrumentIndex, detectorIndex);
-				if (result != null) return result;
-			}
+			DetectorType result = retrieves[i].getDetectorType(instrumentIndex, detectorIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getDetectorVoltage(int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getDetectorVoltage(instrumentIndex, detectorIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getDetectorVoltage(instrumentIndex, detectorIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getDetectorZoom(int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getDetectorZoom(instrumentIndex, detectorIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getDetectorZoom(instrumentIndex, detectorIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2289,90 +1670,60 @@ public class AggregateMetadata implements IMetadata
 
 	public Binning getDetectorSettingsBinning(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Binning result = retrieve.getDetectorSettingsBinning(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			Binning result = retrieves[i].getDetectorSettingsBinning(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getDetectorSettingsGain(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getDetectorSettingsGain(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getDetectorSettingsGain(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDetectorSettingsID(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDetectorSettingsID(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDetectorSettingsID(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getDetectorSettingsOffset(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getDetectorSettingsOffset(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getDetectorSettingsOffset(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getDetectorSettingsReadOutRate(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getDetectorSettingsReadOutRate(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getDetectorSettingsReadOutRate(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getDetectorSettingsVoltage(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getDetectorSettingsVoltage(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getDetectorSettingsVoltage(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2387,15 +1738,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring FilterSet_BackReference back reference
 	public String getDichroicID(int instrumentIndex, int dichroicIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDichroicID(instrumentIndex, dichroicIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDichroicID(instrumentIndex, dichroicIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2403,60 +1749,40 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring LightPath_BackReference back reference
 	public String getDichroicLotNumber(int instrumentIndex, int dichroicIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDichroicLotNumber(instrumentIndex, dichroicIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDichroicLotNumber(instrumentIndex, dichroicIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDichroicManufacturer(int instrumentIndex, int dichroicIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDichroicManufacturer(instrumentIndex, dichroicIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDichroicManufacturer(instrumentIndex, dichroicIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDichroicModel(int instrumentIndex, int dichroicIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDichroicModel(instrumentIndex, dichroicIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDichroicModel(instrumentIndex, dichroicIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getDichroicSerialNumber(int instrumentIndex, int dichroicIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDichroicSerialNumber(instrumentIndex, dichroicIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDichroicSerialNumber(instrumentIndex, dichroicIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2481,15 +1807,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getDoubleAnnotationAnnotationRef(int doubleAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDoubleAnnotationAnnotationRef(doubleAnnotationIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDoubleAnnotationAnnotationRef(doubleAnnotationIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2498,15 +1819,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public String getDoubleAnnotationDescription(int doubleAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDoubleAnnotationDescription(doubleAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDoubleAnnotationDescription(doubleAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2514,15 +1830,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Experimenter_BackReference back reference
 	public String getDoubleAnnotationID(int doubleAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDoubleAnnotationID(doubleAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDoubleAnnotationID(doubleAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2530,15 +1841,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Image_BackReference back reference
 	public String getDoubleAnnotationNamespace(int doubleAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getDoubleAnnotationNamespace(doubleAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getDoubleAnnotationNamespace(doubleAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2553,15 +1859,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public Double getDoubleAnnotationValue(int doubleAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getDoubleAnnotationValue(doubleAnnotationIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getDoubleAnnotationValue(doubleAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2578,15 +1879,10 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public String getEllipseDescription(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getEllipseDescription(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getEllipseDescription(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2595,15 +1891,10 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public Integer getEllipseFill(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getEllipseFill(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getEllipseFill(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2613,15 +1904,10 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public NonNegativeInteger getEllipseFontSize(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getEllipseFontSize(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getEllipseFontSize(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2630,15 +1916,10 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public String getEllipseID(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getEllipseID(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getEllipseID(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2646,15 +1927,10 @@ public class AggregateMetadata implements IMetadata
 	// Label accessor from parent Shape
 	public String getEllipseLabel(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getEllipseLabel(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getEllipseLabel(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2667,15 +1943,10 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public String getEllipseName(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getEllipseName(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getEllipseName(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2687,15 +1958,10 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public Integer getEllipseStroke(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getEllipseStroke(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getEllipseStroke(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2703,15 +1969,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeDashArray accessor from parent Shape
 	public String getEllipseStrokeDashArray(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getEllipseStrokeDashArray(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getEllipseStrokeDashArray(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2719,15 +1980,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeWidth accessor from parent Shape
 	public Double getEllipseStrokeWidth(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getEllipseStrokeWidth(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getEllipseStrokeWidth(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2736,15 +1992,10 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public NonNegativeInteger getEllipseTheC(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getEllipseTheC(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getEllipseTheC(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2752,15 +2003,10 @@ public class AggregateMetadata implements IMetadata
 	// TheT accessor from parent Shape
 	public NonNegativeInteger getEllipseTheT(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getEllipseTheT(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getEllipseTheT(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2768,15 +2014,10 @@ public class AggregateMetadata implements IMetadata
 	// TheZ accessor from parent Shape
 	public NonNegativeInteger getEllipseTheZ(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getEllipseTheZ(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getEllipseTheZ(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2784,75 +2025,50 @@ public class AggregateMetadata implements IMetadata
 	// Transform accessor from parent Shape
 	public String getEllipseTransform(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getEllipseTransform(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getEllipseTransform(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getEllipseRadiusX(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getEllipseRadiusX(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getEllipseRadiusX(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getEllipseRadiusY(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getEllipseRadiusY(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getEllipseRadiusY(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getEllipseX(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getEllipseX(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getEllipseX(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getEllipseY(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getEllipseY(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getEllipseY(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2880,45 +2096,30 @@ public class AggregateMetadata implements IMetadata
 
 	public String getExperimentDescription(int experimentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getExperimentDescription(experimentIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getExperimentDescription(experimentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getExperimentExperimenterRef(int experimentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getExperimentExperimenterRef(experimentIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getExperimentExperimenterRef(experimentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getExperimentID(int experimentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getExperimentID(experimentIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getExperimentID(experimentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2927,15 +2128,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring MicrobeamManipulation element, complex property
 	public ExperimentType getExperimentType(int experimentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				ExperimentType result = retrieve.getExperimentType(experimentIndex);
-				if (result != null) return result;
-			}
+			ExperimentType result = retrieves[i].getExperimentType(experimentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2960,15 +2156,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getExperimenterAnnotationRef(int experimenterIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getExperimenterAnnotationRef(experimenterIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getExperimenterAnnotationRef(experimenterIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -2976,30 +2167,20 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public String getExperimenterDisplayName(int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getExperimenterDisplayName(experimenterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getExperimenterDisplayName(experimenterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getExperimenterEmail(int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getExperimenterEmail(experimenterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getExperimenterEmail(experimenterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3007,45 +2188,30 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Experiment_BackReference back reference
 	public String getExperimenterFirstName(int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getExperimenterFirstName(experimenterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getExperimenterFirstName(experimenterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getExperimenterGroupRef(int experimenterIndex, int groupRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getExperimenterGroupRef(experimenterIndex, groupRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getExperimenterGroupRef(experimenterIndex, groupRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getExperimenterID(int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getExperimenterID(experimenterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getExperimenterID(experimenterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3053,30 +2219,20 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Image_BackReference back reference
 	public String getExperimenterInstitution(int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getExperimenterInstitution(experimenterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getExperimenterInstitution(experimenterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getExperimenterLastName(int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getExperimenterLastName(experimenterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getExperimenterLastName(experimenterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3084,15 +2240,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring MicrobeamManipulation_BackReference back reference
 	public String getExperimenterMiddleName(int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getExperimenterMiddleName(experimenterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getExperimenterMiddleName(experimenterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3100,15 +2251,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Project_BackReference back reference
 	public String getExperimenterUserName(int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getExperimenterUserName(experimenterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getExperimenterUserName(experimenterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3136,15 +2282,10 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent LightSource
 	public String getFilamentID(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilamentID(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilamentID(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3154,15 +2295,10 @@ public class AggregateMetadata implements IMetadata
 	// LotNumber accessor from parent LightSource
 	public String getFilamentLotNumber(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilamentLotNumber(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilamentLotNumber(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3170,15 +2306,10 @@ public class AggregateMetadata implements IMetadata
 	// Manufacturer accessor from parent LightSource
 	public String getFilamentManufacturer(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilamentManufacturer(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilamentManufacturer(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3186,15 +2317,10 @@ public class AggregateMetadata implements IMetadata
 	// Model accessor from parent LightSource
 	public String getFilamentModel(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilamentModel(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilamentModel(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3202,15 +2328,10 @@ public class AggregateMetadata implements IMetadata
 	// Power accessor from parent LightSource
 	public Double getFilamentPower(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getFilamentPower(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getFilamentPower(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3218,30 +2339,20 @@ public class AggregateMetadata implements IMetadata
 	// SerialNumber accessor from parent LightSource
 	public String getFilamentSerialNumber(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilamentSerialNumber(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilamentSerialNumber(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public FilamentType getFilamentType(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				FilamentType result = retrieve.getFilamentType(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			FilamentType result = retrieves[i].getFilamentType(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3255,15 +2366,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getFileAnnotationAnnotationRef(int fileAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFileAnnotationAnnotationRef(fileAnnotationIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFileAnnotationAnnotationRef(fileAnnotationIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3273,15 +2379,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public String getFileAnnotationDescription(int fileAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFileAnnotationDescription(fileAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFileAnnotationDescription(fileAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3289,15 +2390,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Experimenter_BackReference back reference
 	public String getFileAnnotationID(int fileAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFileAnnotationID(fileAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFileAnnotationID(fileAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3305,15 +2401,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Image_BackReference back reference
 	public String getFileAnnotationNamespace(int fileAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFileAnnotationNamespace(fileAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFileAnnotationNamespace(fileAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3338,30 +2429,20 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring FilterSet_BackReference back reference
 	public String getFilterFilterWheel(int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterFilterWheel(instrumentIndex, filterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterFilterWheel(instrumentIndex, filterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getFilterID(int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterID(instrumentIndex, filterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterID(instrumentIndex, filterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3369,60 +2450,40 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring LightPath_BackReference back reference
 	public String getFilterLotNumber(int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterLotNumber(instrumentIndex, filterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterLotNumber(instrumentIndex, filterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getFilterManufacturer(int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterManufacturer(instrumentIndex, filterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterManufacturer(instrumentIndex, filterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getFilterModel(int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterModel(instrumentIndex, filterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterModel(instrumentIndex, filterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getFilterSerialNumber(int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterSerialNumber(instrumentIndex, filterIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterSerialNumber(instrumentIndex, filterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3430,15 +2491,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring TransmittanceRange element, complex property
 	public FilterType getFilterType(int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				FilterType result = retrieve.getFilterType(instrumentIndex, filterIndex);
-				if (result != null) return result;
-			}
+			FilterType result = retrieves[i].getFilterType(instrumentIndex, filterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3453,105 +2509,70 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Channel_BackReference back reference
 	public String getFilterSetDichroicRef(int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterSetDichroicRef(instrumentIndex, filterSetIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterSetDichroicRef(instrumentIndex, filterSetIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getFilterSetEmissionFilterRef(int instrumentIndex, int filterSetIndex, int emissionFilterRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterSetEmissionFilterRef(instrumentIndex, filterSetIndex, emissionFilterRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterSetEmissionFilterRef(instrumentIndex, filterSetIndex, emissionFilterRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getFilterSetExcitationFilterRef(int instrumentIndex, int filterSetIndex, int excitationFilterRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterSetExcitationFilterRef(instrumentIndex, filterSetIndex, excitationFilterRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterSetExcitationFilterRef(instrumentIndex, filterSetIndex, excitationFilterRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getFilterSetID(int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterSetID(instrumentIndex, filterSetIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterSetID(instrumentIndex, filterSetIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getFilterSetLotNumber(int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterSetLotNumber(instrumentIndex, filterSetIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterSetLotNumber(instrumentIndex, filterSetIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getFilterSetManufacturer(int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterSetManufacturer(instrumentIndex, filterSetIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterSetManufacturer(instrumentIndex, filterSetIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getFilterSetModel(int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterSetModel(instrumentIndex, filterSetIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterSetModel(instrumentIndex, filterSetIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3559,15 +2580,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring OTF_BackReference back reference
 	public String getFilterSetSerialNumber(int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getFilterSetSerialNumber(instrumentIndex, filterSetIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getFilterSetSerialNumber(instrumentIndex, filterSetIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3592,15 +2608,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getGroupContact(int groupIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getGroupContact(groupIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getGroupContact(groupIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3608,15 +2619,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public String getGroupDescription(int groupIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getGroupDescription(groupIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getGroupDescription(groupIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3624,15 +2630,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Experimenter_BackReference back reference
 	public String getGroupID(int groupIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getGroupID(groupIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getGroupID(groupIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3640,30 +2641,20 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Image_BackReference back reference
 	public String getGroupLeader(int groupIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getGroupLeader(groupIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getGroupLeader(groupIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getGroupName(int groupIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getGroupName(groupIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getGroupName(groupIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3689,120 +2680,80 @@ public class AggregateMetadata implements IMetadata
 
 	public String getImageAcquiredDate(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getImageAcquiredDate(imageIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getImageAcquiredDate(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getImageAnnotationRef(int imageIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getImageAnnotationRef(imageIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getImageAnnotationRef(imageIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getImageDatasetRef(int imageIndex, int datasetRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getImageDatasetRef(imageIndex, datasetRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getImageDatasetRef(imageIndex, datasetRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getImageDescription(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getImageDescription(imageIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getImageDescription(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getImageExperimentRef(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getImageExperimentRef(imageIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getImageExperimentRef(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getImageExperimenterRef(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getImageExperimenterRef(imageIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getImageExperimenterRef(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getImageGroupRef(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getImageGroupRef(imageIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getImageGroupRef(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getImageID(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getImageID(imageIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getImageID(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3810,45 +2761,30 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring ImagingEnvironment element, complex property
 	public String getImageInstrumentRef(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getImageInstrumentRef(imageIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getImageInstrumentRef(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getImageMicrobeamManipulationRef(int imageIndex, int microbeamManipulationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getImageMicrobeamManipulationRef(imageIndex, microbeamManipulationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getImageMicrobeamManipulationRef(imageIndex, microbeamManipulationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getImageName(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getImageName(imageIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getImageName(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3857,15 +2793,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Pixels element, complex property
 	public String getImageROIRef(int imageIndex, int ROIRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getImageROIRef(imageIndex, ROIRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getImageROIRef(imageIndex, ROIRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3892,60 +2823,40 @@ public class AggregateMetadata implements IMetadata
 
 	public Double getImagingEnvironmentAirPressure(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getImagingEnvironmentAirPressure(imageIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getImagingEnvironmentAirPressure(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PercentFraction getImagingEnvironmentCO2Percent(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PercentFraction result = retrieve.getImagingEnvironmentCO2Percent(imageIndex);
-				if (result != null) return result;
-			}
+			PercentFraction result = retrieves[i].getImagingEnvironmentCO2Percent(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PercentFraction getImagingEnvironmentHumidity(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PercentFraction result = retrieve.getImagingEnvironmentHumidity(imageIndex);
-				if (result != null) return result;
-			}
+			PercentFraction result = retrieves[i].getImagingEnvironmentHumidity(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getImagingEnvironmentTemperature(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getImagingEnvironmentTemperature(imageIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getImagingEnvironmentTemperature(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -3963,15 +2874,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring FilterSet element, complex property
 	public String getInstrumentID(int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getInstrumentID(instrumentIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getInstrumentID(instrumentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4004,15 +2910,10 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent LightSource
 	public String getLaserID(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLaserID(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLaserID(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4022,15 +2923,10 @@ public class AggregateMetadata implements IMetadata
 	// LotNumber accessor from parent LightSource
 	public String getLaserLotNumber(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLaserLotNumber(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLaserLotNumber(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4038,15 +2934,10 @@ public class AggregateMetadata implements IMetadata
 	// Manufacturer accessor from parent LightSource
 	public String getLaserManufacturer(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLaserManufacturer(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLaserManufacturer(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4054,15 +2945,10 @@ public class AggregateMetadata implements IMetadata
 	// Model accessor from parent LightSource
 	public String getLaserModel(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLaserModel(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLaserModel(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4070,15 +2956,10 @@ public class AggregateMetadata implements IMetadata
 	// Power accessor from parent LightSource
 	public Double getLaserPower(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getLaserPower(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getLaserPower(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4086,150 +2967,100 @@ public class AggregateMetadata implements IMetadata
 	// SerialNumber accessor from parent LightSource
 	public String getLaserSerialNumber(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLaserSerialNumber(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLaserSerialNumber(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getLaserFrequencyMultiplication(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getLaserFrequencyMultiplication(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getLaserFrequencyMultiplication(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public LaserMedium getLaserLaserMedium(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				LaserMedium result = retrieve.getLaserLaserMedium(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			LaserMedium result = retrieves[i].getLaserLaserMedium(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Boolean getLaserPockelCell(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Boolean result = retrieve.getLaserPockelCell(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			Boolean result = retrieves[i].getLaserPockelCell(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Pulse getLaserPulse(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Pulse result = retrieve.getLaserPulse(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			Pulse result = retrieves[i].getLaserPulse(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getLaserPump(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLaserPump(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLaserPump(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getLaserRepetitionRate(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getLaserRepetitionRate(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getLaserRepetitionRate(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Boolean getLaserTuneable(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Boolean result = retrieve.getLaserTuneable(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			Boolean result = retrieves[i].getLaserTuneable(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public LaserType getLaserType(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				LaserType result = retrieve.getLaserType(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			LaserType result = retrieves[i].getLaserType(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getLaserWavelength(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getLaserWavelength(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getLaserWavelength(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4257,15 +3088,10 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent LightSource
 	public String getLightEmittingDiodeID(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLightEmittingDiodeID(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLightEmittingDiodeID(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4275,15 +3101,10 @@ public class AggregateMetadata implements IMetadata
 	// LotNumber accessor from parent LightSource
 	public String getLightEmittingDiodeLotNumber(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLightEmittingDiodeLotNumber(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLightEmittingDiodeLotNumber(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4291,15 +3112,10 @@ public class AggregateMetadata implements IMetadata
 	// Manufacturer accessor from parent LightSource
 	public String getLightEmittingDiodeManufacturer(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLightEmittingDiodeManufacturer(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLightEmittingDiodeManufacturer(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4307,15 +3123,10 @@ public class AggregateMetadata implements IMetadata
 	// Model accessor from parent LightSource
 	public String getLightEmittingDiodeModel(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLightEmittingDiodeModel(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLightEmittingDiodeModel(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4323,15 +3134,10 @@ public class AggregateMetadata implements IMetadata
 	// Power accessor from parent LightSource
 	public Double getLightEmittingDiodePower(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getLightEmittingDiodePower(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getLightEmittingDiodePower(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4339,15 +3145,10 @@ public class AggregateMetadata implements IMetadata
 	// SerialNumber accessor from parent LightSource
 	public String getLightEmittingDiodeSerialNumber(int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLightEmittingDiodeSerialNumber(instrumentIndex, lightSourceIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLightEmittingDiodeSerialNumber(instrumentIndex, lightSourceIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4361,45 +3162,30 @@ public class AggregateMetadata implements IMetadata
 
 	public String getLightPathDichroicRef(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLightPathDichroicRef(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLightPathDichroicRef(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getLightPathEmissionFilterRef(int imageIndex, int channelIndex, int emissionFilterRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLightPathEmissionFilterRef(imageIndex, channelIndex, emissionFilterRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLightPathEmissionFilterRef(imageIndex, channelIndex, emissionFilterRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getLightPathExcitationFilterRef(int imageIndex, int channelIndex, int excitationFilterRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLightPathExcitationFilterRef(imageIndex, channelIndex, excitationFilterRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLightPathExcitationFilterRef(imageIndex, channelIndex, excitationFilterRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4413,90 +3199,60 @@ public class AggregateMetadata implements IMetadata
 
 	public PercentFraction getChannelLightSourceSettingsAttenuation(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PercentFraction result = retrieve.getChannelLightSourceSettingsAttenuation(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			PercentFraction result = retrieves[i].getChannelLightSourceSettingsAttenuation(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PercentFraction getMicrobeamManipulationLightSourceSettingsAttenuation(int experimentIndex, int microbeamManipulationIndex, int lightSourceSettingsIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PercentFraction result = retrieve.getMicrobeamManipulationLightSourceSettingsAttenuation(experimentIndex, microbeamManipulationIndex, lightSourceSettingsIndex);
-				if (result != null) return result;
-			}
+			PercentFraction result = retrieves[i].getMicrobeamManipulationLightSourceSettingsAttenuation(experimentIndex, microbeamManipulationIndex, lightSourceSettingsIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getChannelLightSourceSettingsID(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getChannelLightSourceSettingsID(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getChannelLightSourceSettingsID(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getMicrobeamManipulationLightSourceSettingsID(int experimentIndex, int microbeamManipulationIndex, int lightSourceSettingsIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMicrobeamManipulationLightSourceSettingsID(experimentIndex, microbeamManipulationIndex, lightSourceSettingsIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMicrobeamManipulationLightSourceSettingsID(experimentIndex, microbeamManipulationIndex, lightSourceSettingsIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getChannelLightSourceSettingsWavelength(int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getChannelLightSourceSettingsWavelength(imageIndex, channelIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getChannelLightSourceSettingsWavelength(imageIndex, channelIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getMicrobeamManipulationLightSourceSettingsWavelength(int experimentIndex, int microbeamManipulationIndex, int lightSourceSettingsIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getMicrobeamManipulationLightSourceSettingsWavelength(experimentIndex, microbeamManipulationIndex, lightSourceSettingsIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getMicrobeamManipulationLightSourceSettingsWavelength(experimentIndex, microbeamManipulationIndex, lightSourceSettingsIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4511,15 +3267,10 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public String getLineDescription(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLineDescription(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLineDescription(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4528,15 +3279,10 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public Integer getLineFill(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getLineFill(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getLineFill(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4546,15 +3292,10 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public NonNegativeInteger getLineFontSize(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getLineFontSize(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getLineFontSize(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4563,15 +3304,10 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public String getLineID(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLineID(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLineID(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4579,15 +3315,10 @@ public class AggregateMetadata implements IMetadata
 	// Label accessor from parent Shape
 	public String getLineLabel(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLineLabel(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLineLabel(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4600,15 +3331,10 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public String getLineName(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLineName(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLineName(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4620,15 +3346,10 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public Integer getLineStroke(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getLineStroke(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getLineStroke(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4636,15 +3357,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeDashArray accessor from parent Shape
 	public String getLineStrokeDashArray(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLineStrokeDashArray(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLineStrokeDashArray(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4652,15 +3368,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeWidth accessor from parent Shape
 	public Double getLineStrokeWidth(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getLineStrokeWidth(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getLineStrokeWidth(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4669,15 +3380,10 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public NonNegativeInteger getLineTheC(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getLineTheC(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getLineTheC(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4685,15 +3391,10 @@ public class AggregateMetadata implements IMetadata
 	// TheT accessor from parent Shape
 	public NonNegativeInteger getLineTheT(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getLineTheT(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getLineTheT(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4701,15 +3402,10 @@ public class AggregateMetadata implements IMetadata
 	// TheZ accessor from parent Shape
 	public NonNegativeInteger getLineTheZ(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getLineTheZ(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getLineTheZ(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4717,75 +3413,50 @@ public class AggregateMetadata implements IMetadata
 	// Transform accessor from parent Shape
 	public String getLineTransform(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLineTransform(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLineTransform(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getLineX1(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getLineX1(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getLineX1(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getLineX2(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getLineX2(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getLineX2(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getLineY1(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getLineY1(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getLineY1(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getLineY2(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getLineY2(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getLineY2(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4799,15 +3470,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getListAnnotationAnnotationRef(int listAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getListAnnotationAnnotationRef(listAnnotationIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getListAnnotationAnnotationRef(listAnnotationIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4816,15 +3482,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public String getListAnnotationDescription(int listAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getListAnnotationDescription(listAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getListAnnotationDescription(listAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4832,15 +3493,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Experimenter_BackReference back reference
 	public String getListAnnotationID(int listAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getListAnnotationID(listAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getListAnnotationID(listAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4848,15 +3504,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Image_BackReference back reference
 	public String getListAnnotationNamespace(int listAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getListAnnotationNamespace(listAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getListAnnotationNamespace(listAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4880,15 +3531,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getLongAnnotationAnnotationRef(int longAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLongAnnotationAnnotationRef(longAnnotationIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLongAnnotationAnnotationRef(longAnnotationIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4897,15 +3543,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public String getLongAnnotationDescription(int longAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLongAnnotationDescription(longAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLongAnnotationDescription(longAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4913,15 +3554,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Experimenter_BackReference back reference
 	public String getLongAnnotationID(int longAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLongAnnotationID(longAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLongAnnotationID(longAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4929,15 +3565,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Image_BackReference back reference
 	public String getLongAnnotationNamespace(int longAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getLongAnnotationNamespace(longAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getLongAnnotationNamespace(longAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4952,15 +3583,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public Long getLongAnnotationValue(int longAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Long result = retrieve.getLongAnnotationValue(longAnnotationIndex);
-				if (result != null) return result;
-			}
+			Long result = retrieves[i].getLongAnnotationValue(longAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4977,15 +3603,10 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public String getMaskDescription(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMaskDescription(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMaskDescription(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -4994,15 +3615,10 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public Integer getMaskFill(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getMaskFill(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getMaskFill(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5012,15 +3628,10 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public NonNegativeInteger getMaskFontSize(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getMaskFontSize(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getMaskFontSize(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5029,15 +3640,10 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public String getMaskID(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMaskID(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMaskID(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5045,15 +3651,10 @@ public class AggregateMetadata implements IMetadata
 	// Label accessor from parent Shape
 	public String getMaskLabel(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMaskLabel(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMaskLabel(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5066,15 +3667,10 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public String getMaskName(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMaskName(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMaskName(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5086,15 +3682,10 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public Integer getMaskStroke(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getMaskStroke(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getMaskStroke(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5102,15 +3693,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeDashArray accessor from parent Shape
 	public String getMaskStrokeDashArray(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMaskStrokeDashArray(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMaskStrokeDashArray(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5118,15 +3704,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeWidth accessor from parent Shape
 	public Double getMaskStrokeWidth(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getMaskStrokeWidth(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getMaskStrokeWidth(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5135,15 +3716,10 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public NonNegativeInteger getMaskTheC(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getMaskTheC(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getMaskTheC(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5151,15 +3727,10 @@ public class AggregateMetadata implements IMetadata
 	// TheT accessor from parent Shape
 	public NonNegativeInteger getMaskTheT(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getMaskTheT(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getMaskTheT(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5167,15 +3738,10 @@ public class AggregateMetadata implements IMetadata
 	// TheZ accessor from parent Shape
 	public NonNegativeInteger getMaskTheZ(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getMaskTheZ(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getMaskTheZ(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5183,15 +3749,10 @@ public class AggregateMetadata implements IMetadata
 	// Transform accessor from parent Shape
 	public String getMaskTransform(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMaskTransform(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMaskTransform(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5199,60 +3760,40 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring BinData element, complex property
 	public Double getMaskHeight(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getMaskHeight(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getMaskHeight(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getMaskWidth(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getMaskWidth(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getMaskWidth(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getMaskX(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getMaskX(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getMaskX(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getMaskY(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getMaskY(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getMaskY(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5273,45 +3814,30 @@ public class AggregateMetadata implements IMetadata
 
 	public String getMicrobeamManipulationDescription(int experimentIndex, int microbeamManipulationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMicrobeamManipulationDescription(experimentIndex, microbeamManipulationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMicrobeamManipulationDescription(experimentIndex, microbeamManipulationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getMicrobeamManipulationExperimenterRef(int experimentIndex, int microbeamManipulationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMicrobeamManipulationExperimenterRef(experimentIndex, microbeamManipulationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMicrobeamManipulationExperimenterRef(experimentIndex, microbeamManipulationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getMicrobeamManipulationID(int experimentIndex, int microbeamManipulationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMicrobeamManipulationID(experimentIndex, microbeamManipulationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMicrobeamManipulationID(experimentIndex, microbeamManipulationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5320,30 +3846,20 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring LightSourceSettings element, complex property
 	public String getMicrobeamManipulationROIRef(int experimentIndex, int microbeamManipulationIndex, int ROIRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMicrobeamManipulationROIRef(experimentIndex, microbeamManipulationIndex, ROIRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMicrobeamManipulationROIRef(experimentIndex, microbeamManipulationIndex, ROIRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public MicrobeamManipulationType getMicrobeamManipulationType(int experimentIndex, int microbeamManipulationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				MicrobeamManipulationType result = retrieve.getMicrobeamManipulationType(experimentIndex, microbeamManipulationIndex);
-				if (result != null) return result;
-			}
+			MicrobeamManipulationType result = retrieves[i].getMicrobeamManipulationType(experimentIndex, microbeamManipulationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5368,75 +3884,50 @@ public class AggregateMetadata implements IMetadata
 
 	public String getMicroscopeLotNumber(int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMicroscopeLotNumber(instrumentIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMicroscopeLotNumber(instrumentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getMicroscopeManufacturer(int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMicroscopeManufacturer(instrumentIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMicroscopeManufacturer(instrumentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getMicroscopeModel(int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMicroscopeModel(instrumentIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMicroscopeModel(instrumentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getMicroscopeSerialNumber(int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getMicroscopeSerialNumber(instrumentIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getMicroscopeSerialNumber(instrumentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public MicroscopeType getMicroscopeType(int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				MicroscopeType result = retrieve.getMicroscopeType(instrumentIndex);
-				if (result != null) return result;
-			}
+			MicroscopeType result = retrieves[i].getMicroscopeType(instrumentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5452,30 +3943,20 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Channel_BackReference back reference
 	public String getOTFFilterSetRef(int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getOTFFilterSetRef(instrumentIndex, OTFIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getOTFFilterSetRef(instrumentIndex, OTFIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getOTFID(int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getOTFID(instrumentIndex, OTFIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getOTFID(instrumentIndex, OTFIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5483,60 +3964,40 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring ObjectiveSettings element, complex property
 	public Boolean getOTFOpticalAxisAveraged(int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Boolean result = retrieve.getOTFOpticalAxisAveraged(instrumentIndex, OTFIndex);
-				if (result != null) return result;
-			}
+			Boolean result = retrieves[i].getOTFOpticalAxisAveraged(instrumentIndex, OTFIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getOTFSizeX(int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getOTFSizeX(instrumentIndex, OTFIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getOTFSizeX(instrumentIndex, OTFIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getOTFSizeY(int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getOTFSizeY(instrumentIndex, OTFIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getOTFSizeY(instrumentIndex, OTFIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PixelType getOTFType(int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PixelType result = retrieve.getOTFType(instrumentIndex, OTFIndex);
-				if (result != null) return result;
-			}
+			PixelType result = retrieves[i].getOTFType(instrumentIndex, OTFIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5561,180 +4022,120 @@ public class AggregateMetadata implements IMetadata
 
 	public Double getObjectiveCalibratedMagnification(int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getObjectiveCalibratedMagnification(instrumentIndex, objectiveIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getObjectiveCalibratedMagnification(instrumentIndex, objectiveIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Correction getObjectiveCorrection(int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Correction result = retrieve.getObjectiveCorrection(instrumentIndex, objectiveIndex);
-				if (result != null) return result;
-			}
+			Correction result = retrieves[i].getObjectiveCorrection(instrumentIndex, objectiveIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getObjectiveID(int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getObjectiveID(instrumentIndex, objectiveIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getObjectiveID(instrumentIndex, objectiveIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Immersion getObjectiveImmersion(int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Immersion result = retrieve.getObjectiveImmersion(instrumentIndex, objectiveIndex);
-				if (result != null) return result;
-			}
+			Immersion result = retrieves[i].getObjectiveImmersion(instrumentIndex, objectiveIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Boolean getObjectiveIris(int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Boolean result = retrieve.getObjectiveIris(instrumentIndex, objectiveIndex);
-				if (result != null) return result;
-			}
+			Boolean result = retrieves[i].getObjectiveIris(instrumentIndex, objectiveIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getObjectiveLensNA(int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getObjectiveLensNA(instrumentIndex, objectiveIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getObjectiveLensNA(instrumentIndex, objectiveIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getObjectiveLotNumber(int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getObjectiveLotNumber(instrumentIndex, objectiveIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getObjectiveLotNumber(instrumentIndex, objectiveIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getObjectiveManufacturer(int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getObjectiveManufacturer(instrumentIndex, objectiveIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getObjectiveManufacturer(instrumentIndex, objectiveIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getObjectiveModel(int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getObjectiveModel(instrumentIndex, objectiveIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getObjectiveModel(instrumentIndex, objectiveIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getObjectiveNominalMagnification(int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getObjectiveNominalMagnification(instrumentIndex, objectiveIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getObjectiveNominalMagnification(instrumentIndex, objectiveIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getObjectiveSerialNumber(int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getObjectiveSerialNumber(instrumentIndex, objectiveIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getObjectiveSerialNumber(instrumentIndex, objectiveIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getObjectiveWorkingDistance(int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getObjectiveWorkingDistance(instrumentIndex, objectiveIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getObjectiveWorkingDistance(instrumentIndex, objectiveIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5748,120 +4149,80 @@ public class AggregateMetadata implements IMetadata
 
 	public Double getImageObjectiveSettingsCorrectionCollar(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getImageObjectiveSettingsCorrectionCollar(imageIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getImageObjectiveSettingsCorrectionCollar(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getOTFObjectiveSettingsCorrectionCollar(int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getOTFObjectiveSettingsCorrectionCollar(instrumentIndex, OTFIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getOTFObjectiveSettingsCorrectionCollar(instrumentIndex, OTFIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getImageObjectiveSettingsID(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getImageObjectiveSettingsID(imageIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getImageObjectiveSettingsID(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getOTFObjectiveSettingsID(int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getOTFObjectiveSettingsID(instrumentIndex, OTFIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getOTFObjectiveSettingsID(instrumentIndex, OTFIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Medium getImageObjectiveSettingsMedium(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Medium result = retrieve.getImageObjectiveSettingsMedium(imageIndex);
-				if (result != null) return result;
-			}
+			Medium result = retrieves[i].getImageObjectiveSettingsMedium(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Medium getOTFObjectiveSettingsMedium(int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Medium result = retrieve.getOTFObjectiveSettingsMedium(instrumentIndex, OTFIndex);
-				if (result != null) return result;
-			}
+			Medium result = retrieves[i].getOTFObjectiveSettingsMedium(instrumentIndex, OTFIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getImageObjectiveSettingsRefractiveIndex(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getImageObjectiveSettingsRefractiveIndex(imageIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getImageObjectiveSettingsRefractiveIndex(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getOTFObjectiveSettingsRefractiveIndex(int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getOTFObjectiveSettingsRefractiveIndex(instrumentIndex, OTFIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getOTFObjectiveSettingsRefractiveIndex(instrumentIndex, OTFIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5876,15 +4237,10 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public String getPathDescription(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPathDescription(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPathDescription(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5893,15 +4249,10 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public Integer getPathFill(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getPathFill(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getPathFill(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5911,15 +4262,10 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public NonNegativeInteger getPathFontSize(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPathFontSize(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPathFontSize(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5928,15 +4274,10 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public String getPathID(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPathID(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPathID(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5944,15 +4285,10 @@ public class AggregateMetadata implements IMetadata
 	// Label accessor from parent Shape
 	public String getPathLabel(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPathLabel(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPathLabel(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5965,15 +4301,10 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public String getPathName(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPathName(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPathName(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -5985,15 +4316,10 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public Integer getPathStroke(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getPathStroke(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getPathStroke(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6001,15 +4327,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeDashArray accessor from parent Shape
 	public String getPathStrokeDashArray(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPathStrokeDashArray(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPathStrokeDashArray(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6017,15 +4338,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeWidth accessor from parent Shape
 	public Double getPathStrokeWidth(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getPathStrokeWidth(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getPathStrokeWidth(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6034,15 +4350,10 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public NonNegativeInteger getPathTheC(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPathTheC(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPathTheC(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6050,15 +4361,10 @@ public class AggregateMetadata implements IMetadata
 	// TheT accessor from parent Shape
 	public NonNegativeInteger getPathTheT(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPathTheT(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPathTheT(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6066,15 +4372,10 @@ public class AggregateMetadata implements IMetadata
 	// TheZ accessor from parent Shape
 	public NonNegativeInteger getPathTheZ(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPathTheZ(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPathTheZ(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6082,30 +4383,20 @@ public class AggregateMetadata implements IMetadata
 	// Transform accessor from parent Shape
 	public String getPathTransform(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPathTransform(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPathTransform(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPathDefinition(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPathDefinition(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPathDefinition(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6119,15 +4410,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getPixelsAnnotationRef(int imageIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPixelsAnnotationRef(imageIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPixelsAnnotationRef(imageIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6136,30 +4422,20 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Channel element, complex property
 	public DimensionOrder getPixelsDimensionOrder(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				DimensionOrder result = retrieve.getPixelsDimensionOrder(imageIndex);
-				if (result != null) return result;
-			}
+			DimensionOrder result = retrieves[i].getPixelsDimensionOrder(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPixelsID(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPixelsID(imageIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPixelsID(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6167,45 +4443,30 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring MetadataOnly element, complex property
 	public PositiveFloat getPixelsPhysicalSizeX(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveFloat result = retrieve.getPixelsPhysicalSizeX(imageIndex);
-				if (result != null) return result;
-			}
+			PositiveFloat result = retrieves[i].getPixelsPhysicalSizeX(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveFloat getPixelsPhysicalSizeY(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveFloat result = retrieve.getPixelsPhysicalSizeY(imageIndex);
-				if (result != null) return result;
-			}
+			PositiveFloat result = retrieves[i].getPixelsPhysicalSizeY(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveFloat getPixelsPhysicalSizeZ(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveFloat result = retrieve.getPixelsPhysicalSizeZ(imageIndex);
-				if (result != null) return result;
-			}
+			PositiveFloat result = retrieves[i].getPixelsPhysicalSizeZ(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6213,75 +4474,50 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Plane element, complex property
 	public PositiveInteger getPixelsSizeC(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getPixelsSizeC(imageIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getPixelsSizeC(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getPixelsSizeT(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getPixelsSizeT(imageIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getPixelsSizeT(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getPixelsSizeX(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getPixelsSizeX(imageIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getPixelsSizeX(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getPixelsSizeY(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getPixelsSizeY(imageIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getPixelsSizeY(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getPixelsSizeZ(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getPixelsSizeZ(imageIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getPixelsSizeZ(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6289,30 +4525,20 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring TiffData element, complex property
 	public Double getPixelsTimeIncrement(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getPixelsTimeIncrement(imageIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getPixelsTimeIncrement(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PixelType getPixelsType(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PixelType result = retrieve.getPixelsType(imageIndex);
-				if (result != null) return result;
-			}
+			PixelType result = retrieves[i].getPixelsType(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6326,150 +4552,100 @@ public class AggregateMetadata implements IMetadata
 
 	public String getPlaneAnnotationRef(int imageIndex, int planeIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlaneAnnotationRef(imageIndex, planeIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlaneAnnotationRef(imageIndex, planeIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getPlaneDeltaT(int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getPlaneDeltaT(imageIndex, planeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getPlaneDeltaT(imageIndex, planeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getPlaneExposureTime(int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getPlaneExposureTime(imageIndex, planeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getPlaneExposureTime(imageIndex, planeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPlaneHashSHA1(int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlaneHashSHA1(imageIndex, planeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlaneHashSHA1(imageIndex, planeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getPlanePositionX(int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getPlanePositionX(imageIndex, planeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getPlanePositionX(imageIndex, planeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getPlanePositionY(int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getPlanePositionY(imageIndex, planeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getPlanePositionY(imageIndex, planeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getPlanePositionZ(int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getPlanePositionZ(imageIndex, planeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getPlanePositionZ(imageIndex, planeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeInteger getPlaneTheC(int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPlaneTheC(imageIndex, planeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPlaneTheC(imageIndex, planeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeInteger getPlaneTheT(int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPlaneTheT(imageIndex, planeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPlaneTheT(imageIndex, planeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeInteger getPlaneTheZ(int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPlaneTheZ(imageIndex, planeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPlaneTheZ(imageIndex, planeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6483,105 +4659,70 @@ public class AggregateMetadata implements IMetadata
 
 	public String getPlateAnnotationRef(int plateIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateAnnotationRef(plateIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateAnnotationRef(plateIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NamingConvention getPlateColumnNamingConvention(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NamingConvention result = retrieve.getPlateColumnNamingConvention(plateIndex);
-				if (result != null) return result;
-			}
+			NamingConvention result = retrieves[i].getPlateColumnNamingConvention(plateIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getPlateColumns(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getPlateColumns(plateIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getPlateColumns(plateIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPlateDescription(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateDescription(plateIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateDescription(plateIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPlateExternalIdentifier(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateExternalIdentifier(plateIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateExternalIdentifier(plateIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPlateID(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateID(plateIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateID(plateIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPlateName(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateName(plateIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateName(plateIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6589,60 +4730,40 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring PlateAcquisition element, complex property
 	public NamingConvention getPlateRowNamingConvention(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NamingConvention result = retrieve.getPlateRowNamingConvention(plateIndex);
-				if (result != null) return result;
-			}
+			NamingConvention result = retrieves[i].getPlateRowNamingConvention(plateIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getPlateRows(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getPlateRows(plateIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getPlateRows(plateIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPlateScreenRef(int plateIndex, int screenRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateScreenRef(plateIndex, screenRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateScreenRef(plateIndex, screenRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPlateStatus(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateStatus(plateIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateStatus(plateIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6650,30 +4771,20 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Well element, complex property
 	public Double getPlateWellOriginX(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getPlateWellOriginX(plateIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getPlateWellOriginX(plateIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getPlateWellOriginY(int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getPlateWellOriginY(plateIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getPlateWellOriginY(plateIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6687,120 +4798,80 @@ public class AggregateMetadata implements IMetadata
 
 	public String getPlateAcquisitionAnnotationRef(int plateIndex, int plateAcquisitionIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateAcquisitionAnnotationRef(plateIndex, plateAcquisitionIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateAcquisitionAnnotationRef(plateIndex, plateAcquisitionIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPlateAcquisitionDescription(int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateAcquisitionDescription(plateIndex, plateAcquisitionIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateAcquisitionDescription(plateIndex, plateAcquisitionIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPlateAcquisitionEndTime(int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateAcquisitionEndTime(plateIndex, plateAcquisitionIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateAcquisitionEndTime(plateIndex, plateAcquisitionIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPlateAcquisitionID(int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateAcquisitionID(plateIndex, plateAcquisitionIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateAcquisitionID(plateIndex, plateAcquisitionIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getPlateAcquisitionMaximumFieldCount(int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getPlateAcquisitionMaximumFieldCount(plateIndex, plateAcquisitionIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getPlateAcquisitionMaximumFieldCount(plateIndex, plateAcquisitionIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPlateAcquisitionName(int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateAcquisitionName(plateIndex, plateAcquisitionIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateAcquisitionName(plateIndex, plateAcquisitionIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPlateAcquisitionStartTime(int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateAcquisitionStartTime(plateIndex, plateAcquisitionIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateAcquisitionStartTime(plateIndex, plateAcquisitionIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPlateAcquisitionWellSampleRef(int plateIndex, int plateAcquisitionIndex, int wellSampleRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPlateAcquisitionWellSampleRef(plateIndex, plateAcquisitionIndex, wellSampleRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPlateAcquisitionWellSampleRef(plateIndex, plateAcquisitionIndex, wellSampleRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6826,15 +4897,10 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public String getPointDescription(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPointDescription(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPointDescription(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6843,15 +4909,10 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public Integer getPointFill(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getPointFill(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getPointFill(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6861,15 +4922,10 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public NonNegativeInteger getPointFontSize(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPointFontSize(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPointFontSize(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6878,15 +4934,10 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public String getPointID(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPointID(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPointID(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6894,15 +4945,10 @@ public class AggregateMetadata implements IMetadata
 	// Label accessor from parent Shape
 	public String getPointLabel(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPointLabel(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPointLabel(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6915,15 +4961,10 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public String getPointName(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPointName(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPointName(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6935,15 +4976,10 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public Integer getPointStroke(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getPointStroke(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getPointStroke(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6951,15 +4987,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeDashArray accessor from parent Shape
 	public String getPointStrokeDashArray(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPointStrokeDashArray(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPointStrokeDashArray(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6967,15 +4998,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeWidth accessor from parent Shape
 	public Double getPointStrokeWidth(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getPointStrokeWidth(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getPointStrokeWidth(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -6984,15 +5010,10 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public NonNegativeInteger getPointTheC(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPointTheC(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPointTheC(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7000,15 +5021,10 @@ public class AggregateMetadata implements IMetadata
 	// TheT accessor from parent Shape
 	public NonNegativeInteger getPointTheT(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPointTheT(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPointTheT(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7016,15 +5032,10 @@ public class AggregateMetadata implements IMetadata
 	// TheZ accessor from parent Shape
 	public NonNegativeInteger getPointTheZ(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPointTheZ(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPointTheZ(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7032,45 +5043,30 @@ public class AggregateMetadata implements IMetadata
 	// Transform accessor from parent Shape
 	public String getPointTransform(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPointTransform(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPointTransform(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getPointX(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getPointX(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getPointX(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getPointY(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getPointY(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getPointY(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7085,15 +5081,10 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public String getPolylineDescription(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPolylineDescription(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPolylineDescription(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7102,15 +5093,10 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public Integer getPolylineFill(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getPolylineFill(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getPolylineFill(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7120,15 +5106,10 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public NonNegativeInteger getPolylineFontSize(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPolylineFontSize(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPolylineFontSize(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7137,15 +5118,10 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public String getPolylineID(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPolylineID(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPolylineID(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7153,15 +5129,10 @@ public class AggregateMetadata implements IMetadata
 	// Label accessor from parent Shape
 	public String getPolylineLabel(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPolylineLabel(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPolylineLabel(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7174,15 +5145,10 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public String getPolylineName(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPolylineName(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPolylineName(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7194,15 +5160,10 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public Integer getPolylineStroke(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getPolylineStroke(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getPolylineStroke(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7210,15 +5171,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeDashArray accessor from parent Shape
 	public String getPolylineStrokeDashArray(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPolylineStrokeDashArray(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPolylineStrokeDashArray(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7226,15 +5182,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeWidth accessor from parent Shape
 	public Double getPolylineStrokeWidth(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getPolylineStrokeWidth(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getPolylineStrokeWidth(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7243,15 +5194,10 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public NonNegativeInteger getPolylineTheC(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPolylineTheC(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPolylineTheC(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7259,15 +5205,10 @@ public class AggregateMetadata implements IMetadata
 	// TheT accessor from parent Shape
 	public NonNegativeInteger getPolylineTheT(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPolylineTheT(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPolylineTheT(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7275,15 +5216,10 @@ public class AggregateMetadata implements IMetadata
 	// TheZ accessor from parent Shape
 	public NonNegativeInteger getPolylineTheZ(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getPolylineTheZ(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getPolylineTheZ(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7291,45 +5227,30 @@ public class AggregateMetadata implements IMetadata
 	// Transform accessor from parent Shape
 	public String getPolylineTransform(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPolylineTransform(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPolylineTransform(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Boolean getPolylineClosed(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Boolean result = retrieve.getPolylineClosed(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Boolean result = retrieves[i].getPolylineClosed(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getPolylinePoints(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getPolylinePoints(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getPolylinePoints(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7343,15 +5264,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getProjectAnnotationRef(int projectIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getProjectAnnotationRef(projectIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getProjectAnnotationRef(projectIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7359,75 +5275,50 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public String getProjectDescription(int projectIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getProjectDescription(projectIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getProjectDescription(projectIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getProjectExperimenterRef(int projectIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getProjectExperimenterRef(projectIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getProjectExperimenterRef(projectIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getProjectGroupRef(int projectIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getProjectGroupRef(projectIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getProjectGroupRef(projectIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getProjectID(int projectIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getProjectID(projectIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getProjectID(projectIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getProjectName(int projectIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getProjectName(projectIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getProjectName(projectIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7463,45 +5354,30 @@ public class AggregateMetadata implements IMetadata
 
 	public String getROIAnnotationRef(int ROIIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getROIAnnotationRef(ROIIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getROIAnnotationRef(ROIIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getROIDescription(int ROIIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getROIDescription(ROIIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getROIDescription(ROIIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getROIID(int ROIIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getROIID(ROIIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getROIID(ROIIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7510,30 +5386,20 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring MicrobeamManipulation_BackReference back reference
 	public String getROIName(int ROIIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getROIName(ROIIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getROIName(ROIIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getROINamespace(int ROIIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getROINamespace(ROIIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getROINamespace(ROIIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7559,75 +5425,50 @@ public class AggregateMetadata implements IMetadata
 
 	public String getReagentAnnotationRef(int screenIndex, int reagentIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getReagentAnnotationRef(screenIndex, reagentIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getReagentAnnotationRef(screenIndex, reagentIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getReagentDescription(int screenIndex, int reagentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getReagentDescription(screenIndex, reagentIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getReagentDescription(screenIndex, reagentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getReagentID(int screenIndex, int reagentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getReagentID(screenIndex, reagentIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getReagentID(screenIndex, reagentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getReagentName(int screenIndex, int reagentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getReagentName(screenIndex, reagentIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getReagentName(screenIndex, reagentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getReagentReagentIdentifier(int screenIndex, int reagentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getReagentReagentIdentifier(screenIndex, reagentIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getReagentReagentIdentifier(screenIndex, reagentIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7654,15 +5495,10 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public String getRectangleDescription(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getRectangleDescription(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getRectangleDescription(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7671,15 +5507,10 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public Integer getRectangleFill(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getRectangleFill(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getRectangleFill(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7689,15 +5520,10 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public NonNegativeInteger getRectangleFontSize(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getRectangleFontSize(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getRectangleFontSize(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7706,15 +5532,10 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public String getRectangleID(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getRectangleID(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getRectangleID(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7722,15 +5543,10 @@ public class AggregateMetadata implements IMetadata
 	// Label accessor from parent Shape
 	public String getRectangleLabel(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getRectangleLabel(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getRectangleLabel(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7743,15 +5559,10 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public String getRectangleName(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getRectangleName(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getRectangleName(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7763,15 +5574,10 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public Integer getRectangleStroke(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getRectangleStroke(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getRectangleStroke(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7779,15 +5585,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeDashArray accessor from parent Shape
 	public String getRectangleStrokeDashArray(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getRectangleStrokeDashArray(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getRectangleStrokeDashArray(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7795,15 +5596,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeWidth accessor from parent Shape
 	public Double getRectangleStrokeWidth(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getRectangleStrokeWidth(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getRectangleStrokeWidth(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7812,15 +5608,10 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public NonNegativeInteger getRectangleTheC(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getRectangleTheC(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getRectangleTheC(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7828,15 +5619,10 @@ public class AggregateMetadata implements IMetadata
 	// TheT accessor from parent Shape
 	public NonNegativeInteger getRectangleTheT(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getRectangleTheT(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getRectangleTheT(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7844,15 +5630,10 @@ public class AggregateMetadata implements IMetadata
 	// TheZ accessor from parent Shape
 	public NonNegativeInteger getRectangleTheZ(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getRectangleTheZ(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getRectangleTheZ(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7860,75 +5641,50 @@ public class AggregateMetadata implements IMetadata
 	// Transform accessor from parent Shape
 	public String getRectangleTransform(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getRectangleTransform(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getRectangleTransform(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getRectangleHeight(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getRectangleHeight(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getRectangleHeight(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getRectangleWidth(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getRectangleWidth(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getRectangleWidth(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getRectangleX(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getRectangleX(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getRectangleX(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getRectangleY(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getRectangleY(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getRectangleY(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -7942,105 +5698,70 @@ public class AggregateMetadata implements IMetadata
 
 	public String getScreenAnnotationRef(int screenIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getScreenAnnotationRef(screenIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getScreenAnnotationRef(screenIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getScreenDescription(int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getScreenDescription(screenIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getScreenDescription(screenIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getScreenID(int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getScreenID(screenIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getScreenID(screenIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getScreenName(int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getScreenName(screenIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getScreenName(screenIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getScreenPlateRef(int screenIndex, int plateRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getScreenPlateRef(screenIndex, plateRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getScreenPlateRef(screenIndex, plateRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getScreenProtocolDescription(int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getScreenProtocolDescription(screenIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getScreenProtocolDescription(screenIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getScreenProtocolIdentifier(int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getScreenProtocolIdentifier(screenIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getScreenProtocolIdentifier(screenIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8048,45 +5769,30 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Reagent element, complex property
 	public String getScreenReagentSetDescription(int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getScreenReagentSetDescription(screenIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getScreenReagentSetDescription(screenIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getScreenReagentSetIdentifier(int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getScreenReagentSetIdentifier(screenIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getScreenReagentSetIdentifier(screenIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getScreenType(int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getScreenType(screenIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getScreenType(screenIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8111,60 +5817,40 @@ public class AggregateMetadata implements IMetadata
 
 	public String getStageLabelName(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getStageLabelName(imageIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getStageLabelName(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getStageLabelX(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getStageLabelX(imageIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getStageLabelX(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getStageLabelY(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getStageLabelY(imageIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getStageLabelY(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getStageLabelZ(int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getStageLabelZ(imageIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getStageLabelZ(imageIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8195,15 +5881,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getTagAnnotationAnnotationRef(int tagAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTagAnnotationAnnotationRef(tagAnnotationIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTagAnnotationAnnotationRef(tagAnnotationIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8212,15 +5893,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public String getTagAnnotationDescription(int tagAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTagAnnotationDescription(tagAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTagAnnotationDescription(tagAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8228,15 +5904,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Experimenter_BackReference back reference
 	public String getTagAnnotationID(int tagAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTagAnnotationID(tagAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTagAnnotationID(tagAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8244,15 +5915,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Image_BackReference back reference
 	public String getTagAnnotationNamespace(int tagAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTagAnnotationNamespace(tagAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTagAnnotationNamespace(tagAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8267,15 +5933,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public String getTagAnnotationValue(int tagAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTagAnnotationValue(tagAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTagAnnotationValue(tagAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8291,15 +5952,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getTermAnnotationAnnotationRef(int termAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTermAnnotationAnnotationRef(termAnnotationIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTermAnnotationAnnotationRef(termAnnotationIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8308,15 +5964,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public String getTermAnnotationDescription(int termAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTermAnnotationDescription(termAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTermAnnotationDescription(termAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8324,15 +5975,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Experimenter_BackReference back reference
 	public String getTermAnnotationID(int termAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTermAnnotationID(termAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTermAnnotationID(termAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8340,15 +5986,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Image_BackReference back reference
 	public String getTermAnnotationNamespace(int termAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTermAnnotationNamespace(termAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTermAnnotationNamespace(termAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8363,15 +6004,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public String getTermAnnotationValue(int termAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTermAnnotationValue(termAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTermAnnotationValue(termAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8388,15 +6024,10 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public String getTextDescription(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTextDescription(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTextDescription(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8405,15 +6036,10 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public Integer getTextFill(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getTextFill(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getTextFill(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8423,15 +6049,10 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public NonNegativeInteger getTextFontSize(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getTextFontSize(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getTextFontSize(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8440,15 +6061,10 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public String getTextID(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTextID(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTextID(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8456,15 +6072,10 @@ public class AggregateMetadata implements IMetadata
 	// Label accessor from parent Shape
 	public String getTextLabel(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTextLabel(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTextLabel(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8477,15 +6088,10 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public String getTextName(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTextName(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTextName(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8497,15 +6103,10 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public Integer getTextStroke(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getTextStroke(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getTextStroke(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8513,15 +6114,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeDashArray accessor from parent Shape
 	public String getTextStrokeDashArray(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTextStrokeDashArray(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTextStrokeDashArray(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8529,15 +6125,10 @@ public class AggregateMetadata implements IMetadata
 	// StrokeWidth accessor from parent Shape
 	public Double getTextStrokeWidth(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getTextStrokeWidth(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getTextStrokeWidth(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8546,15 +6137,10 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public NonNegativeInteger getTextTheC(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getTextTheC(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getTextTheC(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8562,15 +6148,10 @@ public class AggregateMetadata implements IMetadata
 	// TheT accessor from parent Shape
 	public NonNegativeInteger getTextTheT(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getTextTheT(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getTextTheT(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8578,15 +6159,10 @@ public class AggregateMetadata implements IMetadata
 	// TheZ accessor from parent Shape
 	public NonNegativeInteger getTextTheZ(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getTextTheZ(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getTextTheZ(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8594,60 +6170,40 @@ public class AggregateMetadata implements IMetadata
 	// Transform accessor from parent Shape
 	public String getTextTransform(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTextTransform(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTextTransform(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getTextValue(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTextValue(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTextValue(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getTextX(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getTextX(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getTextX(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getTextY(int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getTextY(ROIIndex, shapeIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getTextY(ROIIndex, shapeIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8661,75 +6217,50 @@ public class AggregateMetadata implements IMetadata
 
 	public NonNegativeInteger getTiffDataFirstC(int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getTiffDataFirstC(imageIndex, tiffDataIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getTiffDataFirstC(imageIndex, tiffDataIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeInteger getTiffDataFirstT(int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getTiffDataFirstT(imageIndex, tiffDataIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getTiffDataFirstT(imageIndex, tiffDataIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeInteger getTiffDataFirstZ(int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getTiffDataFirstZ(imageIndex, tiffDataIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getTiffDataFirstZ(imageIndex, tiffDataIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeInteger getTiffDataIFD(int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getTiffDataIFD(imageIndex, tiffDataIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getTiffDataIFD(imageIndex, tiffDataIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeInteger getTiffDataPlaneCount(int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getTiffDataPlaneCount(imageIndex, tiffDataIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getTiffDataPlaneCount(imageIndex, tiffDataIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8744,15 +6275,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getTimestampAnnotationAnnotationRef(int timestampAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTimestampAnnotationAnnotationRef(timestampAnnotationIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTimestampAnnotationAnnotationRef(timestampAnnotationIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8761,15 +6287,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public String getTimestampAnnotationDescription(int timestampAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTimestampAnnotationDescription(timestampAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTimestampAnnotationDescription(timestampAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8777,15 +6298,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Experimenter_BackReference back reference
 	public String getTimestampAnnotationID(int timestampAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTimestampAnnotationID(timestampAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTimestampAnnotationID(timestampAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8793,15 +6309,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Image_BackReference back reference
 	public String getTimestampAnnotationNamespace(int timestampAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTimestampAnnotationNamespace(timestampAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTimestampAnnotationNamespace(timestampAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8816,15 +6327,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public String getTimestampAnnotationValue(int timestampAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getTimestampAnnotationValue(timestampAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getTimestampAnnotationValue(timestampAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8840,75 +6346,50 @@ public class AggregateMetadata implements IMetadata
 
 	public PositiveInteger getTransmittanceRangeCutIn(int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getTransmittanceRangeCutIn(instrumentIndex, filterIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getTransmittanceRangeCutIn(instrumentIndex, filterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeInteger getTransmittanceRangeCutInTolerance(int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getTransmittanceRangeCutInTolerance(instrumentIndex, filterIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getTransmittanceRangeCutInTolerance(instrumentIndex, filterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PositiveInteger getTransmittanceRangeCutOut(int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PositiveInteger result = retrieve.getTransmittanceRangeCutOut(instrumentIndex, filterIndex);
-				if (result != null) return result;
-			}
+			PositiveInteger result = retrieves[i].getTransmittanceRangeCutOut(instrumentIndex, filterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeInteger getTransmittanceRangeCutOutTolerance(int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getTransmittanceRangeCutOutTolerance(instrumentIndex, filterIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getTransmittanceRangeCutOutTolerance(instrumentIndex, filterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public PercentFraction getTransmittanceRangeTransmittance(int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				PercentFraction result = retrieve.getTransmittanceRangeTransmittance(instrumentIndex, filterIndex);
-				if (result != null) return result;
-			}
+			PercentFraction result = retrieves[i].getTransmittanceRangeTransmittance(instrumentIndex, filterIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8922,15 +6403,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getUUIDFileName(int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getUUIDFileName(imageIndex, tiffDataIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getUUIDFileName(imageIndex, tiffDataIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -8952,135 +6428,90 @@ public class AggregateMetadata implements IMetadata
 
 	public String getWellAnnotationRef(int plateIndex, int wellIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getWellAnnotationRef(plateIndex, wellIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getWellAnnotationRef(plateIndex, wellIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Integer getWellColor(int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Integer result = retrieve.getWellColor(plateIndex, wellIndex);
-				if (result != null) return result;
-			}
+			Integer result = retrieves[i].getWellColor(plateIndex, wellIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeInteger getWellColumn(int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getWellColumn(plateIndex, wellIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getWellColumn(plateIndex, wellIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getWellExternalDescription(int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getWellExternalDescription(plateIndex, wellIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getWellExternalDescription(plateIndex, wellIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getWellExternalIdentifier(int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getWellExternalIdentifier(plateIndex, wellIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getWellExternalIdentifier(plateIndex, wellIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getWellID(int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getWellID(plateIndex, wellIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getWellID(plateIndex, wellIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getWellReagentRef(int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getWellReagentRef(plateIndex, wellIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getWellReagentRef(plateIndex, wellIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeInteger getWellRow(int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getWellRow(plateIndex, wellIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getWellRow(plateIndex, wellIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getWellStatus(int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getWellStatus(plateIndex, wellIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getWellStatus(plateIndex, wellIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -9095,60 +6526,40 @@ public class AggregateMetadata implements IMetadata
 
 	public String getWellSampleAnnotationRef(int plateIndex, int wellIndex, int wellSampleIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getWellSampleAnnotationRef(plateIndex, wellIndex, wellSampleIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getWellSampleAnnotationRef(plateIndex, wellIndex, wellSampleIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getWellSampleID(int plateIndex, int wellIndex, int wellSampleIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getWellSampleID(plateIndex, wellIndex, wellSampleIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getWellSampleID(plateIndex, wellIndex, wellSampleIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getWellSampleImageRef(int plateIndex, int wellIndex, int wellSampleIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getWellSampleImageRef(plateIndex, wellIndex, wellSampleIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getWellSampleImageRef(plateIndex, wellIndex, wellSampleIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public NonNegativeInteger getWellSampleIndex(int plateIndex, int wellIndex, int wellSampleIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				NonNegativeInteger result = retrieve.getWellSampleIndex(plateIndex, wellIndex, wellSampleIndex);
-				if (result != null) return result;
-			}
+			NonNegativeInteger result = retrieves[i].getWellSampleIndex(plateIndex, wellIndex, wellSampleIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -9156,45 +6567,30 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring PlateAcquisition_BackReference back reference
 	public Double getWellSamplePositionX(int plateIndex, int wellIndex, int wellSampleIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getWellSamplePositionX(plateIndex, wellIndex, wellSampleIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getWellSamplePositionX(plateIndex, wellIndex, wellSampleIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public Double getWellSamplePositionY(int plateIndex, int wellIndex, int wellSampleIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				Double result = retrieve.getWellSamplePositionY(plateIndex, wellIndex, wellSampleIndex);
-				if (result != null) return result;
-			}
+			Double result = retrieves[i].getWellSamplePositionY(plateIndex, wellIndex, wellSampleIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
 
 	public String getWellSampleTimepoint(int plateIndex, int wellIndex, int wellSampleIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getWellSampleTimepoint(plateIndex, wellIndex, wellSampleIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getWellSampleTimepoint(plateIndex, wellIndex, wellSampleIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -9219,15 +6615,10 @@ public class AggregateMetadata implements IMetadata
 
 	public String getXMLAnnotationAnnotationRef(int XMLAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getXMLAnnotationAnnotationRef(XMLAnnotationIndex, annotationRefIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getXMLAnnotationAnnotationRef(XMLAnnotationIndex, annotationRefIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -9236,15 +6627,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public String getXMLAnnotationDescription(int XMLAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getXMLAnnotationDescription(XMLAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getXMLAnnotationDescription(XMLAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -9252,15 +6638,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Experimenter_BackReference back reference
 	public String getXMLAnnotationID(int XMLAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getXMLAnnotationID(XMLAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getXMLAnnotationID(XMLAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -9268,15 +6649,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Image_BackReference back reference
 	public String getXMLAnnotationNamespace(int XMLAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getXMLAnnotationNamespace(XMLAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getXMLAnnotationNamespace(XMLAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -9291,15 +6667,10 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public String getXMLAnnotationValue(int XMLAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<retrieves.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataRetrieve)
-			{
-				MetadataRetrieve retrieve = (MetadataRetrieve) o;
-				String result = retrieve.getXMLAnnotationValue(XMLAnnotationIndex);
-				if (result != null) return result;
-			}
+			String result = retrieves[i].getXMLAnnotationValue(XMLAnnotationIndex);
+			if (result != null) return result;
 		}
 		return null;
 	}
@@ -9311,27 +6682,17 @@ public class AggregateMetadata implements IMetadata
 
 	public void setPixelsBinDataBigEndian(Boolean bigEndian, int imageIndex, int binDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsBinDataBigEndian(bigEndian, imageIndex, binDataIndex);
-			}
+			stores[i].setPixelsBinDataBigEndian(bigEndian, imageIndex, binDataIndex);
 		}
 	}
 
 	public void setMaskBinData(byte[] binData, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskBinData(binData, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskBinData(binData, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -9340,13 +6701,9 @@ public class AggregateMetadata implements IMetadata
 	/** Sets the UUID associated with this collection of metadata. */
 	public void setUUID(String uuid)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				((MetadataStore) o).setUUID(uuid);
-			}
+			stores[i].setUUID(uuid);
 		}
 	}
 
@@ -9371,14 +6728,9 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent LightSource
 	public void setArcID(String id, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setArcID(id, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setArcID(id, instrumentIndex, lightSourceIndex);
 		}
 	}
 
@@ -9387,83 +6739,53 @@ public class AggregateMetadata implements IMetadata
 	// LotNumber accessor from parent LightSource
 	public void setArcLotNumber(String lotNumber, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setArcLotNumber(lotNumber, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setArcLotNumber(lotNumber, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// Manufacturer accessor from parent LightSource
 	public void setArcManufacturer(String manufacturer, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setArcManufacturer(manufacturer, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setArcManufacturer(manufacturer, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// Model accessor from parent LightSource
 	public void setArcModel(String model, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setArcModel(model, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setArcModel(model, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// Power accessor from parent LightSource
 	public void setArcPower(Double power, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setArcPower(power, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setArcPower(power, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// SerialNumber accessor from parent LightSource
 	public void setArcSerialNumber(String serialNumber, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setArcSerialNumber(serialNumber, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setArcSerialNumber(serialNumber, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	public void setArcType(ArcType type, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setArcType(type, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setArcType(type, instrumentIndex, lightSourceIndex);
 		}
 	}
 
@@ -9477,79 +6799,49 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring External element, complex property
 	public void setFileAnnotationBinaryFileFileName(String fileName, int fileAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFileAnnotationBinaryFileFileName(fileName, fileAnnotationIndex);
-			}
+			stores[i].setFileAnnotationBinaryFileFileName(fileName, fileAnnotationIndex);
 		}
 	}
 
 	public void setOTFBinaryFileFileName(String fileName, int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setOTFBinaryFileFileName(fileName, instrumentIndex, OTFIndex);
-			}
+			stores[i].setOTFBinaryFileFileName(fileName, instrumentIndex, OTFIndex);
 		}
 	}
 
 	public void setFileAnnotationBinaryFileMIMEType(String mimetype, int fileAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFileAnnotationBinaryFileMIMEType(mimetype, fileAnnotationIndex);
-			}
+			stores[i].setFileAnnotationBinaryFileMIMEType(mimetype, fileAnnotationIndex);
 		}
 	}
 
 	public void setOTFBinaryFileMIMEType(String mimetype, int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setOTFBinaryFileMIMEType(mimetype, instrumentIndex, OTFIndex);
-			}
+			stores[i].setOTFBinaryFileMIMEType(mimetype, instrumentIndex, OTFIndex);
 		}
 	}
 
 	public void setFileAnnotationBinaryFileSize(NonNegativeLong size, int fileAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFileAnnotationBinaryFileSize(size, fileAnnotationIndex);
-			}
+			stores[i].setFileAnnotationBinaryFileSize(size, fileAnnotationIndex);
 		}
 	}
 
 	public void setOTFBinaryFileSize(NonNegativeLong size, int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setOTFBinaryFileSize(size, instrumentIndex, OTFIndex);
-			}
+			stores[i].setOTFBinaryFileSize(size, instrumentIndex, OTFIndex);
 		}
 	}
 
@@ -9561,27 +6853,17 @@ public class AggregateMetadata implements IMetadata
 
 	public void setBinaryOnlyMetadataFile(String metadataFile)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setBinaryOnlyMetadataFile(metadataFile);
-			}
+			stores[i].setBinaryOnlyMetadataFile(metadataFile);
 		}
 	}
 
 	public void setBinaryOnlyUUID(String uuid)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setBinaryOnlyUUID(uuid);
-			}
+			stores[i].setBinaryOnlyUUID(uuid);
 		}
 	}
 
@@ -9593,14 +6875,9 @@ public class AggregateMetadata implements IMetadata
 
 	public void setBooleanAnnotationAnnotationRef(String annotation, int booleanAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setBooleanAnnotationAnnotationRef(annotation, booleanAnnotationIndex, annotationRefIndex);
-			}
+			stores[i].setBooleanAnnotationAnnotationRef(annotation, booleanAnnotationIndex, annotationRefIndex);
 		}
 	}
 
@@ -9608,42 +6885,27 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public void setBooleanAnnotationDescription(String description, int booleanAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setBooleanAnnotationDescription(description, booleanAnnotationIndex);
-			}
+			stores[i].setBooleanAnnotationDescription(description, booleanAnnotationIndex);
 		}
 	}
 
 	// Ignoring Experimenter_BackReference back reference
 	public void setBooleanAnnotationID(String id, int booleanAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setBooleanAnnotationID(id, booleanAnnotationIndex);
-			}
+			stores[i].setBooleanAnnotationID(id, booleanAnnotationIndex);
 		}
 	}
 
 	// Ignoring Image_BackReference back reference
 	public void setBooleanAnnotationNamespace(String namespace, int booleanAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setBooleanAnnotationNamespace(namespace, booleanAnnotationIndex);
-			}
+			stores[i].setBooleanAnnotationNamespace(namespace, booleanAnnotationIndex);
 		}
 	}
 
@@ -9657,14 +6919,9 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public void setBooleanAnnotationValue(Boolean value, int booleanAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setBooleanAnnotationValue(value, booleanAnnotationIndex);
-			}
+			stores[i].setBooleanAnnotationValue(value, booleanAnnotationIndex);
 		}
 	}
 
@@ -9678,132 +6935,82 @@ public class AggregateMetadata implements IMetadata
 
 	public void setChannelAcquisitionMode(AcquisitionMode acquisitionMode, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelAcquisitionMode(acquisitionMode, imageIndex, channelIndex);
-			}
+			stores[i].setChannelAcquisitionMode(acquisitionMode, imageIndex, channelIndex);
 		}
 	}
 
 	public void setChannelAnnotationRef(String annotation, int imageIndex, int channelIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelAnnotationRef(annotation, imageIndex, channelIndex, annotationRefIndex);
-			}
+			stores[i].setChannelAnnotationRef(annotation, imageIndex, channelIndex, annotationRefIndex);
 		}
 	}
 
 	public void setChannelColor(Integer color, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelColor(color, imageIndex, channelIndex);
-			}
+			stores[i].setChannelColor(color, imageIndex, channelIndex);
 		}
 	}
 
 	public void setChannelContrastMethod(ContrastMethod contrastMethod, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelContrastMethod(contrastMethod, imageIndex, channelIndex);
-			}
+			stores[i].setChannelContrastMethod(contrastMethod, imageIndex, channelIndex);
 		}
 	}
 
 	// Ignoring DetectorSettings element, complex property
 	public void setChannelEmissionWavelength(PositiveInteger emissionWavelength, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelEmissionWavelength(emissionWavelength, imageIndex, channelIndex);
-			}
+			stores[i].setChannelEmissionWavelength(emissionWavelength, imageIndex, channelIndex);
 		}
 	}
 
 	public void setChannelExcitationWavelength(PositiveInteger excitationWavelength, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelExcitationWavelength(excitationWavelength, imageIndex, channelIndex);
-			}
+			stores[i].setChannelExcitationWavelength(excitationWavelength, imageIndex, channelIndex);
 		}
 	}
 
 	public void setChannelFilterSetRef(String filterSet, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelFilterSetRef(filterSet, imageIndex, channelIndex);
-			}
+			stores[i].setChannelFilterSetRef(filterSet, imageIndex, channelIndex);
 		}
 	}
 
 	public void setChannelFluor(String fluor, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelFluor(fluor, imageIndex, channelIndex);
-			}
+			stores[i].setChannelFluor(fluor, imageIndex, channelIndex);
 		}
 	}
 
 	public void setChannelID(String id, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelID(id, imageIndex, channelIndex);
-			}
+			stores[i].setChannelID(id, imageIndex, channelIndex);
 		}
 	}
 
 	public void setChannelIlluminationType(IlluminationType illuminationType, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelIlluminationType(illuminationType, imageIndex, channelIndex);
-			}
+			stores[i].setChannelIlluminationType(illuminationType, imageIndex, channelIndex);
 		}
 	}
 
@@ -9811,79 +7018,49 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring LightSourceSettings element, complex property
 	public void setChannelNDFilter(Double ndfilter, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelNDFilter(ndfilter, imageIndex, channelIndex);
-			}
+			stores[i].setChannelNDFilter(ndfilter, imageIndex, channelIndex);
 		}
 	}
 
 	public void setChannelName(String name, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelName(name, imageIndex, channelIndex);
-			}
+			stores[i].setChannelName(name, imageIndex, channelIndex);
 		}
 	}
 
 	public void setChannelOTFRef(String otf, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelOTFRef(otf, imageIndex, channelIndex);
-			}
+			stores[i].setChannelOTFRef(otf, imageIndex, channelIndex);
 		}
 	}
 
 	public void setChannelPinholeSize(Double pinholeSize, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelPinholeSize(pinholeSize, imageIndex, channelIndex);
-			}
+			stores[i].setChannelPinholeSize(pinholeSize, imageIndex, channelIndex);
 		}
 	}
 
 	public void setChannelPockelCellSetting(Integer pockelCellSetting, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelPockelCellSetting(pockelCellSetting, imageIndex, channelIndex);
-			}
+			stores[i].setChannelPockelCellSetting(pockelCellSetting, imageIndex, channelIndex);
 		}
 	}
 
 	public void setChannelSamplesPerPixel(PositiveInteger samplesPerPixel, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelSamplesPerPixel(samplesPerPixel, imageIndex, channelIndex);
-			}
+			stores[i].setChannelSamplesPerPixel(samplesPerPixel, imageIndex, channelIndex);
 		}
 	}
 
@@ -9895,14 +7072,9 @@ public class AggregateMetadata implements IMetadata
 
 	public void setCommentAnnotationAnnotationRef(String annotation, int commentAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setCommentAnnotationAnnotationRef(annotation, commentAnnotationIndex, annotationRefIndex);
-			}
+			stores[i].setCommentAnnotationAnnotationRef(annotation, commentAnnotationIndex, annotationRefIndex);
 		}
 	}
 
@@ -9910,42 +7082,27 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public void setCommentAnnotationDescription(String description, int commentAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setCommentAnnotationDescription(description, commentAnnotationIndex);
-			}
+			stores[i].setCommentAnnotationDescription(description, commentAnnotationIndex);
 		}
 	}
 
 	// Ignoring Experimenter_BackReference back reference
 	public void setCommentAnnotationID(String id, int commentAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setCommentAnnotationID(id, commentAnnotationIndex);
-			}
+			stores[i].setCommentAnnotationID(id, commentAnnotationIndex);
 		}
 	}
 
 	// Ignoring Image_BackReference back reference
 	public void setCommentAnnotationNamespace(String namespace, int commentAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setCommentAnnotationNamespace(namespace, commentAnnotationIndex);
-			}
+			stores[i].setCommentAnnotationNamespace(namespace, commentAnnotationIndex);
 		}
 	}
 
@@ -9959,14 +7116,9 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public void setCommentAnnotationValue(String value, int commentAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setCommentAnnotationValue(value, commentAnnotationIndex);
-			}
+			stores[i].setCommentAnnotationValue(value, commentAnnotationIndex);
 		}
 	}
 
@@ -9990,93 +7142,58 @@ public class AggregateMetadata implements IMetadata
 
 	public void setDatasetAnnotationRef(String annotation, int datasetIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDatasetAnnotationRef(annotation, datasetIndex, annotationRefIndex);
-			}
+			stores[i].setDatasetAnnotationRef(annotation, datasetIndex, annotationRefIndex);
 		}
 	}
 
 	public void setDatasetDescription(String description, int datasetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDatasetDescription(description, datasetIndex);
-			}
+			stores[i].setDatasetDescription(description, datasetIndex);
 		}
 	}
 
 	public void setDatasetExperimenterRef(String experimenter, int datasetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDatasetExperimenterRef(experimenter, datasetIndex);
-			}
+			stores[i].setDatasetExperimenterRef(experimenter, datasetIndex);
 		}
 	}
 
 	public void setDatasetGroupRef(String group, int datasetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDatasetGroupRef(group, datasetIndex);
-			}
+			stores[i].setDatasetGroupRef(group, datasetIndex);
 		}
 	}
 
 	public void setDatasetID(String id, int datasetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDatasetID(id, datasetIndex);
-			}
+			stores[i].setDatasetID(id, datasetIndex);
 		}
 	}
 
 	// Ignoring Image_BackReference back reference
 	public void setDatasetName(String name, int datasetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDatasetName(name, datasetIndex);
-			}
+			stores[i].setDatasetName(name, datasetIndex);
 		}
 	}
 
 	public void setDatasetProjectRef(String project, int datasetIndex, int projectRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDatasetProjectRef(project, datasetIndex, projectRefIndex);
-			}
+			stores[i].setDatasetProjectRef(project, datasetIndex, projectRefIndex);
 		}
 	}
 
@@ -10098,144 +7215,89 @@ public class AggregateMetadata implements IMetadata
 
 	public void setDetectorAmplificationGain(Double amplificationGain, int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorAmplificationGain(amplificationGain, instrumentIndex, detectorIndex);
-			}
+			stores[i].setDetectorAmplificationGain(amplificationGain, instrumentIndex, detectorIndex);
 		}
 	}
 
 	public void setDetectorGain(Double gain, int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorGain(gain, instrumentIndex, detectorIndex);
-			}
+			stores[i].setDetectorGain(gain, instrumentIndex, detectorIndex);
 		}
 	}
 
 	public void setDetectorID(String id, int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorID(id, instrumentIndex, detectorIndex);
-			}
+			stores[i].setDetectorID(id, instrumentIndex, detectorIndex);
 		}
 	}
 
 	public void setDetectorLotNumber(String lotNumber, int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorLotNumber(lotNumber, instrumentIndex, detectorIndex);
-			}
+			stores[i].setDetectorLotNumber(lotNumber, instrumentIndex, detectorIndex);
 		}
 	}
 
 	public void setDetectorManufacturer(String manufacturer, int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorManufacturer(manufacturer, instrumentIndex, detectorIndex);
-			}
+			stores[i].setDetectorManufacturer(manufacturer, instrumentIndex, detectorIndex);
 		}
 	}
 
 	public void setDetectorModel(String model, int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorModel(model, instrumentIndex, detectorIndex);
-			}
+			stores[i].setDetectorModel(model, instrumentIndex, detectorIndex);
 		}
 	}
 
 	public void setDetectorOffset(Double offset, int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorOffset(offset, instrumentIndex, detectorIndex);
-			}
+			stores[i].setDetectorOffset(offset, instrumentIndex, detectorIndex);
 		}
 	}
 
 	public void setDetectorSerialNumber(String serialNumber, int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorSerialNumber(serialNumber, instrumentIndex, detectorIndex);
-			}
+			stores[i].setDetectorSerialNumber(serialNumber, instrumentIndex, detectorIndex);
 		}
 	}
 
 	public void setDetectorType(DetectorType type, int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorType(type, instrumentIndex, detectorIndex);
-			}
+			stores[i].setDetectorType(type, instrumentIndex, detectorIndex);
 		}
 	}
 
 	public void setDetectorVoltage(Double voltage, int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorVoltage(voltage, instrumentIndex, detectorIndex);
-			}
+			stores[i].setDetectorVoltage(voltage, instrumentIndex, detectorIndex);
 		}
 	}
 
 	public void setDetectorZoom(Double zoom, int instrumentIndex, int detectorIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorZoom(zoom, instrumentIndex, detectorIndex);
-			}
+			stores[i].setDetectorZoom(zoom, instrumentIndex, detectorIndex);
 		}
 	}
 
@@ -10247,79 +7309,49 @@ public class AggregateMetadata implements IMetadata
 
 	public void setDetectorSettingsBinning(Binning binning, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorSettingsBinning(binning, imageIndex, channelIndex);
-			}
+			stores[i].setDetectorSettingsBinning(binning, imageIndex, channelIndex);
 		}
 	}
 
 	public void setDetectorSettingsGain(Double gain, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorSettingsGain(gain, imageIndex, channelIndex);
-			}
+			stores[i].setDetectorSettingsGain(gain, imageIndex, channelIndex);
 		}
 	}
 
 	public void setDetectorSettingsID(String id, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorSettingsID(id, imageIndex, channelIndex);
-			}
+			stores[i].setDetectorSettingsID(id, imageIndex, channelIndex);
 		}
 	}
 
 	public void setDetectorSettingsOffset(Double offset, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorSettingsOffset(offset, imageIndex, channelIndex);
-			}
+			stores[i].setDetectorSettingsOffset(offset, imageIndex, channelIndex);
 		}
 	}
 
 	public void setDetectorSettingsReadOutRate(Double readOutRate, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorSettingsReadOutRate(readOutRate, imageIndex, channelIndex);
-			}
+			stores[i].setDetectorSettingsReadOutRate(readOutRate, imageIndex, channelIndex);
 		}
 	}
 
 	public void setDetectorSettingsVoltage(Double voltage, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDetectorSettingsVoltage(voltage, imageIndex, channelIndex);
-			}
+			stores[i].setDetectorSettingsVoltage(voltage, imageIndex, channelIndex);
 		}
 	}
 
@@ -10332,67 +7364,42 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring FilterSet_BackReference back reference
 	public void setDichroicID(String id, int instrumentIndex, int dichroicIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDichroicID(id, instrumentIndex, dichroicIndex);
-			}
+			stores[i].setDichroicID(id, instrumentIndex, dichroicIndex);
 		}
 	}
 
 	// Ignoring LightPath_BackReference back reference
 	public void setDichroicLotNumber(String lotNumber, int instrumentIndex, int dichroicIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDichroicLotNumber(lotNumber, instrumentIndex, dichroicIndex);
-			}
+			stores[i].setDichroicLotNumber(lotNumber, instrumentIndex, dichroicIndex);
 		}
 	}
 
 	public void setDichroicManufacturer(String manufacturer, int instrumentIndex, int dichroicIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDichroicManufacturer(manufacturer, instrumentIndex, dichroicIndex);
-			}
+			stores[i].setDichroicManufacturer(manufacturer, instrumentIndex, dichroicIndex);
 		}
 	}
 
 	public void setDichroicModel(String model, int instrumentIndex, int dichroicIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDichroicModel(model, instrumentIndex, dichroicIndex);
-			}
+			stores[i].setDichroicModel(model, instrumentIndex, dichroicIndex);
 		}
 	}
 
 	public void setDichroicSerialNumber(String serialNumber, int instrumentIndex, int dichroicIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDichroicSerialNumber(serialNumber, instrumentIndex, dichroicIndex);
-			}
+			stores[i].setDichroicSerialNumber(serialNumber, instrumentIndex, dichroicIndex);
 		}
 	}
 
@@ -10414,14 +7421,9 @@ public class AggregateMetadata implements IMetadata
 
 	public void setDoubleAnnotationAnnotationRef(String annotation, int doubleAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDoubleAnnotationAnnotationRef(annotation, doubleAnnotationIndex, annotationRefIndex);
-			}
+			stores[i].setDoubleAnnotationAnnotationRef(annotation, doubleAnnotationIndex, annotationRefIndex);
 		}
 	}
 
@@ -10429,42 +7431,27 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public void setDoubleAnnotationDescription(String description, int doubleAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDoubleAnnotationDescription(description, doubleAnnotationIndex);
-			}
+			stores[i].setDoubleAnnotationDescription(description, doubleAnnotationIndex);
 		}
 	}
 
 	// Ignoring Experimenter_BackReference back reference
 	public void setDoubleAnnotationID(String id, int doubleAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDoubleAnnotationID(id, doubleAnnotationIndex);
-			}
+			stores[i].setDoubleAnnotationID(id, doubleAnnotationIndex);
 		}
 	}
 
 	// Ignoring Image_BackReference back reference
 	public void setDoubleAnnotationNamespace(String namespace, int doubleAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDoubleAnnotationNamespace(namespace, doubleAnnotationIndex);
-			}
+			stores[i].setDoubleAnnotationNamespace(namespace, doubleAnnotationIndex);
 		}
 	}
 
@@ -10478,14 +7465,9 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public void setDoubleAnnotationValue(Double value, int doubleAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setDoubleAnnotationValue(value, doubleAnnotationIndex);
-			}
+			stores[i].setDoubleAnnotationValue(value, doubleAnnotationIndex);
 		}
 	}
 
@@ -10500,14 +7482,9 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public void setEllipseDescription(String description, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseDescription(description, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseDescription(description, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -10515,14 +7492,9 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public void setEllipseFill(Integer fill, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseFill(fill, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseFill(fill, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -10531,14 +7503,9 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public void setEllipseFontSize(NonNegativeInteger fontSize, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseFontSize(fontSize, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseFontSize(fontSize, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -10546,28 +7513,18 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public void setEllipseID(String id, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseID(id, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseID(id, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Label accessor from parent Shape
 	public void setEllipseLabel(String label, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseLabel(label, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseLabel(label, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -10579,14 +7536,9 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public void setEllipseName(String name, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseName(name, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseName(name, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -10597,42 +7549,27 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public void setEllipseStroke(Integer stroke, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseStroke(stroke, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseStroke(stroke, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeDashArray accessor from parent Shape
 	public void setEllipseStrokeDashArray(String strokeDashArray, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeWidth accessor from parent Shape
 	public void setEllipseStrokeWidth(Double strokeWidth, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -10640,108 +7577,68 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public void setEllipseTheC(NonNegativeInteger theC, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseTheC(theC, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseTheC(theC, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheT accessor from parent Shape
 	public void setEllipseTheT(NonNegativeInteger theT, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseTheT(theT, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseTheT(theT, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheZ accessor from parent Shape
 	public void setEllipseTheZ(NonNegativeInteger theZ, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseTheZ(theZ, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseTheZ(theZ, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Transform accessor from parent Shape
 	public void setEllipseTransform(String transform, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseTransform(transform, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseTransform(transform, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setEllipseRadiusX(Double radiusX, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseRadiusX(radiusX, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseRadiusX(radiusX, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setEllipseRadiusY(Double radiusY, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseRadiusY(radiusY, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseRadiusY(radiusY, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setEllipseX(Double x, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseX(x, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseX(x, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setEllipseY(Double y, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setEllipseY(y, ROIIndex, shapeIndex);
-			}
+			stores[i].setEllipseY(y, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -10765,40 +7662,25 @@ public class AggregateMetadata implements IMetadata
 
 	public void setExperimentDescription(String description, int experimentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimentDescription(description, experimentIndex);
-			}
+			stores[i].setExperimentDescription(description, experimentIndex);
 		}
 	}
 
 	public void setExperimentExperimenterRef(String experimenter, int experimentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimentExperimenterRef(experimenter, experimentIndex);
-			}
+			stores[i].setExperimentExperimenterRef(experimenter, experimentIndex);
 		}
 	}
 
 	public void setExperimentID(String id, int experimentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimentID(id, experimentIndex);
-			}
+			stores[i].setExperimentID(id, experimentIndex);
 		}
 	}
 
@@ -10806,14 +7688,9 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring MicrobeamManipulation element, complex property
 	public void setExperimentType(ExperimentType type, int experimentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimentType(type, experimentIndex);
-			}
+			stores[i].setExperimentType(type, experimentIndex);
 		}
 	}
 
@@ -10835,136 +7712,86 @@ public class AggregateMetadata implements IMetadata
 
 	public void setExperimenterAnnotationRef(String annotation, int experimenterIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimenterAnnotationRef(annotation, experimenterIndex, annotationRefIndex);
-			}
+			stores[i].setExperimenterAnnotationRef(annotation, experimenterIndex, annotationRefIndex);
 		}
 	}
 
 	// Ignoring Dataset_BackReference back reference
 	public void setExperimenterDisplayName(String displayName, int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimenterDisplayName(displayName, experimenterIndex);
-			}
+			stores[i].setExperimenterDisplayName(displayName, experimenterIndex);
 		}
 	}
 
 	public void setExperimenterEmail(String email, int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimenterEmail(email, experimenterIndex);
-			}
+			stores[i].setExperimenterEmail(email, experimenterIndex);
 		}
 	}
 
 	// Ignoring Experiment_BackReference back reference
 	public void setExperimenterFirstName(String firstName, int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimenterFirstName(firstName, experimenterIndex);
-			}
+			stores[i].setExperimenterFirstName(firstName, experimenterIndex);
 		}
 	}
 
 	public void setExperimenterGroupRef(String group, int experimenterIndex, int groupRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimenterGroupRef(group, experimenterIndex, groupRefIndex);
-			}
+			stores[i].setExperimenterGroupRef(group, experimenterIndex, groupRefIndex);
 		}
 	}
 
 	public void setExperimenterID(String id, int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimenterID(id, experimenterIndex);
-			}
+			stores[i].setExperimenterID(id, experimenterIndex);
 		}
 	}
 
 	// Ignoring Image_BackReference back reference
 	public void setExperimenterInstitution(String institution, int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimenterInstitution(institution, experimenterIndex);
-			}
+			stores[i].setExperimenterInstitution(institution, experimenterIndex);
 		}
 	}
 
 	public void setExperimenterLastName(String lastName, int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimenterLastName(lastName, experimenterIndex);
-			}
+			stores[i].setExperimenterLastName(lastName, experimenterIndex);
 		}
 	}
 
 	// Ignoring MicrobeamManipulation_BackReference back reference
 	public void setExperimenterMiddleName(String middleName, int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimenterMiddleName(middleName, experimenterIndex);
-			}
+			stores[i].setExperimenterMiddleName(middleName, experimenterIndex);
 		}
 	}
 
 	// Ignoring Project_BackReference back reference
 	public void setExperimenterUserName(String userName, int experimenterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setExperimenterUserName(userName, experimenterIndex);
-			}
+			stores[i].setExperimenterUserName(userName, experimenterIndex);
 		}
 	}
 
@@ -10989,14 +7816,9 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent LightSource
 	public void setFilamentID(String id, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilamentID(id, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setFilamentID(id, instrumentIndex, lightSourceIndex);
 		}
 	}
 
@@ -11005,83 +7827,53 @@ public class AggregateMetadata implements IMetadata
 	// LotNumber accessor from parent LightSource
 	public void setFilamentLotNumber(String lotNumber, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilamentLotNumber(lotNumber, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setFilamentLotNumber(lotNumber, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// Manufacturer accessor from parent LightSource
 	public void setFilamentManufacturer(String manufacturer, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilamentManufacturer(manufacturer, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setFilamentManufacturer(manufacturer, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// Model accessor from parent LightSource
 	public void setFilamentModel(String model, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilamentModel(model, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setFilamentModel(model, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// Power accessor from parent LightSource
 	public void setFilamentPower(Double power, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilamentPower(power, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setFilamentPower(power, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// SerialNumber accessor from parent LightSource
 	public void setFilamentSerialNumber(String serialNumber, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilamentSerialNumber(serialNumber, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setFilamentSerialNumber(serialNumber, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	public void setFilamentType(FilamentType type, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilamentType(type, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setFilamentType(type, instrumentIndex, lightSourceIndex);
 		}
 	}
 
@@ -11093,14 +7885,9 @@ public class AggregateMetadata implements IMetadata
 
 	public void setFileAnnotationAnnotationRef(String annotation, int fileAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFileAnnotationAnnotationRef(annotation, fileAnnotationIndex, annotationRefIndex);
-			}
+			stores[i].setFileAnnotationAnnotationRef(annotation, fileAnnotationIndex, annotationRefIndex);
 		}
 	}
 
@@ -11109,42 +7896,27 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public void setFileAnnotationDescription(String description, int fileAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFileAnnotationDescription(description, fileAnnotationIndex);
-			}
+			stores[i].setFileAnnotationDescription(description, fileAnnotationIndex);
 		}
 	}
 
 	// Ignoring Experimenter_BackReference back reference
 	public void setFileAnnotationID(String id, int fileAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFileAnnotationID(id, fileAnnotationIndex);
-			}
+			stores[i].setFileAnnotationID(id, fileAnnotationIndex);
 		}
 	}
 
 	// Ignoring Image_BackReference back reference
 	public void setFileAnnotationNamespace(String namespace, int fileAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFileAnnotationNamespace(namespace, fileAnnotationIndex);
-			}
+			stores[i].setFileAnnotationNamespace(namespace, fileAnnotationIndex);
 		}
 	}
 
@@ -11167,94 +7939,59 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring FilterSet_BackReference back reference
 	public void setFilterFilterWheel(String filterWheel, int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterFilterWheel(filterWheel, instrumentIndex, filterIndex);
-			}
+			stores[i].setFilterFilterWheel(filterWheel, instrumentIndex, filterIndex);
 		}
 	}
 
 	public void setFilterID(String id, int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterID(id, instrumentIndex, filterIndex);
-			}
+			stores[i].setFilterID(id, instrumentIndex, filterIndex);
 		}
 	}
 
 	// Ignoring LightPath_BackReference back reference
 	public void setFilterLotNumber(String lotNumber, int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterLotNumber(lotNumber, instrumentIndex, filterIndex);
-			}
+			stores[i].setFilterLotNumber(lotNumber, instrumentIndex, filterIndex);
 		}
 	}
 
 	public void setFilterManufacturer(String manufacturer, int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterManufacturer(manufacturer, instrumentIndex, filterIndex);
-			}
+			stores[i].setFilterManufacturer(manufacturer, instrumentIndex, filterIndex);
 		}
 	}
 
 	public void setFilterModel(String model, int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterModel(model, instrumentIndex, filterIndex);
-			}
+			stores[i].setFilterModel(model, instrumentIndex, filterIndex);
 		}
 	}
 
 	public void setFilterSerialNumber(String serialNumber, int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterSerialNumber(serialNumber, instrumentIndex, filterIndex);
-			}
+			stores[i].setFilterSerialNumber(serialNumber, instrumentIndex, filterIndex);
 		}
 	}
 
 	// Ignoring TransmittanceRange element, complex property
 	public void setFilterType(FilterType type, int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterType(type, instrumentIndex, filterIndex);
-			}
+			stores[i].setFilterType(type, instrumentIndex, filterIndex);
 		}
 	}
 
@@ -11267,106 +8004,66 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Channel_BackReference back reference
 	public void setFilterSetDichroicRef(String dichroic, int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterSetDichroicRef(dichroic, instrumentIndex, filterSetIndex);
-			}
+			stores[i].setFilterSetDichroicRef(dichroic, instrumentIndex, filterSetIndex);
 		}
 	}
 
 	public void setFilterSetEmissionFilterRef(String emissionFilter, int instrumentIndex, int filterSetIndex, int emissionFilterRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterSetEmissionFilterRef(emissionFilter, instrumentIndex, filterSetIndex, emissionFilterRefIndex);
-			}
+			stores[i].setFilterSetEmissionFilterRef(emissionFilter, instrumentIndex, filterSetIndex, emissionFilterRefIndex);
 		}
 	}
 
 	public void setFilterSetExcitationFilterRef(String excitationFilter, int instrumentIndex, int filterSetIndex, int excitationFilterRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterSetExcitationFilterRef(excitationFilter, instrumentIndex, filterSetIndex, excitationFilterRefIndex);
-			}
+			stores[i].setFilterSetExcitationFilterRef(excitationFilter, instrumentIndex, filterSetIndex, excitationFilterRefIndex);
 		}
 	}
 
 	public void setFilterSetID(String id, int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterSetID(id, instrumentIndex, filterSetIndex);
-			}
+			stores[i].setFilterSetID(id, instrumentIndex, filterSetIndex);
 		}
 	}
 
 	public void setFilterSetLotNumber(String lotNumber, int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterSetLotNumber(lotNumber, instrumentIndex, filterSetIndex);
-			}
+			stores[i].setFilterSetLotNumber(lotNumber, instrumentIndex, filterSetIndex);
 		}
 	}
 
 	public void setFilterSetManufacturer(String manufacturer, int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterSetManufacturer(manufacturer, instrumentIndex, filterSetIndex);
-			}
+			stores[i].setFilterSetManufacturer(manufacturer, instrumentIndex, filterSetIndex);
 		}
 	}
 
 	public void setFilterSetModel(String model, int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterSetModel(model, instrumentIndex, filterSetIndex);
-			}
+			stores[i].setFilterSetModel(model, instrumentIndex, filterSetIndex);
 		}
 	}
 
 	// Ignoring OTF_BackReference back reference
 	public void setFilterSetSerialNumber(String serialNumber, int instrumentIndex, int filterSetIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setFilterSetSerialNumber(serialNumber, instrumentIndex, filterSetIndex);
-			}
+			stores[i].setFilterSetSerialNumber(serialNumber, instrumentIndex, filterSetIndex);
 		}
 	}
 
@@ -11388,69 +8085,44 @@ public class AggregateMetadata implements IMetadata
 
 	public void setGroupContact(String contact, int groupIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setGroupContact(contact, groupIndex);
-			}
+			stores[i].setGroupContact(contact, groupIndex);
 		}
 	}
 
 	// Ignoring Dataset_BackReference back reference
 	public void setGroupDescription(String description, int groupIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setGroupDescription(description, groupIndex);
-			}
+			stores[i].setGroupDescription(description, groupIndex);
 		}
 	}
 
 	// Ignoring Experimenter_BackReference back reference
 	public void setGroupID(String id, int groupIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setGroupID(id, groupIndex);
-			}
+			stores[i].setGroupID(id, groupIndex);
 		}
 	}
 
 	// Ignoring Image_BackReference back reference
 	public void setGroupLeader(String leader, int groupIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setGroupLeader(leader, groupIndex);
-			}
+			stores[i].setGroupLeader(leader, groupIndex);
 		}
 	}
 
 	public void setGroupName(String name, int groupIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setGroupName(name, groupIndex);
-			}
+			stores[i].setGroupName(name, groupIndex);
 		}
 	}
 
@@ -11473,145 +8145,90 @@ public class AggregateMetadata implements IMetadata
 
 	public void setImageAcquiredDate(String acquiredDate, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageAcquiredDate(acquiredDate, imageIndex);
-			}
+			stores[i].setImageAcquiredDate(acquiredDate, imageIndex);
 		}
 	}
 
 	public void setImageAnnotationRef(String annotation, int imageIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageAnnotationRef(annotation, imageIndex, annotationRefIndex);
-			}
+			stores[i].setImageAnnotationRef(annotation, imageIndex, annotationRefIndex);
 		}
 	}
 
 	public void setImageDatasetRef(String dataset, int imageIndex, int datasetRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageDatasetRef(dataset, imageIndex, datasetRefIndex);
-			}
+			stores[i].setImageDatasetRef(dataset, imageIndex, datasetRefIndex);
 		}
 	}
 
 	public void setImageDescription(String description, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageDescription(description, imageIndex);
-			}
+			stores[i].setImageDescription(description, imageIndex);
 		}
 	}
 
 	public void setImageExperimentRef(String experiment, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageExperimentRef(experiment, imageIndex);
-			}
+			stores[i].setImageExperimentRef(experiment, imageIndex);
 		}
 	}
 
 	public void setImageExperimenterRef(String experimenter, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageExperimenterRef(experimenter, imageIndex);
-			}
+			stores[i].setImageExperimenterRef(experimenter, imageIndex);
 		}
 	}
 
 	public void setImageGroupRef(String group, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageGroupRef(group, imageIndex);
-			}
+			stores[i].setImageGroupRef(group, imageIndex);
 		}
 	}
 
 	public void setImageID(String id, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageID(id, imageIndex);
-			}
+			stores[i].setImageID(id, imageIndex);
 		}
 	}
 
 	// Ignoring ImagingEnvironment element, complex property
 	public void setImageInstrumentRef(String instrument, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageInstrumentRef(instrument, imageIndex);
-			}
+			stores[i].setImageInstrumentRef(instrument, imageIndex);
 		}
 	}
 
 	public void setImageMicrobeamManipulationRef(String microbeamManipulation, int imageIndex, int microbeamManipulationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageMicrobeamManipulationRef(microbeamManipulation, imageIndex, microbeamManipulationRefIndex);
-			}
+			stores[i].setImageMicrobeamManipulationRef(microbeamManipulation, imageIndex, microbeamManipulationRefIndex);
 		}
 	}
 
 	public void setImageName(String name, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageName(name, imageIndex);
-			}
+			stores[i].setImageName(name, imageIndex);
 		}
 	}
 
@@ -11619,14 +8236,9 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Pixels element, complex property
 	public void setImageROIRef(String roi, int imageIndex, int ROIRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageROIRef(roi, imageIndex, ROIRefIndex);
-			}
+			stores[i].setImageROIRef(roi, imageIndex, ROIRefIndex);
 		}
 	}
 
@@ -11650,53 +8262,33 @@ public class AggregateMetadata implements IMetadata
 
 	public void setImagingEnvironmentAirPressure(Double airPressure, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImagingEnvironmentAirPressure(airPressure, imageIndex);
-			}
+			stores[i].setImagingEnvironmentAirPressure(airPressure, imageIndex);
 		}
 	}
 
 	public void setImagingEnvironmentCO2Percent(PercentFraction co2percent, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImagingEnvironmentCO2Percent(co2percent, imageIndex);
-			}
+			stores[i].setImagingEnvironmentCO2Percent(co2percent, imageIndex);
 		}
 	}
 
 	public void setImagingEnvironmentHumidity(PercentFraction humidity, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImagingEnvironmentHumidity(humidity, imageIndex);
-			}
+			stores[i].setImagingEnvironmentHumidity(humidity, imageIndex);
 		}
 	}
 
 	public void setImagingEnvironmentTemperature(Double temperature, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImagingEnvironmentTemperature(temperature, imageIndex);
-			}
+			stores[i].setImagingEnvironmentTemperature(temperature, imageIndex);
 		}
 	}
 
@@ -11712,14 +8304,9 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring FilterSet element, complex property
 	public void setInstrumentID(String id, int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setInstrumentID(id, instrumentIndex);
-			}
+			stores[i].setInstrumentID(id, instrumentIndex);
 		}
 	}
 
@@ -11749,14 +8336,9 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent LightSource
 	public void setLaserID(String id, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserID(id, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserID(id, instrumentIndex, lightSourceIndex);
 		}
 	}
 
@@ -11765,187 +8347,117 @@ public class AggregateMetadata implements IMetadata
 	// LotNumber accessor from parent LightSource
 	public void setLaserLotNumber(String lotNumber, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserLotNumber(lotNumber, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserLotNumber(lotNumber, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// Manufacturer accessor from parent LightSource
 	public void setLaserManufacturer(String manufacturer, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserManufacturer(manufacturer, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserManufacturer(manufacturer, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// Model accessor from parent LightSource
 	public void setLaserModel(String model, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserModel(model, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserModel(model, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// Power accessor from parent LightSource
 	public void setLaserPower(Double power, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserPower(power, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserPower(power, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// SerialNumber accessor from parent LightSource
 	public void setLaserSerialNumber(String serialNumber, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserSerialNumber(serialNumber, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserSerialNumber(serialNumber, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	public void setLaserFrequencyMultiplication(PositiveInteger frequencyMultiplication, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserFrequencyMultiplication(frequencyMultiplication, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserFrequencyMultiplication(frequencyMultiplication, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	public void setLaserLaserMedium(LaserMedium laserMedium, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserLaserMedium(laserMedium, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserLaserMedium(laserMedium, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	public void setLaserPockelCell(Boolean pockelCell, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserPockelCell(pockelCell, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserPockelCell(pockelCell, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	public void setLaserPulse(Pulse pulse, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserPulse(pulse, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserPulse(pulse, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	public void setLaserPump(String pump, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserPump(pump, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserPump(pump, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	public void setLaserRepetitionRate(Double repetitionRate, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserRepetitionRate(repetitionRate, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserRepetitionRate(repetitionRate, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	public void setLaserTuneable(Boolean tuneable, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserTuneable(tuneable, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserTuneable(tuneable, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	public void setLaserType(LaserType type, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserType(type, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserType(type, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	public void setLaserWavelength(PositiveInteger wavelength, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLaserWavelength(wavelength, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLaserWavelength(wavelength, instrumentIndex, lightSourceIndex);
 		}
 	}
 
@@ -11970,14 +8482,9 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent LightSource
 	public void setLightEmittingDiodeID(String id, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLightEmittingDiodeID(id, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLightEmittingDiodeID(id, instrumentIndex, lightSourceIndex);
 		}
 	}
 
@@ -11986,70 +8493,45 @@ public class AggregateMetadata implements IMetadata
 	// LotNumber accessor from parent LightSource
 	public void setLightEmittingDiodeLotNumber(String lotNumber, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLightEmittingDiodeLotNumber(lotNumber, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLightEmittingDiodeLotNumber(lotNumber, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// Manufacturer accessor from parent LightSource
 	public void setLightEmittingDiodeManufacturer(String manufacturer, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLightEmittingDiodeManufacturer(manufacturer, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLightEmittingDiodeManufacturer(manufacturer, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// Model accessor from parent LightSource
 	public void setLightEmittingDiodeModel(String model, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLightEmittingDiodeModel(model, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLightEmittingDiodeModel(model, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// Power accessor from parent LightSource
 	public void setLightEmittingDiodePower(Double power, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLightEmittingDiodePower(power, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLightEmittingDiodePower(power, instrumentIndex, lightSourceIndex);
 		}
 	}
 
 	// SerialNumber accessor from parent LightSource
 	public void setLightEmittingDiodeSerialNumber(String serialNumber, int instrumentIndex, int lightSourceIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLightEmittingDiodeSerialNumber(serialNumber, instrumentIndex, lightSourceIndex);
-			}
+			stores[i].setLightEmittingDiodeSerialNumber(serialNumber, instrumentIndex, lightSourceIndex);
 		}
 	}
 
@@ -12061,40 +8543,25 @@ public class AggregateMetadata implements IMetadata
 
 	public void setLightPathDichroicRef(String dichroic, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLightPathDichroicRef(dichroic, imageIndex, channelIndex);
-			}
+			stores[i].setLightPathDichroicRef(dichroic, imageIndex, channelIndex);
 		}
 	}
 
 	public void setLightPathEmissionFilterRef(String emissionFilter, int imageIndex, int channelIndex, int emissionFilterRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLightPathEmissionFilterRef(emissionFilter, imageIndex, channelIndex, emissionFilterRefIndex);
-			}
+			stores[i].setLightPathEmissionFilterRef(emissionFilter, imageIndex, channelIndex, emissionFilterRefIndex);
 		}
 	}
 
 	public void setLightPathExcitationFilterRef(String excitationFilter, int imageIndex, int channelIndex, int excitationFilterRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLightPathExcitationFilterRef(excitationFilter, imageIndex, channelIndex, excitationFilterRefIndex);
-			}
+			stores[i].setLightPathExcitationFilterRef(excitationFilter, imageIndex, channelIndex, excitationFilterRefIndex);
 		}
 	}
 
@@ -12106,79 +8573,49 @@ public class AggregateMetadata implements IMetadata
 
 	public void setChannelLightSourceSettingsAttenuation(PercentFraction attenuation, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelLightSourceSettingsAttenuation(attenuation, imageIndex, channelIndex);
-			}
+			stores[i].setChannelLightSourceSettingsAttenuation(attenuation, imageIndex, channelIndex);
 		}
 	}
 
 	public void setMicrobeamManipulationLightSourceSettingsAttenuation(PercentFraction attenuation, int experimentIndex, int microbeamManipulationIndex, int lightSourceSettingsIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMicrobeamManipulationLightSourceSettingsAttenuation(attenuation, experimentIndex, microbeamManipulationIndex, lightSourceSettingsIndex);
-			}
+			stores[i].setMicrobeamManipulationLightSourceSettingsAttenuation(attenuation, experimentIndex, microbeamManipulationIndex, lightSourceSettingsIndex);
 		}
 	}
 
 	public void setChannelLightSourceSettingsID(String id, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelLightSourceSettingsID(id, imageIndex, channelIndex);
-			}
+			stores[i].setChannelLightSourceSettingsID(id, imageIndex, channelIndex);
 		}
 	}
 
 	public void setMicrobeamManipulationLightSourceSettingsID(String id, int experimentIndex, int microbeamManipulationIndex, int lightSourceSettingsIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMicrobeamManipulationLightSourceSettingsID(id, experimentIndex, microbeamManipulationIndex, lightSourceSettingsIndex);
-			}
+			stores[i].setMicrobeamManipulationLightSourceSettingsID(id, experimentIndex, microbeamManipulationIndex, lightSourceSettingsIndex);
 		}
 	}
 
 	public void setChannelLightSourceSettingsWavelength(PositiveInteger wavelength, int imageIndex, int channelIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setChannelLightSourceSettingsWavelength(wavelength, imageIndex, channelIndex);
-			}
+			stores[i].setChannelLightSourceSettingsWavelength(wavelength, imageIndex, channelIndex);
 		}
 	}
 
 	public void setMicrobeamManipulationLightSourceSettingsWavelength(PositiveInteger wavelength, int experimentIndex, int microbeamManipulationIndex, int lightSourceSettingsIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMicrobeamManipulationLightSourceSettingsWavelength(wavelength, experimentIndex, microbeamManipulationIndex, lightSourceSettingsIndex);
-			}
+			stores[i].setMicrobeamManipulationLightSourceSettingsWavelength(wavelength, experimentIndex, microbeamManipulationIndex, lightSourceSettingsIndex);
 		}
 	}
 
@@ -12191,14 +8628,9 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public void setLineDescription(String description, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineDescription(description, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineDescription(description, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12206,14 +8638,9 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public void setLineFill(Integer fill, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineFill(fill, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineFill(fill, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12222,14 +8649,9 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public void setLineFontSize(NonNegativeInteger fontSize, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineFontSize(fontSize, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineFontSize(fontSize, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12237,28 +8659,18 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public void setLineID(String id, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineID(id, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineID(id, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Label accessor from parent Shape
 	public void setLineLabel(String label, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineLabel(label, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineLabel(label, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12270,14 +8682,9 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public void setLineName(String name, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineName(name, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineName(name, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12288,42 +8695,27 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public void setLineStroke(Integer stroke, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineStroke(stroke, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineStroke(stroke, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeDashArray accessor from parent Shape
 	public void setLineStrokeDashArray(String strokeDashArray, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeWidth accessor from parent Shape
 	public void setLineStrokeWidth(Double strokeWidth, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12331,108 +8723,68 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public void setLineTheC(NonNegativeInteger theC, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineTheC(theC, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineTheC(theC, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheT accessor from parent Shape
 	public void setLineTheT(NonNegativeInteger theT, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineTheT(theT, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineTheT(theT, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheZ accessor from parent Shape
 	public void setLineTheZ(NonNegativeInteger theZ, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineTheZ(theZ, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineTheZ(theZ, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Transform accessor from parent Shape
 	public void setLineTransform(String transform, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineTransform(transform, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineTransform(transform, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setLineX1(Double x1, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineX1(x1, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineX1(x1, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setLineX2(Double x2, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineX2(x2, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineX2(x2, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setLineY1(Double y1, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineY1(y1, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineY1(y1, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setLineY2(Double y2, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLineY2(y2, ROIIndex, shapeIndex);
-			}
+			stores[i].setLineY2(y2, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12444,14 +8796,9 @@ public class AggregateMetadata implements IMetadata
 
 	public void setListAnnotationAnnotationRef(String annotation, int listAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setListAnnotationAnnotationRef(annotation, listAnnotationIndex, annotationRefIndex);
-			}
+			stores[i].setListAnnotationAnnotationRef(annotation, listAnnotationIndex, annotationRefIndex);
 		}
 	}
 
@@ -12459,42 +8806,27 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public void setListAnnotationDescription(String description, int listAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setListAnnotationDescription(description, listAnnotationIndex);
-			}
+			stores[i].setListAnnotationDescription(description, listAnnotationIndex);
 		}
 	}
 
 	// Ignoring Experimenter_BackReference back reference
 	public void setListAnnotationID(String id, int listAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setListAnnotationID(id, listAnnotationIndex);
-			}
+			stores[i].setListAnnotationID(id, listAnnotationIndex);
 		}
 	}
 
 	// Ignoring Image_BackReference back reference
 	public void setListAnnotationNamespace(String namespace, int listAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setListAnnotationNamespace(namespace, listAnnotationIndex);
-			}
+			stores[i].setListAnnotationNamespace(namespace, listAnnotationIndex);
 		}
 	}
 
@@ -12516,14 +8848,9 @@ public class AggregateMetadata implements IMetadata
 
 	public void setLongAnnotationAnnotationRef(String annotation, int longAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLongAnnotationAnnotationRef(annotation, longAnnotationIndex, annotationRefIndex);
-			}
+			stores[i].setLongAnnotationAnnotationRef(annotation, longAnnotationIndex, annotationRefIndex);
 		}
 	}
 
@@ -12531,42 +8858,27 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public void setLongAnnotationDescription(String description, int longAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLongAnnotationDescription(description, longAnnotationIndex);
-			}
+			stores[i].setLongAnnotationDescription(description, longAnnotationIndex);
 		}
 	}
 
 	// Ignoring Experimenter_BackReference back reference
 	public void setLongAnnotationID(String id, int longAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLongAnnotationID(id, longAnnotationIndex);
-			}
+			stores[i].setLongAnnotationID(id, longAnnotationIndex);
 		}
 	}
 
 	// Ignoring Image_BackReference back reference
 	public void setLongAnnotationNamespace(String namespace, int longAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLongAnnotationNamespace(namespace, longAnnotationIndex);
-			}
+			stores[i].setLongAnnotationNamespace(namespace, longAnnotationIndex);
 		}
 	}
 
@@ -12580,14 +8892,9 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public void setLongAnnotationValue(Long value, int longAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setLongAnnotationValue(value, longAnnotationIndex);
-			}
+			stores[i].setLongAnnotationValue(value, longAnnotationIndex);
 		}
 	}
 
@@ -12602,14 +8909,9 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public void setMaskDescription(String description, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskDescription(description, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskDescription(description, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12617,14 +8919,9 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public void setMaskFill(Integer fill, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskFill(fill, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskFill(fill, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12633,14 +8930,9 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public void setMaskFontSize(NonNegativeInteger fontSize, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskFontSize(fontSize, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskFontSize(fontSize, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12648,28 +8940,18 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public void setMaskID(String id, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskID(id, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskID(id, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Label accessor from parent Shape
 	public void setMaskLabel(String label, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskLabel(label, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskLabel(label, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12681,14 +8963,9 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public void setMaskName(String name, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskName(name, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskName(name, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12699,42 +8976,27 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public void setMaskStroke(Integer stroke, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskStroke(stroke, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskStroke(stroke, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeDashArray accessor from parent Shape
 	public void setMaskStrokeDashArray(String strokeDashArray, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeWidth accessor from parent Shape
 	public void setMaskStrokeWidth(Double strokeWidth, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12742,109 +9004,69 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public void setMaskTheC(NonNegativeInteger theC, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskTheC(theC, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskTheC(theC, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheT accessor from parent Shape
 	public void setMaskTheT(NonNegativeInteger theT, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskTheT(theT, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskTheT(theT, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheZ accessor from parent Shape
 	public void setMaskTheZ(NonNegativeInteger theZ, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskTheZ(theZ, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskTheZ(theZ, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Transform accessor from parent Shape
 	public void setMaskTransform(String transform, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskTransform(transform, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskTransform(transform, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Ignoring BinData element, complex property
 	public void setMaskHeight(Double height, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskHeight(height, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskHeight(height, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setMaskWidth(Double width, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskWidth(width, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskWidth(width, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setMaskX(Double x, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskX(x, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskX(x, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setMaskY(Double y, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMaskY(y, ROIIndex, shapeIndex);
-			}
+			stores[i].setMaskY(y, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -12862,40 +9084,25 @@ public class AggregateMetadata implements IMetadata
 
 	public void setMicrobeamManipulationDescription(String description, int experimentIndex, int microbeamManipulationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMicrobeamManipulationDescription(description, experimentIndex, microbeamManipulationIndex);
-			}
+			stores[i].setMicrobeamManipulationDescription(description, experimentIndex, microbeamManipulationIndex);
 		}
 	}
 
 	public void setMicrobeamManipulationExperimenterRef(String experimenter, int experimentIndex, int microbeamManipulationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMicrobeamManipulationExperimenterRef(experimenter, experimentIndex, microbeamManipulationIndex);
-			}
+			stores[i].setMicrobeamManipulationExperimenterRef(experimenter, experimentIndex, microbeamManipulationIndex);
 		}
 	}
 
 	public void setMicrobeamManipulationID(String id, int experimentIndex, int microbeamManipulationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMicrobeamManipulationID(id, experimentIndex, microbeamManipulationIndex);
-			}
+			stores[i].setMicrobeamManipulationID(id, experimentIndex, microbeamManipulationIndex);
 		}
 	}
 
@@ -12903,27 +9110,17 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring LightSourceSettings element, complex property
 	public void setMicrobeamManipulationROIRef(String roi, int experimentIndex, int microbeamManipulationIndex, int ROIRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMicrobeamManipulationROIRef(roi, experimentIndex, microbeamManipulationIndex, ROIRefIndex);
-			}
+			stores[i].setMicrobeamManipulationROIRef(roi, experimentIndex, microbeamManipulationIndex, ROIRefIndex);
 		}
 	}
 
 	public void setMicrobeamManipulationType(MicrobeamManipulationType type, int experimentIndex, int microbeamManipulationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMicrobeamManipulationType(type, experimentIndex, microbeamManipulationIndex);
-			}
+			stores[i].setMicrobeamManipulationType(type, experimentIndex, microbeamManipulationIndex);
 		}
 	}
 
@@ -12945,66 +9142,41 @@ public class AggregateMetadata implements IMetadata
 
 	public void setMicroscopeLotNumber(String lotNumber, int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMicroscopeLotNumber(lotNumber, instrumentIndex);
-			}
+			stores[i].setMicroscopeLotNumber(lotNumber, instrumentIndex);
 		}
 	}
 
 	public void setMicroscopeManufacturer(String manufacturer, int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMicroscopeManufacturer(manufacturer, instrumentIndex);
-			}
+			stores[i].setMicroscopeManufacturer(manufacturer, instrumentIndex);
 		}
 	}
 
 	public void setMicroscopeModel(String model, int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMicroscopeModel(model, instrumentIndex);
-			}
+			stores[i].setMicroscopeModel(model, instrumentIndex);
 		}
 	}
 
 	public void setMicroscopeSerialNumber(String serialNumber, int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMicroscopeSerialNumber(serialNumber, instrumentIndex);
-			}
+			stores[i].setMicroscopeSerialNumber(serialNumber, instrumentIndex);
 		}
 	}
 
 	public void setMicroscopeType(MicroscopeType type, int instrumentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setMicroscopeType(type, instrumentIndex);
-			}
+			stores[i].setMicroscopeType(type, instrumentIndex);
 		}
 	}
 
@@ -13018,80 +9190,50 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Channel_BackReference back reference
 	public void setOTFFilterSetRef(String filterSet, int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setOTFFilterSetRef(filterSet, instrumentIndex, OTFIndex);
-			}
+			stores[i].setOTFFilterSetRef(filterSet, instrumentIndex, OTFIndex);
 		}
 	}
 
 	public void setOTFID(String id, int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setOTFID(id, instrumentIndex, OTFIndex);
-			}
+			stores[i].setOTFID(id, instrumentIndex, OTFIndex);
 		}
 	}
 
 	// Ignoring ObjectiveSettings element, complex property
 	public void setOTFOpticalAxisAveraged(Boolean opticalAxisAveraged, int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setOTFOpticalAxisAveraged(opticalAxisAveraged, instrumentIndex, OTFIndex);
-			}
+			stores[i].setOTFOpticalAxisAveraged(opticalAxisAveraged, instrumentIndex, OTFIndex);
 		}
 	}
 
 	public void setOTFSizeX(PositiveInteger sizeX, int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setOTFSizeX(sizeX, instrumentIndex, OTFIndex);
-			}
+			stores[i].setOTFSizeX(sizeX, instrumentIndex, OTFIndex);
 		}
 	}
 
 	public void setOTFSizeY(PositiveInteger sizeY, int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setOTFSizeY(sizeY, instrumentIndex, OTFIndex);
-			}
+			stores[i].setOTFSizeY(sizeY, instrumentIndex, OTFIndex);
 		}
 	}
 
 	public void setOTFType(PixelType type, int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setOTFType(type, instrumentIndex, OTFIndex);
-			}
+			stores[i].setOTFType(type, instrumentIndex, OTFIndex);
 		}
 	}
 
@@ -13113,157 +9255,97 @@ public class AggregateMetadata implements IMetadata
 
 	public void setObjectiveCalibratedMagnification(Double calibratedMagnification, int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setObjectiveCalibratedMagnification(calibratedMagnification, instrumentIndex, objectiveIndex);
-			}
+			stores[i].setObjectiveCalibratedMagnification(calibratedMagnification, instrumentIndex, objectiveIndex);
 		}
 	}
 
 	public void setObjectiveCorrection(Correction correction, int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setObjectiveCorrection(correction, instrumentIndex, objectiveIndex);
-			}
+			stores[i].setObjectiveCorrection(correction, instrumentIndex, objectiveIndex);
 		}
 	}
 
 	public void setObjectiveID(String id, int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setObjectiveID(id, instrumentIndex, objectiveIndex);
-			}
+			stores[i].setObjectiveID(id, instrumentIndex, objectiveIndex);
 		}
 	}
 
 	public void setObjectiveImmersion(Immersion immersion, int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setObjectiveImmersion(immersion, instrumentIndex, objectiveIndex);
-			}
+			stores[i].setObjectiveImmersion(immersion, instrumentIndex, objectiveIndex);
 		}
 	}
 
 	public void setObjectiveIris(Boolean iris, int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setObjectiveIris(iris, instrumentIndex, objectiveIndex);
-			}
+			stores[i].setObjectiveIris(iris, instrumentIndex, objectiveIndex);
 		}
 	}
 
 	public void setObjectiveLensNA(Double lensNA, int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setObjectiveLensNA(lensNA, instrumentIndex, objectiveIndex);
-			}
+			stores[i].setObjectiveLensNA(lensNA, instrumentIndex, objectiveIndex);
 		}
 	}
 
 	public void setObjectiveLotNumber(String lotNumber, int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setObjectiveLotNumber(lotNumber, instrumentIndex, objectiveIndex);
-			}
+			stores[i].setObjectiveLotNumber(lotNumber, instrumentIndex, objectiveIndex);
 		}
 	}
 
 	public void setObjectiveManufacturer(String manufacturer, int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setObjectiveManufacturer(manufacturer, instrumentIndex, objectiveIndex);
-			}
+			stores[i].setObjectiveManufacturer(manufacturer, instrumentIndex, objectiveIndex);
 		}
 	}
 
 	public void setObjectiveModel(String model, int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setObjectiveModel(model, instrumentIndex, objectiveIndex);
-			}
+			stores[i].setObjectiveModel(model, instrumentIndex, objectiveIndex);
 		}
 	}
 
 	public void setObjectiveNominalMagnification(PositiveInteger nominalMagnification, int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setObjectiveNominalMagnification(nominalMagnification, instrumentIndex, objectiveIndex);
-			}
+			stores[i].setObjectiveNominalMagnification(nominalMagnification, instrumentIndex, objectiveIndex);
 		}
 	}
 
 	public void setObjectiveSerialNumber(String serialNumber, int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setObjectiveSerialNumber(serialNumber, instrumentIndex, objectiveIndex);
-			}
+			stores[i].setObjectiveSerialNumber(serialNumber, instrumentIndex, objectiveIndex);
 		}
 	}
 
 	public void setObjectiveWorkingDistance(Double workingDistance, int instrumentIndex, int objectiveIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setObjectiveWorkingDistance(workingDistance, instrumentIndex, objectiveIndex);
-			}
+			stores[i].setObjectiveWorkingDistance(workingDistance, instrumentIndex, objectiveIndex);
 		}
 	}
 
@@ -13275,105 +9357,65 @@ public class AggregateMetadata implements IMetadata
 
 	public void setImageObjectiveSettingsCorrectionCollar(Double correctionCollar, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageObjectiveSettingsCorrectionCollar(correctionCollar, imageIndex);
-			}
+			stores[i].setImageObjectiveSettingsCorrectionCollar(correctionCollar, imageIndex);
 		}
 	}
 
 	public void setOTFObjectiveSettingsCorrectionCollar(Double correctionCollar, int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setOTFObjectiveSettingsCorrectionCollar(correctionCollar, instrumentIndex, OTFIndex);
-			}
+			stores[i].setOTFObjectiveSettingsCorrectionCollar(correctionCollar, instrumentIndex, OTFIndex);
 		}
 	}
 
 	public void setImageObjectiveSettingsID(String id, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageObjectiveSettingsID(id, imageIndex);
-			}
+			stores[i].setImageObjectiveSettingsID(id, imageIndex);
 		}
 	}
 
 	public void setOTFObjectiveSettingsID(String id, int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setOTFObjectiveSettingsID(id, instrumentIndex, OTFIndex);
-			}
+			stores[i].setOTFObjectiveSettingsID(id, instrumentIndex, OTFIndex);
 		}
 	}
 
 	public void setImageObjectiveSettingsMedium(Medium medium, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageObjectiveSettingsMedium(medium, imageIndex);
-			}
+			stores[i].setImageObjectiveSettingsMedium(medium, imageIndex);
 		}
 	}
 
 	public void setOTFObjectiveSettingsMedium(Medium medium, int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setOTFObjectiveSettingsMedium(medium, instrumentIndex, OTFIndex);
-			}
+			stores[i].setOTFObjectiveSettingsMedium(medium, instrumentIndex, OTFIndex);
 		}
 	}
 
 	public void setImageObjectiveSettingsRefractiveIndex(Double refractiveIndex, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setImageObjectiveSettingsRefractiveIndex(refractiveIndex, imageIndex);
-			}
+			stores[i].setImageObjectiveSettingsRefractiveIndex(refractiveIndex, imageIndex);
 		}
 	}
 
 	public void setOTFObjectiveSettingsRefractiveIndex(Double refractiveIndex, int instrumentIndex, int OTFIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setOTFObjectiveSettingsRefractiveIndex(refractiveIndex, instrumentIndex, OTFIndex);
-			}
+			stores[i].setOTFObjectiveSettingsRefractiveIndex(refractiveIndex, instrumentIndex, OTFIndex);
 		}
 	}
 
@@ -13386,14 +9428,9 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public void setPathDescription(String description, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathDescription(description, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathDescription(description, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -13401,14 +9438,9 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public void setPathFill(Integer fill, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathFill(fill, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathFill(fill, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -13417,14 +9449,9 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public void setPathFontSize(NonNegativeInteger fontSize, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathFontSize(fontSize, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathFontSize(fontSize, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -13432,28 +9459,18 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public void setPathID(String id, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathID(id, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathID(id, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Label accessor from parent Shape
 	public void setPathLabel(String label, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathLabel(label, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathLabel(label, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -13465,14 +9482,9 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public void setPathName(String name, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathName(name, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathName(name, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -13483,42 +9495,27 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public void setPathStroke(Integer stroke, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathStroke(stroke, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathStroke(stroke, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeDashArray accessor from parent Shape
 	public void setPathStrokeDashArray(String strokeDashArray, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeWidth accessor from parent Shape
 	public void setPathStrokeWidth(Double strokeWidth, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -13526,69 +9523,44 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public void setPathTheC(NonNegativeInteger theC, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathTheC(theC, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathTheC(theC, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheT accessor from parent Shape
 	public void setPathTheT(NonNegativeInteger theT, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathTheT(theT, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathTheT(theT, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheZ accessor from parent Shape
 	public void setPathTheZ(NonNegativeInteger theZ, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathTheZ(theZ, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathTheZ(theZ, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Transform accessor from parent Shape
 	public void setPathTransform(String transform, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathTransform(transform, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathTransform(transform, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setPathDefinition(String definition, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPathDefinition(definition, ROIIndex, shapeIndex);
-			}
+			stores[i].setPathDefinition(definition, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -13600,14 +9572,9 @@ public class AggregateMetadata implements IMetadata
 
 	public void setPixelsAnnotationRef(String annotation, int imageIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsAnnotationRef(annotation, imageIndex, annotationRefIndex);
-			}
+			stores[i].setPixelsAnnotationRef(annotation, imageIndex, annotationRefIndex);
 		}
 	}
 
@@ -13615,160 +9582,100 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Channel element, complex property
 	public void setPixelsDimensionOrder(DimensionOrder dimensionOrder, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsDimensionOrder(dimensionOrder, imageIndex);
-			}
+			stores[i].setPixelsDimensionOrder(dimensionOrder, imageIndex);
 		}
 	}
 
 	public void setPixelsID(String id, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsID(id, imageIndex);
-			}
+			stores[i].setPixelsID(id, imageIndex);
 		}
 	}
 
 	// Ignoring MetadataOnly element, complex property
 	public void setPixelsPhysicalSizeX(PositiveFloat physicalSizeX, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsPhysicalSizeX(physicalSizeX, imageIndex);
-			}
+			stores[i].setPixelsPhysicalSizeX(physicalSizeX, imageIndex);
 		}
 	}
 
 	public void setPixelsPhysicalSizeY(PositiveFloat physicalSizeY, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsPhysicalSizeY(physicalSizeY, imageIndex);
-			}
+			stores[i].setPixelsPhysicalSizeY(physicalSizeY, imageIndex);
 		}
 	}
 
 	public void setPixelsPhysicalSizeZ(PositiveFloat physicalSizeZ, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsPhysicalSizeZ(physicalSizeZ, imageIndex);
-			}
+			stores[i].setPixelsPhysicalSizeZ(physicalSizeZ, imageIndex);
 		}
 	}
 
 	// Ignoring Plane element, complex property
 	public void setPixelsSizeC(PositiveInteger sizeC, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsSizeC(sizeC, imageIndex);
-			}
+			stores[i].setPixelsSizeC(sizeC, imageIndex);
 		}
 	}
 
 	public void setPixelsSizeT(PositiveInteger sizeT, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsSizeT(sizeT, imageIndex);
-			}
+			stores[i].setPixelsSizeT(sizeT, imageIndex);
 		}
 	}
 
 	public void setPixelsSizeX(PositiveInteger sizeX, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsSizeX(sizeX, imageIndex);
-			}
+			stores[i].setPixelsSizeX(sizeX, imageIndex);
 		}
 	}
 
 	public void setPixelsSizeY(PositiveInteger sizeY, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsSizeY(sizeY, imageIndex);
-			}
+			stores[i].setPixelsSizeY(sizeY, imageIndex);
 		}
 	}
 
 	public void setPixelsSizeZ(PositiveInteger sizeZ, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsSizeZ(sizeZ, imageIndex);
-			}
+			stores[i].setPixelsSizeZ(sizeZ, imageIndex);
 		}
 	}
 
 	// Ignoring TiffData element, complex property
 	public void setPixelsTimeIncrement(Double timeIncrement, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsTimeIncrement(timeIncrement, imageIndex);
-			}
+			stores[i].setPixelsTimeIncrement(timeIncrement, imageIndex);
 		}
 	}
 
 	public void setPixelsType(PixelType type, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPixelsType(type, imageIndex);
-			}
+			stores[i].setPixelsType(type, imageIndex);
 		}
 	}
 
@@ -13780,131 +9687,81 @@ public class AggregateMetadata implements IMetadata
 
 	public void setPlaneAnnotationRef(String annotation, int imageIndex, int planeIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlaneAnnotationRef(annotation, imageIndex, planeIndex, annotationRefIndex);
-			}
+			stores[i].setPlaneAnnotationRef(annotation, imageIndex, planeIndex, annotationRefIndex);
 		}
 	}
 
 	public void setPlaneDeltaT(Double deltaT, int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlaneDeltaT(deltaT, imageIndex, planeIndex);
-			}
+			stores[i].setPlaneDeltaT(deltaT, imageIndex, planeIndex);
 		}
 	}
 
 	public void setPlaneExposureTime(Double exposureTime, int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlaneExposureTime(exposureTime, imageIndex, planeIndex);
-			}
+			stores[i].setPlaneExposureTime(exposureTime, imageIndex, planeIndex);
 		}
 	}
 
 	public void setPlaneHashSHA1(String hashSHA1, int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlaneHashSHA1(hashSHA1, imageIndex, planeIndex);
-			}
+			stores[i].setPlaneHashSHA1(hashSHA1, imageIndex, planeIndex);
 		}
 	}
 
 	public void setPlanePositionX(Double positionX, int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlanePositionX(positionX, imageIndex, planeIndex);
-			}
+			stores[i].setPlanePositionX(positionX, imageIndex, planeIndex);
 		}
 	}
 
 	public void setPlanePositionY(Double positionY, int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlanePositionY(positionY, imageIndex, planeIndex);
-			}
+			stores[i].setPlanePositionY(positionY, imageIndex, planeIndex);
 		}
 	}
 
 	public void setPlanePositionZ(Double positionZ, int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlanePositionZ(positionZ, imageIndex, planeIndex);
-			}
+			stores[i].setPlanePositionZ(positionZ, imageIndex, planeIndex);
 		}
 	}
 
 	public void setPlaneTheC(NonNegativeInteger theC, int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlaneTheC(theC, imageIndex, planeIndex);
-			}
+			stores[i].setPlaneTheC(theC, imageIndex, planeIndex);
 		}
 	}
 
 	public void setPlaneTheT(NonNegativeInteger theT, int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlaneTheT(theT, imageIndex, planeIndex);
-			}
+			stores[i].setPlaneTheT(theT, imageIndex, planeIndex);
 		}
 	}
 
 	public void setPlaneTheZ(NonNegativeInteger theZ, int imageIndex, int planeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlaneTheZ(theZ, imageIndex, planeIndex);
-			}
+			stores[i].setPlaneTheZ(theZ, imageIndex, planeIndex);
 		}
 	}
 
@@ -13916,172 +9773,107 @@ public class AggregateMetadata implements IMetadata
 
 	public void setPlateAnnotationRef(String annotation, int plateIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateAnnotationRef(annotation, plateIndex, annotationRefIndex);
-			}
+			stores[i].setPlateAnnotationRef(annotation, plateIndex, annotationRefIndex);
 		}
 	}
 
 	public void setPlateColumnNamingConvention(NamingConvention columnNamingConvention, int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateColumnNamingConvention(columnNamingConvention, plateIndex);
-			}
+			stores[i].setPlateColumnNamingConvention(columnNamingConvention, plateIndex);
 		}
 	}
 
 	public void setPlateColumns(PositiveInteger columns, int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateColumns(columns, plateIndex);
-			}
+			stores[i].setPlateColumns(columns, plateIndex);
 		}
 	}
 
 	public void setPlateDescription(String description, int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateDescription(description, plateIndex);
-			}
+			stores[i].setPlateDescription(description, plateIndex);
 		}
 	}
 
 	public void setPlateExternalIdentifier(String externalIdentifier, int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateExternalIdentifier(externalIdentifier, plateIndex);
-			}
+			stores[i].setPlateExternalIdentifier(externalIdentifier, plateIndex);
 		}
 	}
 
 	public void setPlateID(String id, int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateID(id, plateIndex);
-			}
+			stores[i].setPlateID(id, plateIndex);
 		}
 	}
 
 	public void setPlateName(String name, int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateName(name, plateIndex);
-			}
+			stores[i].setPlateName(name, plateIndex);
 		}
 	}
 
 	// Ignoring PlateAcquisition element, complex property
 	public void setPlateRowNamingConvention(NamingConvention rowNamingConvention, int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateRowNamingConvention(rowNamingConvention, plateIndex);
-			}
+			stores[i].setPlateRowNamingConvention(rowNamingConvention, plateIndex);
 		}
 	}
 
 	public void setPlateRows(PositiveInteger rows, int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateRows(rows, plateIndex);
-			}
+			stores[i].setPlateRows(rows, plateIndex);
 		}
 	}
 
 	public void setPlateScreenRef(String screen, int plateIndex, int screenRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateScreenRef(screen, plateIndex, screenRefIndex);
-			}
+			stores[i].setPlateScreenRef(screen, plateIndex, screenRefIndex);
 		}
 	}
 
 	public void setPlateStatus(String status, int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateStatus(status, plateIndex);
-			}
+			stores[i].setPlateStatus(status, plateIndex);
 		}
 	}
 
 	// Ignoring Well element, complex property
 	public void setPlateWellOriginX(Double wellOriginX, int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateWellOriginX(wellOriginX, plateIndex);
-			}
+			stores[i].setPlateWellOriginX(wellOriginX, plateIndex);
 		}
 	}
 
 	public void setPlateWellOriginY(Double wellOriginY, int plateIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateWellOriginY(wellOriginY, plateIndex);
-			}
+			stores[i].setPlateWellOriginY(wellOriginY, plateIndex);
 		}
 	}
 
@@ -14093,105 +9885,65 @@ public class AggregateMetadata implements IMetadata
 
 	public void setPlateAcquisitionAnnotationRef(String annotation, int plateIndex, int plateAcquisitionIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateAcquisitionAnnotationRef(annotation, plateIndex, plateAcquisitionIndex, annotationRefIndex);
-			}
+			stores[i].setPlateAcquisitionAnnotationRef(annotation, plateIndex, plateAcquisitionIndex, annotationRefIndex);
 		}
 	}
 
 	public void setPlateAcquisitionDescription(String description, int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateAcquisitionDescription(description, plateIndex, plateAcquisitionIndex);
-			}
+			stores[i].setPlateAcquisitionDescription(description, plateIndex, plateAcquisitionIndex);
 		}
 	}
 
 	public void setPlateAcquisitionEndTime(String endTime, int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateAcquisitionEndTime(endTime, plateIndex, plateAcquisitionIndex);
-			}
+			stores[i].setPlateAcquisitionEndTime(endTime, plateIndex, plateAcquisitionIndex);
 		}
 	}
 
 	public void setPlateAcquisitionID(String id, int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateAcquisitionID(id, plateIndex, plateAcquisitionIndex);
-			}
+			stores[i].setPlateAcquisitionID(id, plateIndex, plateAcquisitionIndex);
 		}
 	}
 
 	public void setPlateAcquisitionMaximumFieldCount(PositiveInteger maximumFieldCount, int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateAcquisitionMaximumFieldCount(maximumFieldCount, plateIndex, plateAcquisitionIndex);
-			}
+			stores[i].setPlateAcquisitionMaximumFieldCount(maximumFieldCount, plateIndex, plateAcquisitionIndex);
 		}
 	}
 
 	public void setPlateAcquisitionName(String name, int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateAcquisitionName(name, plateIndex, plateAcquisitionIndex);
-			}
+			stores[i].setPlateAcquisitionName(name, plateIndex, plateAcquisitionIndex);
 		}
 	}
 
 	public void setPlateAcquisitionStartTime(String startTime, int plateIndex, int plateAcquisitionIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateAcquisitionStartTime(startTime, plateIndex, plateAcquisitionIndex);
-			}
+			stores[i].setPlateAcquisitionStartTime(startTime, plateIndex, plateAcquisitionIndex);
 		}
 	}
 
 	public void setPlateAcquisitionWellSampleRef(String wellSample, int plateIndex, int plateAcquisitionIndex, int wellSampleRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPlateAcquisitionWellSampleRef(wellSample, plateIndex, plateAcquisitionIndex, wellSampleRefIndex);
-			}
+			stores[i].setPlateAcquisitionWellSampleRef(wellSample, plateIndex, plateAcquisitionIndex, wellSampleRefIndex);
 		}
 	}
 
@@ -14214,14 +9966,9 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public void setPointDescription(String description, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointDescription(description, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointDescription(description, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14229,14 +9976,9 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public void setPointFill(Integer fill, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointFill(fill, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointFill(fill, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14245,14 +9987,9 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public void setPointFontSize(NonNegativeInteger fontSize, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointFontSize(fontSize, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointFontSize(fontSize, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14260,28 +9997,18 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public void setPointID(String id, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointID(id, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointID(id, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Label accessor from parent Shape
 	public void setPointLabel(String label, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointLabel(label, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointLabel(label, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14293,14 +10020,9 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public void setPointName(String name, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointName(name, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointName(name, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14311,42 +10033,27 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public void setPointStroke(Integer stroke, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointStroke(stroke, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointStroke(stroke, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeDashArray accessor from parent Shape
 	public void setPointStrokeDashArray(String strokeDashArray, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeWidth accessor from parent Shape
 	public void setPointStrokeWidth(Double strokeWidth, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14354,82 +10061,52 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public void setPointTheC(NonNegativeInteger theC, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointTheC(theC, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointTheC(theC, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheT accessor from parent Shape
 	public void setPointTheT(NonNegativeInteger theT, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointTheT(theT, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointTheT(theT, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheZ accessor from parent Shape
 	public void setPointTheZ(NonNegativeInteger theZ, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointTheZ(theZ, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointTheZ(theZ, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Transform accessor from parent Shape
 	public void setPointTransform(String transform, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointTransform(transform, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointTransform(transform, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setPointX(Double x, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointX(x, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointX(x, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setPointY(Double y, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPointY(y, ROIIndex, shapeIndex);
-			}
+			stores[i].setPointY(y, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14442,14 +10119,9 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public void setPolylineDescription(String description, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineDescription(description, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineDescription(description, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14457,14 +10129,9 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public void setPolylineFill(Integer fill, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineFill(fill, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineFill(fill, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14473,14 +10140,9 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public void setPolylineFontSize(NonNegativeInteger fontSize, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineFontSize(fontSize, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineFontSize(fontSize, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14488,28 +10150,18 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public void setPolylineID(String id, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineID(id, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineID(id, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Label accessor from parent Shape
 	public void setPolylineLabel(String label, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineLabel(label, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineLabel(label, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14521,14 +10173,9 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public void setPolylineName(String name, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineName(name, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineName(name, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14539,42 +10186,27 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public void setPolylineStroke(Integer stroke, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineStroke(stroke, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineStroke(stroke, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeDashArray accessor from parent Shape
 	public void setPolylineStrokeDashArray(String strokeDashArray, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeWidth accessor from parent Shape
 	public void setPolylineStrokeWidth(Double strokeWidth, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14582,82 +10214,52 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public void setPolylineTheC(NonNegativeInteger theC, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineTheC(theC, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineTheC(theC, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheT accessor from parent Shape
 	public void setPolylineTheT(NonNegativeInteger theT, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineTheT(theT, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineTheT(theT, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheZ accessor from parent Shape
 	public void setPolylineTheZ(NonNegativeInteger theZ, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineTheZ(theZ, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineTheZ(theZ, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Transform accessor from parent Shape
 	public void setPolylineTransform(String transform, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineTransform(transform, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineTransform(transform, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setPolylineClosed(Boolean closed, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylineClosed(closed, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylineClosed(closed, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setPolylinePoints(String points, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setPolylinePoints(points, ROIIndex, shapeIndex);
-			}
+			stores[i].setPolylinePoints(points, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14669,80 +10271,50 @@ public class AggregateMetadata implements IMetadata
 
 	public void setProjectAnnotationRef(String annotation, int projectIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setProjectAnnotationRef(annotation, projectIndex, annotationRefIndex);
-			}
+			stores[i].setProjectAnnotationRef(annotation, projectIndex, annotationRefIndex);
 		}
 	}
 
 	// Ignoring Dataset_BackReference back reference
 	public void setProjectDescription(String description, int projectIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setProjectDescription(description, projectIndex);
-			}
+			stores[i].setProjectDescription(description, projectIndex);
 		}
 	}
 
 	public void setProjectExperimenterRef(String experimenter, int projectIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setProjectExperimenterRef(experimenter, projectIndex);
-			}
+			stores[i].setProjectExperimenterRef(experimenter, projectIndex);
 		}
 	}
 
 	public void setProjectGroupRef(String group, int projectIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setProjectGroupRef(group, projectIndex);
-			}
+			stores[i].setProjectGroupRef(group, projectIndex);
 		}
 	}
 
 	public void setProjectID(String id, int projectIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setProjectID(id, projectIndex);
-			}
+			stores[i].setProjectID(id, projectIndex);
 		}
 	}
 
 	public void setProjectName(String name, int projectIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setProjectName(name, projectIndex);
-			}
+			stores[i].setProjectName(name, projectIndex);
 		}
 	}
 
@@ -14774,40 +10346,25 @@ public class AggregateMetadata implements IMetadata
 
 	public void setROIAnnotationRef(String annotation, int ROIIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setROIAnnotationRef(annotation, ROIIndex, annotationRefIndex);
-			}
+			stores[i].setROIAnnotationRef(annotation, ROIIndex, annotationRefIndex);
 		}
 	}
 
 	public void setROIDescription(String description, int ROIIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setROIDescription(description, ROIIndex);
-			}
+			stores[i].setROIDescription(description, ROIIndex);
 		}
 	}
 
 	public void setROIID(String id, int ROIIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setROIID(id, ROIIndex);
-			}
+			stores[i].setROIID(id, ROIIndex);
 		}
 	}
 
@@ -14815,27 +10372,17 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring MicrobeamManipulation_BackReference back reference
 	public void setROIName(String name, int ROIIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setROIName(name, ROIIndex);
-			}
+			stores[i].setROIName(name, ROIIndex);
 		}
 	}
 
 	public void setROINamespace(String namespace, int ROIIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setROINamespace(namespace, ROIIndex);
-			}
+			stores[i].setROINamespace(namespace, ROIIndex);
 		}
 	}
 
@@ -14858,66 +10405,41 @@ public class AggregateMetadata implements IMetadata
 
 	public void setReagentAnnotationRef(String annotation, int screenIndex, int reagentIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setReagentAnnotationRef(annotation, screenIndex, reagentIndex, annotationRefIndex);
-			}
+			stores[i].setReagentAnnotationRef(annotation, screenIndex, reagentIndex, annotationRefIndex);
 		}
 	}
 
 	public void setReagentDescription(String description, int screenIndex, int reagentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setReagentDescription(description, screenIndex, reagentIndex);
-			}
+			stores[i].setReagentDescription(description, screenIndex, reagentIndex);
 		}
 	}
 
 	public void setReagentID(String id, int screenIndex, int reagentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setReagentID(id, screenIndex, reagentIndex);
-			}
+			stores[i].setReagentID(id, screenIndex, reagentIndex);
 		}
 	}
 
 	public void setReagentName(String name, int screenIndex, int reagentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setReagentName(name, screenIndex, reagentIndex);
-			}
+			stores[i].setReagentName(name, screenIndex, reagentIndex);
 		}
 	}
 
 	public void setReagentReagentIdentifier(String reagentIdentifier, int screenIndex, int reagentIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setReagentReagentIdentifier(reagentIdentifier, screenIndex, reagentIndex);
-			}
+			stores[i].setReagentReagentIdentifier(reagentIdentifier, screenIndex, reagentIndex);
 		}
 	}
 
@@ -14941,14 +10463,9 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public void setRectangleDescription(String description, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleDescription(description, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleDescription(description, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14956,14 +10473,9 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public void setRectangleFill(Integer fill, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleFill(fill, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleFill(fill, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14972,14 +10484,9 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public void setRectangleFontSize(NonNegativeInteger fontSize, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleFontSize(fontSize, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleFontSize(fontSize, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -14987,28 +10494,18 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public void setRectangleID(String id, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleID(id, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleID(id, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Label accessor from parent Shape
 	public void setRectangleLabel(String label, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleLabel(label, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleLabel(label, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -15020,14 +10517,9 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public void setRectangleName(String name, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleName(name, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleName(name, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -15038,42 +10530,27 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public void setRectangleStroke(Integer stroke, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleStroke(stroke, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleStroke(stroke, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeDashArray accessor from parent Shape
 	public void setRectangleStrokeDashArray(String strokeDashArray, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeWidth accessor from parent Shape
 	public void setRectangleStrokeWidth(Double strokeWidth, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -15081,108 +10558,68 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public void setRectangleTheC(NonNegativeInteger theC, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleTheC(theC, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleTheC(theC, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheT accessor from parent Shape
 	public void setRectangleTheT(NonNegativeInteger theT, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleTheT(theT, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleTheT(theT, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheZ accessor from parent Shape
 	public void setRectangleTheZ(NonNegativeInteger theZ, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleTheZ(theZ, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleTheZ(theZ, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Transform accessor from parent Shape
 	public void setRectangleTransform(String transform, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleTransform(transform, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleTransform(transform, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setRectangleHeight(Double height, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleHeight(height, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleHeight(height, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setRectangleWidth(Double width, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleWidth(width, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleWidth(width, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setRectangleX(Double x, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleX(x, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleX(x, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setRectangleY(Double y, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setRectangleY(y, ROIIndex, shapeIndex);
-			}
+			stores[i].setRectangleY(y, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -15194,132 +10631,82 @@ public class AggregateMetadata implements IMetadata
 
 	public void setScreenAnnotationRef(String annotation, int screenIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setScreenAnnotationRef(annotation, screenIndex, annotationRefIndex);
-			}
+			stores[i].setScreenAnnotationRef(annotation, screenIndex, annotationRefIndex);
 		}
 	}
 
 	public void setScreenDescription(String description, int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setScreenDescription(description, screenIndex);
-			}
+			stores[i].setScreenDescription(description, screenIndex);
 		}
 	}
 
 	public void setScreenID(String id, int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setScreenID(id, screenIndex);
-			}
+			stores[i].setScreenID(id, screenIndex);
 		}
 	}
 
 	public void setScreenName(String name, int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setScreenName(name, screenIndex);
-			}
+			stores[i].setScreenName(name, screenIndex);
 		}
 	}
 
 	public void setScreenPlateRef(String plate, int screenIndex, int plateRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setScreenPlateRef(plate, screenIndex, plateRefIndex);
-			}
+			stores[i].setScreenPlateRef(plate, screenIndex, plateRefIndex);
 		}
 	}
 
 	public void setScreenProtocolDescription(String protocolDescription, int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setScreenProtocolDescription(protocolDescription, screenIndex);
-			}
+			stores[i].setScreenProtocolDescription(protocolDescription, screenIndex);
 		}
 	}
 
 	public void setScreenProtocolIdentifier(String protocolIdentifier, int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setScreenProtocolIdentifier(protocolIdentifier, screenIndex);
-			}
+			stores[i].setScreenProtocolIdentifier(protocolIdentifier, screenIndex);
 		}
 	}
 
 	// Ignoring Reagent element, complex property
 	public void setScreenReagentSetDescription(String reagentSetDescription, int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setScreenReagentSetDescription(reagentSetDescription, screenIndex);
-			}
+			stores[i].setScreenReagentSetDescription(reagentSetDescription, screenIndex);
 		}
 	}
 
 	public void setScreenReagentSetIdentifier(String reagentSetIdentifier, int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setScreenReagentSetIdentifier(reagentSetIdentifier, screenIndex);
-			}
+			stores[i].setScreenReagentSetIdentifier(reagentSetIdentifier, screenIndex);
 		}
 	}
 
 	public void setScreenType(String type, int screenIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setScreenType(type, screenIndex);
-			}
+			stores[i].setScreenType(type, screenIndex);
 		}
 	}
 
@@ -15341,53 +10728,33 @@ public class AggregateMetadata implements IMetadata
 
 	public void setStageLabelName(String name, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setStageLabelName(name, imageIndex);
-			}
+			stores[i].setStageLabelName(name, imageIndex);
 		}
 	}
 
 	public void setStageLabelX(Double x, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setStageLabelX(x, imageIndex);
-			}
+			stores[i].setStageLabelX(x, imageIndex);
 		}
 	}
 
 	public void setStageLabelY(Double y, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setStageLabelY(y, imageIndex);
-			}
+			stores[i].setStageLabelY(y, imageIndex);
 		}
 	}
 
 	public void setStageLabelZ(Double z, int imageIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setStageLabelZ(z, imageIndex);
-			}
+			stores[i].setStageLabelZ(z, imageIndex);
 		}
 	}
 
@@ -15415,14 +10782,9 @@ public class AggregateMetadata implements IMetadata
 
 	public void setTagAnnotationAnnotationRef(String annotation, int tagAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTagAnnotationAnnotationRef(annotation, tagAnnotationIndex, annotationRefIndex);
-			}
+			stores[i].setTagAnnotationAnnotationRef(annotation, tagAnnotationIndex, annotationRefIndex);
 		}
 	}
 
@@ -15430,42 +10792,27 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public void setTagAnnotationDescription(String description, int tagAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTagAnnotationDescription(description, tagAnnotationIndex);
-			}
+			stores[i].setTagAnnotationDescription(description, tagAnnotationIndex);
 		}
 	}
 
 	// Ignoring Experimenter_BackReference back reference
 	public void setTagAnnotationID(String id, int tagAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTagAnnotationID(id, tagAnnotationIndex);
-			}
+			stores[i].setTagAnnotationID(id, tagAnnotationIndex);
 		}
 	}
 
 	// Ignoring Image_BackReference back reference
 	public void setTagAnnotationNamespace(String namespace, int tagAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTagAnnotationNamespace(namespace, tagAnnotationIndex);
-			}
+			stores[i].setTagAnnotationNamespace(namespace, tagAnnotationIndex);
 		}
 	}
 
@@ -15479,14 +10826,9 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public void setTagAnnotationValue(String value, int tagAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTagAnnotationValue(value, tagAnnotationIndex);
-			}
+			stores[i].setTagAnnotationValue(value, tagAnnotationIndex);
 		}
 	}
 
@@ -15500,14 +10842,9 @@ public class AggregateMetadata implements IMetadata
 
 	public void setTermAnnotationAnnotationRef(String annotation, int termAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTermAnnotationAnnotationRef(annotation, termAnnotationIndex, annotationRefIndex);
-			}
+			stores[i].setTermAnnotationAnnotationRef(annotation, termAnnotationIndex, annotationRefIndex);
 		}
 	}
 
@@ -15515,42 +10852,27 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public void setTermAnnotationDescription(String description, int termAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTermAnnotationDescription(description, termAnnotationIndex);
-			}
+			stores[i].setTermAnnotationDescription(description, termAnnotationIndex);
 		}
 	}
 
 	// Ignoring Experimenter_BackReference back reference
 	public void setTermAnnotationID(String id, int termAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTermAnnotationID(id, termAnnotationIndex);
-			}
+			stores[i].setTermAnnotationID(id, termAnnotationIndex);
 		}
 	}
 
 	// Ignoring Image_BackReference back reference
 	public void setTermAnnotationNamespace(String namespace, int termAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTermAnnotationNamespace(namespace, termAnnotationIndex);
-			}
+			stores[i].setTermAnnotationNamespace(namespace, termAnnotationIndex);
 		}
 	}
 
@@ -15564,14 +10886,9 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public void setTermAnnotationValue(String value, int termAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTermAnnotationValue(value, termAnnotationIndex);
-			}
+			stores[i].setTermAnnotationValue(value, termAnnotationIndex);
 		}
 	}
 
@@ -15586,14 +10903,9 @@ public class AggregateMetadata implements IMetadata
 	// Description accessor from parent Shape
 	public void setTextDescription(String description, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextDescription(description, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextDescription(description, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -15601,14 +10913,9 @@ public class AggregateMetadata implements IMetadata
 	// Fill accessor from parent Shape
 	public void setTextFill(Integer fill, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextFill(fill, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextFill(fill, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -15617,14 +10924,9 @@ public class AggregateMetadata implements IMetadata
 	// FontSize accessor from parent Shape
 	public void setTextFontSize(NonNegativeInteger fontSize, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextFontSize(fontSize, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextFontSize(fontSize, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -15632,28 +10934,18 @@ public class AggregateMetadata implements IMetadata
 	// ID accessor from parent Shape
 	public void setTextID(String id, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextID(id, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextID(id, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Label accessor from parent Shape
 	public void setTextLabel(String label, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextLabel(label, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextLabel(label, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -15665,14 +10957,9 @@ public class AggregateMetadata implements IMetadata
 	// Name accessor from parent Shape
 	public void setTextName(String name, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextName(name, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextName(name, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -15683,42 +10970,27 @@ public class AggregateMetadata implements IMetadata
 	// Stroke accessor from parent Shape
 	public void setTextStroke(Integer stroke, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextStroke(stroke, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextStroke(stroke, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeDashArray accessor from parent Shape
 	public void setTextStrokeDashArray(String strokeDashArray, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextStrokeDashArray(strokeDashArray, ROIIndex, shapeIndex);
 		}
 	}
 
 	// StrokeWidth accessor from parent Shape
 	public void setTextStrokeWidth(Double strokeWidth, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextStrokeWidth(strokeWidth, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -15726,95 +10998,60 @@ public class AggregateMetadata implements IMetadata
 	// TheC accessor from parent Shape
 	public void setTextTheC(NonNegativeInteger theC, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextTheC(theC, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextTheC(theC, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheT accessor from parent Shape
 	public void setTextTheT(NonNegativeInteger theT, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextTheT(theT, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextTheT(theT, ROIIndex, shapeIndex);
 		}
 	}
 
 	// TheZ accessor from parent Shape
 	public void setTextTheZ(NonNegativeInteger theZ, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextTheZ(theZ, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextTheZ(theZ, ROIIndex, shapeIndex);
 		}
 	}
 
 	// Transform accessor from parent Shape
 	public void setTextTransform(String transform, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextTransform(transform, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextTransform(transform, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setTextValue(String value, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextValue(value, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextValue(value, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setTextX(Double x, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextX(x, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextX(x, ROIIndex, shapeIndex);
 		}
 	}
 
 	public void setTextY(Double y, int ROIIndex, int shapeIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTextY(y, ROIIndex, shapeIndex);
-			}
+			stores[i].setTextY(y, ROIIndex, shapeIndex);
 		}
 	}
 
@@ -15826,66 +11063,41 @@ public class AggregateMetadata implements IMetadata
 
 	public void setTiffDataFirstC(NonNegativeInteger firstC, int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTiffDataFirstC(firstC, imageIndex, tiffDataIndex);
-			}
+			stores[i].setTiffDataFirstC(firstC, imageIndex, tiffDataIndex);
 		}
 	}
 
 	public void setTiffDataFirstT(NonNegativeInteger firstT, int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTiffDataFirstT(firstT, imageIndex, tiffDataIndex);
-			}
+			stores[i].setTiffDataFirstT(firstT, imageIndex, tiffDataIndex);
 		}
 	}
 
 	public void setTiffDataFirstZ(NonNegativeInteger firstZ, int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTiffDataFirstZ(firstZ, imageIndex, tiffDataIndex);
-			}
+			stores[i].setTiffDataFirstZ(firstZ, imageIndex, tiffDataIndex);
 		}
 	}
 
 	public void setTiffDataIFD(NonNegativeInteger ifd, int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTiffDataIFD(ifd, imageIndex, tiffDataIndex);
-			}
+			stores[i].setTiffDataIFD(ifd, imageIndex, tiffDataIndex);
 		}
 	}
 
 	public void setTiffDataPlaneCount(NonNegativeInteger planeCount, int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTiffDataPlaneCount(planeCount, imageIndex, tiffDataIndex);
-			}
+			stores[i].setTiffDataPlaneCount(planeCount, imageIndex, tiffDataIndex);
 		}
 	}
 
@@ -15898,14 +11110,9 @@ public class AggregateMetadata implements IMetadata
 
 	public void setTimestampAnnotationAnnotationRef(String annotation, int timestampAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTimestampAnnotationAnnotationRef(annotation, timestampAnnotationIndex, annotationRefIndex);
-			}
+			stores[i].setTimestampAnnotationAnnotationRef(annotation, timestampAnnotationIndex, annotationRefIndex);
 		}
 	}
 
@@ -15913,42 +11120,27 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public void setTimestampAnnotationDescription(String description, int timestampAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTimestampAnnotationDescription(description, timestampAnnotationIndex);
-			}
+			stores[i].setTimestampAnnotationDescription(description, timestampAnnotationIndex);
 		}
 	}
 
 	// Ignoring Experimenter_BackReference back reference
 	public void setTimestampAnnotationID(String id, int timestampAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTimestampAnnotationID(id, timestampAnnotationIndex);
-			}
+			stores[i].setTimestampAnnotationID(id, timestampAnnotationIndex);
 		}
 	}
 
 	// Ignoring Image_BackReference back reference
 	public void setTimestampAnnotationNamespace(String namespace, int timestampAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTimestampAnnotationNamespace(namespace, timestampAnnotationIndex);
-			}
+			stores[i].setTimestampAnnotationNamespace(namespace, timestampAnnotationIndex);
 		}
 	}
 
@@ -15962,14 +11154,9 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public void setTimestampAnnotationValue(String value, int timestampAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTimestampAnnotationValue(value, timestampAnnotationIndex);
-			}
+			stores[i].setTimestampAnnotationValue(value, timestampAnnotationIndex);
 		}
 	}
 
@@ -15983,66 +11170,41 @@ public class AggregateMetadata implements IMetadata
 
 	public void setTransmittanceRangeCutIn(PositiveInteger cutIn, int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTransmittanceRangeCutIn(cutIn, instrumentIndex, filterIndex);
-			}
+			stores[i].setTransmittanceRangeCutIn(cutIn, instrumentIndex, filterIndex);
 		}
 	}
 
 	public void setTransmittanceRangeCutInTolerance(NonNegativeInteger cutInTolerance, int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTransmittanceRangeCutInTolerance(cutInTolerance, instrumentIndex, filterIndex);
-			}
+			stores[i].setTransmittanceRangeCutInTolerance(cutInTolerance, instrumentIndex, filterIndex);
 		}
 	}
 
 	public void setTransmittanceRangeCutOut(PositiveInteger cutOut, int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTransmittanceRangeCutOut(cutOut, instrumentIndex, filterIndex);
-			}
+			stores[i].setTransmittanceRangeCutOut(cutOut, instrumentIndex, filterIndex);
 		}
 	}
 
 	public void setTransmittanceRangeCutOutTolerance(NonNegativeInteger cutOutTolerance, int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTransmittanceRangeCutOutTolerance(cutOutTolerance, instrumentIndex, filterIndex);
-			}
+			stores[i].setTransmittanceRangeCutOutTolerance(cutOutTolerance, instrumentIndex, filterIndex);
 		}
 	}
 
 	public void setTransmittanceRangeTransmittance(PercentFraction transmittance, int instrumentIndex, int filterIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setTransmittanceRangeTransmittance(transmittance, instrumentIndex, filterIndex);
-			}
+			stores[i].setTransmittanceRangeTransmittance(transmittance, instrumentIndex, filterIndex);
 		}
 	}
 
@@ -16054,14 +11216,9 @@ public class AggregateMetadata implements IMetadata
 
 	public void setUUIDFileName(String fileName, int imageIndex, int tiffDataIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setUUIDFileName(fileName, imageIndex, tiffDataIndex);
-			}
+			stores[i].setUUIDFileName(fileName, imageIndex, tiffDataIndex);
 		}
 	}
 
@@ -16080,118 +11237,73 @@ public class AggregateMetadata implements IMetadata
 
 	public void setWellAnnotationRef(String annotation, int plateIndex, int wellIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellAnnotationRef(annotation, plateIndex, wellIndex, annotationRefIndex);
-			}
+			stores[i].setWellAnnotationRef(annotation, plateIndex, wellIndex, annotationRefIndex);
 		}
 	}
 
 	public void setWellColor(Integer color, int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellColor(color, plateIndex, wellIndex);
-			}
+			stores[i].setWellColor(color, plateIndex, wellIndex);
 		}
 	}
 
 	public void setWellColumn(NonNegativeInteger column, int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellColumn(column, plateIndex, wellIndex);
-			}
+			stores[i].setWellColumn(column, plateIndex, wellIndex);
 		}
 	}
 
 	public void setWellExternalDescription(String externalDescription, int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellExternalDescription(externalDescription, plateIndex, wellIndex);
-			}
+			stores[i].setWellExternalDescription(externalDescription, plateIndex, wellIndex);
 		}
 	}
 
 	public void setWellExternalIdentifier(String externalIdentifier, int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellExternalIdentifier(externalIdentifier, plateIndex, wellIndex);
-			}
+			stores[i].setWellExternalIdentifier(externalIdentifier, plateIndex, wellIndex);
 		}
 	}
 
 	public void setWellID(String id, int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellID(id, plateIndex, wellIndex);
-			}
+			stores[i].setWellID(id, plateIndex, wellIndex);
 		}
 	}
 
 	public void setWellReagentRef(String reagent, int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellReagentRef(reagent, plateIndex, wellIndex);
-			}
+			stores[i].setWellReagentRef(reagent, plateIndex, wellIndex);
 		}
 	}
 
 	public void setWellRow(NonNegativeInteger row, int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellRow(row, plateIndex, wellIndex);
-			}
+			stores[i].setWellRow(row, plateIndex, wellIndex);
 		}
 	}
 
 	public void setWellStatus(String status, int plateIndex, int wellIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellStatus(status, plateIndex, wellIndex);
-			}
+			stores[i].setWellStatus(status, plateIndex, wellIndex);
 		}
 	}
 
@@ -16204,93 +11316,58 @@ public class AggregateMetadata implements IMetadata
 
 	public void setWellSampleAnnotationRef(String annotation, int plateIndex, int wellIndex, int wellSampleIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellSampleAnnotationRef(annotation, plateIndex, wellIndex, wellSampleIndex, annotationRefIndex);
-			}
+			stores[i].setWellSampleAnnotationRef(annotation, plateIndex, wellIndex, wellSampleIndex, annotationRefIndex);
 		}
 	}
 
 	public void setWellSampleID(String id, int plateIndex, int wellIndex, int wellSampleIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellSampleID(id, plateIndex, wellIndex, wellSampleIndex);
-			}
+			stores[i].setWellSampleID(id, plateIndex, wellIndex, wellSampleIndex);
 		}
 	}
 
 	public void setWellSampleImageRef(String image, int plateIndex, int wellIndex, int wellSampleIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellSampleImageRef(image, plateIndex, wellIndex, wellSampleIndex);
-			}
+			stores[i].setWellSampleImageRef(image, plateIndex, wellIndex, wellSampleIndex);
 		}
 	}
 
 	public void setWellSampleIndex(NonNegativeInteger index, int plateIndex, int wellIndex, int wellSampleIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellSampleIndex(index, plateIndex, wellIndex, wellSampleIndex);
-			}
+			stores[i].setWellSampleIndex(index, plateIndex, wellIndex, wellSampleIndex);
 		}
 	}
 
 	// Ignoring PlateAcquisition_BackReference back reference
 	public void setWellSamplePositionX(Double positionX, int plateIndex, int wellIndex, int wellSampleIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellSamplePositionX(positionX, plateIndex, wellIndex, wellSampleIndex);
-			}
+			stores[i].setWellSamplePositionX(positionX, plateIndex, wellIndex, wellSampleIndex);
 		}
 	}
 
 	public void setWellSamplePositionY(Double positionY, int plateIndex, int wellIndex, int wellSampleIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellSamplePositionY(positionY, plateIndex, wellIndex, wellSampleIndex);
-			}
+			stores[i].setWellSamplePositionY(positionY, plateIndex, wellIndex, wellSampleIndex);
 		}
 	}
 
 	public void setWellSampleTimepoint(String timepoint, int plateIndex, int wellIndex, int wellSampleIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setWellSampleTimepoint(timepoint, plateIndex, wellIndex, wellSampleIndex);
-			}
+			stores[i].setWellSampleTimepoint(timepoint, plateIndex, wellIndex, wellSampleIndex);
 		}
 	}
 
@@ -16312,14 +11389,9 @@ public class AggregateMetadata implements IMetadata
 
 	public void setXMLAnnotationAnnotationRef(String annotation, int XMLAnnotationIndex, int annotationRefIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setXMLAnnotationAnnotationRef(annotation, XMLAnnotationIndex, annotationRefIndex);
-			}
+			stores[i].setXMLAnnotationAnnotationRef(annotation, XMLAnnotationIndex, annotationRefIndex);
 		}
 	}
 
@@ -16327,42 +11399,27 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Dataset_BackReference back reference
 	public void setXMLAnnotationDescription(String description, int XMLAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setXMLAnnotationDescription(description, XMLAnnotationIndex);
-			}
+			stores[i].setXMLAnnotationDescription(description, XMLAnnotationIndex);
 		}
 	}
 
 	// Ignoring Experimenter_BackReference back reference
 	public void setXMLAnnotationID(String id, int XMLAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setXMLAnnotationID(id, XMLAnnotationIndex);
-			}
+			stores[i].setXMLAnnotationID(id, XMLAnnotationIndex);
 		}
 	}
 
 	// Ignoring Image_BackReference back reference
 	public void setXMLAnnotationNamespace(String namespace, int XMLAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setXMLAnnotationNamespace(namespace, XMLAnnotationIndex);
-			}
+			stores[i].setXMLAnnotationNamespace(namespace, XMLAnnotationIndex);
 		}
 	}
 
@@ -16376,14 +11433,9 @@ public class AggregateMetadata implements IMetadata
 	// Ignoring Screen_BackReference back reference
 	public void setXMLAnnotationValue(String value, int XMLAnnotationIndex)
 	{
-		for (Iterator iter = delegates.iterator(); iter.hasNext();)
+		for (int i=0; i<stores.length; i++)
 		{
-			Object o = iter.next();
-			if (o instanceof MetadataStore)
-			{
-				MetadataStore store = (MetadataStore) o;
-				store.setXMLAnnotationValue(value, XMLAnnotationIndex);
-			}
+			stores[i].setXMLAnnotationValue(value, XMLAnnotationIndex);
 		}
 	}
 
@@ -11371,10 +11371,10 @@ public class OMEXMLMetadataImpl extends AbstractOMEXMLMetadata
 		Pixels o2 = o1.getPixels();
 		if (o2.sizeOfPlaneList() == planeIndex)
 		{
-			o2.addPlane(new Plane());
+			o2.addEmptyPlane();
 		}
-		Plane o3 = o2.getPlane(planeIndex);
-		o3.setDeltaT(deltaT);
+		// Plane attributes are stored column-wise in Pixels
+		o2.setPlaneDeltaT(planeIndex, deltaT);
 	}
 
 	public void setPlaneExposureTime(Double exposureTime, int imageIndex, int planeIndex)
@@ -11394,10 +11394,10 @@ public class OMEXMLMetadataImpl extends AbstractOMEXMLMetadata
 		Pixels o2 = o1.getPixels();
 		if (o2.sizeOfPlaneList() == planeIndex)
 		{
-			o2.addPlane(new Plane());
+			o2.addEmptyPlane();
 		}
-		Plane o3 = o2.getPlane(planeIndex);
-		o3.setExposureTime(exposureTime);
+		// Plane attributes are stored column-wise in Pixels
+		o2.setPlaneExposureTime(planeIndex, exposureTime);
 	}
 
 	public void setPlaneHashSHA1(String hashSHA1, int imageIndex, int planeIndex)
@@ -11417,10 +11417,10 @@ public class OMEXMLMetadataImpl extends AbstractOMEXMLMetadata
 		Pixels o2 = o1.getPixels();
 		if (o2.sizeOfPlaneList() == planeIndex)
 		{
-			o2.addPlane(new Plane());
+			o2.addEmptyPlane();
 		}
-		Plane o3 = o2.getPlane(planeIndex);
-		o3.setHashSHA1(hashSHA1);
+		// Plane attributes are stored column-wise in Pixels
+		o2.setPlaneHashSHA1(planeIndex, hashSHA1);
 	}
 
 	public void setPlanePositionX(Double positionX, int imageIndex, int planeIndex)
@@ -11440,10 +11440,10 @@ public class OMEXMLMetadataImpl extends AbstractOMEXMLMetadata
 		Pixels o2 = o1.getPixels();
 		if (o2.sizeOfPlaneList() == planeIndex)
 		{
-			o2.addPlane(new Plane());
+			o2.addEmptyPlane();
 		}
-		Plane o3 = o2.getPlane(planeIndex);
-		o3.setPositionX(positionX);
+		// Plane attributes are stored column-wise in Pixels
+		o2.setPlanePositionX(planeIndex, positionX);
 	}
 
 	public void setPlanePositionY(Double positionY, int imageIndex, int planeIndex)
@@ -11463,10 +11463,10 @@ public class OMEXMLMetadataImpl extends AbstractOMEXMLMetadata
 		Pixels o2 = o1.getPixels();
 		if (o2.sizeOfPlaneList() == planeIndex)
 		{
-			o2.addPlane(new Plane());
+			o2.addEmptyPlane();
 		}
-		Plane o3 = o2.getPlane(planeIndex);
-		o3.setPositionY(positionY);
+		// Plane attributes are stored column-wise in Pixels
+		o2.setPlanePositionY(planeIndex, positionY);
 	}
 
 	public void setPlanePositionZ(Double positionZ, int imageIndex, int planeIndex)
@@ -11486,10 +11486,10 @@ public class OMEXMLMetadataImpl extends AbstractOMEXMLMetadata
 		Pixels o2 = o1.getPixels();
 		if (o2.sizeOfPlaneList() == planeIndex)
 		{
-			o2.addPlane(new Plane());
+			o2.addEmptyPlane();
 		}
-		Plane o3 = o2.getPlane(planeIndex);
-		o3.setPositionZ(positionZ);
+		// Plane attributes are stored column-wise in Pixels
+		o2.setPlanePositionZ(planeIndex, positionZ);
 	}
 
 	public void setPlaneTheC(NonNegativeInteger theC, int imageIndex, int planeIndex)
@@ -11509,10 +11509,10 @@ public class OMEXMLMetadataImpl extends AbstractOMEXMLMetadata
 		Pixels o2 = o1.getPixels();
 		if (o2.sizeOfPlaneList() == planeIndex)
 		{
-			o2.addPlane(new Plane());
+			o2.addEmptyPlane();
 		}
-		Plane o3 = o2.getPlane(planeIndex);
-		o3.setTheC(theC);
+		// Plane attributes are stored column-wise in Pixels
+		o2.setPlaneTheC(planeIndex, theC);
 	}
 
 	public void setPlaneTheT(NonNegativeInteger theT, int imageIndex, int planeIndex)
@@ -11532,10 +11532,10 @@ public class OMEXMLMetadataImpl extends AbstractOMEXMLMetadata
 		Pixels o2 = o1.getPixels();
 		if (o2.sizeOfPlaneList() == planeIndex)
 		{
-			o2.addPlane(new Plane());
+			o2.addEmptyPlane();
 		}
-		Plane o3 = o2.getPlane(planeIndex);
-		o3.setTheT(theT);
+		// Plane attributes are stored column-wise in Pixels
+		o2.setPlaneTheT(planeIndex, theT);
 	}
 
 	public void setPlaneTheZ(NonNegativeInteger theZ, int imageIndex, int planeIndex)
@@ -11555,10 +11555,10 @@ public class OMEXMLMetadataImpl extends AbstractOMEXMLMetadata
 		Pixels o2 = o1.getPixels();
 		if (o2.sizeOfPlaneList() == planeIndex)
 		{
-			o2.addPlane(new Plane());
+			o2.addEmptyPlane();
 		}
-		Plane o3 = o2.getPlane(planeIndex);
-		o3.setTheZ(theZ);
+		// Plane attributes are stored column-wise in Pixels
+		o2.setPlaneTheZ(planeIndex, theZ);
 	}
 
 	//
@@ -46,6 +46,7 @@ import loci.formats.ome.OMEXMLMetadata;
 import loci.formats.ome.OMEXMLMetadataImpl;
 import loci.formats.services.OMEXMLService;
 import loci.formats.tiff.IFD;
+import loci.formats.tiff.TiffParser;
 import loci.formats.tiff.TiffSaver;
 
 /**
@@ -66,6 +67,12 @@ public class OMETiffWriter extends TiffWriter {
     "before doing so. For more information, see the OME-TIFF web site: " +
     FormatTools.URL_OME_TIFF + ". -->";
 
+  /**
+   * Estimated length of the TiffData element which is added for each plane,
+   * excluding the file name.
+   */
+  private static final int TIFF_DATA_LENGTH = 192;
+
   // -- Fields --
 
   private List<Integer> seriesMap;
@@ -76,6 +83,16 @@ public class OMETiffWriter extends TiffWriter {
 
   private Map<String, String> uuids = new HashMap<String, String>();
 
+  /**
+   * Length of the ImageDescription reserved in the first IFD of each file,
+   * so that the OME-XML can be written in place when the file is closed.
+   */
+  private Map<String, Integer> reservedComments =
+    new HashMap<String, Integer>();
+
+  /** Estimated length of the final OME-XML, or -1 if not yet estimated. */
+  private int commentLength = -1;
+
   // -- Constructor --
 
   public OMETiffWriter() {
@@ -88,6 +105,9 @@ public class OMETiffWriter extends TiffWriter {
   public void close() throws IOException {
     try {
       if (currentId != null) {
+        // the reduced resolutions must be complete before the comment
+        // is written, as that closes the current file
+        finishPyramids();
         setupServiceAndMetadata();
 
         // remove any BinData elements from the OME-XML
@@ -98,16 +118,24 @@ public class OMETiffWriter extends TiffWriter {
           populateImage(omeMeta, series);
         }
 
+        // generate the OME-XML once; each file's copy differs only in the
+        // UUID of the root element, which is always the same length
+        String placeholder = "urn:uuid:" + UUID.randomUUID().toString();
+        String xml = getOMEXML(placeholder);
+        int uuidIndex = xml.indexOf(placeholder);
+        String prefix = xml.substring(0, uuidIndex);
+        String suffix = xml.substring(uuidIndex + placeholder.length());
+
         List<String> files = new ArrayList<String>();
         for (String[] s : imageLocations) {
           for (String f : s) {
             if (!files.contains(f) && f != null) {
               files.add(f);
 
-              String xml = getOMEXML(f);
+              String uuid = "urn:uuid:" + getUUID(new Location(f).getName());
 
               // write OME-XML to the first IFD's comment
-              saveComment(f, xml);
+              saveComment(f, prefix + uuid + suffix);
             }
           }
         }
@@ -155,6 +183,8 @@ public class OMETiffWriter extends TiffWriter {
         omeMeta = null;
         service = null;
         ifdCounts.clear();
+        reservedComments.clear();
+        commentLength = -1;
       }
     }
   }
@@ -181,11 +211,49 @@ public class OMETiffWriter extends TiffWriter {
       seriesMap.add(new Integer(series));
     }
 
+    // reserve space for the OME-XML in the first IFD of each file
+    if (!reservedComments.containsKey(currentId)) {
+      int length = 0;
+      if (ifd == null || ifd.get(IFD.IMAGE_DESCRIPTION) == null) {
+        ifd = ifd == null ? new IFD() : (IFD) ifd.clone();
+        length = estimateCommentLength();
+        ifd.putIFDValue(IFD.IMAGE_DESCRIPTION, pad("", length));
+      }
+      reservedComments.put(currentId, length);
+    }
+
     super.saveBytes(no, buf, ifd, x, y, w, h);
 
     imageLocations[series][no] = currentId;
   }
 
+  // -- TiffWriter API methods --
+
+  /* @see TiffWriter#setPlaneWritten(int) */
+  public void setPlaneWritten(int no) throws FormatException, IOException {
+    super.setPlaneWritten(no);
+    if (seriesMap == null) seriesMap = new ArrayList<Integer>();
+    if (!seriesMap.contains(series)) {
+      seriesMap.add(new Integer(series));
+    }
+
+    // the space reserved for the OME-XML is whatever the first IFD holds
+    if (!reservedComments.containsKey(currentId)) {
+      TiffParser parser = new TiffParser(currentId);
+      try {
+        IFD firstIFD = parser.getFirstIFD();
+        String comment = firstIFD == null ? null : firstIFD.getComment();
+        reservedComments.put(currentId,
+          comment == null ? 0 : comment.length());
+      }
+      finally {
+        parser.getStream().close();
+      }
+    }
+
+    imageLocations[series][no] = currentId;
+  }
+
   // -- IFormatHandler API methods --
 
   /* @see IFormatHandler#setId(String) */
@@ -217,24 +285,82 @@ public class OMETiffWriter extends TiffWriter {
 
   private void setupServiceAndMetadata()
     throws DependencyException, ServiceException
+  {
+    ServiceFactory factory = new ServiceFactory();
+    service = factory.getInstance(OMEXMLService.class);
+    omeMeta = copyMetadata(service);
+  }
+
+  /**
+   * Creates a copy of the metadata retrieve as an OME-XML metadata object,
+   * or returns null if the metadata is not backed by OME-XML.
+   */
+  private OMEXMLMetadata copyMetadata(OMEXMLService service)
+    throws ServiceException
   {
     // extract OME-XML string from metadata object
     MetadataRetrieve retrieve = getMetadataRetrieve();
 
-    ServiceFactory factory = new ServiceFactory();
-    service = factory.getInstance(OMEXMLService.class);
     OMEXMLMetadata originalOMEMeta = service.getOMEMetadata(retrieve);
     if (originalOMEMeta instanceof OMEXMLMetadataImpl) {
       ((OMEXMLMetadataImpl) originalOMEMeta).resolveReferences();
 
       String omexml = service.getOMEXML(originalOMEMeta);
-      omeMeta = service.createOMEXMLMetadata(omexml);
+      return service.createOMEXMLMetadata(omexml);
     }
+    return null;
   }
 
-  private String getOMEXML(String file) throws FormatException, IOException {
-    // generate UUID and add to OME element
-    String uuid = "urn:uuid:" + getUUID(new Location(file).getName());
+  /**
+   * Estimates the length of the OME-XML which will be written to each file's
+   * comment when the writer is closed.  This is the length of the current
+   * metadata plus a TiffData element for every plane, with some slack.
+   */
+  private int estimateCommentLength() throws FormatException {
+    if (commentLength < 0) {
+      try {
+        ServiceFactory factory = new ServiceFactory();
+        OMEXMLService s = factory.getInstance(OMEXMLService.class);
+        OMEXMLMetadata meta = copyMetadata(s);
+        if (meta == null) {
+          commentLength = 0;
+          return commentLength;
+        }
+        s.removeBinData(meta);
+        long length = s.getOMEXML(meta).length() + WARNING_COMMENT.length();
+
+        MetadataRetrieve r = getMetadataRetrieve();
+        int planes = 0;
+        for (int i=0; i<r.getImageCount(); i++) {
+          planes += r.getPixelsSizeZ(i).getValue() *
+            r.getPixelsSizeC(i).getValue() * r.getPixelsSizeT(i).getValue();
+        }
+        int name = new Location(currentId).getName().length();
+        length += (long) planes * (TIFF_DATA_LENGTH + name);
+        length += length / 10;
+        commentLength = (int) Math.min(length, Integer.MAX_VALUE - 1);
+      }
+      catch (DependencyException de) {
+        throw new FormatException(de);
+      }
+      catch (ServiceException se) {
+        throw new FormatException(se);
+      }
+    }
+    return commentLength;
+  }
+
+  /** Pads the given string with spaces to the given length. */
+  private String pad(String s, int length) {
+    if (s.length() >= length) return s;
+    StringBuilder sb = new StringBuilder(length);
+    sb.append(s);
+    while (sb.length() < length) sb.append(' ');
+    return sb.toString();
+  }
+
+  private String getOMEXML(String uuid) throws FormatException, IOException {
+    // add UUID to OME element
     omeMeta.setUUID(uuid);
 
     String xml;
@@ -252,6 +378,14 @@ public class OMETiffWriter extends TiffWriter {
   }
 
   private void saveComment(String file, String xml) throws IOException {
+    // fill the reserved space, so that the comment can be overwritten in
+    // place; if the OME-XML has outgrown it, it is appended to the file
+    Integer reserved = reservedComments.get(file);
+    if (reserved != null && reserved.intValue() > 0) {
+      xml = pad(xml, reserved.intValue());
+      reservedComments.put(file, xml.length());
+    }
+
     if (out != null) out.close();
     out = new RandomAccessOutputStream(file);
     RandomAccessInputStream in = null;
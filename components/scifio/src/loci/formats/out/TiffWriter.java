@@ -24,6 +24,10 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats.out;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import loci.common.RandomAccessInputStream;
 import loci.common.RandomAccessOutputStream;
@@ -35,6 +39,7 @@ import loci.formats.codec.CompressionType;
 import loci.formats.gui.AWTImageTools;
 import loci.formats.meta.MetadataRetrieve;
 import loci.formats.tiff.IFD;
+import loci.formats.tiff.PyramidBuilder;
 import loci.formats.tiff.TiffCompression;
 import loci.formats.tiff.TiffParser;
 import loci.formats.tiff.TiffRational;
@@ -78,6 +83,13 @@ public class TiffWriter extends FormatWriter {
   /** Whether or not to check the parameters passed to saveBytes. */
   private boolean checkParams = true;
 
+  /** Number of resolutions to write for each plane. */
+  private int resolutions = 1;
+
+  /** Reduced resolutions of the planes being written, by IFD index. */
+  private Map<Integer, PyramidBuilder> pyramids =
+    new HashMap<Integer, PyramidBuilder>();
+
   /**
    * Sets the compression code for the specified IFD.
    * 
@@ -177,6 +189,12 @@ public class TiffWriter extends FormatWriter {
 
     tiffSaver.writeImage(buf, ifd, index, type, x, y, w, h,
       no == getPlaneCount() - 1 && getSeries() == retrieve.getImageCount() - 1);
+
+    if (resolutions > 1) {
+      synchronized (tiffSaver) {
+        addToPyramid(index, buf, ifd, type, x, y, w, h);
+      }
+    }
   }
 
   /**
@@ -300,6 +318,12 @@ public class TiffWriter extends FormatWriter {
     if (FormatTools.isFloatingPoint(type)) sampleFormat = 3;
     ifd.putIFDValue(IFD.SAMPLE_FORMAT, sampleFormat);
 
+    // reserve the SubIFDs entry, which is filled in once the reduced
+    // resolutions are written
+    if (resolutions > 1 && ifd.get(IFD.SUB_IFD) == null) {
+      ifd.putIFDValue(IFD.SUB_IFD, new long[resolutions - 1]);
+    }
+
     int index = no;
     int realSeries = getSeries();
     for (int i=0; i<realSeries; i++) {
@@ -317,6 +341,7 @@ public class TiffWriter extends FormatWriter {
    */
   @Override
   public void close() throws IOException {
+    finishPyramids();
     super.close();
     if (in != null) {
       in.close();
@@ -392,8 +417,88 @@ public class TiffWriter extends FormatWriter {
     isBigTiff = bigTiff;
   }
 
+  /**
+   * Records that the given plane of the current series is already present
+   * in the current file, so that a partially written file can be appended
+   * to.  The plane must have been written by this writer, with the same
+   * metadata and settings, before the planes which are saved next.
+   */
+  public void setPlaneWritten(int no) throws FormatException, IOException {
+    FormatTools.assertId(currentId, true, 1);
+    if (no < initialized[series].length) {
+      initialized[series][no] = true;
+    }
+  }
+
+  /**
+   * Sets the number of resolutions to write for each plane, including the
+   * full resolution.  Each reduced resolution is half the width and height
+   * of the one before, and is built while the full resolution is saved, so
+   * that one pass writes a multi-resolution file.  The reduced resolutions
+   * are tiled, and are stored as SubIFDs of the plane's IFD; see
+   * {@link PyramidBuilder}.  The default of 1 writes only the full
+   * resolution.  This flag is not reset when close() is called.
+   */
+  public void setResolutions(int resolutions) {
+    FormatTools.assertId(currentId, false, 1);
+    if (resolutions < 1) {
+      throw new IllegalArgumentException(
+        "Invalid resolution count: " + resolutions);
+    }
+    this.resolutions = resolutions;
+  }
+
+  /** Gets the number of resolutions written for each plane. */
+  public int getResolutions() {
+    return resolutions;
+  }
+
   // -- Helper methods --
 
+  /**
+   * Writes the reduced resolutions of any planes which are not complete,
+   * leaving their missing pixels blank.
+   */
+  protected void finishPyramids() throws IOException {
+    if (pyramids.size() == 0) return;
+    try {
+      List<Integer> indexes = new ArrayList<Integer>(pyramids.keySet());
+      for (Integer index : indexes) {
+        finishPyramid(index);
+      }
+      tiffSaver.linkLastImageIFD();
+    }
+    catch (FormatException e) {
+      IOException io = new IOException("Unable to write reduced resolutions");
+      io.initCause(e);
+      throw io;
+    }
+    finally {
+      pyramids.clear();
+    }
+  }
+
+  /** Adds a region that has just been written to its plane's pyramid. */
+  private void addToPyramid(int index, byte[] buf, IFD ifd, int type,
+    int x, int y, int w, int h) throws FormatException, IOException
+  {
+    PyramidBuilder pyramid = pyramids.get(index);
+    if (pyramid == null) {
+      pyramid = new PyramidBuilder(tiffSaver, ifd, index, type, resolutions);
+      pyramids.put(index, pyramid);
+    }
+    pyramid.addRegion(buf, x, y, w, h);
+    if (pyramid.isComplete()) {
+      finishPyramid(index);
+    }
+    // the next plane's IFD must follow the tiles which were just appended
+    tiffSaver.linkLastImageIFD();
+  }
+
+  private void finishPyramid(int index) throws FormatException, IOException {
+    pyramids.remove(index).finish(currentId);
+  }
+
   private void setupTiffSaver() throws IOException {
     out.close();
     out = new RandomAccessOutputStream(currentId);
@@ -0,0 +1,431 @@
+//
+// PyramidBuilder.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.tiff;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import loci.common.DataTools;
+import loci.common.RandomAccessInputStream;
+import loci.common.RandomAccessOutputStream;
+import loci.formats.FormatException;
+import loci.formats.FormatTools;
+import loci.formats.codec.CodecOptions;
+
+/**
+ * Builds the reduced resolutions of one plane while its full resolution is
+ * written by a {@link TiffSaver}.
+ *
+ * Each full resolution region is averaged down by 2x2 blocks into the first
+ * reduced resolution.  As soon as a tile of a reduced resolution is
+ * complete, it is averaged down into the next resolution, then compressed
+ * and appended to the file, so only the tiles which are being filled are
+ * kept in memory.  Finally, {@link #finish(String)} writes
+ * one tiled IFD per reduced resolution and stores their offsets in the
+ * SubIFDs tag of the full resolution IFD.  Each reduced resolution has
+ * a NewSubfileType of 1, and they are listed from largest to smallest.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/scifio/src/loci/formats/tiff/PyramidBuilder.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/scifio/src/loci/formats/tiff/PyramidBuilder.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class PyramidBuilder {
+
+  // -- Constants --
+
+  /** Tile size of the reduced resolutions of an image written in strips. */
+  public static final int DEFAULT_TILE_SIZE = 256;
+
+  /** Tags which are copied from the full resolution IFD. */
+  private static final int[] COPIED_TAGS = {
+    IFD.BITS_PER_SAMPLE, IFD.COMPRESSION, IFD.PHOTOMETRIC_INTERPRETATION,
+    IFD.SAMPLES_PER_PIXEL, IFD.PLANAR_CONFIGURATION, IFD.SAMPLE_FORMAT,
+    IFD.PREDICTOR, IFD.COLOR_MAP, IFD.RESOLUTION_UNIT
+  };
+
+  // -- Fields --
+
+  private TiffSaver saver;
+
+  /** Index of the full resolution IFD in the file. */
+  private int ifdIndex;
+
+  private int pixelType;
+  private int bytesPerPixel;
+  private int channels;
+  private boolean interleaved;
+  private boolean littleEndian;
+
+  /** Whether pixels are averaged, rather than subsampled as for palettes. */
+  private boolean average;
+
+  private int tileWidth, tileHeight;
+
+  /** Size of each resolution, starting with the full resolution. */
+  private int[] sizeX, sizeY;
+
+  /** Number of tiles in each row of each resolution. */
+  private int[] tilesPerRow;
+
+  /** IFD of each reduced resolution. */
+  private IFD[] ifds;
+
+  /** Pixels of each tile that is being filled, or null. */
+  private byte[][][] tiles;
+
+  /** Number of pixels set in each tile. */
+  private int[][] filled;
+
+  /** Whether or not each tile has been written. */
+  private boolean[][] written;
+
+  private long[][] offsets, byteCounts;
+
+  /** Number of tiles which have not been written. */
+  private int remaining;
+
+  /** Pixel being averaged for each resolution. */
+  private double[][] pixel;
+
+  // -- Constructor --
+
+  /**
+   * Constructs a new pyramid builder for one plane.
+   * @param saver the saver writing the full resolution
+   * @param ifd the full resolution IFD, as given to
+   *   {@link TiffSaver#writeImage}
+   * @param ifdIndex index of the full resolution IFD in the file
+   * @param pixelType pixel type of the plane
+   * @param resolutions number of resolutions, including the full resolution
+   */
+  public PyramidBuilder(TiffSaver saver, IFD ifd, int ifdIndex,
+    int pixelType, int resolutions) throws FormatException
+  {
+    if (resolutions < 2) {
+      throw new IllegalArgumentException(
+        "At least two resolutions are required (got " + resolutions + ")");
+    }
+    this.saver = saver;
+    this.ifdIndex = ifdIndex;
+    this.pixelType = pixelType;
+    bytesPerPixel = FormatTools.getBytesPerPixel(pixelType);
+    channels = ifd.getSamplesPerPixel();
+    interleaved = ifd.getPlanarConfiguration() == 1;
+    littleEndian = ifd.isLittleEndian();
+    average = ifd.getIFDValue(IFD.COLOR_MAP) == null;
+
+    // tiles must have even sizes so that no 2x2 block spans two tiles
+    tileWidth = DEFAULT_TILE_SIZE;
+    tileHeight = DEFAULT_TILE_SIZE;
+    if (ifd.isTiled() && ifd.getTileWidth() % 16 == 0 &&
+      ifd.getTileLength() % 16 == 0)
+    {
+      tileWidth = (int) ifd.getTileWidth();
+      tileHeight = (int) ifd.getTileLength();
+    }
+
+    sizeX = new int[resolutions];
+    sizeY = new int[resolutions];
+    tilesPerRow = new int[resolutions];
+    ifds = new IFD[resolutions];
+    tiles = new byte[resolutions][][];
+    filled = new int[resolutions][];
+    written = new boolean[resolutions][];
+    offsets = new long[resolutions][];
+    byteCounts = new long[resolutions][];
+    pixel = new double[resolutions][channels];
+
+    sizeX[0] = (int) ifd.getImageWidth();
+    sizeY[0] = (int) ifd.getImageLength();
+    for (int r=1; r<resolutions; r++) {
+      sizeX[r] = (sizeX[r - 1] + 1) / 2;
+      sizeY[r] = (sizeY[r - 1] + 1) / 2;
+      tilesPerRow[r] = (sizeX[r] + tileWidth - 1) / tileWidth;
+      int nTiles = tilesPerRow[r] * ((sizeY[r] + tileHeight - 1) / tileHeight);
+      tiles[r] = new byte[nTiles][];
+      filled[r] = new int[nTiles];
+      written[r] = new boolean[nTiles];
+      int nChunks = interleaved ? nTiles : nTiles * channels;
+      offsets[r] = new long[nChunks];
+      byteCounts[r] = new long[nChunks];
+      remaining += nTiles;
+      ifds[r] = makeIFD(ifd, r);
+    }
+  }
+
+  // -- PyramidBuilder API methods --
+
+  /** Gets the number of resolutions, including the full resolution. */
+  public int getResolutionCount() {
+    return sizeX.length;
+  }
+
+  /**
+   * Adds a region of the full resolution, laid out as for
+   * {@link TiffSaver#writeImage}.  Each pixel should be added once.
+   * A 2x2 block which is split between regions is averaged over the part
+   * which holds its top left pixel, so regions with even offsets and sizes,
+   * such as whole planes or tiles, give the best results.
+   */
+  public void addRegion(byte[] buf, int x, int y, int w, int h)
+    throws FormatException, IOException
+  {
+    int endX = Math.min(x + w, sizeX[0]);
+    int endY = Math.min(y + h, sizeY[0]);
+    int block = average ? 2 : 1;
+    double[] value = pixel[1];
+    for (int ly=(y + 1) / 2; 2 * ly < endY; ly++) {
+      for (int lx=(x + 1) / 2; 2 * lx < endX; lx++) {
+        Arrays.fill(value, 0);
+        int n = 0;
+        for (int row=2*ly; row<2*ly + block && row<endY; row++) {
+          for (int col=2*lx; col<2*lx + block && col<endX; col++) {
+            for (int c=0; c<channels; c++) {
+              value[c] += getSample(buf, getOffset(row - y, col - x, c, w, h));
+            }
+            n++;
+          }
+        }
+        for (int c=0; c<channels; c++) {
+          value[c] /= n;
+        }
+        setPixel(1, lx, ly, value);
+      }
+    }
+  }
+
+  /** Returns true if every tile of every reduced resolution is written. */
+  public boolean isComplete() {
+    return remaining == 0;
+  }
+
+  /**
+   * Writes the remaining tiles, leaving any missing pixels blank, and the
+   * IFDs of the reduced resolutions.  Their offsets replace the value of
+   * the SubIFDs tag of the full resolution IFD, which must already hold one
+   * entry per reduced resolution.
+   * @param id the name of the file which is being written
+   */
+  public void finish(String id)
+    throws FormatException, IOException
+  {
+    for (int r=1; r<sizeX.length; r++) {
+      for (int t=0; t<written[r].length; t++) {
+        if (!written[r][t]) writeTile(r, t);
+      }
+    }
+
+    RandomAccessOutputStream out = saver.getStream();
+    long[] subIFDs = new long[sizeX.length - 1];
+    for (int r=1; r<sizeX.length; r++) {
+      ifds[r].putIFDValue(IFD.TILE_OFFSETS, offsets[r]);
+      ifds[r].putIFDValue(IFD.TILE_BYTE_COUNTS, byteCounts[r]);
+      out.seek(out.length());
+      subIFDs[r - 1] = out.getFilePointer();
+      saver.writeIFD(ifds[r], 0);
+    }
+    // the IFD chain must skip what was just appended before it is parsed
+    saver.linkLastImageIFD();
+
+    // the file is only opened for reading now, so that it sees everything
+    // which has been appended
+    RandomAccessInputStream in = new RandomAccessInputStream(id);
+    try {
+      saver.overwriteIFDValue(in, ifdIndex, IFD.SUB_IFD, subIFDs);
+    }
+    finally {
+      in.close();
+    }
+  }
+
+  // -- Helper methods --
+
+  /** Creates the IFD of the given reduced resolution. */
+  private IFD makeIFD(IFD full, int r) {
+    IFD ifd = new IFD();
+    ifd.put(new Integer(IFD.LITTLE_ENDIAN), new Boolean(littleEndian));
+    for (int tag : COPIED_TAGS) {
+      Object value = full.getIFDValue(tag);
+      if (value != null) ifd.putIFDValue(tag, value);
+    }
+    ifd.putIFDValue(IFD.NEW_SUBFILE_TYPE, 1L);
+    ifd.putIFDValue(IFD.IMAGE_WIDTH, (long) sizeX[r]);
+    ifd.putIFDValue(IFD.IMAGE_LENGTH, (long) sizeY[r]);
+    ifd.putIFDValue(IFD.TILE_WIDTH, (long) tileWidth);
+    ifd.putIFDValue(IFD.TILE_LENGTH, (long) tileHeight);
+
+    // the pixels are larger by the same factor as the image is smaller
+    Object[] resolutions = {full.getIFDValue(IFD.X_RESOLUTION),
+      full.getIFDValue(IFD.Y_RESOLUTION)};
+    int[] tags = {IFD.X_RESOLUTION, IFD.Y_RESOLUTION};
+    for (int i=0; i<tags.length; i++) {
+      if (resolutions[i] instanceof TiffRational) {
+        TiffRational value = (TiffRational) resolutions[i];
+        ifd.putIFDValue(tags[i], new TiffRational(value.getNumerator(),
+          value.getDenominator() << r));
+      }
+    }
+    return ifd;
+  }
+
+  /**
+   * Sets a pixel of the given reduced resolution, writing its tile if this
+   * completes it.  Pixels of tiles which are already written are ignored.
+   */
+  private void setPixel(int r, int x, int y, double[] value)
+    throws FormatException, IOException
+  {
+    int tileX = x / tileWidth, tileY = y / tileHeight;
+    int t = tileY * tilesPerRow[r] + tileX;
+    if (written[r][t]) return;
+    if (tiles[r][t] == null) {
+      tiles[r][t] = new byte[tileWidth * tileHeight * channels * bytesPerPixel];
+    }
+    int row = y - tileY * tileHeight, col = x - tileX * tileWidth;
+    for (int c=0; c<channels; c++) {
+      setSample(tiles[r][t],
+        getOffset(row, col, c, tileWidth, tileHeight), value[c]);
+    }
+    filled[r][t]++;
+
+    int w = Math.min(tileWidth, sizeX[r] - tileX * tileWidth);
+    int h = Math.min(tileHeight, sizeY[r] - tileY * tileHeight);
+    if (filled[r][t] == w * h) writeTile(r, t);
+  }
+
+  /**
+   * Averages the given tile into the next resolution, then compresses it
+   * and appends it to the file.
+   */
+  private void writeTile(int r, int t) throws FormatException, IOException {
+    byte[] tile = tiles[r][t];
+    if (tile == null) {
+      tile = new byte[tileWidth * tileHeight * channels * bytesPerPixel];
+    }
+    tiles[r][t] = null;
+    written[r][t] = true;
+    remaining--;
+
+    int x0 = (t % tilesPerRow[r]) * tileWidth;
+    int y0 = (t / tilesPerRow[r]) * tileHeight;
+    if (r + 1 < sizeX.length) {
+      int endX = Math.min(x0 + tileWidth, sizeX[r]);
+      int endY = Math.min(y0 + tileHeight, sizeY[r]);
+      int block = average ? 2 : 1;
+      double[] value = pixel[r + 1];
+      for (int ly=y0 / 2; 2 * ly < endY; ly++) {
+        for (int lx=x0 / 2; 2 * lx < endX; lx++) {
+          Arrays.fill(value, 0);
+          int n = 0;
+          for (int row=2*ly; row<2*ly + block && row<endY; row++) {
+            for (int col=2*lx; col<2*lx + block && col<endX; col++) {
+              for (int c=0; c<channels; c++) {
+                value[c] += getSample(tile,
+                  getOffset(row - y0, col - x0, c, tileWidth, tileHeight));
+              }
+              n++;
+            }
+          }
+          for (int c=0; c<channels; c++) {
+            value[c] /= n;
+          }
+          setPixel(r + 1, lx, ly, value);
+        }
+      }
+    }
+
+    IFD ifd = ifds[r];
+    TiffCompression compression = ifd.getCompression();
+    RandomAccessOutputStream out = saver.getStream();
+    int nChunks = interleaved ? 1 : channels;
+    int chunkSize = tile.length / nChunks;
+    for (int c=0; c<nChunks; c++) {
+      byte[] chunk = tile;
+      if (nChunks > 1) {
+        chunk = new byte[chunkSize];
+        System.arraycopy(tile, c * chunkSize, chunk, 0, chunkSize);
+      }
+      TiffCompression.difference(chunk, ifd);
+      CodecOptions codecOptions =
+        compression.getCompressionCodecOptions(ifd, saver.getCodecOptions());
+      codecOptions.width = tileWidth;
+      codecOptions.height = tileHeight;
+      chunk = compression.compress(chunk, codecOptions);
+
+      int index = c * written[r].length + t;
+      out.seek(out.length());
+      offsets[r][index] = out.getFilePointer();
+      byteCounts[r][index] = chunk.length;
+      out.write(chunk);
+    }
+  }
+
+  /** Gets the offset of a sample in a w x h block laid out as in the IFD. */
+  private int getOffset(int row, int col, int c, int w, int h) {
+    if (interleaved) {
+      return ((row * w + col) * channels + c) * bytesPerPixel;
+    }
+    return ((c * h + row) * w + col) * bytesPerPixel;
+  }
+
+  private double getSample(byte[] b, int off) {
+    switch (pixelType) {
+      case FormatTools.INT8:
+        return b[off];
+      case FormatTools.INT16:
+        return DataTools.bytesToShort(b, off, 2, littleEndian);
+      case FormatTools.UINT16:
+        return DataTools.bytesToShort(b, off, 2, littleEndian) & 0xffff;
+      case FormatTools.INT32:
+        return DataTools.bytesToInt(b, off, 4, littleEndian);
+      case FormatTools.UINT32:
+        return DataTools.bytesToInt(b, off, 4, littleEndian) & 0xffffffffL;
+      case FormatTools.FLOAT:
+        return Float.intBitsToFloat(
+          DataTools.bytesToInt(b, off, 4, littleEndian));
+      case FormatTools.DOUBLE:
+        return Double.longBitsToDouble(
+          DataTools.bytesToLong(b, off, 8, littleEndian));
+      default:
+        return b[off] & 0xff;
+    }
+  }
+
+  private void setSample(byte[] b, int off, double value) {
+    switch (pixelType) {
+      case FormatTools.FLOAT:
+        DataTools.unpackBytes(Float.floatToIntBits((float) value), b, off, 4,
+          littleEndian);
+        break;
+      case FormatTools.DOUBLE:
+        DataTools.unpackBytes(Double.doubleToLongBits(value), b, off, 8,
+          littleEndian);
+        break;
+      default:
+        DataTools.unpackBytes(Math.round(value), b, off, bytesPerPixel,
+          littleEndian);
+    }
+  }
+
+}
@@ -24,6 +24,8 @@ Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
 package loci.formats.tiff;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Vector;
@@ -33,6 +35,7 @@ import loci.common.RandomAccessInputStream;
 import loci.common.Region;
 import loci.common.enumeration.EnumException;
 import loci.formats.FormatException;
+import loci.formats.FormatTools;
 import loci.formats.codec.BitBuffer;
 import loci.formats.codec.CodecOptions;
 
@@ -58,6 +61,15 @@ public class TiffParser {
   private static final Logger LOGGER =
     LoggerFactory.getLogger(TiffParser.class);
 
+  /**
+   * Largest gap between two needed ranges of uncompressed samples that is
+   * read through rather than skipped.
+   */
+  private static final int MAX_READ_GAP = 65536;
+
+  /** Largest single read of uncompressed samples. */
+  private static final int MAX_READ_LENGTH = 16 * 1024 * 1024;
+
   // -- Fields --
 
   /** Input source from which to parse TIFF data. */
@@ -201,28 +213,41 @@ public class TiffParser {
       IFD ifd = getIFD(offset);
       if (ifd == null) continue;
       if (ifd.containsKey(IFD.IMAGE_WIDTH)) ifds.add(ifd);
-      long[] subOffsets = null;
-      try {
-        if (!doCaching && ifd.containsKey(IFD.SUB_IFD)) {
-          fillInIFD(ifd);
-        }
-        subOffsets = ifd.getIFDLongArray(IFD.SUB_IFD);
-      }
-      catch (FormatException e) { }
-      if (subOffsets != null) {
-        for (long subOffset : subOffsets) {
-          IFD sub = getIFD(subOffset);
-          if (sub != null) {
-            ifds.add(sub);
-          }
-        }
-      }
+      ifds.addAll(getSubIFDs(ifd));
     }
     if (doCaching) ifdList = ifds;
 
     return ifds;
   }
 
+  /**
+   * Gets the IFDs listed in the SubIFDs tag of the given IFD.  They are
+   * also part of the list returned by {@link #getIFDs()}, where they follow
+   * the given IFD.
+   */
+  public IFDList getSubIFDs(IFD ifd) throws IOException {
+    IFDList subIFDs = new IFDList();
+    long[] subOffsets = null;
+    try {
+      if (!doCaching && ifd.containsKey(IFD.SUB_IFD)) {
+        fillInIFD(ifd);
+      }
+      subOffsets = ifd.getIFDLongArray(IFD.SUB_IFD);
+    }
+    catch (FormatException e) { }
+    if (subOffsets != null) {
+      for (long subOffset : subOffsets) {
+        // zero marks an entry which was reserved but never written
+        if (subOffset == 0) continue;
+        IFD sub = getIFD(subOffset);
+        if (sub != null) {
+          subIFDs.add(sub);
+        }
+      }
+    }
+    return subIFDs;
+  }
+
   /** Returns thumbnail IFDs. */
   public IFDList getThumbnailIFDs() throws IOException {
     IFDList ifds = getIFDs();
@@ -577,35 +602,13 @@ public class TiffParser {
   public byte[] getTile(IFD ifd, byte[] buf, int row, int col)
     throws FormatException, IOException
   {
-    byte[] jpegTable = (byte[]) ifd.getIFDValue(IFD.JPEG_TABLES);
-
-    codecOptions.interleaved = true;
-    codecOptions.littleEndian = ifd.isLittleEndian();
-
-    long tileWidth = ifd.getTileWidth();
-    long tileLength = ifd.getTileLength();
-    int samplesPerPixel = ifd.getSamplesPerPixel();
-    int planarConfig = ifd.getPlanarConfiguration();
-    TiffCompression compression = ifd.getCompression();
-
     long numTileCols = ifd.getTilesPerRow();
 
-    int pixel = ifd.getBytesPerSample()[0];
-    int effectiveChannels = planarConfig == 2 ? 1 : samplesPerPixel;
-
     long[] stripOffsets = ifd.getStripOffsets();
-    long[] stripByteCounts = ifd.getStripByteCounts();
-    long[] rowsPerStrip = ifd.getRowsPerStrip();
+    long[] stripByteCounts = getTileByteCounts(ifd);
 
     int tileNumber = (int) (row * numTileCols + col);
-    if (stripByteCounts[tileNumber] == (rowsPerStrip[0] * tileWidth) &&
-      pixel > 1)
-    {
-      stripByteCounts[tileNumber] *= pixel;
-    }
-    int size = (int) (tileWidth * tileLength * pixel * effectiveChannels);
-
-    if (buf == null) buf = new byte[size];
+    if (buf == null) buf = new byte[getTileSize(ifd)];
     if (stripByteCounts[tileNumber] == 0 ||
       stripOffsets[tileNumber] >= in.length())
     {
@@ -618,41 +621,7 @@ public class TiffParser {
     in.seek(stripOffsets[tileNumber]);
     in.read(tile);
 
-    codecOptions.maxBytes = (int) Math.max(size, tile.length);
-
-    if (jpegTable != null) {
-      byte[] q = new byte[jpegTable.length + tile.length - 4];
-      System.arraycopy(jpegTable, 0, q, 0, jpegTable.length - 2);
-      System.arraycopy(tile, 2, q, jpegTable.length - 2, tile.length - 2);
-      tile = compression.decompress(q, codecOptions);
-    }
-    else tile = compression.decompress(tile, codecOptions);
-    TiffCompression.undifference(tile, ifd);
-    unpackBytes(buf, 0, tile, ifd);
-
-    if (planarConfig == 2 && !ifd.isTiled() && ifd.getSamplesPerPixel() > 1) {
-      int channel = row % stripOffsets.length;
-      if (channel < ifd.getBytesPerSample().length) {
-        int realBytes = ifd.getBytesPerSample()[channel];
-        if (realBytes != pixel) {
-          // re-pack pixels to account for differing bits per sample
-
-          boolean littleEndian = ifd.isLittleEndian();
-          int[] samples = new int[buf.length / pixel];
-          for (int i=0; i<samples.length; i++) {
-            samples[i] =
-              DataTools.bytesToInt(buf, i * realBytes, realBytes, littleEndian);
-          }
-
-          for (int i=0; i<samples.length; i++) {
-            DataTools.unpackBytes(
-              samples[i], buf, i * pixel, pixel, littleEndian);
-          }
-        }
-      }
-    }
-
-    return buf;
+    return decodeTile(ifd, buf, row, tile);
   }
 
   public byte[] getSamples(IFD ifd, byte[] buf)
@@ -672,6 +641,30 @@ public class TiffParser {
   public byte[] getSamples(IFD ifd, byte[] buf, int x, int y,
     long width, long height, int overlapX, int overlapY)
     throws FormatException, IOException
+  {
+    int stride = (int) (width * ifd.getBytesPerSample()[0]);
+    getSamples(ifd, ByteBuffer.wrap(buf), 0, stride, x, y, width, height,
+      overlapX, overlapY);
+    return buf;
+  }
+
+  public ByteBuffer getSamples(IFD ifd, ByteBuffer buf, int offset,
+    int stride, int x, int y, long width, long height)
+    throws FormatException, IOException
+  {
+    return getSamples(ifd, buf, offset, stride, x, y, width, height, 0, 0);
+  }
+
+  /**
+   * Reads a region of the given IFD into a buffer, storing each row of each
+   * sample <code>stride</code> bytes after the previous one, starting at
+   * index <code>offset</code>.  Samples are stored one after another, so
+   * that row <i>r</i> of sample <i>s</i> starts at
+   * <code>offset + (s * height + r) * stride</code>.
+   */
+  public ByteBuffer getSamples(IFD ifd, ByteBuffer buf, int offset,
+    int stride, int x, int y, long width, long height, int overlapX,
+    int overlapY) throws FormatException, IOException
   {
     LOGGER.trace("parsing IFD entries");
 
@@ -691,7 +684,6 @@ public class TiffParser {
     long numTileRows = ifd.getTilesPerColumn();
     long numTileCols = ifd.getTilesPerRow();
 
-    PhotoInterp photoInterp = ifd.getPhotometricInterpretation();
     int planarConfig = ifd.getPlanarConfiguration();
     int pixel = ifd.getBytesPerSample()[0];
     int effectiveChannels = planarConfig == 2 ? 1 : samplesPerPixel;
@@ -730,39 +722,12 @@ public class TiffParser {
     else codecOptions = compression.getCompressionCodecOptions(ifd);
     codecOptions.interleaved = true;
     codecOptions.littleEndian = ifd.isLittleEndian();
-    long imageLength = ifd.getImageLength();
-
-    // special case: if we only need one tile, and that tile doesn't need
-    // any special handling, then we can just read it directly and return
-    if ((x % tileWidth) == 0 && (y % tileLength) == 0 && width == tileWidth &&
-      height == imageLength && samplesPerPixel == 1 &&
-      (ifd.getBitsPerSample()[0] % 8) == 0 &&
-      photoInterp != PhotoInterp.WHITE_IS_ZERO &&
-      photoInterp != PhotoInterp.CMYK && photoInterp != PhotoInterp.Y_CB_CR &&
-      compression == TiffCompression.UNCOMPRESSED)
-    {
-      long[] stripOffsets = ifd.getStripOffsets();
-      long[] stripByteCounts = ifd.getStripByteCounts();
-
-      if (stripOffsets != null && stripByteCounts != null) {
-        long column = x / tileWidth;
-        int firstTile = (int) ((y / tileLength) * numTileCols + column);
-        int lastTile =
-          (int) (((y + height) / tileLength) * numTileCols + column);
-        lastTile = (int) Math.min(lastTile, stripOffsets.length - 1);
-
-        int offset = 0;
-        for (int tile=firstTile; tile<=lastTile; tile++) {
-          if (stripByteCounts[tile] == numSamples && pixel > 1) {
-            stripByteCounts[tile] *= pixel;
-          }
 
-          in.seek(stripOffsets[tile]);
-          int len = (int) Math.min(buf.length - offset, stripByteCounts[tile]);
-          in.read(buf, offset, len);
-          offset += len;
-        }
-      }
+    // uncompressed samples that need no unpacking can be copied straight
+    // from the file, without decoding whole tiles
+    if (overlapX == 0 && overlapY == 0 &&
+      readUncompressed(ifd, buf, offset, stride, x, y, width, height))
+    {
       return buf;
     }
 
@@ -780,7 +745,6 @@ public class TiffParser {
     int rowLen = pixel * (int) w;//tileWidth;
     int tileSize = (int) (rowLen * h);//tileLength);
 
-    int planeSize = (int) (width * height * pixel);
     int outputRowLen = (int) (pixel * width);
 
     int bufferSizeSamplesPerPixel = samplesPerPixel;
@@ -797,6 +761,8 @@ public class TiffParser {
 
     Region tileBounds = new Region(0, 0, (int) tileWidth, (int) tileLength);
 
+    // find the tiles that overlap the region
+    Vector<Segment> tiles = new Vector<Segment>();
     for (int row=0; row<numTileRows; row++) {
       for (int col=0; col<numTileCols; col++) {
         tileBounds.x = col * (int) (tileWidth - overlapX);
@@ -808,48 +774,316 @@ public class TiffParser {
 
         if (!imageBounds.intersects(tileBounds)) continue;
 
-        if (!cachedPixels.containsKey(ifd)) {
+        Segment tile = new Segment();
+        tile.dest = (int) (row * numTileCols + col);
+        tiles.add(tile);
+      }
+    }
+
+    // read the tiles in file order, so that neighbouring tiles can be read
+    // together; tiles that cannot be found are left to getTile
+    boolean planReads = tiles.size() > 1 && !cachedPixels.containsKey(ifd);
+    long fileLength = in.length();
+    if (planReads) {
+      long[] stripOffsets = ifd.getStripOffsets();
+      long[] stripByteCounts = getTileByteCounts(ifd);
+      for (Segment tile : tiles) {
+        if (tile.dest < stripOffsets.length &&
+          tile.dest < stripByteCounts.length &&
+          stripOffsets[tile.dest] < fileLength)
+        {
+          tile.offset = stripOffsets[tile.dest];
+          tile.length = (int) stripByteCounts[tile.dest];
+        }
+      }
+      Collections.sort(tiles);
+    }
+
+    byte[] run = null;
+    long runStart = 0, runEnd = 0;
+
+    for (int t=0; t<tiles.size(); t++) {
+      Segment tile = tiles.get(t);
+      int row = (int) (tile.dest / numTileCols);
+      int col = (int) (tile.dest % numTileCols);
+      tileBounds.x = col * (int) (tileWidth - overlapX);
+      tileBounds.y = row * (int) (tileLength - overlapY);
+
+      if (planarConfig == 2) {
+        tileBounds.y = (int) ((row % nrows) * (tileLength - overlapY));
+      }
+
+      if (!cachedPixels.containsKey(ifd)) {
+        if (!planReads || tile.length == 0) {
           getTile(ifd, cachedTileBuffer, row, col);
-          if (numTileRows * numTileCols == 1) {
-            cachedPixels.clear();
-            cachedPixels.put(ifd, cachedTileBuffer);
-          }
         }
         else {
-          cachedTileBuffer = cachedPixels.get(ifd);
+          long tileEnd = Math.min(tile.offset + tile.length, fileLength);
+          if (tile.offset < runStart || tileEnd > runEnd) {
+            // merge the following tiles that are near enough to this one
+            runStart = tile.offset;
+            runEnd = tileEnd;
+            for (int next=t+1; next<tiles.size(); next++) {
+              Segment segment = tiles.get(next);
+              long end =
+                Math.min(segment.offset + segment.length, fileLength);
+              if (segment.offset - runEnd > MAX_READ_GAP ||
+                end - runStart > MAX_READ_LENGTH)
+              {
+                break;
+              }
+              runEnd = Math.max(runEnd, end);
+            }
+            int len = (int) (runEnd - runStart);
+            if (run == null || run.length < len) run = new byte[len];
+            LOGGER.debug("Reading tiles Length {} Offset {}", len, runStart);
+            in.seek(runStart);
+            in.read(run, 0, len);
+          }
+          byte[] bytes = new byte[tile.length];
+          System.arraycopy(run, (int) (tile.offset - runStart), bytes, 0,
+            (int) (tileEnd - tile.offset));
+          decodeTile(ifd, cachedTileBuffer, row, bytes);
         }
+        if (numTileRows * numTileCols == 1) {
+          cachedPixels.clear();
+          cachedPixels.put(ifd, cachedTileBuffer);
+        }
+      }
+      else {
+        cachedTileBuffer = cachedPixels.get(ifd);
+      }
 
-        // adjust tile bounds, if necessary
+      // adjust tile bounds, if necessary
 
-        int tileX = (int) Math.max(tileBounds.x, x);
-        int tileY = (int) Math.max(tileBounds.y, y);
-        int realX = tileX % (int) (tileWidth - overlapX);
-        int realY = tileY % (int) (tileLength - overlapY);
+      int tileX = (int) Math.max(tileBounds.x, x);
+      int tileY = (int) Math.max(tileBounds.y, y);
+      int realX = tileX % (int) (tileWidth - overlapX);
+      int realY = tileY % (int) (tileLength - overlapY);
 
-        int twidth = (int) Math.min(endX - tileX, tileWidth - realX);
-        int theight = (int) Math.min(endY - tileY, tileLength - realY);
-        // copy appropriate portion of the tile to the output buffer
+      int twidth = (int) Math.min(endX - tileX, tileWidth - realX);
+      int theight = (int) Math.min(endY - tileY, tileLength - realY);
+      // copy appropriate portion of the tile to the output buffer
 
-        int copy = pixel * twidth;
+      int copy = pixel * twidth;
 
-        realX *= pixel;
-        realY *= rowLen;
+      realX *= pixel;
+      realY *= rowLen;
 
-        for (int q=0; q<effectiveChannels; q++) {
-          int src = (int) (q * tileSize) + realX + realY;
-          int dest = (int) (q * planeSize) + pixel * (tileX - x) +
-            outputRowLen * (tileY - y);
-          if (planarConfig == 2) dest += (planeSize * (row / nrows));
+      for (int q=0; q<effectiveChannels; q++) {
+        int src = (int) (q * tileSize) + realX + realY;
+        int destRow = (int) (q * height) + tileY - y;
+        if (planarConfig == 2) destRow += (int) (height * (row / nrows));
+        int dest = offset + destRow * stride + pixel * (tileX - x);
 
-          if (rowLen == outputRowLen) {
-            System.arraycopy(cachedTileBuffer, src, buf, dest, copy * theight);
+        if (rowLen == outputRowLen && stride == outputRowLen) {
+          FormatTools.put(cachedTileBuffer, src, buf, dest, copy * theight);
+        }
+        else {
+          for (int tileRow=0; tileRow<theight; tileRow++) {
+            FormatTools.put(cachedTileBuffer, src, buf, dest, copy);
+            src += rowLen;
+            dest += stride;
           }
-          else {
-            for (int tileRow=0; tileRow<theight; tileRow++) {
-              System.arraycopy(cachedTileBuffer, src, buf, dest, copy);
-              src += rowLen;
-              dest += outputRowLen;
+        }
+      }
+    }
+
+    return buf;
+  }
+
+  /**
+   * Reads a region of uncompressed samples that need no unpacking, merging
+   * the rows that lie close together in the file into single reads.  Rows
+   * of single-sample data that are contiguous in both the file and the
+   * output are read directly into the output buffer.
+   *
+   * @return false if the samples must be decoded tile by tile instead,
+   *   in which case nothing has been read
+   */
+  private boolean readUncompressed(IFD ifd, ByteBuffer buf, int offset,
+    int stride, int x, int y, long width, long height)
+    throws FormatException, IOException
+  {
+    TiffCompression compression = ifd.getCompression();
+    if (compression != TiffCompression.UNCOMPRESSED &&
+      compression != TiffCompression.DEFAULT_UNCOMPRESSED)
+    {
+      return false;
+    }
+    PhotoInterp photoInterp = ifd.getPhotometricInterpretation();
+    if (photoInterp == PhotoInterp.WHITE_IS_ZERO ||
+      photoInterp == PhotoInterp.CMYK || photoInterp == PhotoInterp.Y_CB_CR ||
+      ifd.getIFDIntValue(IFD.PREDICTOR, 1) != 1)
+    {
+      return false;
+    }
+    int[] bitsPerSample = ifd.getBitsPerSample();
+    for (int bits : bitsPerSample) {
+      if (bits != bitsPerSample[0] || (bits % 8) != 0) return false;
+    }
+    long[] stripOffsets = ifd.getStripOffsets();
+    if (stripOffsets == null) return false;
+    long[] stripByteCounts = ifd.getStripByteCounts();
+
+    int pixel = ifd.getBytesPerSample()[0];
+    int samplesPerPixel = ifd.getSamplesPerPixel();
+    boolean planar = ifd.getPlanarConfiguration() == 2;
+    int channels = planar ? 1 : samplesPerPixel;
+    int planes = planar ? samplesPerPixel : 1;
+    long tileWidth = ifd.getTileWidth();
+    long tileLength = ifd.getTileLength();
+    if (tileLength <= 0) tileLength = height;
+    long numTileRows = ifd.getTilesPerColumn();
+    long numTileCols = ifd.getTilesPerRow();
+    long tileRowLen = tileWidth * channels * pixel;
+    long fileLength = in.length();
+
+    // find the part of each row of each tile that is needed, in file order
+    Vector<Segment> segments = new Vector<Segment>();
+    for (int plane=0; plane<planes; plane++) {
+      for (long row=y/tileLength; row*tileLength<y+height; row++) {
+        for (long col=x/tileWidth; col*tileWidth<x+width; col++) {
+          long tile = (plane * numTileRows + row) * numTileCols + col;
+          if (tile >= stripOffsets.length ||
+            (stripByteCounts != null && tile < stripByteCounts.length &&
+            stripByteCounts[(int) tile] == 0))
+          {
+            return false;
+          }
+          long firstX = Math.max(x, col * tileWidth);
+          long lastX = Math.min(x + width, (col + 1) * tileWidth);
+          long firstY = Math.max(y, row * tileLength);
+          long lastY = Math.min(y + height, (row + 1) * tileLength);
+          int len = (int) ((lastX - firstX) * channels * pixel);
+
+          for (long r=firstY; r<lastY; r++) {
+            Segment segment = new Segment();
+            segment.offset = stripOffsets[(int) tile] +
+              (r - row * tileLength) * tileRowLen +
+              (firstX - col * tileWidth) * channels * pixel;
+            segment.length = len;
+            segment.dest = (int) (offset + (plane * height + r - y) * stride +
+              (firstX - x) * pixel);
+            if (segment.offset < 0 || segment.offset + len > fileLength) {
+              return false;
+            }
+            segments.add(segment);
+          }
+        }
+      }
+    }
+
+    byte[] array = buf.hasArray() ? buf.array() : null;
+    int arrayOffset = buf.hasArray() ? buf.arrayOffset() : 0;
+    byte[] run = null;
+    int next = 0;
+    while (next < segments.size()) {
+      // merge the following segments that are near enough to the first
+      int first = next;
+      Segment previous = segments.get(next++);
+      long start = previous.offset;
+      long end = start + previous.length;
+      boolean direct = channels == 1 && array != null;
+      while (next < segments.size()) {
+        Segment segment = segments.get(next);
+        if (segment.offset < end || segment.offset - end > MAX_READ_GAP ||
+          segment.offset + segment.length - start > MAX_READ_LENGTH)
+        {
+          break;
+        }
+        if (segment.offset != end ||
+          segment.dest != previous.dest + previous.length)
+        {
+          direct = false;
+        }
+        end = segment.offset + segment.length;
+        previous = segment;
+        next++;
+      }
+
+      int len = (int) (end - start);
+      in.seek(start);
+      if (direct) {
+        in.read(array, arrayOffset + segments.get(first).dest, len);
+        continue;
+      }
+      if (run == null || run.length < len) run = new byte[len];
+      in.read(run, 0, len);
+
+      for (int i=first; i<next; i++) {
+        Segment segment = segments.get(i);
+        int src = (int) (segment.offset - start);
+        if (channels == 1) {
+          FormatTools.put(run, src, buf, segment.dest, segment.length);
+          continue;
+        }
+        // separate the interleaved samples
+        int count = segment.length / (channels * pixel);
+        for (int c=0; c<channels; c++) {
+          int index = src + c * pixel;
+          int dest = (int) (segment.dest + c * height * stride);
+          for (int n=0; n<count; n++) {
+            for (int b=0; b<pixel; b++) {
+              if (array != null) array[arrayOffset + dest + b] = run[index + b];
+              else buf.put(dest + b, run[index + b]);
             }
+            index += channels * pixel;
+            dest += pixel;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Decompresses the stored bytes of a tile, and unpacks its samples into
+   * the given buffer.
+   */
+  private byte[] decodeTile(IFD ifd, byte[] buf, int row, byte[] tile)
+    throws FormatException, IOException
+  {
+    byte[] jpegTable = (byte[]) ifd.getIFDValue(IFD.JPEG_TABLES);
+
+    codecOptions.interleaved = true;
+    codecOptions.littleEndian = ifd.isLittleEndian();
+
+    TiffCompression compression = ifd.getCompression();
+    int pixel = ifd.getBytesPerSample()[0];
+    int size = getTileSize(ifd);
+
+    codecOptions.maxBytes = (int) Math.max(size, tile.length);
+
+    if (jpegTable != null) {
+      byte[] q = new byte[jpegTable.length + tile.length - 4];
+      System.arraycopy(jpegTable, 0, q, 0, jpegTable.length - 2);
+      System.arraycopy(tile, 2, q, jpegTable.length - 2, tile.length - 2);
+      tile = compression.decompress(q, codecOptions);
+    }
+    else tile = compression.decompress(tile, codecOptions);
+    TiffCompression.undifference(tile, ifd);
+    unpackBytes(buf, 0, tile, ifd);
+
+    if (ifd.getPlanarConfiguration() == 2 && !ifd.isTiled() &&
+      ifd.getSamplesPerPixel() > 1)
+    {
+      int channel = row % ifd.getStripOffsets().length;
+      if (channel < ifd.getBytesPerSample().length) {
+        int realBytes = ifd.getBytesPerSample()[channel];
+        if (realBytes != pixel) {
+          // re-pack pixels to account for differing bits per sample
+
+          boolean littleEndian = ifd.isLittleEndian();
+          int[] samples = new int[buf.length / pixel];
+          for (int i=0; i<samples.length; i++) {
+            samples[i] =
+              DataTools.bytesToInt(buf, i * realBytes, realBytes, littleEndian);
+          }
+
+          for (int i=0; i<samples.length; i++) {
+            DataTools.unpackBytes(
+              samples[i], buf, i * pixel, pixel, littleEndian);
           }
         }
       }
@@ -858,6 +1092,34 @@ public class TiffParser {
     return buf;
   }
 
+  /**
+   * Returns the number of bytes stored for each tile, correcting counts
+   * that were written as a number of samples.
+   */
+  private long[] getTileByteCounts(IFD ifd) throws FormatException {
+    long[] stripByteCounts = ifd.getStripByteCounts();
+    long[] rowsPerStrip = ifd.getRowsPerStrip();
+    long tileWidth = ifd.getTileWidth();
+    int pixel = ifd.getBytesPerSample()[0];
+    if (pixel > 1) {
+      for (int i=0; i<stripByteCounts.length; i++) {
+        if (stripByteCounts[i] == rowsPerStrip[0] * tileWidth) {
+          stripByteCounts[i] *= pixel;
+        }
+      }
+    }
+    return stripByteCounts;
+  }
+
+  /** Returns the number of bytes in a decoded tile. */
+  private int getTileSize(IFD ifd) throws FormatException {
+    int pixel = ifd.getBytesPerSample()[0];
+    int effectiveChannels =
+      ifd.getPlanarConfiguration() == 2 ? 1 : ifd.getSamplesPerPixel();
+    return (int) (ifd.getTileWidth() * ifd.getTileLength() * pixel *
+      effectiveChannels);
+  }
+
   // -- Utility methods - byte stream decoding --
 
   /**
@@ -1076,4 +1338,21 @@ public class TiffParser {
     return new TiffIFDEntry(entryTag, entryType, valueCount, offset);
   }
 
+  // -- Helper classes --
+
+  /**
+   * A range of bytes in the file and where they belong: an index in the
+   * output, or the number of the tile that they hold.
+   */
+  private static class Segment implements Comparable<Segment> {
+    public long offset;
+    public int length;
+    public int dest;
+
+    public int compareTo(Segment segment) {
+      if (offset == segment.offset) return 0;
+      return offset < segment.offset ? -1 : 1;
+    }
+  }
+
 }
@@ -77,6 +77,15 @@ public class TiffSaver {
   /** The codec options if set. */
   private CodecOptions options;
 
+  /** Position of the next IFD offset of the last IFD written. */
+  private long nextOffsetPointer = -1;
+
+  /**
+   * Position of the next IFD offset of the last image IFD written, or -1 if
+   * that IFD ends the file.
+   */
+  private long imageNextOffsetPointer = -1;
+
   // -- Constructors --
 
   /**
@@ -168,6 +177,11 @@ public class TiffSaver {
     this.options = options;
   }
 
+  /** Gets the codec options, or null if they have not been set. */
+  public CodecOptions getCodecOptions() {
+    return options;
+  }
+
   /** Writes the TIFF file header. */
   public void writeHeader() throws IOException {
     // write endianness indicator
@@ -506,6 +520,7 @@ public class TiffSaver {
           Arrays.toString(toPrimitiveArray(byteCounts)));
     }
     writeIFD(ifd, last ? 0 : endFP);
+    imageNextOffsetPointer = last ? -1 : nextOffsetPointer;
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Offset after IFD write: {}", out.getFilePointer());
     }
@@ -540,6 +555,7 @@ public class TiffSaver {
       writeIFDValue(extraStream, ifdBytes + fp, key.intValue(), value);
     }
     if (bigTiff) out.seek(out.getFilePointer());
+    nextOffsetPointer = out.getFilePointer();
     writeIntValue(out, nextOffset);
     out.write(extra.getBytes(), 0, (int) extra.length());
   }
@@ -701,6 +717,20 @@ public class TiffSaver {
     }
   }
 
+  /**
+   * Points the last image IFD written by {@link #writeImage} at the end of
+   * the file.  The next image IFD is always appended to the file, so this
+   * must be called whenever other data, such as reduced resolutions, has
+   * been appended after the last image.
+   */
+  public void linkLastImageIFD() throws IOException {
+    if (imageNextOffsetPointer < 0) return;
+    long end = out.length();
+    out.seek(imageNextOffsetPointer);
+    writeIntValue(out, end);
+    out.seek(end);
+  }
+
   public void overwriteLastIFDOffset(RandomAccessInputStream raf)
     throws FormatException, IOException
   {
@@ -828,7 +858,7 @@ public class TiffSaver {
         writeIntValue(out, newOffset);
         if (extraBuf.length() > 0) {
           out.seek(newOffset);
-          out.write(extraBuf.getByteBuffer(), 0, newCount);
+          out.write(extraBuf.getByteBuffer(), 0, (int) extraBuf.length());
         }
         return;
       }
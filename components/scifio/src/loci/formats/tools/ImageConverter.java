@@ -25,13 +25,30 @@ package loci.formats.tools;
 
 import java.awt.image.IndexColorModel;
 import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.InputStreamReader;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import loci.common.DataTools;
 import loci.common.DebugTools;
 import loci.common.Location;
+import loci.common.RandomAccessInputStream;
 import loci.common.services.DependencyException;
 import loci.common.services.ServiceException;
 import loci.common.services.ServiceFactory;
@@ -59,6 +76,7 @@ import loci.formats.out.TiffWriter;
 import loci.formats.services.OMEXMLService;
 import loci.formats.services.OMEXMLServiceImpl;
 import loci.formats.tiff.IFD;
+import loci.formats.tiff.TiffParser;
 
 import ome.xml.model.Image;
 import ome.xml.model.OME;
@@ -82,6 +100,12 @@ public final class ImageConverter {
   private static final Logger LOGGER =
     LoggerFactory.getLogger(ImageConverter.class);
 
+  /** Suffix of the checkpoint journal written next to the output file. */
+  private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+
+  /** Minimum time between two checkpoints, in milliseconds. */
+  private static final long CHECKPOINT_INTERVAL = 1000;
+
   // -- Fields --
 
   private String in = null, out = null;
@@ -97,10 +121,44 @@ public final class ImageConverter {
   private int lastPlane = Integer.MAX_VALUE;
   private int channel = -1, zSection = -1, timepoint = -1;
   private int xCoordinate = 0, yCoordinate = 0, width = 0, height = 0;
+  private int threads = 1;
+  private boolean resume = false;
 
   private IFormatReader reader;
   private MinMaxCalculator minMax;
 
+  /** Time spent reading and writing planes, in milliseconds. */
+  private long read = 0, write = 0;
+  private long timeLastLogged;
+
+  /** Number of pixel bytes converted. */
+  private long bytes = 0;
+
+  /** Options which affect the output, recorded in the checkpoint journal. */
+  private String options;
+
+  /** Checkpoint journal of an interrupted conversion being resumed. */
+  private Properties checkpoint;
+
+  /** Last series and plane which the journal records as fully written. */
+  private int resumeSeries = -1, resumePlane = -1;
+
+  /** Output files which already contain planes from an earlier run. */
+  private Set<String> resumedFiles;
+
+  private long lastCheckpoint = 0;
+
+  /** Thread pool used to read planes when converting with several threads. */
+  private ExecutorService executor;
+
+  /** Reader belonging to each conversion thread. */
+  private final ThreadLocal<IFormatReader> threadReader =
+    new ThreadLocal<IFormatReader>();
+
+  /** All readers belonging to conversion threads. */
+  private final List<IFormatReader> threadReaders =
+    Collections.synchronizedList(new ArrayList<IFormatReader>());
+
   // -- Constructor --
 
   private ImageConverter() { }
@@ -155,6 +213,10 @@ public final class ImageConverter {
             }
             catch (NumberFormatException exc) { }
           }
+          else if (args[i].equals("-threads")) {
+            threads = Integer.parseInt(args[++i]);
+          }
+          else if (args[i].equals("-resume")) resume = true;
           else if (args[i].equals("-crop")) {
             String[] tokens = args[++i].split(",");
             xCoordinate = Integer.parseInt(tokens[0]);
@@ -194,8 +256,8 @@ public final class ImageConverter {
         "  bfconvert [-debug] [-stitch] [-separate] [-merge] [-expand]",
         "    [-bigtiff] [-compression codec] [-series series] [-map id]",
         "    [-range start end] [-crop x,y,w,h] [-channel channel] [-z Z]",
-        "    [-timepoint timepoint] [-nogroup] [-autoscale] [-version]",
-        "    in_file out_file",
+        "    [-timepoint timepoint] [-nogroup] [-autoscale] [-threads N]",
+        "    [-resume] [-version] in_file out_file",
         "",
         "    -version: print the library version and exit",
         "      -debug: turn on debugging output",
@@ -219,6 +281,12 @@ public final class ImageConverter {
         "    -channel: only convert the specified channel (indexed from 0)",
         "          -z: only convert the specified Z section (indexed from 0)",
         "  -timepoint: only convert the specified timepoint (indexed from 0)",
+        "    -threads: number of threads used to read and convert planes;",
+        "              planes are still written in order",
+        "     -resume: record progress in out_file" + CHECKPOINT_SUFFIX +
+        ", and if that",
+        "              file exists, resume the interrupted conversion which",
+        "              wrote it; TIFF and OME-TIFF output only",
         "",
         "If any of the following patterns are present in out_file, they will",
         "be replaced with the indicated metadata value from the input file.",
@@ -255,7 +323,19 @@ public final class ImageConverter {
       return false;
     }
 
-    if (new Location(out).exists()) {
+    options = getOptions(args);
+    if (resume) {
+      checkpoint = readCheckpoint();
+      if (checkpoint != null &&
+        !options.equals(checkpoint.getProperty("options")))
+      {
+        LOGGER.error("{} was written by a conversion with different options;" +
+          " exiting.", out + CHECKPOINT_SUFFIX);
+        return false;
+      }
+    }
+
+    if (checkpoint == null && new Location(out).exists()) {
       if (overwrite == null) {
         LOGGER.warn("Output file {} exists.", out);
         LOGGER.warn("Do you want to overwrite it? ([y]/n)");
@@ -277,9 +357,7 @@ public final class ImageConverter {
 
     long start = System.currentTimeMillis();
     LOGGER.info(in);
-    reader = new ImageReader();
     if (stitch) {
-      reader = new FileStitcher(reader);
       Location f = new Location(in);
       String pat = null;
       if (!f.exists()) {
@@ -290,18 +368,9 @@ public final class ImageConverter {
       }
       if (pat != null) in = pat;
     }
-    if (separate) reader = new ChannelSeparator(reader);
-    if (merge) reader = new ChannelMerger(reader);
-    if (fill) reader = new ChannelFiller(reader);
-    minMax = null;
-    if (autoscale) {
-      reader = new MinMaxCalculator(reader);
-      minMax = (MinMaxCalculator) reader;
-    }
+    reader = createReader();
+    minMax = autoscale ? (MinMaxCalculator) reader : null;
 
-    reader.setGroupFiles(group);
-    reader.setMetadataFiltered(true);
-    reader.setOriginalMetadataPopulated(true);
     OMEXMLService service = null;
     try {
       ServiceFactory factory = new ServiceFactory();
@@ -384,88 +453,123 @@ public final class ImageConverter {
       }
     }
 
+    if (resume && getTiffWriter(writer) == null) {
+      LOGGER.error("-resume is only supported for TIFF output; exiting.");
+      return false;
+    }
+
     String format = writer.getFormat();
     LOGGER.info("[{}] -> {} [{}]",
       new Object[] {reader.getFormat(), out, format});
     long mid = System.currentTimeMillis();
 
+    int skipped = 0;
+    if (checkpoint != null && !validateOutput()) return false;
+
     int total = 0;
     int num = writer.canDoStacks() ? reader.getSeriesCount() : 1;
-    long read = 0, write = 0;
+    read = 0;
+    write = 0;
     int first = series == -1 ? 0 : series;
     int last = series == -1 ? num : series + 1;
-    long timeLastLogged = System.currentTimeMillis();
-    for (int q=first; q<last; q++) {
-      reader.setSeries(q);
+    timeLastLogged = System.currentTimeMillis();
+    if (threads > 1) executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int q=first; q<last; q++) {
+        reader.setSeries(q);
 
-      if (!dimensionsSet) {
-        width = reader.getSizeX();
-        height = reader.getSizeY();
-      }
+        if (!dimensionsSet) {
+          width = reader.getSizeX();
+          height = reader.getSizeY();
+        }
 
-      int writerSeries = series == -1 ? q : 0;
-      writer.setSeries(writerSeries);
-      writer.setInterleaved(reader.isInterleaved() && !autoscale);
-      writer.setValidBitsPerPixel(reader.getBitsPerPixel());
-      int numImages = writer.canDoStacks() ? reader.getImageCount() : 1;
+        int writerSeries = series == -1 ? q : 0;
+        writer.setSeries(writerSeries);
+        writer.setInterleaved(reader.isInterleaved() && !autoscale);
+        writer.setValidBitsPerPixel(reader.getBitsPerPixel());
+        int numImages = writer.canDoStacks() ? reader.getImageCount() : 1;
 
-      int startPlane = (int) Math.max(0, firstPlane);
-      int endPlane = (int) Math.min(numImages, lastPlane);
-      numImages = endPlane - startPlane;
+        int startPlane = (int) Math.max(0, firstPlane);
+        int endPlane = (int) Math.min(numImages, lastPlane);
+        numImages = endPlane - startPlane;
 
-      if (channel >= 0) {
-        numImages /= reader.getEffectiveSizeC();
-      }
-      if (zSection >= 0) {
-        numImages /= reader.getSizeZ();
-      }
-      if (timepoint >= 0) {
-        numImages /= reader.getSizeT();
-      }
+        if (channel >= 0) {
+          numImages /= reader.getEffectiveSizeC();
+        }
+        if (zSection >= 0) {
+          numImages /= reader.getSizeZ();
+        }
+        if (timepoint >= 0) {
+          numImages /= reader.getSizeT();
+        }
+
+        total += numImages;
+
+        List<Integer> planes = new ArrayList<Integer>();
+        for (int i=startPlane; i<endPlane; i++) {
+          int[] coords = reader.getZCTCoords(i);
 
-      total += numImages;
+          if ((zSection >= 0 && coords[0] != zSection) ||
+            (channel >= 0 && coords[1] != channel) ||
+            (timepoint >= 0 && coords[2] != timepoint))
+          {
+            continue;
+          }
+          planes.add(i);
+        }
 
-      int count = 0;
-      for (int i=startPlane; i<endPlane; i++) {
-        int[] coords = reader.getZCTCoords(i);
+        int count = 0;
+        if (checkpoint != null) {
+          count = skipWrittenPlanes(writer, q, planes, startPlane);
+          skipped += count;
+          total -= count;
+        }
 
-        if ((zSection >= 0 && coords[0] != zSection) || (channel >= 0 &&
-          coords[1] != channel) || (timepoint >= 0 && coords[2] != timepoint))
-        {
+        if (executor != null) {
+          convertPlanes(writer, q, planes, startPlane, numImages, last - first,
+            count);
           continue;
         }
 
-        writer.setId(FormatTools.getFilename(q, i, reader, out));
-        if (compression != null) writer.setCompression(compression);
+        for (int i : planes) {
+          String filename = FormatTools.getFilename(q, i, reader, out);
+          openOutput(writer, filename);
 
-        long s = System.currentTimeMillis();
-        long m = convertPlane(writer, i, startPlane);
-        long e = System.currentTimeMillis();
-        read += m - s;
-        write += e - m;
+          long s = System.currentTimeMillis();
+          long m = convertPlane(writer, i, startPlane);
+          long e = System.currentTimeMillis();
+          read += m - s;
+          write += e - m;
 
-        // log number of planes processed every second or so
-        if (count == numImages - 1 || (e - timeLastLogged) / 1000 > 0) {
-          int current = (count - startPlane) + 1;
-          int percent = 100 * current / numImages;
-          StringBuilder sb = new StringBuilder();
-          sb.append("\t");
-          int numSeries = last - first;
-          if (numSeries > 1) {
-            sb.append("Series ");
-            sb.append(q);
-            sb.append(": converted ");
+          if (resume) {
+            saveCheckpoint(q, i, filename, count == numImages - 1);
           }
-          else sb.append("Converted ");
-          LOGGER.info(sb.toString() + "{}/{} planes ({}%)",
-            new Object[] {current, numImages, percent});
-          timeLastLogged = e;
+          logProgress(q, count, startPlane, numImages, last - first, e);
+          count++;
+        }
+      }
+    }
+    finally {
+      if (executor != null) {
+        // regions still being read must finish before their readers close
+        executor.shutdown();
+        try {
+          executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+          throw new FormatException(e);
+        }
+        finally {
+          executor = null;
+          for (IFormatReader r : threadReaders) r.close();
+          threadReaders.clear();
         }
-        count++;
       }
     }
+    long closeStart = System.currentTimeMillis();
     writer.close();
     long end = System.currentTimeMillis();
+    if (resume) new File(out + CHECKPOINT_SUFFIX).delete();
     LOGGER.info("[done]");
 
     // output timing results
@@ -475,31 +579,437 @@ public final class ImageConverter {
     float writeAvg = (float) write / total;
     LOGGER.info("{}s elapsed ({}+{}ms per plane, {}ms overhead)",
       new Object[] {sec, readAvg, writeAvg, initial});
+    LOGGER.info("\tinitialization: {}ms", initial);
+    if (checkpoint != null) {
+      LOGGER.info("\tresume: {} planes already written", skipped);
+    }
+    float mb = bytes / (1024f * 1024f);
+    LOGGER.info("\tread: {} MB in {}ms ({} MB/s)",
+      new Object[] {mb, read, getRate(mb, read)});
+    LOGGER.info("\twrite: {} MB in {}ms ({} MB/s)",
+      new Object[] {mb, write, getRate(mb, write)});
+    LOGGER.info("\tclose: {}ms", end - closeStart);
 
     return true;
   }
 
   // -- Helper methods --
 
-  private long convertPlane(IFormatWriter writer, int index, int startPlane)
+  /** Creates a reader for the input file, with the requested wrappers. */
+  private IFormatReader createReader() {
+    IFormatReader r = new ImageReader();
+    if (stitch) r = new FileStitcher(r);
+    if (separate) r = new ChannelSeparator(r);
+    if (merge) r = new ChannelMerger(r);
+    if (fill) r = new ChannelFiller(r);
+    if (autoscale) r = new MinMaxCalculator(r);
+
+    r.setGroupFiles(group);
+    r.setMetadataFiltered(true);
+    r.setOriginalMetadataPopulated(true);
+    return r;
+  }
+
+  /** Logs the number of planes processed every second or so. */
+  private void logProgress(int q, int count, int startPlane, int numImages,
+    int numSeries, long e)
+  {
+    if (count == numImages - 1 || (e - timeLastLogged) / 1000 > 0) {
+      int current = (count - startPlane) + 1;
+      int percent = 100 * current / numImages;
+      StringBuilder sb = new StringBuilder();
+      sb.append("\t");
+      if (numSeries > 1) {
+        sb.append("Series ");
+        sb.append(q);
+        sb.append(": converted ");
+      }
+      else sb.append("Converted ");
+      LOGGER.info(sb.toString() + "{}/{} planes ({}%)",
+        new Object[] {current, numImages, percent});
+      timeLastLogged = e;
+    }
+  }
+
+  /** Returns the throughput in MB/s, given a size in MB and a time in ms. */
+  private float getRate(float mb, long time) {
+    return time == 0 ? 0 : mb * 1000 / time;
+  }
+
+  /**
+   * Returns the TIFF writer which will save the output, or null if the
+   * output is not a TIFF file.
+   */
+  private TiffWriter getTiffWriter(IFormatWriter writer)
+    throws FormatException
+  {
+    if (writer instanceof ImageWriter) {
+      writer = ((ImageWriter) writer).getWriter(out);
+    }
+    return writer instanceof TiffWriter ? (TiffWriter) writer : null;
+  }
+
+  /**
+   * Returns the command line arguments which affect the output, so that a
+   * conversion is only resumed with the options it was started with.
+   */
+  private String getOptions(String[] args) {
+    StringBuilder sb = new StringBuilder();
+    for (int i=0; i<args.length; i++) {
+      if (args[i].equals("-resume") || args[i].equals("-debug") ||
+        args[i].equals("-overwrite") || args[i].equals("-nooverwrite"))
+      {
+        continue;
+      }
+      if (args[i].equals("-threads")) {
+        i++;
+        continue;
+      }
+      if (sb.length() > 0) sb.append(" ");
+      sb.append(args[i]);
+    }
+    return sb.toString();
+  }
+
+  /** Reads the checkpoint journal, or returns null if there is none. */
+  private Properties readCheckpoint() throws IOException {
+    File journal = new File(out + CHECKPOINT_SUFFIX);
+    if (!journal.exists()) return null;
+    Properties p = new Properties();
+    FileInputStream s = new FileInputStream(journal);
+    try {
+      p.load(s);
+    }
+    finally {
+      s.close();
+    }
+    try {
+      resumeSeries = Integer.parseInt(p.getProperty("series"));
+      resumePlane = Integer.parseInt(p.getProperty("plane"));
+      Long.parseLong(p.getProperty("length"));
+    }
+    catch (NumberFormatException e) {
+      throw new IOException("Invalid checkpoint journal: " + journal);
+    }
+    if (p.getProperty("file") == null) {
+      throw new IOException("Invalid checkpoint journal: " + journal);
+    }
+    resumedFiles = new HashSet<String>();
+    return p;
+  }
+
+  /**
+   * Records that the given plane, and every plane before it, is in the
+   * output.  The journal is replaced atomically, at most once per
+   * {@link #CHECKPOINT_INTERVAL} unless <code>force</code> is set.
+   */
+  private void saveCheckpoint(int q, int plane, String file, boolean force)
+    throws IOException
+  {
+    long now = System.currentTimeMillis();
+    if (!force && now - lastCheckpoint < CHECKPOINT_INTERVAL) return;
+    lastCheckpoint = now;
+
+    Properties p = new Properties();
+    p.setProperty("options", options);
+    p.setProperty("series", String.valueOf(q));
+    p.setProperty("plane", String.valueOf(plane));
+    p.setProperty("file", file);
+    p.setProperty("length", String.valueOf(new File(file).length()));
+
+    File journal = new File(out + CHECKPOINT_SUFFIX);
+    File tmp = new File(journal.getPath() + ".tmp");
+    FileOutputStream s = new FileOutputStream(tmp);
+    try {
+      p.store(s, "bfconvert checkpoint");
+      s.getFD().sync();
+    }
+    finally {
+      s.close();
+    }
+    if (!tmp.renameTo(journal)) {
+      journal.delete();
+      if (!tmp.renameTo(journal)) {
+        throw new IOException("Could not write " + journal);
+      }
+    }
+  }
+
+  /**
+   * Checks that the last file recorded in the checkpoint journal, up to the
+   * recorded length, is a TIFF file whose planes all lie within that length,
+   * and then truncates it to that length.  Anything after it was written
+   * after the checkpoint.  The file is left untouched if it is not valid.
+   */
+  private boolean validateOutput() throws FormatException, IOException {
+    String file = checkpoint.getProperty("file");
+    long length = Long.parseLong(checkpoint.getProperty("length"));
+    File f = new File(file);
+    if (!f.exists() || f.length() < length) {
+      LOGGER.error("{} is missing or shorter than when the checkpoint was " +
+        "written; exiting.", file);
+      return false;
+    }
+    LOGGER.info("Resuming after series {}, plane {} ({})",
+      new Object[] {resumeSeries, resumePlane, file});
+
+    RandomAccessInputStream in = new RandomAccessInputStream(file);
+    in.setLength(length);
+    TiffParser parser = new TiffParser(in);
+    try {
+      long[] offsets = parser.isValidHeader() ? parser.getIFDOffsets() : null;
+      if (offsets == null || offsets.length == 0) {
+        LOGGER.error("{} is not a valid TIFF file; exiting.", file);
+        return false;
+      }
+      IFD ifd = parser.getIFD(offsets[offsets.length - 1]);
+      long[] stripOffsets = ifd.getStripOffsets();
+      // read the byte counts as stored, as getStripByteCounts() adjusts them
+      long[] stripByteCounts = ifd.getIFDLongArray(ifd.isTiled() ?
+        IFD.TILE_BYTE_COUNTS : IFD.STRIP_BYTE_COUNTS);
+      if (stripByteCounts == null) {
+        stripByteCounts = ifd.getIFDLongArray(IFD.STRIP_BYTE_COUNTS);
+      }
+      for (int i=0; i<stripOffsets.length; i++) {
+        if (stripOffsets[i] + stripByteCounts[i] > length) {
+          LOGGER.error("The last image in {} is incomplete; exiting.", file);
+          return false;
+        }
+      }
+    }
+    finally {
+      in.close();
+    }
+
+    RandomAccessFile raf = new RandomAccessFile(f, "rw");
+    try {
+      raf.setLength(length);
+    }
+    finally {
+      raf.close();
+    }
+    resumedFiles.add(file);
+    return true;
+  }
+
+  /**
+   * Removes the planes which the checkpoint journal records as written from
+   * the start of the given list, and tells the writer that they are already
+   * in the output.
+   *
+   * @return the number of planes removed
+   */
+  private int skipWrittenPlanes(IFormatWriter writer, int q,
+    List<Integer> planes, int startPlane)
+    throws FormatException, IOException
+  {
+    int skipped = 0;
+    while (planes.size() > 0 && (q < resumeSeries ||
+      (q == resumeSeries && planes.get(0) <= resumePlane)))
+    {
+      int i = planes.remove(0);
+      String filename = FormatTools.getFilename(q, i, reader, out);
+      if (!resumedFiles.contains(filename)) {
+        if (!new Location(filename).exists()) {
+          throw new FormatException("Cannot resume; " + filename +
+            " is missing");
+        }
+        resumedFiles.add(filename);
+      }
+      writer.setId(filename);
+      if (compression != null) writer.setCompression(compression);
+      getTiffWriter(writer).setPlaneWritten(i - startPlane);
+      skipped++;
+    }
+    return skipped;
+  }
+
+  /** Sets the file to which the next plane is written. */
+  private void openOutput(IFormatWriter writer, String filename)
     throws FormatException, IOException
   {
+    if (resumedFiles != null && !resumedFiles.contains(filename)) {
+      // a file which is not in the checkpoint can only hold planes which
+      // were written after it, so it is started again
+      new Location(filename).delete();
+      resumedFiles.add(filename);
+    }
+    writer.setId(filename);
+    if (compression != null) writer.setCompression(compression);
+  }
+
+  /** Returns true if planes are converted one tile at a time. */
+  private boolean isTiled(IFormatWriter writer) throws FormatException {
     if (width * height >= 4096 * 4096) {
       // this is a "big image", so we will attempt to convert it one tile
       // at a time
+      return getTiffWriter(writer) != null;
+    }
+    return false;
+  }
 
-      if ((writer instanceof TiffWriter) || ((writer instanceof ImageWriter) &&
-        (((ImageWriter) writer).getWriter(out) instanceof TiffWriter)))
-      {
-        return convertTilePlane(writer, index, startPlane);
+  /**
+   * Converts the given planes of one series, using the thread pool to read
+   * planes (or tiles) with one reader per thread.  The converted planes are
+   * handed to the writer in the same order, and with the same calls, as in
+   * a single threaded conversion, so the output is identical.
+   */
+  private void convertPlanes(IFormatWriter writer, final int q,
+    List<Integer> planes, int startPlane, int numImages, int numSeries,
+    int count)
+    throws FormatException, IOException
+  {
+    // divide each plane into the regions which are read and written at once
+    List<int[]> regions = new ArrayList<int[]>();
+    boolean tiled = isTiled(writer);
+    for (int i : planes) {
+      if (tiled) {
+        int w = width;
+        int h = 1;
+        int nXTiles = width / w;
+        int nYTiles = height / h;
+        for (int y=0; y<nYTiles; y++) {
+          for (int x=0; x<nXTiles; x++) {
+            int tileWidth = x < nXTiles - 1 ? w : w - (width % w);
+            int tileHeight = y < nYTiles - 1 ? h : h - (height % h);
+            regions.add(new int[] {i, xCoordinate + x * w,
+              yCoordinate + y * h, tileWidth, tileHeight,
+              x == 0 && y == 0 ? 1 : 0,
+              x == nXTiles - 1 && y == nYTiles - 1 ? 1 : 0});
+          }
+        }
+      }
+      else {
+        regions.add(new int[] {i, xCoordinate, yCoordinate, width, height,
+          1, 1});
       }
     }
 
+    // keep a bounded number of regions in flight, to limit memory use
+    int window = threads * 2;
+    LinkedList<Future<ConvertedRegion>> pending =
+      new LinkedList<Future<ConvertedRegion>>();
+    int next = 0;
+    IFD ifd = null;
+    String filename = null;
+    try {
+      while (next < regions.size() || pending.size() > 0) {
+        while (next < regions.size() && pending.size() < window) {
+          final int[] region = regions.get(next++);
+          pending.add(executor.submit(new Callable<ConvertedRegion>() {
+            public ConvertedRegion call() throws FormatException, IOException {
+              return readRegion(q, region);
+            }
+          }));
+        }
+
+        ConvertedRegion converted = getResult(pending.removeFirst());
+        int[] region = converted.region;
+        int index = region[0];
+        read += converted.readTime;
+        bytes += converted.buf.length;
+
+        long m = System.currentTimeMillis();
+        if (region[5] == 1) {
+          filename = FormatTools.getFilename(q, index, reader, out);
+          openOutput(writer, filename);
+          ifd = new IFD();
+        }
+        if (converted.lut != null) {
+          byte[][] lut = converted.lut;
+          writer.setColorModel(
+            new IndexColorModel(8, lut[0].length, lut[0], lut[1], lut[2]));
+        }
+        if (tiled) {
+          ifd.put(IFD.TILE_WIDTH, region[3]);
+          ifd.put(IFD.TILE_LENGTH, region[4]);
+          saveTile(writer, index - startPlane, converted.buf, ifd,
+            region[1], region[2], region[3], region[4]);
+        }
+        else writer.saveBytes(index - startPlane, converted.buf);
+        long e = System.currentTimeMillis();
+        write += e - m;
+
+        if (region[6] == 1) {
+          if (resume) {
+            saveCheckpoint(q, index, filename, count == numImages - 1);
+          }
+          logProgress(q, count, startPlane, numImages, numSeries, e);
+          count++;
+        }
+      }
+    }
+    finally {
+      // if converting failed, drop the regions that have not started yet
+      for (Future<ConvertedRegion> future : pending) future.cancel(false);
+    }
+  }
+
+  /** Reads and converts one region, using the current thread's reader. */
+  private ConvertedRegion readRegion(int q, int[] region)
+    throws FormatException, IOException
+  {
+    long s = System.currentTimeMillis();
+    IFormatReader r = threadReader.get();
+    if (r == null) {
+      r = createReader();
+      r.setId(in);
+      threadReader.set(r);
+      threadReaders.add(r);
+    }
+    if (r.getSeries() != q) r.setSeries(q);
+
+    ConvertedRegion converted = new ConvertedRegion();
+    converted.region = region;
+    converted.buf =
+      r.openBytes(region[0], region[1], region[2], region[3], region[4]);
+    autoscalePlane(r, autoscale ? (MinMaxCalculator) r : null,
+      converted.buf, region[0]);
+    converted.lut = r.get8BitLookupTable();
+    converted.readTime = System.currentTimeMillis() - s;
+    return converted;
+  }
+
+  /** Waits for the given region, rethrowing any exception from reading it. */
+  private ConvertedRegion getResult(Future<ConvertedRegion> future)
+    throws FormatException, IOException
+  {
+    try {
+      return future.get();
+    }
+    catch (InterruptedException e) {
+      throw new FormatException(e);
+    }
+    catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof FormatException) throw (FormatException) cause;
+      if (cause instanceof IOException) throw (IOException) cause;
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      throw new FormatException(cause);
+    }
+  }
+
+  private void saveTile(IFormatWriter writer, int no, byte[] buf, IFD ifd,
+    int x, int y, int w, int h)
+    throws FormatException, IOException
+  {
+    TiffWriter tiffWriter = getTiffWriter(writer);
+    if (tiffWriter != null) tiffWriter.saveBytes(no, buf, ifd, x, y, w, h);
+  }
+
+  private long convertPlane(IFormatWriter writer, int index, int startPlane)
+    throws FormatException, IOException
+  {
+    if (isTiled(writer)) {
+      return convertTilePlane(writer, index, startPlane);
+    }
+
     byte[] buf =
       reader.openBytes(index, xCoordinate, yCoordinate, width, height);
 
-    autoscalePlane(buf, index);
+    autoscalePlane(reader, minMax, buf, index);
     applyLUT(writer);
+    bytes += buf.length;
     long m = System.currentTimeMillis();
     writer.saveBytes(index - startPlane, buf);
     return m;
@@ -525,31 +1035,24 @@ public final class ImageConverter {
         byte[] buf =
           reader.openBytes(index, tileX, tileY, tileWidth, tileHeight);
 
-        autoscalePlane(buf, index);
+        autoscalePlane(reader, minMax, buf, index);
         applyLUT(writer);
+        bytes += buf.length;
         if (m == null) {
           m = System.currentTimeMillis();
         }
         ifd.put(IFD.TILE_WIDTH, tileWidth);
         ifd.put(IFD.TILE_LENGTH, tileHeight);
 
-        if (writer instanceof TiffWriter) {
-          ((TiffWriter) writer).saveBytes(index - startPlane, buf,
-            ifd, tileX, tileY, tileWidth, tileHeight);
-        }
-        else if (writer instanceof ImageWriter) {
-          IFormatWriter baseWriter = ((ImageWriter) writer).getWriter(out);
-          if (baseWriter instanceof TiffWriter) {
-            ((TiffWriter) baseWriter).saveBytes(index - startPlane, buf, ifd,
-              tileX, tileY, tileWidth, tileHeight);
-          }
-        }
+        saveTile(writer, index - startPlane, buf, ifd,
+          tileX, tileY, tileWidth, tileHeight);
       }
     }
     return m;
   }
 
-  private void autoscalePlane(byte[] buf, int index)
+  private void autoscalePlane(IFormatReader reader, MinMaxCalculator minMax,
+    byte[] buf, int index)
     throws FormatException, IOException
   {
     if (autoscale) {
@@ -602,6 +1105,17 @@ public final class ImageConverter {
     }
   }
 
+  // -- Helper classes --
+
+  /** A region of a plane which has been read and is ready to be written. */
+  private static class ConvertedRegion {
+    /** Plane index, x, y, width, height, first and last region flags. */
+    public int[] region;
+    public byte[] buf;
+    public byte[][] lut;
+    public long readTime;
+  }
+
   // -- Main method --
 
   public static void main(String[] args) throws FormatException, IOException {
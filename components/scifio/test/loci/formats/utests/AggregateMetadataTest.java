@@ -0,0 +1,97 @@
+//
+// AggregateMetadataTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests;
+
+import static org.testng.AssertJUnit.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import loci.formats.meta.AggregateMetadata;
+import loci.formats.meta.DummyMetadata;
+import loci.formats.ome.OMEXMLMetadataImpl;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the delegation performed by {@link AggregateMetadata}.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/scifio/test/loci/formats/utests/AggregateMetadataTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/scifio/test/loci/formats/utests/AggregateMetadataTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class AggregateMetadataTest {
+
+  @Test
+  public void testSingleDelegate() {
+    OMEXMLMetadataImpl omexml = new OMEXMLMetadataImpl();
+    List<Object> delegates = new ArrayList<Object>();
+    delegates.add(omexml);
+    AggregateMetadata aggregate = new AggregateMetadata(delegates);
+    aggregate.setImageName("test", 0);
+    assertEquals("test", omexml.getImageName(0));
+    assertEquals("test", aggregate.getImageName(0));
+    assertEquals(1, aggregate.getImageCount());
+  }
+
+  @Test
+  public void testMultipleDelegates() {
+    OMEXMLMetadataImpl first = new OMEXMLMetadataImpl();
+    OMEXMLMetadataImpl second = new OMEXMLMetadataImpl();
+    List<Object> delegates = new ArrayList<Object>();
+    delegates.add(new DummyMetadata());
+    delegates.add(new Object());
+    delegates.add(first);
+    delegates.add(second);
+    AggregateMetadata aggregate = new AggregateMetadata(delegates);
+    aggregate.setImageName("test", 0);
+    assertEquals("test", first.getImageName(0));
+    assertEquals("test", second.getImageName(0));
+    // DummyMetadata returns null, so the first OME-XML delegate answers
+    assertEquals("test", aggregate.getImageName(0));
+  }
+
+  @Test
+  public void testSetDelegates() {
+    OMEXMLMetadataImpl first = new OMEXMLMetadataImpl();
+    OMEXMLMetadataImpl second = new OMEXMLMetadataImpl();
+    List<Object> delegates = new ArrayList<Object>();
+    delegates.add(first);
+    AggregateMetadata aggregate = new AggregateMetadata(delegates);
+    delegates.add(second);
+    aggregate.setDelegates(delegates);
+    assertSame(delegates, aggregate.getDelegates());
+    aggregate.setImageName("test", 0);
+    assertEquals("test", second.getImageName(0));
+  }
+
+  @Test
+  public void testNoDelegates() {
+    AggregateMetadata aggregate = new AggregateMetadata(new ArrayList());
+    aggregate.setImageName("test", 0);
+    assertNull(aggregate.getImageName(0));
+    assertEquals(-1, aggregate.getImageCount());
+  }
+
+}
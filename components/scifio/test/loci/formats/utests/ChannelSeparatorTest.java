@@ -0,0 +1,157 @@
+//
+// ChannelSeparatorTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests;
+
+import static org.testng.AssertJUnit.*;
+
+import java.io.IOException;
+
+import loci.formats.ChannelSeparator;
+import loci.formats.FormatException;
+import loci.formats.ImageReader;
+import loci.formats.ImageTools;
+import loci.formats.ReaderWrapper;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that {@link ChannelSeparator} splits channels correctly, and
+ * decodes each region of the original images only once.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/scifio/test/loci/formats/utests/ChannelSeparatorTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/scifio/test/loci/formats/utests/ChannelSeparatorTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class ChannelSeparatorTest {
+
+  private static final int RGB = 3;
+
+  @DataProvider(name = "files")
+  public Object[][] createFiles() {
+    String base = "test&sizeX=16&sizeY=8&sizeZ=2&sizeC=3&rgb=3&pixelType=";
+    return new Object[][] {
+      {base + "uint8&interleaved=true.fake", 1},
+      {base + "uint16&interleaved=true.fake", 2},
+      {base + "uint16&interleaved=false.fake", 2}
+    };
+  }
+
+  @Test(dataProvider = "files")
+  public void testChannels(String file, int bpp) throws Exception {
+    CountingReader counter = new CountingReader();
+    ChannelSeparator separator = new ChannelSeparator(counter);
+    separator.setId(file);
+    assertEquals(2 * RGB, separator.getImageCount());
+
+    ChannelSeparator uncached = new ChannelSeparator();
+    uncached.setCacheSize(0);
+    uncached.setId(file);
+    ImageReader reference = new ImageReader();
+    reference.setId(file);
+    for (int no=0; no<separator.getImageCount(); no++) {
+      int source = separator.getOriginalIndex(no);
+      byte[] rgb = reference.openBytes(source, 1, 2, 10, 5);
+      byte[] expected = ImageTools.splitChannels(rgb, no % RGB, RGB, bpp,
+        false, reference.isInterleaved());
+      byte[] channel = new byte[10 * 5 * bpp];
+      assertSame(channel, separator.openBytes(no, channel, 1, 2, 10, 5));
+      byte[] uncachedChannel = uncached.openBytes(no, 1, 2, 10, 5);
+      for (int i=0; i<expected.length; i++) {
+        assertEquals(expected[i], channel[i]);
+        assertEquals(expected[i], uncachedChannel[i]);
+      }
+    }
+    reference.close();
+    uncached.close();
+
+    // one decoding per original image
+    assertEquals(2, counter.decodes);
+    separator.close();
+  }
+
+  @Test
+  public void testChannelOrderAndTiles() throws Exception {
+    CountingReader counter = new CountingReader();
+    ChannelSeparator separator = new ChannelSeparator(counter);
+    separator.setId("test&sizeX=16&sizeY=16&sizeC=3&rgb=3.fake");
+
+    // alternate between two tiles, reading the channels in reverse order
+    for (int c=RGB-1; c>=0; c--) {
+      separator.openBytes(c, 0, 0, 8, 8);
+      separator.openBytes(c, 8, 8, 8, 8);
+    }
+    assertEquals(2, counter.decodes);
+
+    separator.setCacheSize(0);
+    separator.openBytes(0, 0, 0, 8, 8);
+    separator.openBytes(1, 0, 0, 8, 8);
+    assertEquals(4, counter.decodes);
+    separator.close();
+  }
+
+  @Test
+  public void testResolutions() throws Exception {
+    String file = "test&sizeX=16&sizeY=16&sizeC=3&rgb=3&resolutions=2.fake";
+    CountingReader counter = new CountingReader();
+    ChannelSeparator separator = new ChannelSeparator(counter);
+    separator.setFlattenedResolutions(false);
+    separator.setId(file);
+    ImageReader reference = new ImageReader();
+    reference.setFlattenedResolutions(false);
+    reference.setId(file);
+
+    // the same region at two resolutions is decoded twice
+    for (int r=0; r<separator.getResolutionCount(); r++) {
+      separator.setResolution(r);
+      reference.setResolution(r);
+      byte[] rgb = reference.openBytes(0, 0, 0, 8, 8);
+      for (int c=0; c<RGB; c++) {
+        byte[] expected = ImageTools.splitChannels(rgb, c, RGB, 1, false,
+          reference.isInterleaved());
+        byte[] channel = separator.openBytes(c, 0, 0, 8, 8);
+        assertEquals(expected.length, channel.length);
+        for (int i=0; i<expected.length; i++) {
+          assertEquals(expected[i], channel[i]);
+        }
+      }
+    }
+    assertEquals(2, counter.decodes);
+    reference.close();
+    separator.close();
+  }
+
+  /** Counts the regions decoded by the wrapped reader. */
+  private static class CountingReader extends ReaderWrapper {
+    public int decodes;
+
+    public byte[] openBytes(int no, byte[] buf, int x, int y, int w, int h)
+      throws FormatException, IOException
+    {
+      decodes++;
+      return super.openBytes(no, buf, x, y, w, h);
+    }
+  }
+
+}
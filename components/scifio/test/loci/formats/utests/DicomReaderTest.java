@@ -0,0 +1,193 @@
+//
+// DicomReaderTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests;
+
+import static org.testng.AssertJUnit.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import loci.common.DataTools;
+import loci.formats.in.DicomReader;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that {@link DicomReader} groups the files of a directory into series,
+ * with and without a directory index.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/scifio/test/loci/formats/utests/DicomReaderTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/scifio/test/loci/formats/utests/DicomReaderTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class DicomReaderTest {
+
+  private static final int SIZE = 48;
+
+  private File root, dir;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    // sibling directories are scanned too, so keep them to ourselves
+    root = File.createTempFile("DicomReaderTest", "");
+    root.delete();
+    dir = new File(root, "study");
+    dir.mkdirs();
+    // three slices of series 1 and one of series 2, written out of order
+    writeFile("img3.dcm", 1, 3);
+    writeFile("img1.dcm", 1, 2);
+    writeFile("img2.dcm", 1, 1);
+    writeFile("img4.dcm", 2, 1);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    for (File f : dir.listFiles()) {
+      f.delete();
+    }
+    dir.delete();
+    root.delete();
+  }
+
+  @Test
+  public void testGrouping() throws Exception {
+    DicomReader reader = new DicomReader();
+    reader.setId(file("img1.dcm"));
+    assertSeries(reader, new String[] {"img2.dcm", "img1.dcm", "img3.dcm"});
+    reader.close();
+    assertFalse(new File(dir, DicomReader.DIRECTORY_INDEX).exists());
+  }
+
+  @Test
+  public void testDirectoryIndex() throws Exception {
+    DicomReader reader = new DicomReader();
+    reader.setDirectoryIndex(true);
+    reader.setId(file("img1.dcm"));
+    assertSeries(reader, new String[] {"img2.dcm", "img1.dcm", "img3.dcm"});
+    reader.close();
+
+    File index = new File(dir, DicomReader.DIRECTORY_INDEX);
+    assertTrue(index.exists());
+    String[] entries = DataTools.readFile(index.getAbsolutePath()).split("\n");
+    assertEquals(3, entries.length);
+
+    // an unchanged length and modification time means the entry is used
+    File f = new File(dir, "img3.dcm");
+    long modified = f.lastModified();
+    byte[] garbage = new byte[(int) f.length()];
+    FileOutputStream out = new FileOutputStream(f);
+    out.write(garbage);
+    out.close();
+    f.setLastModified(modified);
+
+    reader.setId(file("img1.dcm"));
+    assertSeries(reader, new String[] {"img2.dcm", "img1.dcm", "img3.dcm"});
+    reader.close();
+
+    // a new modification time means that the file is read again
+    f.setLastModified(modified - 10000);
+    reader.setId(file("img2.dcm"));
+    assertSeries(reader, new String[] {"img2.dcm", "img1.dcm"});
+    reader.close();
+  }
+
+  // -- Helper methods --
+
+  private String file(String name) {
+    return new File(dir, name).getAbsolutePath();
+  }
+
+  private void assertSeries(DicomReader reader, String[] names) {
+    assertEquals(2, reader.getSeriesCount());
+    assertEquals(names.length, reader.getImageCount());
+    String[] files = reader.getSeriesUsedFiles();
+    assertEquals(names.length, files.length);
+    for (int i=0; i<names.length; i++) {
+      assertEquals(file(names[i]), files[i]);
+    }
+    reader.setSeries(1);
+    assertEquals(1, reader.getImageCount());
+    assertEquals(file("img4.dcm"), reader.getSeriesUsedFiles()[0]);
+    reader.setSeries(0);
+  }
+
+  /** Writes an 8-bit DICOM file in explicit VR little endian syntax. */
+  private void writeFile(String name, int series, int instance)
+    throws IOException
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    bytes.write(new byte[128]);
+    bytes.write("DICM".getBytes("UTF-8"));
+    writeTag(bytes, 0x0002, 0x0010, "UI", "1.2.840.10008.1.2.1\0");
+    writeTag(bytes, 0x0008, 0x0022, "DA", "20120101");
+    writeTag(bytes, 0x0008, 0x0032, "TM", "101500");
+    writeTag(bytes, 0x0020, 0x0011, "IS", String.valueOf(series) + " ");
+    writeTag(bytes, 0x0020, 0x0013, "IS", String.valueOf(instance) + " ");
+    writeTag(bytes, 0x0028, 0x0002, "US", us(1));
+    writeTag(bytes, 0x0028, 0x0004, "CS", "MONOCHROME2 ");
+    writeTag(bytes, 0x0028, 0x0010, "US", us(SIZE));
+    writeTag(bytes, 0x0028, 0x0011, "US", us(SIZE));
+    writeTag(bytes, 0x0028, 0x0100, "US", us(8));
+    writeTag(bytes, 0x0028, 0x0103, "US", us(0));
+
+    byte[] pixels = new byte[SIZE * SIZE];
+    for (int i=0; i<pixels.length; i++) {
+      pixels[i] = (byte) (i + instance);
+    }
+    writeTag(bytes, 0x7fe0, 0x0010, "OB", pixels);
+
+    FileOutputStream out = new FileOutputStream(new File(dir, name));
+    out.write(bytes.toByteArray());
+    out.close();
+  }
+
+  private static byte[] us(int value) {
+    return DataTools.shortToBytes((short) value, true);
+  }
+
+  private static void writeTag(ByteArrayOutputStream out, int group,
+    int element, String vr, String value) throws IOException
+  {
+    writeTag(out, group, element, vr, value.getBytes("UTF-8"));
+  }
+
+  private static void writeTag(ByteArrayOutputStream out, int group,
+    int element, String vr, byte[] value) throws IOException
+  {
+    out.write(us(group));
+    out.write(us(element));
+    out.write(vr.getBytes("UTF-8"));
+    if (vr.equals("OB")) {
+      out.write(new byte[2]);
+      out.write(DataTools.intToBytes(value.length, true));
+    }
+    else out.write(us(value.length));
+    out.write(value);
+  }
+
+}
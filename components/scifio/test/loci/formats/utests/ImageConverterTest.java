@@ -0,0 +1,190 @@
+//
+// ImageConverterTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests;
+
+import static org.testng.AssertJUnit.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Constructor;
+
+import loci.formats.FormatException;
+import loci.formats.IFormatWriter;
+import loci.formats.ImageReader;
+import loci.formats.ImageWriter;
+import loci.formats.tools.ImageConverter;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that converting with several threads, or resuming an interrupted
+ * conversion, writes the same planes as converting in one go.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/scifio/test/loci/formats/utests/ImageConverterTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/scifio/test/loci/formats/utests/ImageConverterTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class ImageConverterTest {
+
+  private static final String ID =
+    "test&sizeX=40&sizeY=30&sizeZ=3&sizeC=2&sizeT=2&pixelType=uint16.fake";
+
+  private static final String SERIES_ID =
+    "test&sizeX=40&sizeY=30&sizeZ=3&series=2.fake";
+
+  private File serial, threaded, resumed, checkpoint;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    serial = File.createTempFile("ImageConverterTest", ".tif");
+    threaded = File.createTempFile("ImageConverterTest", ".tif");
+    resumed = File.createTempFile("ImageConverterTest", ".tif");
+    checkpoint = new File(resumed.getAbsolutePath() + ".checkpoint");
+    serial.delete();
+    threaded.delete();
+    resumed.delete();
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    serial.delete();
+    threaded.delete();
+    resumed.delete();
+    checkpoint.delete();
+  }
+
+  @Test
+  public void testThreads() throws Exception {
+    assertTrue(convert(new String[] {ID, serial.getAbsolutePath()}));
+    assertTrue(convert(new String[] {"-threads", "2", ID,
+      threaded.getAbsolutePath()}));
+    assertEquals(12, assertSamePlanes(serial, threaded));
+  }
+
+  @Test
+  public void testResume() throws Exception {
+    assertTrue(convert(new String[] {SERIES_ID, serial.getAbsolutePath()}));
+    interrupt();
+
+    // anything written after the checkpoint is discarded
+    append(resumed, 100);
+    assertTrue(convert(new String[] {"-resume", SERIES_ID,
+      resumed.getAbsolutePath()}));
+    assertFalse(checkpoint.exists());
+    assertEquals(6, assertSamePlanes(serial, resumed));
+  }
+
+  @Test
+  public void testResumeCorrupt() throws Exception {
+    interrupt();
+    append(resumed, 100);
+    long length = resumed.length();
+    RandomAccessFile raf = new RandomAccessFile(resumed, "rw");
+    raf.write(new byte[4]);
+    raf.close();
+
+    // the partial output is left as it was, so that it can be inspected
+    assertFalse(convert(new String[] {"-resume", SERIES_ID,
+      resumed.getAbsolutePath()}));
+    assertEquals(length, resumed.length());
+    assertTrue(checkpoint.exists());
+  }
+
+  // -- Helper methods --
+
+  private static boolean convert(String[] args) throws Exception {
+    return convert(new ImageWriter(), args);
+  }
+
+  private static boolean convert(IFormatWriter writer, String[] args)
+    throws Exception
+  {
+    // ImageConverter is normally only run from the command line
+    Constructor<ImageConverter> constructor =
+      ImageConverter.class.getDeclaredConstructor();
+    constructor.setAccessible(true);
+    return constructor.newInstance().testConvert(writer, args);
+  }
+
+  /**
+   * Converts the first series of {@link #SERIES_ID} with a checkpoint, and
+   * fails before the second series is written.
+   */
+  private void interrupt() throws Exception {
+    ImageWriter writer = new ImageWriter() {
+      public void setSeries(int series) throws FormatException {
+        if (series == 1) throw new FormatException("interrupted");
+        super.setSeries(series);
+      }
+    };
+    try {
+      convert(writer, new String[] {"-resume", SERIES_ID,
+        resumed.getAbsolutePath()});
+      fail("expected the conversion to be interrupted");
+    }
+    catch (FormatException e) {
+      assertEquals("interrupted", e.getMessage());
+    }
+    finally {
+      writer.close();
+    }
+    assertTrue(checkpoint.exists());
+  }
+
+  private static void append(File file, int bytes) throws Exception {
+    FileOutputStream out = new FileOutputStream(file, true);
+    out.write(new byte[bytes]);
+    out.close();
+  }
+
+  /**
+   * Checks that two files hold the same planes.
+   * @return the number of planes
+   */
+  private static int assertSamePlanes(File expectedFile, File actualFile)
+    throws Exception
+  {
+    ImageReader expected = new ImageReader();
+    expected.setId(expectedFile.getAbsolutePath());
+    ImageReader actual = new ImageReader();
+    actual.setId(actualFile.getAbsolutePath());
+    int count = expected.getImageCount();
+    assertEquals(count, actual.getImageCount());
+    for (int no=0; no<count; no++) {
+      byte[] plane = expected.openBytes(no);
+      byte[] actualPlane = actual.openBytes(no);
+      assertEquals(plane.length, actualPlane.length);
+      for (int i=0; i<plane.length; i++) {
+        assertEquals("plane " + no, plane[i], actualPlane[i]);
+      }
+    }
+    expected.close();
+    actual.close();
+    return count;
+  }
+
+}
@@ -0,0 +1,110 @@
+//
+// ImageReaderTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests;
+
+import static org.testng.AssertJUnit.*;
+
+import loci.formats.FileStitcher;
+import loci.formats.IFormatReader;
+import loci.formats.ImageReader;
+import loci.formats.in.APNGReader;
+import loci.formats.in.FakeReader;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the on demand reader instantiation of {@link ImageReader} and
+ * the reader reuse of {@link FileStitcher}.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/scifio/test/loci/formats/utests/ImageReaderTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/scifio/test/loci/formats/utests/ImageReaderTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class ImageReaderTest {
+
+  private static final String TEST_FILE = "test&sizeX=8&sizeY=8.fake";
+
+  @Test
+  public void testDetectedReader() throws Exception {
+    ImageReader reader = new ImageReader();
+    reader.setId(TEST_FILE);
+    assertTrue(reader.getReader() instanceof FakeReader);
+    assertSame(reader.getReader(), reader.getReader(FakeReader.class));
+    assertSame(reader.getReader(), reader.getReader(TEST_FILE));
+    assertEquals(8, reader.getSizeX());
+    reader.close();
+  }
+
+  @Test
+  public void testSettingsAppliedOnDemand() throws Exception {
+    ImageReader reader = new ImageReader();
+    reader.setNormalized(true);
+    reader.setGroupFiles(false);
+    reader.setMetadataFiltered(true);
+    IFormatReader png = reader.getReader(APNGReader.class);
+    assertTrue(png.isNormalized());
+    assertFalse(png.isGroupFiles());
+    assertTrue(png.isMetadataFiltered());
+    assertTrue(reader.isNormalized());
+
+    reader.setId(TEST_FILE);
+    assertTrue(reader.getReader().isNormalized());
+    assertFalse(reader.getReader().isGroupFiles());
+    reader.close();
+  }
+
+  @Test
+  public void testGetReaders() {
+    ImageReader reader = new ImageReader();
+    IFormatReader[] readers = reader.getReaders();
+    assertEquals(ImageReader.getDefaultReaderClasses().getClasses().length,
+      readers.length);
+    for (IFormatReader r : readers) {
+      assertNotNull(r);
+      assertSame(r, reader.getReader(r.getClass()));
+    }
+    assertTrue(reader.getSuffixes().length > 0);
+  }
+
+  @Test
+  public void testIsThisType() {
+    ImageReader reader = new ImageReader();
+    assertTrue(reader.isThisType(TEST_FILE, false));
+    assertFalse(reader.isThisType("test.not-a-format", false));
+  }
+
+  @Test
+  public void testStitchedReaderReuse() throws Exception {
+    FileStitcher stitcher = new FileStitcher(true);
+    stitcher.setId("test_t<1-5>&sizeX=8&sizeY=8.fake");
+    assertEquals(5, stitcher.getImageCount());
+    for (int i=1; i<5; i++) {
+      assertTrue(stitcher.getReader(0, i).getReader() instanceof FakeReader);
+    }
+    byte[] plane = stitcher.openBytes(4);
+    assertEquals(64, plane.length);
+    stitcher.close();
+  }
+
+}
@@ -0,0 +1,181 @@
+//
+// PredictiveStrategyTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests;
+
+import static org.testng.AssertJUnit.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import loci.formats.FormatTools;
+import loci.formats.cache.Cache;
+import loci.formats.cache.CacheEvent;
+import loci.formats.cache.CacheException;
+import loci.formats.cache.CacheListener;
+import loci.formats.cache.ICacheSource;
+import loci.formats.cache.PredictiveStrategy;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests that {@link PredictiveStrategy} prefetches along the direction of
+ * motion, and that {@link Cache} honours its byte limit and reports hits.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/scifio/test/loci/formats/utests/PredictiveStrategyTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/scifio/test/loci/formats/utests/PredictiveStrategyTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class PredictiveStrategyTest {
+
+  private static final int[] LENGTHS = {3, 10, 20};
+
+  private static final int PLANE_SIZE = 100;
+
+  @Test
+  public void testAtRest() throws CacheException {
+    PredictiveStrategy strategy = new PredictiveStrategy(LENGTHS);
+    strategy.setRange(1, 2);
+    int[][] list = strategy.getLoadList(new int[] {0, 5, 10});
+    assertEquals(3, list.length);
+    assertPosition(list[0], 0, 5, 10);
+  }
+
+  @Test
+  public void testForward() throws CacheException {
+    PredictiveStrategy strategy = new PredictiveStrategy(LENGTHS);
+    strategy.setRange(1, 2);
+    for (int t=2; t<=5; t++) strategy.getLoadList(new int[] {0, 5, t});
+    assertTrue(strategy.getVelocity()[2] > 0.8);
+    assertEquals(0.0, strategy.getVelocity()[1], 0.0);
+
+    int[][] list = strategy.getLoadList(new int[] {0, 5, 6});
+    assertPosition(list[0], 0, 5, 6);
+    for (int k=1; k<=PredictiveStrategy.DEFAULT_LOOKAHEAD; k++) {
+      assertPosition(list[k], 0, 5, 6 + k);
+    }
+    // the neighbour behind comes last
+    assertPosition(list[list.length - 1], 0, 5, 5);
+  }
+
+  @Test
+  public void testBackwardWithStride() throws CacheException {
+    PredictiveStrategy strategy = new PredictiveStrategy(LENGTHS);
+    strategy.setLookahead(2);
+    for (int z=9; z>=3; z-=2) strategy.getLoadList(new int[] {1, z, 0});
+    assertTrue(strategy.getVelocity()[1] < -1.5);
+
+    int[][] list = strategy.getLoadList(new int[] {1, 1, 0});
+    assertPosition(list[0], 1, 1, 0);
+    // wraps around the start of the axis
+    assertPosition(list[1], 1, 9, 0);
+    assertPosition(list[2], 1, 7, 0);
+  }
+
+  @Test
+  public void testLoopingAnimation() throws CacheException {
+    PredictiveStrategy strategy = new PredictiveStrategy(LENGTHS);
+    for (int t=16; t<20; t++) strategy.getLoadList(new int[] {0, 0, t});
+    strategy.getLoadList(new int[] {0, 0, 0});
+    // the jump from the last timepoint to the first is a single step
+    assertTrue(strategy.getVelocity()[2] > 0.9);
+  }
+
+  @Test
+  public void testRepeatedPositionIgnored() throws CacheException {
+    PredictiveStrategy strategy = new PredictiveStrategy(LENGTHS);
+    strategy.getLoadList(new int[] {0, 0, 0});
+    strategy.getLoadList(new int[] {0, 0, 1});
+    double v = strategy.getVelocity()[2];
+    strategy.getLoadList(new int[] {0, 0, 1});
+    strategy.getLoadList(new int[] {0, 0, 1});
+    assertEquals(v, strategy.getVelocity()[2], 0.0);
+  }
+
+  @Test
+  public void testByteLimit() throws CacheException {
+    PredictiveStrategy strategy = new PredictiveStrategy(LENGTHS);
+    strategy.setRange(3, 2);
+    Cache cache = new Cache(strategy, new PlaneSource(), false);
+    cache.setMaxBytes(3 * PLANE_SIZE);
+    cache.setCurrentPos(new int[] {0, 0, 10});
+    cache.recache();
+    assertEquals(3 * PLANE_SIZE, cache.getCachedBytes());
+    assertNotNull(cache.getObject(new int[] {0, 0, 10}));
+    assertNotNull(cache.getObject(new int[] {0, 0, 11}));
+    assertNotNull(cache.getObject(new int[] {0, 0, 9}));
+    assertNull(cache.getObject(new int[] {0, 0, 12}));
+
+    // moving on drops the planes furthest down the new load list
+    cache.setCurrentPos(new int[] {0, 0, 11});
+    cache.recache();
+    assertTrue(cache.getCachedBytes() <= 3 * PLANE_SIZE);
+    assertNotNull(cache.getObject(new int[] {0, 0, 11}));
+    assertNotNull(cache.getObject(new int[] {0, 0, 12}));
+    assertNotNull(cache.getObject(new int[] {0, 0, 13}));
+  }
+
+  @Test
+  public void testHitEvents() throws CacheException {
+    Cache cache = new Cache(new PredictiveStrategy(LENGTHS),
+      new PlaneSource(), true);
+    final List<Integer> events = new ArrayList<Integer>();
+    cache.addCacheListener(new CacheListener() {
+      public void cacheUpdated(CacheEvent e) {
+        int type = e.getType();
+        if (type == CacheEvent.OBJECT_HIT ||
+          type == CacheEvent.OBJECT_MISSED)
+        {
+          events.add(type);
+        }
+      }
+    });
+    cache.getObject(new int[] {0, 0, 0});
+    cache.getObject(new int[] {2, 9, 19});
+    assertEquals(2, events.size());
+    assertEquals(CacheEvent.OBJECT_HIT, events.get(0).intValue());
+    assertEquals(CacheEvent.OBJECT_MISSED, events.get(1).intValue());
+  }
+
+  // -- Helper methods --
+
+  private static void assertPosition(int[] actual, int c, int z, int t) {
+    assertEquals(c, actual[0]);
+    assertEquals(z, actual[1]);
+    assertEquals(t, actual[2]);
+  }
+
+  // -- Helper classes --
+
+  /** Source of blank planes, one per position. */
+  private static class PlaneSource implements ICacheSource {
+    public int getObjectCount() {
+      return FormatTools.getRasterLength(LENGTHS);
+    }
+
+    public Object getObject(int index) {
+      return new byte[PLANE_SIZE];
+    }
+  }
+
+}
@@ -0,0 +1,228 @@
+//
+// ResolutionTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests;
+
+import static org.testng.AssertJUnit.*;
+
+import java.io.IOException;
+
+import loci.formats.ChannelSeparator;
+import loci.formats.DimensionSwapper;
+import loci.formats.FormatException;
+import loci.formats.FormatTools;
+import loci.formats.IFormatReader;
+import loci.formats.ImageReader;
+import loci.formats.MinMaxCalculator;
+import loci.formats.in.FakeReader;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the resolution API of {@link IFormatReader}, using pyramids
+ * made by {@link FakeReader}.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/scifio/test/loci/formats/utests/ResolutionTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/scifio/test/loci/formats/utests/ResolutionTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class ResolutionTest {
+
+  private static final String ID =
+    "pyramid&series=3&resolutions=4&sizeX=1000&sizeY=600.fake";
+
+  private IFormatReader reader;
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    if (reader != null) reader.close();
+    reader = null;
+  }
+
+  @Test
+  public void testFlattened() throws FormatException, IOException {
+    reader = new FakeReader();
+    assertTrue(reader.hasFlattenedResolutions());
+    reader.setId(ID);
+    assertEquals(12, reader.getSeriesCount());
+    assertEquals(1, reader.getResolutionCount());
+    reader.setSeries(5);
+    assertEquals(5, reader.getCoreIndex());
+    assertEquals(0, reader.getResolution());
+    assertEquals(500, reader.getSizeX());
+    assertEquals(300, reader.getSizeY());
+    assertEquals(5, reader.seriesToCoreIndex(5));
+    assertEquals(5, reader.coreIndexToSeries(5));
+  }
+
+  @Test
+  public void testUnflattened() throws FormatException, IOException {
+    reader = new FakeReader();
+    reader.setFlattenedResolutions(false);
+    reader.setId(ID);
+    assertEquals(3, reader.getSeriesCount());
+    assertEquals(12, reader.getCoreMetadata().length);
+
+    reader.setSeries(1);
+    assertEquals(4, reader.getResolutionCount());
+    assertEquals(0, reader.getResolution());
+    assertEquals(4, reader.getCoreIndex());
+    assertEquals(1000, reader.getSizeX());
+    assertFalse(reader.isThumbnailSeries());
+
+    int[][] sizes = {{1000, 600}, {500, 300}, {250, 150}, {125, 75}};
+    for (int r=0; r<sizes.length; r++) {
+      reader.setResolution(r);
+      assertEquals(1, reader.getSeries());
+      assertEquals(r, reader.getResolution());
+      assertEquals(4 + r, reader.getCoreIndex());
+      assertEquals(sizes[r][0], reader.getSizeX());
+      assertEquals(sizes[r][1], reader.getSizeY());
+      byte[] plane = reader.openBytes(0);
+      assertEquals(sizes[r][0] * sizes[r][1], plane.length);
+    }
+
+    // changing the series goes back to the full resolution
+    reader.setSeries(2);
+    assertEquals(0, reader.getResolution());
+    assertEquals(8, reader.getCoreIndex());
+
+    reader.setCoreIndex(10);
+    assertEquals(2, reader.getSeries());
+    assertEquals(2, reader.getResolution());
+
+    assertEquals(0, reader.seriesToCoreIndex(0));
+    assertEquals(8, reader.seriesToCoreIndex(2));
+    assertEquals(0, reader.coreIndexToSeries(3));
+    assertEquals(1, reader.coreIndexToSeries(4));
+    assertEquals(2, reader.coreIndexToSeries(11));
+    assertEquals(1, reader.getUsedFiles().length);
+  }
+
+  @Test(expectedExceptions={IllegalArgumentException.class})
+  public void testInvalidResolution() throws FormatException, IOException {
+    reader = new FakeReader();
+    reader.setFlattenedResolutions(false);
+    reader.setId(ID);
+    reader.setResolution(4);
+  }
+
+  @Test(expectedExceptions={IllegalStateException.class})
+  public void testFlattenAfterSetId() throws FormatException, IOException {
+    reader = new FakeReader();
+    reader.setId(ID);
+    reader.setFlattenedResolutions(false);
+  }
+
+  @Test
+  public void testWrappers() throws FormatException, IOException {
+    reader = new ChannelSeparator(new ImageReader());
+    reader.setFlattenedResolutions(false);
+    reader.setId(ID);
+    assertFalse(reader.hasFlattenedResolutions());
+    assertEquals(3, reader.getSeriesCount());
+    reader.setSeries(2);
+    reader.setResolution(3);
+    assertEquals(125, reader.getSizeX());
+    assertEquals(11, reader.getCoreIndex());
+  }
+
+  @Test
+  public void testDimensionSwapper() throws FormatException, IOException {
+    DimensionSwapper swapper = new DimensionSwapper(new FakeReader());
+    reader = swapper;
+    reader.setFlattenedResolutions(false);
+    reader.setId(ID);
+    assertEquals(3, reader.getSeriesCount());
+    assertEquals(12, reader.getCoreMetadata().length);
+
+    int[][] sizes = {{1000, 600}, {500, 300}, {250, 150}, {125, 75}};
+    for (int s=0; s<reader.getSeriesCount(); s++) {
+      reader.setSeries(s);
+      assertEquals(sizes.length, reader.getResolutionCount());
+      for (int r=0; r<sizes.length; r++) {
+        reader.setResolution(r);
+        assertEquals(s * sizes.length + r, reader.getCoreIndex());
+        assertEquals(sizes[r][0], reader.getSizeX());
+        assertEquals(sizes[r][1], reader.getSizeY());
+        byte[] plane = reader.openBytes(0);
+        assertEquals(sizes[r][0] * sizes[r][1], plane.length);
+      }
+    }
+
+    // orders are kept for each resolution
+    reader.setSeries(1);
+    reader.setResolution(2);
+    swapper.setOutputOrder("XYTCZ");
+    assertEquals("XYTCZ", reader.getDimensionOrder());
+    reader.setResolution(0);
+    assertEquals("XYZCT", reader.getDimensionOrder());
+    reader.setResolution(2);
+    assertEquals("XYTCZ", reader.getDimensionOrder());
+    assertEquals(250, reader.getSizeX());
+  }
+
+  @Test
+  public void testMinMaxCalculator() throws FormatException, IOException {
+    MinMaxCalculator minMax = new MinMaxCalculator(new FakeReader());
+    reader = minMax;
+    reader.setFlattenedResolutions(false);
+    reader.setId(ID);
+    reader.setSeries(2);
+    reader.setResolution(3);
+    for (int i=0; i<reader.getImageCount(); i++) {
+      reader.openBytes(i);
+    }
+    assertTrue(minMax.isMinMaxPopulated());
+    assertNotNull(minMax.getChannelGlobalMinimum(0));
+
+    // other resolutions have their own minima and maxima
+    reader.setResolution(0);
+    assertFalse(minMax.isMinMaxPopulated());
+    assertNull(minMax.getChannelGlobalMinimum(0));
+    reader.setSeries(1);
+    reader.setResolution(3);
+    assertFalse(minMax.isMinMaxPopulated());
+  }
+
+  @Test
+  public void testScale() throws FormatException, IOException {
+    reader = new FakeReader();
+    reader.setFlattenedResolutions(false);
+    reader.setId("pyramid&resolutions=4&sizeX=1001&sizeY=600.fake");
+    reader.setResolution(2);
+    double[] scale = FormatTools.getResolutionScale(reader, 3);
+    assertEquals(1001 / 125.0, scale[0], 0.0);
+    assertEquals(8.0, scale[1], 0.0);
+    assertEquals(2, reader.getResolution());
+
+    assertEquals(0, FormatTools.getResolutionForScale(reader, 1));
+    assertEquals(0, FormatTools.getResolutionForScale(reader, 1.5));
+    assertEquals(1, FormatTools.getResolutionForScale(reader, 2));
+    assertEquals(2, FormatTools.getResolutionForScale(reader, 4));
+    assertEquals(3, FormatTools.getResolutionForScale(reader, 100));
+    assertEquals(2, reader.getResolution());
+  }
+
+}
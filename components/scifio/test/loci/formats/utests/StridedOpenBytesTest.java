@@ -0,0 +1,188 @@
+//
+// StridedOpenBytesTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests;
+
+import static org.testng.AssertJUnit.*;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import loci.common.Location;
+import loci.formats.ChannelSeparator;
+import loci.formats.FormatException;
+import loci.formats.FormatTools;
+import loci.formats.IFormatReader;
+import loci.formats.ImageReader;
+import loci.formats.MetadataTools;
+import loci.formats.in.MinimalTiffReader;
+import loci.formats.meta.IMetadata;
+import loci.formats.out.TiffWriter;
+import loci.formats.tiff.IFD;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that openBytes fills strided heap and direct buffers with the same
+ * pixels as openBytes into a byte array, and leaves the rest of the buffer
+ * alone.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/scifio/test/loci/formats/utests/StridedOpenBytesTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/scifio/test/loci/formats/utests/StridedOpenBytesTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class StridedOpenBytesTest {
+
+  private static final String STRIPS = "strided-strips.tif";
+
+  private static final String TILES = "strided-tiles.tif";
+
+  private static final String FAKE =
+    "test&sizeX=48&sizeY=32&sizeC=3&rgb=3&pixelType=uint16";
+
+  private static final int WIDTH = 48;
+
+  private static final int HEIGHT = 32;
+
+  private static final int CHANNELS = 3;
+
+  private static final byte UNTOUCHED = (byte) 0x55;
+
+  private File[] files;
+
+  @BeforeClass
+  public void setUp() throws Exception {
+    byte[] pixels = new byte[WIDTH * HEIGHT * CHANNELS * 2];
+    new Random(37).nextBytes(pixels);
+
+    files = new File[2];
+    String[] ids = new String[] {STRIPS, TILES};
+    for (int i=0; i<ids.length; i++) {
+      files[i] = File.createTempFile("strided", ".tif");
+      Location.mapId(ids[i], files[i].getAbsolutePath());
+
+      IMetadata metadata = MetadataTools.createOMEXMLMetadata();
+      MetadataTools.populateMetadata(metadata, 0, "foo", false, "XYCZT",
+        "uint16", WIDTH, HEIGHT, 1, CHANNELS, 1, CHANNELS);
+      TiffWriter writer = new TiffWriter();
+      writer.setMetadataRetrieve(metadata);
+      writer.setId(ids[i]);
+      IFD ifd = new IFD();
+      if (ids[i].equals(TILES)) {
+        ifd.put(IFD.TILE_WIDTH, 16);
+        ifd.put(IFD.TILE_LENGTH, 16);
+      }
+      writer.saveBytes(0, pixels, ifd);
+      writer.close();
+    }
+  }
+
+  @AfterClass
+  public void tearDown() {
+    Location.mapId(STRIPS, null);
+    Location.mapId(TILES, null);
+    for (File file : files) {
+      file.delete();
+    }
+  }
+
+  @DataProvider(name = "readers")
+  public Object[][] createReaders() {
+    return new Object[][] {
+      {new MinimalTiffReader(), STRIPS},
+      {new MinimalTiffReader(), TILES},
+      {new ImageReader(), FAKE + "&interleaved=true.fake"},
+      {new ImageReader(), FAKE + "&interleaved=false.fake"},
+      {new ChannelSeparator(), FAKE + "&interleaved=true.fake"}
+    };
+  }
+
+  @Test(dataProvider = "readers")
+  public void testStridedBuffers(IFormatReader reader, String id)
+    throws Exception
+  {
+    reader.setId(id);
+    if (id.equals(TILES)) {
+      assertTrue(((MinimalTiffReader) reader).getIFDs().get(0).isTiled());
+    }
+    int x = 3, y = 5, w = 20, h = 12;
+    byte[] expected = reader.openBytes(0, x, y, w, h);
+    int rowLength = FormatTools.getRowLength(reader, w);
+    int rows = FormatTools.getRowCount(reader, h);
+    assertEquals(expected.length, rowLength * rows);
+
+    int offset = 7;
+    int stride = rowLength + 5;
+    int size = offset + rows * stride;
+    ByteBuffer[] buffers = new ByteBuffer[] {
+      ByteBuffer.allocate(size), ByteBuffer.allocateDirect(size),
+      ByteBuffer.wrap(new byte[size + 4], 2, size).slice()
+    };
+    for (ByteBuffer buf : buffers) {
+      for (int i=0; i<size; i++) {
+        buf.put(i, UNTOUCHED);
+      }
+      assertSame(buf, reader.openBytes(0, buf, offset, stride, x, y, w, h));
+      assertEquals(0, buf.position());
+      assertEquals(size, buf.limit());
+
+      for (int i=0; i<size; i++) {
+        int row = (i - offset) / stride;
+        int column = (i - offset) % stride;
+        if (i < offset || column >= rowLength) {
+          assertEquals(UNTOUCHED, buf.get(i));
+        }
+        else {
+          assertEquals(expected[row * rowLength + column], buf.get(i));
+        }
+      }
+    }
+
+    // a buffer holding exactly the tile is read into directly
+    ByteBuffer exact = ByteBuffer.allocate(expected.length);
+    reader.openBytes(0, exact, 0, rowLength, x, y, w, h);
+    for (int i=0; i<expected.length; i++) {
+      assertEquals(expected[i], exact.get(i));
+    }
+    reader.close();
+  }
+
+  @Test(expectedExceptions = FormatException.class)
+  public void testBufferTooSmall() throws Exception {
+    ImageReader reader = new ImageReader();
+    reader.setId(FAKE + ".fake");
+    try {
+      int rowLength = FormatTools.getRowLength(reader, 10);
+      ByteBuffer buf = ByteBuffer.allocate(rowLength * 10 * CHANNELS);
+      reader.openBytes(0, buf, 1, rowLength, 0, 0, 10, 10);
+    }
+    finally {
+      reader.close();
+    }
+  }
+
+}
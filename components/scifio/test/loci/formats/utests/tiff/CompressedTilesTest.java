@@ -0,0 +1,182 @@
+//
+// CompressedTilesTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests.tiff;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+
+import loci.common.RandomAccessInputStream;
+import loci.formats.codec.CodecOptions;
+import loci.formats.tiff.IFD;
+import loci.formats.tiff.PhotoInterp;
+import loci.formats.tiff.TiffCompression;
+import loci.formats.tiff.TiffParser;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests reading regions of compressed strips and tiles, laid out in the
+ * file contiguously, with gaps, or out of order.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/scifio/test/loci/formats/utests/tiff/CompressedTilesTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/scifio/test/loci/formats/utests/tiff/CompressedTilesTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class CompressedTilesTest {
+
+  private static final int SIZE_X = 100;
+  private static final int SIZE_Y = 70;
+
+  private static final int[][] REGIONS = {
+    {0, 0, SIZE_X, SIZE_Y}, {20, 10, 50, 40}, {0, 33, SIZE_X, 5},
+    {SIZE_X - 1, SIZE_Y - 1, 1, 1}
+  };
+
+  private IFD ifd;
+  private int samples, bytes;
+
+  @DataProvider(name = "layouts")
+  public Object[][] createLayouts() {
+    // compression, samples, bytes per sample, tile width, tile length,
+    // gap between blocks, reverse block order
+    return new Object[][] {
+      {TiffCompression.LZW, 1, 1, 0, 8, 0, false},
+      {TiffCompression.LZW, 1, 2, 32, 16, 0, true},
+      {TiffCompression.LZW, 3, 1, 16, 16, 0, false},
+      {TiffCompression.DEFLATE, 1, 2, 0, 5, 100, false},
+      {TiffCompression.DEFLATE, 3, 1, 32, 32, 100000, true},
+      {TiffCompression.DEFLATE, 1, 1, 16, 16, 10, true}
+    };
+  }
+
+  @Test(dataProvider = "layouts")
+  public void testRegions(TiffCompression compression, int samples,
+    int bytes, int tileWidth, int tileLength, int gap, boolean reverse)
+    throws Exception
+  {
+    TiffParser parser = makeFile(compression, samples, bytes,
+      tileWidth, tileLength, gap, reverse);
+    for (int[] r : REGIONS) {
+      byte[] buf = new byte[r[2] * r[3] * samples * bytes];
+      parser.getSamples(ifd, buf, r[0], r[1], r[2], r[3]);
+      int stride = r[2] * bytes;
+      for (int s=0; s<samples; s++) {
+        for (int y=0; y<r[3]; y++) {
+          for (int x=0; x<r[2]; x++) {
+            for (int b=0; b<bytes; b++) {
+              int index = (s * r[3] + y) * stride + x * bytes + b;
+              assertEquals("sample " + s + " at (" + (r[0] + x) + ", " +
+                (r[1] + y) + ")", value(s, r[0] + x, r[1] + y, b), buf[index]);
+            }
+          }
+        }
+      }
+    }
+    parser.getStream().close();
+  }
+
+  // -- Helper methods --
+
+  private static byte value(int sample, int x, int y, int b) {
+    return (byte) (sample * 71 + (x / 3) * 3 + y * 7 + b * 13);
+  }
+
+  /**
+   * Compresses the blocks (strips or tiles) of an interleaved image, lays
+   * them out, and returns a parser for them.
+   */
+  private TiffParser makeFile(TiffCompression compression, int samples,
+    int bytes, int tileWidth, int tileLength, int gap, boolean reverse)
+    throws Exception
+  {
+    this.samples = samples;
+    this.bytes = bytes;
+    int width = tileWidth == 0 ? SIZE_X : tileWidth;
+    int cols = (SIZE_X + width - 1) / width;
+    int rows = (SIZE_Y + tileLength - 1) / tileLength;
+    int count = cols * rows;
+
+    int[] bits = new int[samples];
+    for (int s=0; s<samples; s++) {
+      bits[s] = bytes * 8;
+    }
+    ifd = new IFD();
+    ifd.put(IFD.LITTLE_ENDIAN, Boolean.TRUE);
+    ifd.put(IFD.IMAGE_WIDTH, SIZE_X);
+    ifd.put(IFD.IMAGE_LENGTH, SIZE_Y);
+    ifd.put(IFD.BITS_PER_SAMPLE, bits);
+    ifd.put(IFD.SAMPLES_PER_PIXEL, samples);
+    ifd.put(IFD.COMPRESSION, compression.getCode());
+    ifd.put(IFD.PHOTOMETRIC_INTERPRETATION, samples == 3 ?
+      PhotoInterp.RGB.getCode() : PhotoInterp.BLACK_IS_ZERO.getCode());
+    CodecOptions options = compression.getCompressionCodecOptions(ifd);
+
+    byte[][] blocks = new byte[count][];
+    for (int i=0; i<count; i++) {
+      int row = i / cols, col = i % cols;
+      byte[] block = new byte[width * tileLength * samples * bytes];
+      int index = 0;
+      for (int y=row*tileLength; y<(row + 1)*tileLength; y++) {
+        for (int x=col*width; x<(col + 1)*width; x++) {
+          for (int s=0; s<samples; s++) {
+            for (int b=0; b<bytes; b++) {
+              block[index++] = x < SIZE_X && y < SIZE_Y ?
+                value(s, x, y, b) : 0;
+            }
+          }
+        }
+      }
+      options.width = width;
+      options.height = tileLength;
+      blocks[i] = compression.compress(block, options);
+    }
+
+    long[] offsets = new long[count];
+    long[] byteCounts = new long[count];
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int n=0; n<count; n++) {
+      int i = reverse ? count - 1 - n : n;
+      offsets[i] = out.size();
+      byteCounts[i] = blocks[i].length;
+      out.write(blocks[i]);
+      out.write(new byte[gap]);
+    }
+
+    if (tileWidth > 0) {
+      ifd.put(IFD.TILE_WIDTH, tileWidth);
+      ifd.put(IFD.TILE_LENGTH, tileLength);
+      ifd.put(IFD.TILE_OFFSETS, offsets);
+      ifd.put(IFD.TILE_BYTE_COUNTS, byteCounts);
+    }
+    else {
+      ifd.put(IFD.ROWS_PER_STRIP, new long[] {tileLength});
+      ifd.put(IFD.STRIP_OFFSETS, offsets);
+      ifd.put(IFD.STRIP_BYTE_COUNTS, byteCounts);
+    }
+    return new TiffParser(new RandomAccessInputStream(out.toByteArray()));
+  }
+
+}
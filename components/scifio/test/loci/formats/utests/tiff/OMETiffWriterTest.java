@@ -33,6 +33,8 @@ import loci.common.RandomAccessInputStream;
 import loci.common.services.ServiceFactory;
 import loci.formats.ImageWriter;
 import loci.formats.ome.OMEXMLMetadata;
+import loci.formats.out.TiffWriter;
+import loci.formats.tiff.TiffParser;
 import loci.formats.services.OMEXMLService;
 
 import ome.xml.model.enums.DimensionOrder;
@@ -122,6 +124,85 @@ public class OMETiffWriterTest {
     System.err.println("Tracker length: " + app.map.size());
   }
 
+  @Test
+  public void testCommentWrittenInPlace() throws Exception {
+    File file = File.createTempFile("OMETiffWriterTest", ".ome.tiff");
+    try {
+      ImageWriter writer = new ImageWriter();
+      writer.setMetadataRetrieve(ms);
+      writer.setId(file.getAbsolutePath());
+      for (int i = 0; i < (SIZE_Z * SIZE_C * SIZE_T); i++) {
+        writer.saveBytes(i, buf);
+      }
+      long length = file.length();
+      writer.close();
+      assertEquals(length, file.length());
+
+      RandomAccessInputStream in =
+        new RandomAccessInputStream(file.getAbsolutePath());
+      try {
+        String comment = new TiffParser(in).getComment().trim();
+        assertTrue(comment.startsWith("<?xml"));
+        assertTrue(comment.endsWith("</OME>"));
+        assertTrue(comment.indexOf("TiffData") > 0);
+      }
+      finally {
+        in.close();
+      }
+    }
+    finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testAppendAfterPlanesWritten() throws Exception {
+    File file = File.createTempFile("OMETiffWriterTest", ".ome.tiff");
+    int planeCount = SIZE_Z * SIZE_C * SIZE_T;
+    int written = planeCount / 2;
+    try {
+      // an interrupted conversion, which is never closed
+      ImageWriter writer = new ImageWriter();
+      writer.setMetadataRetrieve(ms);
+      writer.setWriteSequentially(true);
+      writer.setId(file.getAbsolutePath());
+      for (int i = 0; i < written; i++) {
+        writer.saveBytes(i, buf);
+      }
+      long length = file.length();
+
+      writer = new ImageWriter();
+      writer.setMetadataRetrieve(ms);
+      writer.setWriteSequentially(true);
+      writer.setId(file.getAbsolutePath());
+      TiffWriter tiffWriter = (TiffWriter) writer.getWriter();
+      for (int i = 0; i < written; i++) {
+        tiffWriter.setPlaneWritten(i);
+      }
+      assertEquals(length, file.length());
+      for (int i = written; i < planeCount; i++) {
+        writer.saveBytes(i, buf);
+      }
+      writer.close();
+
+      RandomAccessInputStream in =
+        new RandomAccessInputStream(file.getAbsolutePath());
+      try {
+        TiffParser parser = new TiffParser(in);
+        assertEquals(planeCount, parser.getIFDOffsets().length);
+        String comment = parser.getComment().trim();
+        assertTrue(comment.endsWith("</OME>"));
+        assertEquals(planeCount, comment.split("<TiffData ").length - 1);
+      }
+      finally {
+        in.close();
+      }
+    }
+    finally {
+      file.delete();
+    }
+  }
+
   class FileHandleTrackingAppender implements Appender {
 
     public Map<Long, Boolean> map = new HashMap<Long, Boolean>(); 
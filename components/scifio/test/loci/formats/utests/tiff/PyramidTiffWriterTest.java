@@ -0,0 +1,275 @@
+//
+// PyramidTiffWriterTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests.tiff;
+
+import static org.testng.AssertJUnit.*;
+
+import java.io.File;
+
+import loci.common.DataTools;
+import loci.common.services.ServiceFactory;
+import loci.formats.IFormatReader;
+import loci.formats.in.OMETiffReader;
+import loci.formats.in.TiffReader;
+import loci.formats.ome.OMEXMLMetadata;
+import loci.formats.out.OMETiffWriter;
+import loci.formats.out.TiffWriter;
+import loci.formats.services.OMEXMLService;
+import loci.formats.tiff.IFD;
+import loci.formats.tiff.PyramidBuilder;
+
+import ome.xml.model.enums.DimensionOrder;
+import ome.xml.model.enums.PixelType;
+import ome.xml.model.primitives.PositiveInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that {@link TiffWriter#setResolutions(int)} writes reduced
+ * resolutions as SubIFDs, and that they are read back as resolutions.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/scifio/test/loci/formats/utests/tiff/PyramidTiffWriterTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/scifio/test/loci/formats/utests/tiff/PyramidTiffWriterTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class PyramidTiffWriterTest {
+
+  private static final int SIZE_X = 70;
+  private static final int SIZE_Y = 50;
+  private static final int SIZE_Z = 2;
+  private static final int RESOLUTIONS = 3;
+
+  private File file;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    file = File.createTempFile("PyramidTiffWriterTest", ".ome.tif");
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    file.delete();
+  }
+
+  @Test
+  public void testWholePlanes() throws Exception {
+    TiffWriter writer = new TiffWriter();
+    writer.setMetadataRetrieve(makeMetadata(PixelType.UINT8, true));
+    writer.setResolutions(RESOLUTIONS);
+    writer.setId(file.getAbsolutePath());
+    for (int z=0; z<SIZE_Z; z++) {
+      writer.saveBytes(z, makePlane(z, 1, false));
+    }
+    writer.close();
+
+    // flattened resolutions do not add series
+    IFormatReader reader = new TiffReader();
+    reader.setId(file.getAbsolutePath());
+    assertEquals(1, reader.getSeriesCount());
+    assertEquals(SIZE_Z, reader.getImageCount());
+    reader.close();
+
+    reader = new TiffReader();
+    reader.setFlattenedResolutions(false);
+    reader.setId(file.getAbsolutePath());
+    assertEquals(1, reader.getSeriesCount());
+    assertEquals(RESOLUTIONS, reader.getResolutionCount());
+    assertEquals(SIZE_Z, reader.getImageCount());
+    assertPyramid(reader, 1);
+    reader.close();
+  }
+
+  @Test
+  public void testTiles() throws Exception {
+    TiffWriter writer = new TiffWriter();
+    writer.setMetadataRetrieve(makeMetadata(PixelType.UINT16, false));
+    writer.setResolutions(RESOLUTIONS);
+    writer.setId(file.getAbsolutePath());
+    int tile = 16;
+    for (int z=0; z<SIZE_Z; z++) {
+      byte[] plane = makePlane(z, 2, true);
+      for (int y=0; y<SIZE_Y; y+=tile) {
+        for (int x=0; x<SIZE_X; x+=tile) {
+          int w = Math.min(tile, SIZE_X - x);
+          int h = Math.min(tile, SIZE_Y - y);
+          IFD ifd = new IFD();
+          ifd.put(IFD.TILE_WIDTH, tile);
+          ifd.put(IFD.TILE_LENGTH, tile);
+          writer.saveBytes(z, crop(plane, 2, x, y, w, h), ifd, x, y, w, h);
+        }
+      }
+    }
+    writer.close();
+
+    IFormatReader reader = new TiffReader();
+    reader.setFlattenedResolutions(false);
+    reader.setId(file.getAbsolutePath());
+    assertEquals(1, reader.getSeriesCount());
+    assertEquals(RESOLUTIONS, reader.getResolutionCount());
+    reader.setResolution(1);
+    assertEquals(tile, reader.getOptimalTileWidth());
+    assertPyramid(reader, 2);
+    reader.close();
+  }
+
+  @Test
+  public void testOMETiff() throws Exception {
+    OMETiffWriter writer = new OMETiffWriter();
+    writer.setMetadataRetrieve(makeMetadata(PixelType.UINT8, true));
+    writer.setResolutions(RESOLUTIONS);
+    writer.setId(file.getAbsolutePath());
+    for (int z=0; z<SIZE_Z; z++) {
+      writer.saveBytes(z, makePlane(z, 1, false));
+    }
+    writer.close();
+
+    // the OME-XML only describes the full resolution
+    IFormatReader reader = new OMETiffReader();
+    reader.setId(file.getAbsolutePath());
+    assertEquals(1, reader.getSeriesCount());
+    assertEquals(SIZE_Z, reader.getImageCount());
+    reader.close();
+
+    reader = new OMETiffReader();
+    reader.setFlattenedResolutions(false);
+    reader.setId(file.getAbsolutePath());
+    assertEquals(1, reader.getSeriesCount());
+    assertEquals(RESOLUTIONS, reader.getResolutionCount());
+    assertEquals(PyramidBuilder.DEFAULT_TILE_SIZE, getTileSize(reader, 1));
+    assertPyramid(reader, 1);
+    reader.close();
+  }
+
+  // -- Helper methods --
+
+  private OMEXMLMetadata makeMetadata(PixelType type, boolean bigEndian)
+    throws Exception
+  {
+    OMEXMLService service =
+      new ServiceFactory().getInstance(OMEXMLService.class);
+    OMEXMLMetadata meta = service.createOMEXMLMetadata();
+    meta.setImageID("Image:0", 0);
+    meta.setPixelsID("Pixels:0", 0);
+    meta.setPixelsDimensionOrder(DimensionOrder.XYZCT, 0);
+    meta.setPixelsSizeX(new PositiveInteger(SIZE_X), 0);
+    meta.setPixelsSizeY(new PositiveInteger(SIZE_Y), 0);
+    meta.setPixelsSizeZ(new PositiveInteger(SIZE_Z), 0);
+    meta.setPixelsSizeC(new PositiveInteger(1), 0);
+    meta.setPixelsSizeT(new PositiveInteger(1), 0);
+    meta.setPixelsType(type, 0);
+    meta.setPixelsBinDataBigEndian(bigEndian, 0, 0);
+    meta.setChannelID("Channel:0:0", 0, 0);
+    meta.setChannelSamplesPerPixel(new PositiveInteger(1), 0, 0);
+    return meta;
+  }
+
+  private static int value(int x, int y, int z, int bytes) {
+    int v = x * 3 + y * 7 + z * 11;
+    return bytes == 1 ? v % 256 : v * 97;
+  }
+
+  private static byte[] makePlane(int z, int bytes, boolean little) {
+    byte[] plane = new byte[SIZE_X * SIZE_Y * bytes];
+    for (int y=0; y<SIZE_Y; y++) {
+      for (int x=0; x<SIZE_X; x++) {
+        DataTools.unpackBytes(value(x, y, z, bytes), plane,
+          (y * SIZE_X + x) * bytes, bytes, little);
+      }
+    }
+    return plane;
+  }
+
+  private static byte[] crop(byte[] plane, int bytes, int x, int y,
+    int w, int h)
+  {
+    byte[] region = new byte[w * h * bytes];
+    for (int row=0; row<h; row++) {
+      System.arraycopy(plane, ((y + row) * SIZE_X + x) * bytes,
+        region, row * w * bytes, w * bytes);
+    }
+    return region;
+  }
+
+  /**
+   * Checks every resolution of every plane against 2x2 averages of the
+   * resolution before, rounded at each step.
+   */
+  private static void assertPyramid(IFormatReader reader, int bytes)
+    throws Exception
+  {
+    for (int z=0; z<SIZE_Z; z++) {
+      int w = SIZE_X, h = SIZE_Y;
+      int[] expected = new int[w * h];
+      for (int y=0; y<h; y++) {
+        for (int x=0; x<w; x++) {
+          expected[y * w + x] = value(x, y, z, bytes);
+        }
+      }
+
+      for (int r=0; r<RESOLUTIONS; r++) {
+        reader.setResolution(r);
+        assertEquals(w, reader.getSizeX());
+        assertEquals(h, reader.getSizeY());
+        byte[] plane = reader.openBytes(z);
+        assertEquals(w * h * bytes, plane.length);
+        for (int i=0; i<expected.length; i++) {
+          int v = DataTools.bytesToInt(plane, i * bytes, bytes,
+            reader.isLittleEndian());
+          assertEquals("resolution " + r + ", pixel " + i, expected[i], v);
+        }
+
+        int nextW = (w + 1) / 2, nextH = (h + 1) / 2;
+        int[] next = new int[nextW * nextH];
+        for (int y=0; y<nextH; y++) {
+          for (int x=0; x<nextW; x++) {
+            double sum = 0;
+            int n = 0;
+            for (int row=2*y; row<Math.min(2*y + 2, h); row++) {
+              for (int col=2*x; col<Math.min(2*x + 2, w); col++) {
+                sum += expected[row * w + col];
+                n++;
+              }
+            }
+            next[y * nextW + x] = (int) Math.round(sum / n);
+          }
+        }
+        expected = next;
+        w = nextW;
+        h = nextH;
+      }
+    }
+    reader.setResolution(0);
+  }
+
+  private static int getTileSize(IFormatReader reader, int resolution) {
+    int current = reader.getResolution();
+    reader.setResolution(resolution);
+    int size = reader.getOptimalTileWidth();
+    reader.setResolution(current);
+    return size;
+  }
+
+}
@@ -0,0 +1,187 @@
+//
+// UncompressedSamplesTest.java
+//
+
+/*
+OME Bio-Formats package for reading and converting biological file formats.
+Copyright (C) 2005-@year@ UW-Madison LOCI and Glencoe Software, Inc.
+
+This program is free software; you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation; either version 2 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program; if not, write to the Free Software
+Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+*/
+
+package loci.formats.utests.tiff;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.nio.ByteBuffer;
+
+import loci.common.RandomAccessInputStream;
+import loci.formats.tiff.IFD;
+import loci.formats.tiff.PhotoInterp;
+import loci.formats.tiff.TiffCompression;
+import loci.formats.tiff.TiffParser;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests reading regions of uncompressed strips and tiles, laid out in the
+ * file contiguously, with gaps, or out of order.
+ *
+ * <dl><dt><b>Source code:</b></dt>
+ * <dd><a href="http://trac.openmicroscopy.org.uk/ome/browser/bioformats.git/components/scifio/test/loci/formats/utests/tiff/UncompressedSamplesTest.java">Trac</a>,
+ * <a href="http://git.openmicroscopy.org/?p=bioformats.git;a=blob;f=components/scifio/test/loci/formats/utests/tiff/UncompressedSamplesTest.java;hb=HEAD">Gitweb</a></dd></dl>
+ */
+public class UncompressedSamplesTest {
+
+  private static final int SIZE_X = 40;
+  private static final int SIZE_Y = 30;
+
+  private static final int[][] REGIONS = {
+    {0, 0, SIZE_X, SIZE_Y}, {5, 7, 20, 11}, {0, 16, SIZE_X, 8},
+    {SIZE_X - 1, SIZE_Y - 1, 1, 1}
+  };
+
+  private IFD ifd;
+  private int samples, bytes;
+
+  @DataProvider(name = "layouts")
+  public Object[][] createLayouts() {
+    // samples, bytes per sample, planar configuration, tile width,
+    // tile length, gap between blocks, reverse block order
+    return new Object[][] {
+      {1, 1, 1, 0, 3, 0, false},
+      {1, 2, 1, 0, 4, 10, false},
+      {3, 2, 1, 0, 7, 10, false},
+      {3, 1, 2, 0, 8, 0, true},
+      {2, 1, 1, 16, 16, 0, false},
+      {1, 2, 1, 16, 16, 100000, true}
+    };
+  }
+
+  @Test(dataProvider = "layouts")
+  public void testRegions(int samples, int bytes, int planarConfig,
+    int tileWidth, int tileLength, int gap, boolean reverse) throws Exception
+  {
+    TiffParser parser = makeFile(samples, bytes, planarConfig,
+      tileWidth, tileLength, gap, reverse);
+    for (int[] r : REGIONS) {
+      byte[] buf = new byte[r[2] * r[3] * samples * bytes];
+      parser.getSamples(ifd, buf, r[0], r[1], r[2], r[3]);
+      assertRegion(ByteBuffer.wrap(buf), 0, r[2] * bytes, r);
+
+      // a direct buffer with padded rows, starting part way in
+      int stride = r[2] * bytes + 3;
+      ByteBuffer direct =
+        ByteBuffer.allocateDirect(5 + stride * r[3] * samples);
+      parser.getSamples(ifd, direct, 5, stride, r[0], r[1], r[2], r[3]);
+      assertRegion(direct, 5, stride, r);
+    }
+    parser.getStream().close();
+  }
+
+  // -- Helper methods --
+
+  private static byte value(int sample, int x, int y, int b) {
+    return (byte) (sample * 71 + x * 3 + y * 7 + b * 13);
+  }
+
+  private void assertRegion(ByteBuffer buf, int offset, int stride,
+    int[] region)
+  {
+    for (int s=0; s<samples; s++) {
+      for (int y=0; y<region[3]; y++) {
+        for (int x=0; x<region[2]; x++) {
+          for (int b=0; b<bytes; b++) {
+            int index = offset + (s * region[3] + y) * stride + x * bytes + b;
+            assertEquals("sample " + s + " at (" + (region[0] + x) + ", " +
+              (region[1] + y) + ")",
+              value(s, region[0] + x, region[1] + y, b), buf.get(index));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Lays out the blocks (strips or tiles) of an image, and returns a
+   * parser for them.
+   */
+  private TiffParser makeFile(int samples, int bytes, int planarConfig,
+    int tileWidth, int tileLength, int gap, boolean reverse) throws Exception
+  {
+    this.samples = samples;
+    this.bytes = bytes;
+    boolean planar = planarConfig == 2;
+    int channels = planar ? 1 : samples;
+    int width = tileWidth == 0 ? SIZE_X : tileWidth;
+    int cols = (SIZE_X + width - 1) / width;
+    int rows = (SIZE_Y + tileLength - 1) / tileLength;
+    int planes = planar ? samples : 1;
+    int count = cols * rows * planes;
+    int blockSize = width * tileLength * channels * bytes;
+
+    long[] offsets = new long[count];
+    long[] byteCounts = new long[count];
+    byte[] data = new byte[count * (blockSize + gap)];
+    for (int i=0; i<count; i++) {
+      int position = reverse ? count - 1 - i : i;
+      offsets[i] = (long) position * (blockSize + gap);
+      byteCounts[i] = blockSize;
+
+      int plane = i / (cols * rows);
+      int row = (i / cols) % rows, col = i % cols;
+      int index = (int) offsets[i];
+      for (int y=row*tileLength; y<(row + 1)*tileLength; y++) {
+        for (int x=col*width; x<(col + 1)*width; x++) {
+          for (int c=0; c<channels; c++) {
+            for (int b=0; b<bytes; b++) {
+              data[index++] = x < SIZE_X && y < SIZE_Y ?
+                value(plane + c, x, y, b) : 0;
+            }
+          }
+        }
+      }
+    }
+
+    int[] bits = new int[samples];
+    for (int s=0; s<samples; s++) {
+      bits[s] = bytes * 8;
+    }
+    ifd = new IFD();
+    ifd.put(IFD.LITTLE_ENDIAN, Boolean.TRUE);
+    ifd.put(IFD.IMAGE_WIDTH, SIZE_X);
+    ifd.put(IFD.IMAGE_LENGTH, SIZE_Y);
+    ifd.put(IFD.BITS_PER_SAMPLE, bits);
+    ifd.put(IFD.SAMPLES_PER_PIXEL, samples);
+    ifd.put(IFD.PLANAR_CONFIGURATION, planarConfig);
+    ifd.put(IFD.COMPRESSION, TiffCompression.UNCOMPRESSED.getCode());
+    ifd.put(IFD.PHOTOMETRIC_INTERPRETATION, samples == 3 ?
+      PhotoInterp.RGB.getCode() : PhotoInterp.BLACK_IS_ZERO.getCode());
+    if (tileWidth > 0) {
+      ifd.put(IFD.TILE_WIDTH, tileWidth);
+      ifd.put(IFD.TILE_LENGTH, tileLength);
+      ifd.put(IFD.TILE_OFFSETS, offsets);
+      ifd.put(IFD.TILE_BYTE_COUNTS, byteCounts);
+    }
+    else {
+      ifd.put(IFD.ROWS_PER_STRIP, new long[] {tileLength});
+      ifd.put(IFD.STRIP_OFFSETS, offsets);
+      ifd.put(IFD.STRIP_BYTE_COUNTS, byteCounts);
+    }
+    return new TiffParser(new RandomAccessInputStream(data));
+  }
+
+}